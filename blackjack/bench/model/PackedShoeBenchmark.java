@@ -0,0 +1,104 @@
+package model;
+
+import benchmark.Benchmark;
+import model.card.Card;
+import model.cards.CardSource;
+
+import java.util.function.IntFunction;
+
+/**
+ * <b>
+ *     Benchmark of {@link PackedShoe} against {@link Shoe}.
+ * </b>
+ *
+ * <p>
+ *     Measures the heap retained by one shoe of 6 decks, from the used memory after creating many shoes,
+ *     and the throughput of dealing every card of the shoes.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class PackedShoeBenchmark {
+
+    /**
+     * The number of decks of the shoes.
+     */
+    private static final int DECKS = 6;
+
+    /**
+     * The number of shoes created to measure the heap of one shoe.
+     */
+    private static final int SHOES = 20_000;
+
+    /**
+     * The number of shoes dealt in one run.
+     */
+    private static final int DEALT = 2_000;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private PackedShoeBenchmark() {
+    }
+
+    /**
+     * Returns the heap used after a garbage collection.
+     *
+     * @return The number of bytes used.
+     */
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Prints the heap retained by one shoe.
+     *
+     * @param name    The name of the shoe.
+     * @param factory Creates a shoe with the given number of decks.
+     */
+    private static void footprint(String name, IntFunction<CardSource> factory) {
+        CardSource[] shoes = new CardSource[SHOES];
+        long before = usedMemory();
+        for (int i = 0; i < SHOES; i++) {
+            shoes[i] = factory.apply(DECKS);
+        }
+        long after = usedMemory();
+        System.out.printf("%-50s %,15d bytes per shoe%n", name + ", heap of " + DECKS + " decks",
+                (after - before) / shoes.length);
+    }
+
+    /**
+     * Deals every card of new shoes.
+     *
+     * @param factory Creates a shoe with the given number of decks.
+     * @return The sum of the ids of the cards dealt.
+     */
+    private static long deal(IntFunction<CardSource> factory) {
+        long sum = 0;
+        for (int i = 0; i < DEALT; i++) {
+            CardSource shoe = factory.apply(DECKS);
+            while (!shoe.isEmpty()) {
+                sum += shoe.deal().getId();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        Benchmark.title("PackedShoe");
+        footprint("Shoe", Shoe::new);
+        footprint("PackedShoe", PackedShoe::new);
+        long cards = (long) DEALT * DECKS * Card.COUNT;
+        Benchmark.measure("create and deal, Shoe", cards, () -> deal(Shoe::new));
+        Benchmark.measure("create and deal, PackedShoe", cards, () -> deal(PackedShoe::new));
+    }
+}
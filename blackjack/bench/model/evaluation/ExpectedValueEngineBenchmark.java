@@ -0,0 +1,100 @@
+package model.evaluation;
+
+import benchmark.Benchmark;
+import model.Constants;
+import model.Shoe;
+import model.cards.Shuffler;
+
+/**
+ * <b>
+ *     Benchmark of the {@link ExpectedValueEngine}.
+ * </b>
+ *
+ * <p>
+ *     Measures the decisions per second, the expected values of standing, hitting and doubling of every hard
+ *     and soft two-card hand against every up card, on a full shoe and on a shoe dealt to three quarters.
+ *     A cold run starts with empty memo tables, a warm run reuses the states of the previous runs.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ExpectedValueEngineBenchmark {
+
+    /**
+     * The hands of the player: every pair of values, the ace is 1.
+     */
+    private static final int[] HANDS = new int[55];
+
+    static {
+        int i = 0;
+        for (int first = 1; first <= 10; first++) {
+            for (int second = first; second <= 10; second++) {
+                HANDS[i++] = state(first) + state(second);
+            }
+        }
+    }
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private ExpectedValueEngineBenchmark() {
+    }
+
+    /**
+     * Returns the state of a card of the given value.
+     *
+     * @param value The value of the card, 1 for an ace.
+     * @return The state of a hand with only this card.
+     */
+    private static int state(int value) {
+        return value == 1 ? (1 << HandState.ACE_SHIFT) + 1 : value;
+    }
+
+    /**
+     * Computes the decisions of every hand against every up card.
+     *
+     * @param engine The engine.
+     * @param counts The composition of the shoe.
+     * @return The sum of the best expected values.
+     */
+    private static long decide(ExpectedValueEngine engine, int[] counts) {
+        double sum = 0;
+        for (int upCard = 1; upCard <= 10; upCard++) {
+            for (int hand : HANDS) {
+                double stand = engine.stand(counts, hand, upCard);
+                double hit = engine.hit(counts, hand, upCard);
+                double doubled = engine.doubleDown(counts, hand, upCard);
+                sum += Math.max(stand, Math.max(hit, doubled));
+            }
+        }
+        return (long) (sum * 1000);
+    }
+
+    /**
+     * Measures the decisions on the given composition.
+     *
+     * @param name   The name of the shoe.
+     * @param counts The composition of the shoe.
+     */
+    private static void measure(String name, int[] counts) {
+        long decisions = 10L * HANDS.length;
+        Benchmark.measure("cold decisions, " + name, decisions, () -> decide(new ExpectedValueEngine(), counts));
+        ExpectedValueEngine engine = new ExpectedValueEngine();
+        Benchmark.measure("warm decisions, " + name, decisions, () -> decide(engine, counts));
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        Benchmark.title("ExpectedValueEngine");
+        Shoe shoe = new Shoe(Constants.NUMBER_OF_DECKS);
+        measure(Constants.NUMBER_OF_DECKS + " decks, full", ExpectedValueEngine.countsOf(shoe));
+
+        shoe.shuffle(Shuffler.splittable(1));
+        shoe.deal(shoe.size() * 3 / 4);
+        measure(Constants.NUMBER_OF_DECKS + " decks, " + shoe.size() + " cards left", ExpectedValueEngine.countsOf(shoe));
+    }
+}
@@ -0,0 +1,79 @@
+package model.participants.bot;
+
+import benchmark.Benchmark;
+import model.simulation.Simulator;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <b>
+ *     Benchmark of the {@link TableBotStrategy}.
+ * </b>
+ *
+ * <p>
+ *     Measures the decisions per second of the basic strategy on random hands, and the hands per second
+ *     of the simulator with the table strategy and with the probability strategy.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class TableBotStrategyBenchmark {
+
+    /**
+     * The number of hands of the decisions, a power of 2.
+     */
+    private static final int STATES = 1 << 16;
+
+    /**
+     * The number of decisions of one run.
+     */
+    private static final int DECISIONS = 100_000_000;
+
+    /**
+     * The number of hands simulated in one run.
+     */
+    private static final long HANDS = 1_000_000;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private TableBotStrategyBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        Benchmark.title("TableBotStrategy");
+        Random random = new Random(1);
+        int[] totals = new int[STATES];
+        boolean[] soft = new boolean[STATES];
+        int[] upCards = new int[STATES];
+        for (int i = 0; i < STATES; i++) {
+            soft[i] = random.nextInt(4) == 0;
+            totals[i] = soft[i] ? 12 + random.nextInt(10) : 4 + random.nextInt(18);
+            upCards[i] = 1 + random.nextInt(DecisionTable.UP_CARDS);
+        }
+        DecisionTable table = DecisionTable.basicStrategy();
+        Benchmark.measure("decisions, basic strategy table", DECISIONS, () -> {
+            long sum = 0;
+            for (int i = 0; i < DECISIONS; i++) {
+                int state = i & (STATES - 1);
+                sum += table.getAction(totals[state], soft[state], upCards[state]);
+            }
+            return sum;
+        });
+
+        ForkJoinPool pool = new ForkJoinPool(1);
+        Simulator tables = new Simulator((dealer, r) -> new TableBotStrategy(dealer), 6, pool, 1);
+        Simulator probabilities = new Simulator((dealer, r) -> new BasicProbalityStrategy(0.5, r), 6, pool, 1);
+        Benchmark.measure("simulated hands, TableBotStrategy", HANDS, () -> tables.run(HANDS).getHands());
+        Benchmark.measure("simulated hands, BasicProbalityStrategy", HANDS, () -> probabilities.run(HANDS).getHands());
+        System.out.println("TableBotStrategy       " + tables.run(HANDS));
+        System.out.println("BasicProbalityStrategy " + probabilities.run(HANDS));
+        pool.shutdown();
+    }
+}
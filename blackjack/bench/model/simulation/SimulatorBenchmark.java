@@ -0,0 +1,49 @@
+package model.simulation;
+
+import benchmark.Benchmark;
+import model.participants.bot.BasicProbalityStrategy;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <b>
+ *     Benchmark of the {@link Simulator}.
+ * </b>
+ *
+ * <p>
+ *     Measures the hands played per second by pools of 1 thread up to the number of processors,
+ *     and prints the expected value of the strategies of the game.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class SimulatorBenchmark {
+
+    /**
+     * The number of hands of one run.
+     */
+    private static final long HANDS = 1_000_000;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private SimulatorBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        Benchmark.title("Simulator");
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= processors; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            Simulator simulator = new Simulator((dealer, random) -> new BasicProbalityStrategy(0.5, random), 6, pool, 1);
+            Benchmark.measure("hands, " + threads + " thread(s)", HANDS, () -> simulator.run(HANDS).getHands());
+            pool.shutdown();
+        }
+        System.out.println(new Simulator((dealer, random) -> new BasicProbalityStrategy(0.5, random)).run(HANDS));
+    }
+}
@@ -20,6 +20,13 @@ import java.util.Iterator;
  * A blackjack controller is the controller of a blackjack game.
  * </b>
  *
+ * <p>
+ * A round is a state machine, from {@link RoundState#BETTING} to {@link RoundState#SETTLEMENT}. The rounds are
+ * played by a loop which runs the steps of the rounds one after the other, and which only stops when a human
+ * player has to play or when the game is over. The actions of the view run the loop again, so the stack depth
+ * stays the same whatever the number of rounds played.
+ * </p>
+ *
  * @version 1.0
  */
 public class Controller {
@@ -35,7 +42,7 @@ public class Controller {
     /**
      * The deck of the game.
      */
-    private final Deck deck;
+    private final Shoe deck;
     /**
      * The evaluator of the cards.
      */
@@ -60,6 +67,26 @@ public class Controller {
      * The blackjack view.
      */
     private Blackjack view;
+    /**
+     * The state of the round.
+     */
+    private RoundState state;
+    /**
+     * Boolean that indicates if the loop of the rounds is running.
+     */
+    private boolean running;
+    /**
+     * The number of actions asked by the view, to know if the view played for the current player.
+     */
+    private long actions;
+    /**
+     * Boolean that indicates if the rounds are played without asking the view, by bots only.
+     */
+    private boolean unattended;
+    /**
+     * The number of rounds left to play.
+     */
+    private long roundsLeft;
 
 
     /**
@@ -79,6 +106,8 @@ public class Controller {
         this.iterator = this.stillPlaying.iterator();
         this.evaluator = evaluator;
         this.view = view;
+        this.state = RoundState.BETTING;
+        this.roundsLeft = Long.MAX_VALUE;
     }
 
     /**
@@ -174,6 +203,15 @@ public class Controller {
         return this.gameOver;
     }
 
+    /**
+     * Returns the state of the round.
+     *
+     * @return The state of the round.
+     */
+    public RoundState getState() {
+        return this.state;
+    }
+
     /**
      * Sets the boolean that indicates if the game is over.
      *
@@ -207,34 +245,39 @@ public class Controller {
      * @return The next player.
      */
     public Player nextPlayer() {
-        if (this.iterator.hasNext()) {
+        while (this.iterator.hasNext()) {
             this.setCurrentPlayer(this.iterator.next());
             if (this.currentPlayer.canPlay()) {
                 this.getCurrentPlayer().setHisTurn(true);
 
                 return this.getCurrentPlayer();
-            } else {
-                return this.nextPlayer();
             }
-        } else {
-            return null;
         }
+        return null;
+    }
+
+    /**
+     * Returns true if the controller waits for the action of the current player.
+     *
+     * @return True if it is the turn of a player.
+     */
+    private boolean isPlayerTurn() {
+        return this.state == RoundState.PLAYER_TURN && this.getCurrentPlayer() != null;
     }
 
     /**
      * The current player hits.
      */
     public void hit() {
-        if (this.getCurrentPlayer() != null) {
-            try {
-                // If we can not play after the hit we go to the next player(player or dealer).
-                if (!this.getCurrentPlayer().hit(this.getDeck())) {
-                    this.setCurrentPlayer(this.nextPlayer());
-                    this.checkAfterPlayer();
-                }
-            } catch (IndexOutOfBoundsException e) {
+        if (this.isPlayerTurn()) {
+            this.actions++;
+            if (this.getDeck().isEmpty()) {
                 this.getView().displayEmptyDeck();
+            } else if (!this.getCurrentPlayer().hit(this.getDeck())) {
+                // If we can not play after the hit we go to the next player(player or dealer).
+                this.setCurrentPlayer(this.nextPlayer());
             }
+            this.run();
         }
 
     }
@@ -245,9 +288,10 @@ public class Controller {
     public void stand() {
 
         // If it is not the turn of the dealer
-        if (this.getCurrentPlayer() != null) {
+        if (this.isPlayerTurn()) {
+            this.actions++;
             this.setCurrentPlayer(this.nextPlayer());
-            this.checkAfterPlayer();
+            this.run();
         }
     }
 
@@ -257,26 +301,21 @@ public class Controller {
     public void doubleDown() {
 
         // If it is not the turn of the dealer
-        if (this.currentPlayer != null) {
-
-            try {
-                if (this.getCurrentPlayer().getMoney() < this.getCurrentPlayer().getBet()) {
-                    this.getView().displayNotEnoughMoney();
-                } else {
-
-                    this.currentPlayer.doubleHit(this.deck);
+        if (this.isPlayerTurn()) {
+            this.actions++;
 
-                    // We change the player to next
-                    this.setCurrentPlayer(this.nextPlayer());
+            if (this.getCurrentPlayer().getMoney() < this.getCurrentPlayer().getBet()) {
+                this.getView().displayNotEnoughMoney();
+            } else if (this.deck.isEmpty()) {
+                this.view.displayEmptyDeck();
+            } else {
 
-                    // If the player is not null
-                    this.checkAfterPlayer();
-                }
+                this.currentPlayer.doubleHit(this.deck);
 
-            } catch (IndexOutOfBoundsException e) {
-                this.view.displayEmptyDeck();
+                // We change the player to next
+                this.setCurrentPlayer(this.nextPlayer());
             }
-
+            this.run();
 
         }
 
@@ -290,7 +329,8 @@ public class Controller {
         // If the dealer is busted
         this.setGameOver(true);
         this.getDealer().setHisTurn(false);
-        this.endRound();
+        this.state = RoundState.SETTLEMENT;
+        this.run();
 
     }
 
@@ -398,12 +438,115 @@ public class Controller {
      * Starts the round.
      */
     public void startRound() {
+        this.state = RoundState.BETTING;
+        this.run();
+    }
+
+    /**
+     * Plays the given number of rounds with the players of the game, which must all be bots, without asking
+     * the view anything. The rounds stop before when no bot has enough money left to bet.
+     * The shoe is put back together and shuffled before a round when less than {@link Constants#RESHUFFLE_LIMIT}
+     * cards are left, so the rounds never run out of cards.
+     *
+     * @param rounds The number of rounds to play.
+     * @return The number of rounds played.
+     * @throws IllegalArgumentException if the number of rounds is negative.
+     * @throws IllegalStateException    if a player of the game is not a bot.
+     */
+    public long playRounds(long rounds) {
+        if (rounds < 0) {
+            throw new IllegalArgumentException("The number of rounds cannot be negative.");
+        }
+        if (this.getPlayers().stream().anyMatch(player -> !(player instanceof Bot))) {
+            throw new IllegalStateException("The players must all be bots to play unattended rounds.");
+        }
+        this.unattended = true;
+        this.roundsLeft = rounds;
+        this.stillPlaying = new Players(this.listenablePlayers);
+        this.getDeck().shuffle();
+        this.state = rounds == 0 ? RoundState.OVER : RoundState.BETTING;
+        this.run();
+        return rounds - this.roundsLeft;
+    }
+
+    public void endGame() {
+        this.state = RoundState.OVER;
+        this.getView().quitGame();
+        System.exit(0);
+    }
+
+    /**
+     * Ends the game, or only stops the rounds if they are played without the view.
+     */
+    private void finish() {
+        if (this.unattended) {
+            this.state = RoundState.OVER;
+        } else {
+            this.endGame();
+        }
+    }
+
+    /**
+     * Plays the steps of the rounds until a human player has to play or the game is over.
+     * The actions of the view call this method again during the loop: they only change the state
+     * of the round, and the loop already running carries on with it.
+     */
+    private void run() {
+        if (this.running) {
+            return;
+        }
+        this.running = true;
+        try {
+            while (this.step()) {
+                // Each step changes the state of the round.
+            }
+        } finally {
+            this.running = false;
+        }
+    }
+
+    /**
+     * Plays the step of the current state of the round.
+     *
+     * @return True if the loop goes on, false if it waits for a human player or if the game is over.
+     */
+    private boolean step() {
+        switch (this.state) {
+            case BETTING:
+                return this.bet();
+            case DEALING:
+                this.deal();
+                return true;
+            case PLAYER_TURN:
+                return this.playTurn();
+            case DEALER_TURN:
+                this.dealerPlay();
+                return true;
+            case SETTLEMENT:
+                return this.settle();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Resets the participants and asks the bets. The unattended rounds shuffle the shoe back when it is
+     * dealt to the cut card, the game played with the view ends when the shoe has not enough cards left.
+     *
+     * @return True if the round goes on, false if there is not enough cards to play.
+     */
+    private boolean bet() {
+        if (this.unattended && this.deck.size() < Constants.RESHUFFLE_LIMIT) {
+            this.deck.reset();
+            this.deck.shuffle();
+        }
 
         int nbPlayers = this.getStillPlaying().size();
 
         if ((nbPlayers * Constants.INITIAL_CARDS_PER_PLAYER + Constants.INITIAL_CARDS_FOR_DEALER) > this.getDeck().size()) {
             this.getView().displayNoEnoughCards();
-            this.endGame();
+            this.finish();
+            return false;
         }
 
         this.getStillPlaying().reset();
@@ -413,8 +556,14 @@ public class Controller {
         // We ask the bets
         this.askBets();
 
-        // Add listener
+        this.state = RoundState.DEALING;
+        return true;
+    }
 
+    /**
+     * Deals the cards and fixes the first player.
+     */
+    private void deal() {
         // The dealer take one card
         this.getDealer().takeCard(this.getDeck());
 
@@ -432,15 +581,33 @@ public class Controller {
         // We fix the current player
         this.currentPlayer = this.nextPlayer();
 
-        this.checkAfterPlayer();
-
-        this.getView().showRound();
-
+        this.state = RoundState.PLAYER_TURN;
     }
 
-    public void endGame() {
-        this.getView().quitGame();
-        System.exit(0);
+    /**
+     * Plays for the current player if it is a bot, or shows the round to the human player.
+     *
+     * @return True if the loop goes on, false if it waits for the action of a human player.
+     */
+    private boolean playTurn() {
+        Player player = this.getCurrentPlayer();
+        if (player == null) {
+            this.getDealer().setHisTurn(true);
+            this.state = RoundState.DEALER_TURN;
+            return true;
+        }
+        if (player instanceof Bot) {
+            // We automatically play for the bot, who stands if the deck is empty
+            boolean canPlay = this.getDeck().isEmpty() ? player.stand() : ((Bot) player).play(this.getDeck());
+            if (!canPlay) {
+                this.setCurrentPlayer(this.nextPlayer());
+            }
+            return true;
+        }
+        // A view which asks the action goes on, a view which waits for an event stops the loop
+        long before = this.actions;
+        this.getView().showRound();
+        return this.actions != before;
     }
 
     /**
@@ -460,42 +627,26 @@ public class Controller {
     }
 
     /**
-     * We check if the next player is a bot
-     */
-    private void checkBot() {
-        if (this.getCurrentPlayer() instanceof Bot) {
-
-            // We automatically play for the bot
-            boolean canPlay = ((Bot)this.getCurrentPlayer()).play(this.getDeck());
-            if (!canPlay) {
-                this.setCurrentPlayer(this.nextPlayer());
-            }
-            this.checkAfterPlayer();
-        }
-    }
-
-    /**
-     * Checking after the current player has played.
+     * Ends the round.
      */
-    private void checkAfterPlayer() {
-        if (this.getCurrentPlayer() != null) {
-            this.checkBot();
-        } else {
-            this.getDealer().setHisTurn(true);
-            this.dealerPlay();
-        }
+    public void endRound() {
+        this.state = RoundState.SETTLEMENT;
+        this.run();
     }
 
-
     /**
-     * Ends the round.
+     * Pays the bets and asks the players if they play again.
+     *
+     * @return True if a new round starts, false if the game is over.
      */
-    public void endRound() {
+    private boolean settle() {
 
         this.getStillPlaying().forEach(this::collectBet);
 
         this.getView().showResult();
 
+        this.roundsLeft--;
+
         // We remove the listenablePlayers who have no more money
         this.getStillPlaying().removeIf(player -> player.getMoney() == 0 || player.getMoney() < Constants.MINIMUM_BET);
 
@@ -508,11 +659,13 @@ public class Controller {
         });
 
         // If we have at least one player and at least one player are not a bot, we start a new round
-        if (this.getStillPlaying().size() > 0 && this.getStillPlaying().stream().anyMatch(player -> !(player instanceof Bot))) {
-            this.startRound();
-        } else {
-            this.endGame();
+        if (this.roundsLeft > 0 && this.getStillPlaying().size() > 0
+                && (this.unattended || this.getStillPlaying().stream().anyMatch(player -> !(player instanceof Bot)))) {
+            this.state = RoundState.BETTING;
+            return true;
         }
+        this.finish();
+        return false;
     }
 
 
@@ -0,0 +1,46 @@
+package controller;
+
+/**
+ * <b>
+ * RoundState is the state of a round of the {@link Controller}.
+ * </b>
+ *
+ * <p>
+ * A round goes through the states in order, from {@link #BETTING} to {@link #SETTLEMENT}, then the controller
+ * starts the next round with {@link #BETTING}, or ends the game with {@link #OVER}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public enum RoundState {
+
+    /**
+     * The players bet.
+     */
+    BETTING,
+
+    /**
+     * The dealer deals one card to himself and two cards to each player.
+     */
+    DEALING,
+
+    /**
+     * The players play one after the other, the controller waits for the actions of the human players.
+     */
+    PLAYER_TURN,
+
+    /**
+     * The dealer takes cards until {@link model.Constants#DEALER_LIMIT}.
+     */
+    DEALER_TURN,
+
+    /**
+     * The bets are paid or collected and the players choose to play again.
+     */
+    SETTLEMENT,
+
+    /**
+     * The game is over.
+     */
+    OVER
+}
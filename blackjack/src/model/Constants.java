@@ -1,5 +1,6 @@
 package model;
 
+import model.card.Card;
 import model.evaluation.AceValue;
 
 /**
@@ -31,6 +32,11 @@ public final class Constants {
      */
     public static final int NUMBER_OF_DECKS = 6;
 
+    /**
+     * The number of cards left in the shoe under which it is shuffled before an unattended round, a quarter of the shoe.
+     */
+    public static final int RESHUFFLE_LIMIT = NUMBER_OF_DECKS * Card.COUNT / 4;
+
     /**
      * The maximum number of players.
      */
@@ -0,0 +1,187 @@
+package model;
+
+import model.card.Card;
+import model.cards.CardSource;
+import model.cards.Shuffler;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+
+/**
+ * <b>
+ * PackedShoe is a shoe of several decks for the simulations, which stores the ids of its cards in bytes.
+ * </b>
+ *
+ * <p>
+ * A {@link Shoe} is a list of cards which notifies its listeners, so the views can display it.
+ * A simulation does not display its shoes: a packed shoe keeps the ids of the cards in a {@code byte[]}
+ * and deals them by moving a cursor, without the lists of cards and the listeners. A shoe of 6 decks
+ * takes about 330 bytes of heap. The participants deal from it as from a {@link Shoe}, through
+ * the {@link CardSource} contract.
+ * </p>
+ *
+ * <p>
+ * A packed shoe is not thread-safe, a simulation thread owns its shoes.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class PackedShoe implements CardSource {
+
+    /**
+     * The ids of the cards of the shoe, the cards before the cursor are dealt.
+     */
+    private final byte[] cards;
+
+    /**
+     * The index of the next card to deal.
+     */
+    private int cursor;
+
+    /**
+     * Creates a new shoe with the given number of decks, in the order of the ids of the cards.
+     *
+     * @param numberOfDecks The number of decks in the shoe.
+     * @throws IllegalArgumentException if the number of decks is negative.
+     */
+    public PackedShoe(int numberOfDecks) {
+        if (numberOfDecks < 0) {
+            throw new IllegalArgumentException("The number of decks cannot be negative.");
+        }
+        this.cards = new byte[numberOfDecks * Card.COUNT];
+        if (numberOfDecks > 0) {
+            for (int id = 0; id < Card.COUNT; id++) {
+                cards[id] = (byte) id;
+            }
+            // The decks copied are doubled at each copy.
+            for (int filled = Card.COUNT; filled < cards.length; filled *= 2) {
+                System.arraycopy(cards, 0, cards, filled, Math.min(filled, cards.length - filled));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of decks in the shoe.
+     *
+     * @return the number of decks in the shoe.
+     */
+    public int getNumberOfDecks() {
+        return cards.length / Card.COUNT;
+    }
+
+    /**
+     * Deal one card from the top of the shoe, in constant time.
+     *
+     * @return The card dealt.
+     * @throws IllegalStateException if the shoe is empty.
+     */
+    @Override
+    public Card deal() {
+        if (cursor == cards.length) {
+            throw new IllegalStateException("The shoe is empty.");
+        }
+        return Card.fromId(cards[cursor++]);
+    }
+
+    /**
+     * Returns the number of cards left in the shoe.
+     *
+     * @return The number of cards left.
+     */
+    @Override
+    public int size() {
+        return cards.length - cursor;
+    }
+
+    /**
+     * Returns the card left at the given index, the top card has the index 0.
+     *
+     * @param index The index of the card.
+     * @return The card at the index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    @Override
+    public Card getCard(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return Card.fromId(cards[cursor + index]);
+    }
+
+    /**
+     * Deals the ids of the cards in the given buffer, until the buffer is full or the shoe is empty.
+     *
+     * @param buffer The buffer to write the ids of the cards dealt in.
+     * @param offset The index of the first card dealt in the buffer.
+     * @param length The number of cards to deal.
+     * @return The number of cards dealt.
+     * @throws NullPointerException      if the buffer is null.
+     * @throws IndexOutOfBoundsException if the cards do not fit in the buffer.
+     */
+    @Override
+    public int deal(int[] buffer, int offset, int length) {
+        if (buffer == null) {
+            throw new NullPointerException("The buffer cannot be null.");
+        }
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Size: " + buffer.length);
+        }
+        int count = Math.min(length, size());
+        for (int i = 0; i < count; i++) {
+            buffer[offset + i] = cards[cursor + i];
+        }
+        cursor += count;
+        return count;
+    }
+
+    /**
+     * Returns a spliterator over the ids of the cards left, from the top of the shoe.
+     *
+     * @return The spliterator over the ids of the cards left.
+     */
+    @Override
+    public Spliterator.OfInt idSpliterator() {
+        int[] ids = new int[size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = cards[cursor + i];
+        }
+        return Arrays.spliterator(ids);
+    }
+
+    /**
+     * Puts the cards dealt back in the shoe, in the order they were dealt.
+     */
+    public void reset() {
+        cursor = 0;
+    }
+
+    /**
+     * Shuffles the cards left in the shoe with the given shuffler.
+     *
+     * @param shuffler The shuffler to draw the random numbers from.
+     * @throws NullPointerException if the shuffler is null.
+     */
+    public void shuffle(Shuffler shuffler) {
+        if (shuffler == null) {
+            throw new NullPointerException("The shuffler cannot be null.");
+        }
+        shuffler.shuffle(cards, cursor, cards.length);
+    }
+
+    /**
+     * Shuffles the cards left in the shoe with the shuffler of the current thread.
+     */
+    public void shuffle() {
+        shuffle(Shuffler.current());
+    }
+
+    /**
+     * Returns the string representation of the shoe.
+     *
+     * @return The string representation of the shoe.
+     */
+    @Override
+    public String toString() {
+        return "PackedShoe [decks=" + getNumberOfDecks() + ", size=" + size() + "]";
+    }
+}
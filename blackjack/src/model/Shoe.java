@@ -1,11 +1,10 @@
 package model;
 
 
+import model.card.Card;
 import model.cards.Deck;
-import model.cards.FactoryDeck;
 
 import java.util.ArrayList;
-import java.util.stream.IntStream;
 
 /**
  * <b>
@@ -25,9 +24,30 @@ public class Shoe extends Deck {
      * @param numberOfDecks The number of decks in the shoe.
      */
     public Shoe(int numberOfDecks) {
-        super(new ArrayList<>());
+        super(new ArrayList<>(Math.max(0, numberOfDecks) * Card.COUNT));
         this.numberOfDecks = numberOfDecks;
-        IntStream.range(0, numberOfDecks).forEach(i -> this.addCards(FactoryDeck.createDeck52().getCards()));
+        this.fill();
+    }
+
+    /**
+     * Adds the cards of the decks to the shoe.
+     */
+    private void fill() {
+        super.batch(() -> {
+            for (int i = 0; i < numberOfDecks; i++) {
+                this.addCards(Card.values());
+            }
+        });
+    }
+
+    /**
+     * Puts the cards of all the decks back into the shoe, in their initial order.
+     */
+    public void reset() {
+        super.batch(() -> {
+            this.clear();
+            this.fill();
+        });
     }
 
     /**
@@ -0,0 +1,696 @@
+package model.evaluation;
+
+import model.Constants;
+import model.card.Card;
+
+import java.util.Arrays;
+
+/**
+ * <b>
+ * ExpectedValueEngine computes the exact expected values of standing, hitting and doubling,
+ * for the cards left in the shoe.
+ * </b>
+ *
+ * <p>
+ * The shoe is described by its composition: the number of cards left of each of the {@link #VALUES} values,
+ * from the ace (index 0) to the cards worth 10 (index 9), as {@link #countsOf(Iterable)} counts them from a
+ * {@link model.Shoe}. The player draws from the composition, then the dealer, who has only his up card, draws
+ * until {@link Constants#DEALER_LIMIT} from what is left. Every card drawn changes the probabilities of the next
+ * ones, so the expected values are exact for the composition, not for an infinite shoe. They are in units of
+ * the bet: 1 for a hand won, -1 for a hand lost, and a double risks two bets.
+ * </p>
+ *
+ * <p>
+ * The recursions on the cards of the dealer and of the player are memoized. A composition is packed in the
+ * 52 high bits of a long, 5 bits for the count of each value below 10 and 7 bits for the cards worth 10, and
+ * the state of the hand in the 12 low bits, so a state of the recursion is a single long key. Drawing a card is
+ * a subtraction on the packed composition. The memo tables have a fixed capacity: they are two-way set
+ * associative and evict the least recently used entry of a set, so an engine which plays for a bot keeps the
+ * states of the current shoe and forgets the old ones. The dealer cannot run out of cards in a shoe of
+ * 16 cards or more, so the outcomes of the dealer only keep his totals from 17 for those shoes, and all his
+ * totals in a separate table for the short ones.
+ * </p>
+ *
+ * <p>
+ * An engine is not thread-safe, each thread uses its own engine.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ExpectedValueEngine {
+
+    /**
+     * The number of card values, from the ace to the cards worth 10.
+     */
+    public static final int VALUES = 10;
+
+    /**
+     * The default number of entries of each memo table.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 17;
+
+    /**
+     * The largest count of a value below 10, 7 decks.
+     */
+    public static final int MAXIMUM_COUNT = (1 << 5) - 1;
+
+    /**
+     * The largest count of the cards worth 10, 10 decks.
+     */
+    public static final int MAXIMUM_TEN_COUNT = (1 << 7) - 1;
+
+    /**
+     * The number of bits of the state of a hand in a key.
+     */
+    private static final int STATE_BITS = 12;
+
+    /**
+     * The number of outcomes of the dealer: his final totals, from 0 if the shoe is empty to 21, then busted.
+     */
+    private static final int OUTCOMES = Constants.BLACKJACK_VALUE + 2;
+
+    /**
+     * The index of the busted outcome of the dealer.
+     */
+    private static final int BUSTED = OUTCOMES - 1;
+
+    /**
+     * The number of outcomes of the dealer when the shoe cannot run out: his totals from 17 to 21, then busted.
+     */
+    private static final int FINAL_OUTCOMES = OUTCOMES - Constants.DEALER_LIMIT;
+
+    /**
+     * The number of cards from which the shoe cannot run out before the dealer stops: he draws at most
+     * one card per point to reach a hard total of {@link Constants#DEALER_LIMIT}.
+     */
+    private static final int SHORT_SHOE = Constants.DEALER_LIMIT - 1;
+
+    /**
+     * The difference between the values of an ace counted as 11 and as 1.
+     */
+    private static final int SOFT_BONUS = AceValue.ELEVEN.getValue() - AceValue.ONE.getValue();
+
+    /**
+     * The offsets of the counts of the values in a packed composition.
+     */
+    private static final int[] SHIFTS = new int[VALUES];
+
+    /**
+     * The masks of the counts of the values in a packed composition.
+     */
+    private static final int[] MASKS = new int[VALUES];
+
+    static {
+        for (int value = 0; value < VALUES; value++) {
+            SHIFTS[value] = STATE_BITS + 5 * value;
+            MASKS[value] = value == VALUES - 1 ? MAXIMUM_TEN_COUNT : MAXIMUM_COUNT;
+        }
+    }
+
+    /**
+     * The distributions of the final totals of the dealer, by composition and hand of the dealer,
+     * for the shoes which cannot run out.
+     */
+    private final Memo dealer;
+
+    /**
+     * The distributions of the final totals of the dealer for the short shoes, created when first used.
+     */
+    private Memo shortDealer;
+
+    /**
+     * The expected values of standing and hitting, by composition, hand of the player and up card.
+     */
+    private final Memo player;
+
+    /**
+     * Creates a new engine whose memo tables have {@link #DEFAULT_CAPACITY} entries.
+     */
+    public ExpectedValueEngine() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new engine.
+     *
+     * @param capacity The number of entries of each memo table, rounded up to a power of 2.
+     * @throws IllegalArgumentException if the capacity is not positive or too large.
+     */
+    public ExpectedValueEngine(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 24) {
+            throw new IllegalArgumentException("The capacity must be between 1 and " + (1 << 24) + ".");
+        }
+        this.dealer = new Memo(capacity, FINAL_OUTCOMES);
+        this.player = new Memo(capacity, 2);
+    }
+
+    /**
+     * Returns the memo table of the outcomes of the dealer for the given number of cards.
+     *
+     * @param total The number of cards of the shoe.
+     * @return The memo table of the short shoes if the shoe can run out, the main table otherwise.
+     */
+    private Memo dealerMemo(int total) {
+        if (total >= SHORT_SHOE) {
+            return this.dealer;
+        }
+        if (this.shortDealer == null) {
+            // Few states have so few cards left.
+            this.shortDealer = new Memo(this.player.keys.length >> 4, OUTCOMES);
+        }
+        return this.shortDealer;
+    }
+
+    /**
+     * Returns the composition of the given cards.
+     *
+     * @param cards The cards, usually the cards left in a shoe.
+     * @return The number of cards of each value, from the ace to the cards worth 10.
+     * @throws NullPointerException if the cards or one of the cards is null.
+     */
+    public static int[] countsOf(Iterable<Card> cards) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        int[] counts = new int[VALUES];
+        for (Card card : cards) {
+            counts[valueOf(card)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the index of the value of the given card in a composition.
+     *
+     * @param card The card.
+     * @return 0 for an ace, the value minus 1 for the other cards.
+     * @throws NullPointerException if the card is null.
+     */
+    public static int valueOf(Card card) {
+        return HandState.getHardTotal(HandState.EVALUATOR.evaluate(card)) - 1;
+    }
+
+    /**
+     * Returns the probabilities of the final totals of the dealer.
+     *
+     * @param counts The composition of the shoe.
+     * @param upCard The value of the up card of the dealer, 1 for an ace.
+     * @return The probabilities of the totals of the dealer, from 0 to 21 (below {@link Constants#DEALER_LIMIT}
+     * only if the shoe is empty), then the probability that the dealer busts.
+     * @throws NullPointerException     if the composition is null.
+     * @throws IllegalArgumentException if the composition or the up card is invalid.
+     */
+    public double[] getDealerOutcomes(int[] counts, int upCard) {
+        long composition = pack(counts);
+        checkUpCard(upCard);
+        double[] outcomes = new double[OUTCOMES];
+        int total = size(counts);
+        int state = handState(upCard, upCard == 1);
+        if (isDealerDone(state, total)) {
+            outcomes[outcome(state)] = 1;
+        } else {
+            this.addDealerOutcomes(composition, total, state, 1, outcomes);
+        }
+        return outcomes;
+    }
+
+    /**
+     * Returns the expected value of standing.
+     *
+     * @param counts    The composition of the shoe.
+     * @param handState The state of the hand of the player, as {@link HandState} packs it.
+     * @param upCard    The value of the up card of the dealer, 1 for an ace.
+     * @return The expected value of standing.
+     * @throws NullPointerException     if the composition is null.
+     * @throws IllegalArgumentException if the composition or the up card is invalid.
+     */
+    public double stand(int[] counts, int handState, int upCard) {
+        long composition = pack(counts);
+        checkUpCard(upCard);
+        if (HandState.isBusted(handState)) {
+            return -1;
+        }
+        return this.playerValues(composition, size(counts), state(handState), upCard, 0);
+    }
+
+    /**
+     * Returns the expected value of hitting, then playing the best of standing and hitting again.
+     * If the shoe is empty the player cannot hit, and it is the expected value of standing.
+     *
+     * @param counts    The composition of the shoe.
+     * @param handState The state of the hand of the player, as {@link HandState} packs it.
+     * @param upCard    The value of the up card of the dealer, 1 for an ace.
+     * @return The expected value of hitting.
+     * @throws NullPointerException     if the composition is null.
+     * @throws IllegalArgumentException if the composition or the up card is invalid.
+     */
+    public double hit(int[] counts, int handState, int upCard) {
+        long composition = pack(counts);
+        checkUpCard(upCard);
+        if (HandState.isBusted(handState)) {
+            return -1;
+        }
+        return this.playerValues(composition, size(counts), state(handState), upCard, 1);
+    }
+
+    /**
+     * Returns the expected value of doubling: the bet is doubled, the player takes one card and stands.
+     * If the shoe is empty the player cannot double, and it is the expected value of standing.
+     *
+     * @param counts    The composition of the shoe.
+     * @param handState The state of the hand of the player, as {@link HandState} packs it.
+     * @param upCard    The value of the up card of the dealer, 1 for an ace.
+     * @return The expected value of doubling, in units of the initial bet.
+     * @throws NullPointerException     if the composition is null.
+     * @throws IllegalArgumentException if the composition or the up card is invalid.
+     */
+    public double doubleDown(int[] counts, int handState, int upCard) {
+        long composition = pack(counts);
+        checkUpCard(upCard);
+        if (HandState.isBusted(handState)) {
+            return -1;
+        }
+        int total = size(counts);
+        int state = state(handState);
+        if (total == 0) {
+            return this.playerValues(composition, total, state, upCard, 0);
+        }
+        double value = 0;
+        for (int card = 0; card < VALUES; card++) {
+            int count = count(composition, card);
+            if (count == 0) {
+                continue;
+            }
+            int next = draw(state, card);
+            double stand = hardTotal(next) > Constants.BLACKJACK_VALUE ? -1
+                    : this.playerValues(composition - (1L << SHIFTS[card]), total - 1, next, upCard, 0);
+            value += count * stand;
+        }
+        return 2 * value / total;
+    }
+
+    /**
+     * Forgets the memoized states.
+     */
+    public void clear() {
+        this.dealer.clear();
+        this.player.clear();
+        this.shortDealer = null;
+    }
+
+    /**
+     * Returns the number of states found in the memo tables.
+     *
+     * @return The number of hits of the memo tables.
+     */
+    public long getHits() {
+        return this.dealer.hits + this.player.hits + (this.shortDealer == null ? 0 : this.shortDealer.hits);
+    }
+
+    /**
+     * Returns the number of states computed because they were not in the memo tables.
+     *
+     * @return The number of misses of the memo tables.
+     */
+    public long getMisses() {
+        return this.dealer.misses + this.player.misses + (this.shortDealer == null ? 0 : this.shortDealer.misses);
+    }
+
+    /**
+     * Returns the expected values of standing and hitting, memoized.
+     *
+     * @param composition The packed composition.
+     * @param total       The number of cards of the composition.
+     * @param state       The hand of the player, not busted.
+     * @param upCard      The value of the up card of the dealer.
+     * @param index       0 for the value of standing, 1 for the value of hitting.
+     * @return The expected value.
+     */
+    private double playerValues(long composition, int total, int state, int upCard, int index) {
+        long key = composition | (long) upCard << 6 | state;
+        int offset = this.player.get(key);
+        if (offset < 0) {
+            double stand = this.standValue(composition, total, state, upCard);
+            double hit = stand;
+            if (total > 0) {
+                hit = 0;
+                for (int card = 0; card < VALUES; card++) {
+                    int count = count(composition, card);
+                    if (count == 0) {
+                        continue;
+                    }
+                    int next = draw(state, card);
+                    double best = -1;
+                    if (hardTotal(next) <= Constants.BLACKJACK_VALUE) {
+                        long left = composition - (1L << SHIFTS[card]);
+                        best = Math.max(this.playerValues(left, total - 1, next, upCard, 0),
+                                this.playerValues(left, total - 1, next, upCard, 1));
+                    }
+                    hit += count * best;
+                }
+                hit /= total;
+            }
+            // The recursion is over, the entry can be written.
+            offset = this.player.put(key);
+            this.player.values[offset] = stand;
+            this.player.values[offset + 1] = hit;
+        }
+        return this.player.values[offset + index];
+    }
+
+    /**
+     * Returns the expected value of standing, from the outcomes of the dealer.
+     *
+     * @param composition The packed composition.
+     * @param total       The number of cards of the composition.
+     * @param state       The hand of the player, not busted.
+     * @param upCard      The value of the up card of the dealer.
+     * @return The expected value of standing.
+     */
+    private double standValue(long composition, int total, int state, int upCard) {
+        int value = value(state);
+        int dealerState = handState(upCard, upCard == 1);
+        if (isDealerDone(dealerState, total)) {
+            return Integer.signum(value - value(dealerState));
+        }
+        int offset = this.dealerOutcomes(composition, total, dealerState);
+        double[] outcomes = this.dealerMemo(total).values;
+        int first = total >= SHORT_SHOE ? Constants.DEALER_LIMIT : 0;
+        double ev = outcomes[offset + BUSTED - first];
+        for (int dealerValue = first; dealerValue < BUSTED; dealerValue++) {
+            ev += Integer.signum(value - dealerValue) * outcomes[offset + dealerValue - first];
+        }
+        return ev;
+    }
+
+    /**
+     * Computes the outcomes of the dealer, memoized.
+     *
+     * @param composition The packed composition.
+     * @param total       The number of cards of the composition, not 0.
+     * @param state       The hand of the dealer, who has to draw.
+     * @return The offset of the outcomes in the values of the memo table of the dealer for the number of cards:
+     * the totals from 17 if the shoe cannot run out, from 0 otherwise.
+     */
+    private int dealerOutcomes(long composition, int total, int state) {
+        Memo memo = this.dealerMemo(total);
+        long key = composition | state;
+        int offset = memo.get(key);
+        if (offset >= 0) {
+            return offset;
+        }
+        double[] outcomes = new double[OUTCOMES];
+        for (int card = 0; card < VALUES; card++) {
+            int count = count(composition, card);
+            if (count == 0) {
+                continue;
+            }
+            int next = draw(state, card);
+            if (isDealerDone(next, total - 1)) {
+                outcomes[outcome(next)] += (double) count / total;
+            } else {
+                this.addDealerOutcomes(composition - (1L << SHIFTS[card]), total - 1, next,
+                        (double) count / total, outcomes);
+            }
+        }
+        // The recursion is over, the entry can be written.
+        offset = memo.put(key);
+        int first = OUTCOMES - memo.width;
+        System.arraycopy(outcomes, first, memo.values, offset, memo.width);
+        return offset;
+    }
+
+    /**
+     * Adds the outcomes of the dealer, times the given probability.
+     *
+     * @param composition The packed composition.
+     * @param total       The number of cards of the composition, not 0.
+     * @param state       The hand of the dealer, who has to draw.
+     * @param probability The probability of the hand of the dealer.
+     * @param outcomes    The outcomes, from the total 0 to busted.
+     */
+    private void addDealerOutcomes(long composition, int total, int state, double probability, double[] outcomes) {
+        int offset = this.dealerOutcomes(composition, total, state);
+        Memo memo = this.dealerMemo(total);
+        int first = OUTCOMES - memo.width;
+        for (int i = 0; i < memo.width; i++) {
+            outcomes[first + i] += probability * memo.values[offset + i];
+        }
+    }
+
+    /**
+     * Returns true if the dealer stops drawing.
+     *
+     * @param state The hand of the dealer.
+     * @param total The number of cards left.
+     * @return True if the dealer reached {@link Constants#DEALER_LIMIT}, busted or if the shoe is empty.
+     */
+    private static boolean isDealerDone(int state, int total) {
+        return total == 0 || value(state) >= Constants.DEALER_LIMIT;
+    }
+
+    /**
+     * Returns the outcome of a hand of the dealer who stopped drawing.
+     *
+     * @param state The hand of the dealer.
+     * @return The index of the outcome.
+     */
+    private static int outcome(int state) {
+        return hardTotal(state) > Constants.BLACKJACK_VALUE ? BUSTED : value(state);
+    }
+
+    /**
+     * Returns the state of a hand in a key: the hard total in 5 bits, then a bit set if the hand has an ace.
+     *
+     * @param hardTotal The hard total of the hand.
+     * @param ace       True if the hand has an ace.
+     * @return The state of the hand.
+     */
+    private static int handState(int hardTotal, boolean ace) {
+        return hardTotal << 1 | (ace ? 1 : 0);
+    }
+
+    /**
+     * Returns the state in a key of a {@link HandState}.
+     *
+     * @param handState The state of the hand.
+     * @return The state of the hand in a key.
+     */
+    private static int state(int handState) {
+        return handState(HandState.getHardTotal(handState), HandState.getAces(handState) > 0);
+    }
+
+    /**
+     * Returns the state of a hand with a card added.
+     *
+     * @param state The state of the hand.
+     * @param card  The index of the value of the card.
+     * @return The state of the hand with the card.
+     */
+    private static int draw(int state, int card) {
+        return state + ((card + 1) << 1) | (card == 0 ? 1 : 0);
+    }
+
+    /**
+     * Returns the hard total of a state.
+     *
+     * @param state The state of the hand.
+     * @return The hard total.
+     */
+    private static int hardTotal(int state) {
+        return state >>> 1;
+    }
+
+    /**
+     * Returns the best value of a state: the hard total, plus 10 if an ace can count as 11.
+     *
+     * @param state The state of the hand.
+     * @return The value of the hand.
+     */
+    private static int value(int state) {
+        int hard = state >>> 1;
+        return (state & 1) != 0 && hard + SOFT_BONUS <= Constants.BLACKJACK_VALUE ? hard + SOFT_BONUS : hard;
+    }
+
+    /**
+     * Returns the count of a value in a packed composition.
+     *
+     * @param composition The packed composition.
+     * @param card        The index of the value.
+     * @return The number of cards of the value.
+     */
+    private static int count(long composition, int card) {
+        return (int) (composition >>> SHIFTS[card]) & MASKS[card];
+    }
+
+    /**
+     * Returns the number of cards of a composition.
+     *
+     * @param counts The composition.
+     * @return The number of cards.
+     */
+    private static int size(int[] counts) {
+        int size = 0;
+        for (int count : counts) {
+            size += count;
+        }
+        return size;
+    }
+
+    /**
+     * Packs a composition in the high bits of a long.
+     *
+     * @param counts The composition.
+     * @return The packed composition.
+     * @throws NullPointerException     if the composition is null.
+     * @throws IllegalArgumentException if the composition does not have {@link #VALUES} counts,
+     *                                  or if a count is negative or too large.
+     */
+    private static long pack(int[] counts) {
+        if (counts == null) {
+            throw new NullPointerException("The composition cannot be null.");
+        }
+        if (counts.length != VALUES) {
+            throw new IllegalArgumentException("The composition must have " + VALUES + " counts.");
+        }
+        long composition = 0;
+        for (int card = 0; card < VALUES; card++) {
+            if (counts[card] < 0 || counts[card] > MASKS[card]) {
+                throw new IllegalArgumentException("The count " + counts[card] + " of the value " + (card + 1)
+                        + " must be between 0 and " + MASKS[card] + ".");
+            }
+            composition |= (long) counts[card] << SHIFTS[card];
+        }
+        return composition;
+    }
+
+    /**
+     * Checks the up card of the dealer.
+     *
+     * @param upCard The value of the up card, 1 for an ace.
+     * @throws IllegalArgumentException if the up card is not between 1 and 10.
+     */
+    private static void checkUpCard(int upCard) {
+        if (upCard < 1 || upCard > VALUES) {
+            throw new IllegalArgumentException("The up card must be between 1 and " + VALUES + ".");
+        }
+    }
+
+    /**
+     * A memo table of a fixed capacity, two-way set associative with a least recently used eviction.
+     */
+    private static final class Memo {
+
+        /**
+         * The key of an empty entry, which no state has: its hand state bits are all set.
+         */
+        private static final long EMPTY = -1L;
+
+        /**
+         * The keys of the entries, the two entries of a set are next to each other.
+         */
+        private final long[] keys;
+
+        /**
+         * The values of the entries, width values per entry.
+         */
+        private final double[] values;
+
+        /**
+         * For each set, true if its second entry was used last.
+         */
+        private final boolean[] secondUsedLast;
+
+        /**
+         * The number of values of an entry.
+         */
+        private final int width;
+
+        /**
+         * The mask of the index of a set.
+         */
+        private final int mask;
+
+        /**
+         * The number of keys found.
+         */
+        private long hits;
+
+        /**
+         * The number of keys not found.
+         */
+        private long misses;
+
+        /**
+         * Creates a new memo table.
+         *
+         * @param capacity The number of entries, rounded up to a power of 2, at least 2.
+         * @param width    The number of values of an entry.
+         */
+        private Memo(int capacity, int width) {
+            int entries = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+            this.keys = new long[entries];
+            this.values = new double[entries * width];
+            this.secondUsedLast = new boolean[entries / 2];
+            this.width = width;
+            this.mask = entries / 2 - 1;
+            Arrays.fill(this.keys, EMPTY);
+        }
+
+        /**
+         * Returns the set of a key.
+         *
+         * @param key The key.
+         * @return The index of the set.
+         */
+        private int set(long key) {
+            key ^= key >>> 33;
+            key *= 0xFF51AFD7ED558CCDL;
+            key ^= key >>> 33;
+            return (int) key & this.mask;
+        }
+
+        /**
+         * Finds the entry of a key.
+         *
+         * @param key The key.
+         * @return The offset of the values of the entry, or -1 if the key is not in the table.
+         */
+        private int get(long key) {
+            int set = this.set(key);
+            int entry = set << 1;
+            if (this.keys[entry] == key) {
+                this.secondUsedLast[set] = false;
+            } else if (this.keys[entry + 1] == key) {
+                this.secondUsedLast[set] = true;
+                entry++;
+            } else {
+                this.misses++;
+                return -1;
+            }
+            this.hits++;
+            return entry * this.width;
+        }
+
+        /**
+         * Adds a key, in place of the least recently used entry of its set.
+         *
+         * @param key The key, not in the table.
+         * @return The offset of the values of the entry, to write.
+         */
+        private int put(long key) {
+            int set = this.set(key);
+            int entry = (set << 1) + (this.secondUsedLast[set] ? 0 : 1);
+            this.keys[entry] = key;
+            this.secondUsedLast[set] = (entry & 1) == 1;
+            return entry * this.width;
+        }
+
+        /**
+         * Removes all the entries.
+         */
+        private void clear() {
+            Arrays.fill(this.keys, EMPTY);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package model.evaluation;
+
+import model.Constants;
+import model.card.Card;
+import model.card.CompiledCardEvaluator;
+import model.card.Rank;
+
+/**
+ * <b>
+ * HandState packs the state of a blackjack hand in a single int: its hard total and its number of aces.
+ * </b>
+ *
+ * <p>
+ * The hard total counts the aces as 1, it is in the low {@link #ACE_SHIFT} bits of the state,
+ * and the number of aces is in the high bits. A hand is soft when one of its aces can count as 11
+ * without busting, so its value is the hard total plus 10. The value of the state of a card is
+ * {@code hard value + (ace ? 1 << ACE_SHIFT : 0)}, so the state of a hand is the sum of the states of
+ * its cards: adding or removing a card is an addition or a subtraction.
+ * </p>
+ *
+ * <p>
+ * {@link #EVALUATOR} evaluates a card to its state, a {@link model.cards.Hand} which caches it keeps
+ * the state of its cards up to date in constant time, even when the cards are added in a batch.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class HandState {
+
+    /**
+     * The state of the empty hand.
+     */
+    public static final int EMPTY = 0;
+
+    /**
+     * The number of bits of the hard total, the number of aces is in the bits above.
+     */
+    public static final int ACE_SHIFT = 16;
+
+    /**
+     * The evaluator of the state of the cards.
+     */
+    public static final CompiledCardEvaluator EVALUATOR = CompiledCardEvaluator.of(HandState::of);
+
+    /**
+     * The difference between the values of an ace counted as 11 and as 1.
+     */
+    private static final int SOFT_BONUS = AceValue.ELEVEN.getValue() - AceValue.ONE.getValue();
+
+    /**
+     * The mask of the hard total.
+     */
+    private static final int HARD_MASK = (1 << ACE_SHIFT) - 1;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private HandState() {
+    }
+
+    /**
+     * Returns the state of the given card.
+     *
+     * @param card The card.
+     * @return The state of a hand with only this card.
+     * @throws NullPointerException if the card is null.
+     */
+    public static int of(Card card) {
+        if (card.getRank() == Rank.ACE) {
+            return (1 << ACE_SHIFT) + AceValue.ONE.getValue();
+        }
+        return Math.min(card.getRank().getValue(), 10);
+    }
+
+    /**
+     * Returns the state of the hand with the given card added.
+     *
+     * @param state The state of the hand.
+     * @param card  The card added.
+     * @return The new state of the hand.
+     * @throws NullPointerException if the card is null.
+     */
+    public static int add(int state, Card card) {
+        return state + EVALUATOR.evaluate(card);
+    }
+
+    /**
+     * Returns the state of the hand with the given card removed.
+     *
+     * @param state The state of the hand.
+     * @param card  The card removed.
+     * @return The new state of the hand.
+     * @throws NullPointerException if the card is null.
+     */
+    public static int remove(int state, Card card) {
+        return state - EVALUATOR.evaluate(card);
+    }
+
+    /**
+     * Returns the hard total of the hand, where the aces count as 1.
+     *
+     * @param state The state of the hand.
+     * @return The hard total.
+     */
+    public static int getHardTotal(int state) {
+        return state & HARD_MASK;
+    }
+
+    /**
+     * Returns the number of aces of the hand.
+     *
+     * @param state The state of the hand.
+     * @return The number of aces.
+     */
+    public static int getAces(int state) {
+        return state >>> ACE_SHIFT;
+    }
+
+    /**
+     * Returns true if an ace of the hand counts as 11.
+     *
+     * @param state The state of the hand.
+     * @return True if the hand is soft.
+     */
+    public static boolean isSoft(int state) {
+        return state > HARD_MASK && getHardTotal(state) + SOFT_BONUS <= Constants.BLACKJACK_VALUE;
+    }
+
+    /**
+     * Returns the best value of the hand: the hard total, plus 10 if the hand is soft.
+     *
+     * @param state The state of the hand.
+     * @return The value of the hand.
+     */
+    public static int getValue(int state) {
+        return isSoft(state) ? getHardTotal(state) + SOFT_BONUS : getHardTotal(state);
+    }
+
+    /**
+     * Returns the value of the hand when the aces have the given value: the best value for
+     * {@link AceValue#ELEVEN}, the hard total for {@link AceValue#ONE}.
+     *
+     * @param state    The state of the hand.
+     * @param aceValue The value of the aces.
+     * @return The value of the hand.
+     * @throws NullPointerException if the value of the aces is null.
+     */
+    public static int getValue(int state, AceValue aceValue) {
+        return aceValue == AceValue.ONE ? getHardTotal(state) : getValue(state);
+    }
+
+    /**
+     * Returns true if the hard total of the hand is over 21.
+     *
+     * @param state The state of the hand.
+     * @return True if the hand is busted.
+     */
+    public static boolean isBusted(int state) {
+        return getHardTotal(state) > Constants.BLACKJACK_VALUE;
+    }
+
+    /**
+     * Returns the string representation of the state.
+     *
+     * @param state The state of the hand.
+     * @return The string representation of the state.
+     */
+    public static String toString(int state) {
+        return (isSoft(state) ? "soft " : "hard ") + getValue(state);
+    }
+}
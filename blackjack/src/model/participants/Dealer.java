@@ -1,6 +1,6 @@
 package model.participants;
 
-import model.cards.Deck;
+import model.cards.CardSource;
 import model.cards.Hand;
 import model.evaluation.BlackjackCardEvaluator;
 
@@ -41,13 +41,13 @@ public class Dealer extends Participant {
     }
 
     /**
-     * Take cards from the deck until the hand is greater than a specific value.
+     * Take cards from the deck until the hand is greater than a specific value, or until the deck is empty.
      *
      * @param deck  The deck of cards.
      * @param value The minimum value of the hand.
      */
-    public void takeCardsUntil(Deck deck, int value) {
-        while (this.getHandValue() < value) {
+    public void takeCardsUntil(CardSource deck, int value) {
+        while (this.getHandValue() < value && !deck.isEmpty()) {
             this.takeCard(deck);
         }
     }
@@ -1,13 +1,16 @@
 package model.participants;
 
 import model.Constants;
-import model.card.Card;
-import model.cards.Deck;
+import model.cards.CardSource;
 import model.cards.Hand;
+import model.cards.ListOfCards;
+import model.evaluation.AceValue;
 import model.evaluation.BlackjackCardEvaluator;
+import model.evaluation.HandState;
+import observer.Channel;
+import observer.ChannelListener;
 import observer.Listenable;
 import observer.ListenableObject;
-import observer.Listener;
 
 /**
  * <b>
@@ -22,7 +25,22 @@ import observer.Listener;
  *
  * @version 1.0
  */
-public abstract class Participant extends ListenableObject implements Listener {
+public abstract class Participant extends ListenableObject implements ChannelListener {
+
+    /**
+     * The channel notified when the participant can play or not, the data of the event is the new value.
+     */
+    public static final Channel CAN_PLAY = Channel.of("canPlay");
+
+    /**
+     * The channel notified when the turn of the participant changes, the data of the event is the new value.
+     */
+    public static final Channel IS_HIS_TURN = Channel.of("isHisTurn");
+
+    /**
+     * The channel notified when the value of the hand of the participant changes.
+     */
+    public static final Channel HAND_VALUE = Channel.of("handValue");
 
 
     /**
@@ -52,9 +70,9 @@ public abstract class Participant extends ListenableObject implements Listener {
     private boolean isHisTurn;
 
     /**
-     * The value of the hand of the participant.
+     * Boolean that indicates if the participant listens to its hand, false once the hand is detached.
      */
-    private int handValue;
+    private boolean listensToHand = true;
 
 
     /**
@@ -68,7 +86,7 @@ public abstract class Participant extends ListenableObject implements Listener {
      * @throws NullPointerException if the
      */
     protected Participant(String name, Hand hand, BlackjackCardEvaluator evaluator, boolean canPlay, boolean isHisTurn) {
-        super("canPlay", "isHisTurn", "handValue");
+        super(CAN_PLAY, IS_HIS_TURN, HAND_VALUE);
         if (name == null) {
             throw new NullPointerException("The name of the participant cannot be null.");
         }
@@ -84,12 +102,12 @@ public abstract class Participant extends ListenableObject implements Listener {
         this.name = name;
         this.hand = hand;
         this.isHisTurn = isHisTurn;
-        this.handValue = hand.evaluate(evaluator);
-        this.canPlay = this.handValue < Constants.BLACKJACK_VALUE && canPlay;
         this.evaluator = evaluator;
-        this.hand.addListener("addCard", this);
-        this.hand.addListener("removeCard", this);
-        this.hand.addListener("clearCards", this);
+        this.hand.cacheEvaluator(HandState.EVALUATOR);
+        this.canPlay = this.getHandValue() < Constants.BLACKJACK_VALUE && canPlay;
+        this.hand.addListener(ListOfCards.ADD_CARD, this);
+        this.hand.addListener(ListOfCards.REMOVE_CARD, this);
+        this.hand.addListener(ListOfCards.CLEAR_CARDS, this);
     }
 
     /**
@@ -138,7 +156,7 @@ public abstract class Participant extends ListenableObject implements Listener {
      */
     public void setCanPlay(boolean canPlay) {
         this.canPlay = canPlay;
-        super.notifyListeners("canPlay", this.canPlay);
+        super.notifyListeners(CAN_PLAY, this.canPlay);
     }
 
 
@@ -158,15 +176,36 @@ public abstract class Participant extends ListenableObject implements Listener {
      */
     public void setHisTurn(boolean hisTurn) {
         this.isHisTurn = hisTurn;
-        super.notifyListeners("isHisTurn", hisTurn);
+        super.notifyListeners(IS_HIS_TURN, hisTurn);
     }
 
 
+    /**
+     * Stops listening to the hand of the participant, for the games played without a view.
+     *
+     * <p>
+     * The participant no longer registers a listener on its hand: it updates itself when it takes a card or
+     * clears its hand, from the state of the hand kept by the hand. The cards added to or removed from the hand
+     * directly are no longer seen by the participant.
+     * </p>
+     */
+    public void detachHand() {
+        if (this.listensToHand) {
+            this.listensToHand = false;
+            this.hand.removeListener(ListOfCards.ADD_CARD, this);
+            this.hand.removeListener(ListOfCards.REMOVE_CARD, this);
+            this.hand.removeListener(ListOfCards.CLEAR_CARDS, this);
+        }
+    }
+
     /**
      * Clears the hand of the participant.
      */
     public void clearHand() {
         this.getHand().clear();
+        if (!this.listensToHand) {
+            this.handValueChanged();
+        }
         //super.notifyListeners("handValue");
     }
 
@@ -180,14 +219,33 @@ public abstract class Participant extends ListenableObject implements Listener {
     }
 
     /**
-     * Evaluates the player's hand.
+     * Returns the state of the hand of the participant, its hard total and its number of aces.
+     *
+     * @return the state of the hand.
+     * @see HandState
+     */
+    public int getHandState() {
+        // The hand keeps the state up to date, in constant time for each card.
+        return this.hand.evaluate(HandState.EVALUATOR);
+    }
+
+    /**
+     * Evaluates the player's hand, an ace counts as 11 if the hand does not bust
+     * and the evaluator of the participant lets the aces count as 11.
      *
      * @return the value of the hand
-     * @throws NullPointerException if the card evaluator is null.
      */
     public int getHandValue() {
+        return HandState.getValue(this.getHandState(), this.evaluator.getAceValue());
+    }
 
-        return this.handValue;
+    /**
+     * Returns true if an ace of the hand of the participant counts as 11.
+     *
+     * @return true if the hand is soft, false otherwise.
+     */
+    public boolean isSoft() {
+        return this.evaluator.getAceValue() == AceValue.ELEVEN && HandState.isSoft(this.getHandState());
     }
 
     /**
@@ -195,8 +253,11 @@ public abstract class Participant extends ListenableObject implements Listener {
      *
      * @param deck The deck of cards.
      */
-    public void takeCard(Deck deck) {
+    public void takeCard(CardSource deck) {
         this.getHand().addCard(deck.deal());
+        if (!this.listensToHand) {
+            this.handValueChanged();
+        }
         //super.notifyListeners("handValue");
     }
 
@@ -212,7 +273,7 @@ public abstract class Participant extends ListenableObject implements Listener {
      * @return true if the participant is busted, false otherwise.
      */
     public boolean isBusted() {
-        return this.getHandValue() > Constants.BLACKJACK_VALUE;
+        return HandState.isBusted(this.getHandState());
     }
 
     /**
@@ -223,21 +284,35 @@ public abstract class Participant extends ListenableObject implements Listener {
     }
 
     @Override
-    public void notify(Listenable listenable, String operation, Object... data) {
-
-        switch (operation) {
-            case "addCard":
-                this.handValue += this.evaluator.evaluate((Card) data[0]);
-                break;
-            case "removeCard":
-                this.handValue -= this.evaluator.evaluate((Card) data[0]);
-                break;
-            case "clearCards":
-                this.handValue = 0;
-                break;
+    public void notify(Listenable listenable, Channel channel, Object... data) {
+        if (data.length == 0) {
+            this.notify(listenable, channel);
+        } else {
+            this.notify(listenable, channel, data[0]);
         }
-        this.setCanPlay(this.handValue < Constants.BLACKJACK_VALUE && this.canPlay);
-        super.notifyListeners("handValue");
+    }
+
+    @Override
+    public void notify(Listenable listenable, Channel channel) {
+        this.handValueChanged();
+    }
+
+    @Override
+    public void notify(Listenable listenable, Channel channel, Object data) {
+        this.handValueChanged();
+    }
+
+    @Override
+    public void notifyBatch(Listenable listenable, Channel channel, int count) {
+        this.handValueChanged();
+    }
+
+    /**
+     * Updates if the participant can play and notifies the listeners after a change of the hand value.
+     */
+    private void handValueChanged() {
+        this.setCanPlay(this.getHandValue() < Constants.BLACKJACK_VALUE && this.canPlay);
+        super.notifyListeners(HAND_VALUE);
     }
 
     @Override
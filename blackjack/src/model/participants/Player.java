@@ -1,8 +1,9 @@
 package model.participants;
 
-import model.cards.Deck;
+import model.cards.CardSource;
 import model.cards.Hand;
 import model.evaluation.BlackjackCardEvaluator;
+import observer.Channel;
 
 /**
  * <b>
@@ -13,6 +14,16 @@ import model.evaluation.BlackjackCardEvaluator;
  */
 public class Player extends Participant {
 
+    /**
+     * The channel notified when the money of the player changes, the data of the event is the new money.
+     */
+    public static final Channel SET_MONEY = Channel.of("setMoney");
+
+    /**
+     * The channel notified when the bet of the player changes, the data of the event is the new bet.
+     */
+    public static final Channel SET_BET = Channel.of("setBet");
+
     /**
      * The money of the player.
      */
@@ -38,7 +49,7 @@ public class Player extends Participant {
         super(name, hand, evaluator, canPlay, isHisTurn);
         this.money = money;
         this.bet = bet;
-        super.addOperation("setMoney", "setBet");
+        super.addChannel(SET_MONEY, SET_BET);
     }
 
     /**
@@ -72,7 +83,7 @@ public class Player extends Participant {
             throw new IllegalArgumentException("The money can't be negative.");
         }
         this.money = money;
-        super.notifyListeners("setMoney", money);
+        super.notifyListeners(SET_MONEY, money);
     }
 
     /**
@@ -126,7 +137,7 @@ public class Player extends Participant {
             throw new IllegalArgumentException("The bet cannot be greater than the money.");
         }
         this.bet = bet;
-        super.notifyListeners("setBet", bet);
+        super.notifyListeners(SET_BET, bet);
     }
 
     /**
@@ -185,7 +196,7 @@ public class Player extends Participant {
      * @return boolean that indicates if the player can play again.
      * @throws NullPointerException if the deck is null.
      */
-    public boolean hit(Deck deck) {
+    public boolean hit(CardSource deck) {
         if (deck == null) {
             throw new NullPointerException("The deck cannot be null.");
         }
@@ -204,7 +215,7 @@ public class Player extends Participant {
      * @return boolean that
      * @throws NullPointerException if the deck is null.
      */
-    public boolean doubleHit(Deck deck) {
+    public boolean doubleHit(CardSource deck) {
         if (deck == null) {
             throw new NullPointerException("The deck cannot be null.");
         }
@@ -1,8 +1,9 @@
 package model.participants;
 
+import observer.Channel;
+import observer.ChannelListener;
 import observer.Listenable;
 import observer.ListenableObject;
-import observer.Listener;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -19,7 +20,37 @@ import java.util.stream.Stream;
  * 
  * @version 1.0
  */
-public class Players extends ListenableObject implements Listener, Iterable<Player> {
+public class Players extends ListenableObject implements ChannelListener, Iterable<Player> {
+
+    /**
+     * The channel notified when a player is added, the data of the event is the player.
+     */
+    public static final Channel ADD_PLAYER = Channel.of("addPlayer");
+
+    /**
+     * The channel notified when a player is removed, the data of the event is the player.
+     */
+    public static final Channel REMOVE_PLAYER = Channel.of("removePlayer");
+
+    /**
+     * The channel notified when the players are cleared.
+     */
+    public static final Channel CLEAR_PLAYERS = Channel.of("clearPlayers");
+
+    /**
+     * The channel notified when the players are sorted.
+     */
+    public static final Channel SORT_PLAYERS = Channel.of("sortPlayers");
+
+    /**
+     * The channel notified when the players are reset.
+     */
+    public static final Channel RESET_PLAYERS = Channel.of("resetPlayers");
+
+    /**
+     * The channel notified when a player is updated, the data of the event is the player.
+     */
+    public static final Channel UPDATE_PLAYER = Channel.of("updatePlayer");
 
     /**
      * The players of the game.
@@ -33,7 +64,7 @@ public class Players extends ListenableObject implements Listener, Iterable<Play
      * @throws NullPointerException if the players is null.
      */
     public Players(List<Player> players) {
-        super("addPlayer", "removePlayer", "clearPlayers", "sortPlayers", "resetPlayers", "updatePlayer");
+        super(ADD_PLAYER, REMOVE_PLAYER, CLEAR_PLAYERS, SORT_PLAYERS, RESET_PLAYERS, UPDATE_PLAYER);
         if (players == null) {
             throw new NullPointerException("The players cannot be null.");
         }
@@ -90,7 +121,7 @@ public class Players extends ListenableObject implements Listener, Iterable<Play
         }
         player.addListener(this);
         boolean added = this.playerList.add(player);
-        super.notifyListeners("addPlayer", player);
+        super.notifyListeners(ADD_PLAYER, player);
         return added;
     }
 
@@ -118,7 +149,7 @@ public class Players extends ListenableObject implements Listener, Iterable<Play
         if (removed) {
             player.removeListener(this);
         }
-        super.notifyListeners("removePlayer", player);
+        super.notifyListeners(REMOVE_PLAYER, player);
         return removed;
     }
 
@@ -155,14 +186,20 @@ public class Players extends ListenableObject implements Listener, Iterable<Play
 
     public void sort(Comparator<? super Player> c) {
         this.playerList.sort(c);
-        super.notifyListeners("sortPlayers");
+        super.notifyListeners(SORT_PLAYERS);
     }
 
     public boolean removeIf(Predicate<? super Player> filter) {
         boolean removed = false;
-        for (Player player : this.playerList) {
+        Iterator<Player> iterator = this.playerList.iterator();
+        while (iterator.hasNext()) {
+            Player player = iterator.next();
             if (filter.test(player)) {
-                this.remove(player);
+                // Removed through the iterator, the list cannot be modified while it is iterated
+                iterator.remove();
+                player.removeListener(this);
+                super.notifyListeners(REMOVE_PLAYER, player);
+                removed = true;
             }
         }
 
@@ -186,13 +223,47 @@ public class Players extends ListenableObject implements Listener, Iterable<Play
      * Resets all the players.
      */
     public void reset() {
-        this.forEach(Player::reset);
-        super.notifyListeners("resetPlayers");
+        super.batch(() -> {
+            for (Player player : this.playerList) {
+                player.batch(player::reset);
+            }
+            super.notifyListeners(RESET_PLAYERS);
+        });
+    }
+
+    @Override
+    public void notify(Listenable listenable, Channel channel, Object... args) {
+        super.notifyListeners(UPDATE_PLAYER, listenable);
+    }
+
+    @Override
+    public void notify(Listenable listenable, Channel channel) {
+        super.notifyListeners(UPDATE_PLAYER, listenable);
+    }
+
+    @Override
+    public void notifyBatch(Listenable listenable, Channel channel, int count) {
+        super.notifyListeners(UPDATE_PLAYER, listenable);
+    }
+
+    @Override
+    public void notify(Listenable listenable, Channel channel, Object data) {
+        super.notifyListeners(UPDATE_PLAYER, listenable);
+    }
+
+    @Override
+    public void notify(Listenable listenable, Channel channel, int data) {
+        super.notifyListeners(UPDATE_PLAYER, listenable);
+    }
+
+    @Override
+    public void notify(Listenable listenable, Channel channel, double data) {
+        super.notifyListeners(UPDATE_PLAYER, listenable);
     }
 
     @Override
-    public void notify(Listenable listenable, String event, Object... args) {
-        super.notifyListeners("updatePlayer", listenable);
+    public void notify(Listenable listenable, Channel channel, boolean data) {
+        super.notifyListeners(UPDATE_PLAYER, listenable);
     }
 
 
@@ -1,6 +1,8 @@
 package model.participants.bot;
 
-import model.cards.Deck;
+import model.cards.CardSource;
+
+import java.util.Random;
 
 /**
  * <b>
@@ -23,17 +25,37 @@ public class BasicProbalityStrategy implements BotStrategy {
      */
     private final double probability;
 
+    /**
+     * The random generator of the strategy.
+     */
+    private final Random random;
+
     /**
      * Creates a new basic probability strategy.
      *
      * @param probability The probability that the bot will stand.
+     * @param random      The random generator of the strategy.
+     * @throws NullPointerException if the random generator is null.
      */
-    public BasicProbalityStrategy(double probability) {
+    public BasicProbalityStrategy(double probability, Random random) {
+        if (random == null) {
+            throw new NullPointerException("The random generator cannot be null.");
+        }
         this.probability = probability;
+        this.random = random;
+    }
+
+    /**
+     * Creates a new basic probability strategy with its own random generator.
+     *
+     * @param probability The probability that the bot will stand.
+     */
+    public BasicProbalityStrategy(double probability) {
+        this(probability, new Random());
     }
 
     @Override
-    public boolean execute(Bot bot, Deck deck) {
+    public boolean execute(Bot bot, CardSource deck) {
         boolean canPlayAgain = true;
         if (bot.getHandValue() >= 18) {
             canPlayAgain = bot.stand();
@@ -41,7 +63,7 @@ public class BasicProbalityStrategy implements BotStrategy {
             if (bot.getHandValue() <= 11) {
                 canPlayAgain = bot.hit(deck);
             } else {
-                if (Math.random() < this.probability) {
+                if (this.random.nextDouble() < this.probability) {
                     canPlayAgain = bot.stand();
                 } else {
                     canPlayAgain = bot.hit(deck);
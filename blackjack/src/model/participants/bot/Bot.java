@@ -1,6 +1,6 @@
 package model.participants.bot;
 
-import model.cards.Deck;
+import model.cards.CardSource;
 import model.evaluation.BlackjackCardEvaluator;
 import model.participants.Player;
 
@@ -46,7 +46,7 @@ public class Bot extends Player {
      * @param deck The deck of the game.
      * @return boolean true if the bot can play again, false otherwise.
      */
-    public boolean play(Deck deck) {
+    public boolean play(CardSource deck) {
         return this.strategy.execute(this, deck);
     }
 
@@ -1,6 +1,6 @@
 package model.participants.bot;
 
-import model.cards.Deck;
+import model.cards.CardSource;
 
 /**
  * <b>
@@ -22,6 +22,6 @@ public interface BotStrategy {
      * @param deck The deck of cards.
      * @return boolean true if the bot can play again, false otherwise.
      */
-    boolean execute(Bot bot, Deck deck);
+    boolean execute(Bot bot, CardSource deck);
 
 }
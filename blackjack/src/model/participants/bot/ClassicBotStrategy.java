@@ -1,10 +1,18 @@
 package model.participants.bot;
 
-import model.cards.Deck;
+import model.cards.CardSource;
 import model.participants.Dealer;
 
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 public class ClassicBotStrategy implements BotStrategy {
 
+    /**
+     * The logger of the decisions of the bots, off by default.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ClassicBotStrategy.class.getName());
+
     /**
      * The dealer of the game.
      */
@@ -21,30 +29,41 @@ public class ClassicBotStrategy implements BotStrategy {
     }
 
     @Override
-    public boolean execute(Bot bot, Deck deck) {
+    public boolean execute(Bot bot, CardSource deck) {
 
         boolean canPlayAgain = true;
         // the bot will stand if he has 18 or more
         if (bot.getHandValue() >= 18) {
-            System.out.println("Bot " + bot.getName() + " stands");
+            log(bot, "stands");
             canPlayAgain = bot.stand();
         } else {
             // The bot double if he has 10 or 11 and the dealer has 9 or less
             if (bot.getHandValue() == 10 || bot.getHandValue() == 11) {
 
                 if (this.dealer.getHandValue() <= 9) {
-                    System.out.println("Bot " + bot.getName() + " doubles");
+                    log(bot, "doubles");
                     canPlayAgain = bot.doubleHit(deck);
                 }
 
             }
             // The bot hits if he has 17 or less
             if (bot.getHandValue() <= 17) {
-                System.out.println("Bot " + bot.getName() + " hits");
+                log(bot, "hits");
                 canPlayAgain = bot.hit(deck);
             }
         }
         return canPlayAgain;
     }
-}
 
+    /**
+     * Logs the decision of the bot, if the decisions are logged.
+     *
+     * @param bot    The bot.
+     * @param action The action of the bot.
+     */
+    private static void log(Bot bot, String action) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Bot " + bot.getName() + " " + action);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package model.participants.bot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <b>
+ * DecisionTable gives the action of a player from the total of his hand and the up card of the dealer.
+ * </b>
+ *
+ * <p>
+ * The actions are stored in a single {@code byte[]}: one matrix for the hard totals and one for the soft totals,
+ * each with a row for every total from 0 to {@link #MAXIMUM_TOTAL} and a column for every up card from the ace
+ * (1) to the cards worth 10. A decision is one array access.
+ * </p>
+ *
+ * <p>
+ * A table is read from a text resource, one line per total:
+ * </p>
+ * <pre>
+ *     # total   2 3 4 5 6 7 8 9 10 A
+ *     hard 12   HHSSSHHHHH
+ *     soft 18   SddddSSHHH
+ * </pre>
+ * <p>
+ * where {@code S} stands, {@code H} hits, {@code D} doubles or hits and {@code d} doubles or stands.
+ * The lines starting with {@code #} are comments, and the totals which are not in the text stand.
+ * A table can also be written to and read from a binary form of {@link #BINARY_LENGTH} bytes, so a table
+ * per rule set is a small resource loaded by {@link #fromResource(String)}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class DecisionTable {
+
+    /**
+     * The player stands.
+     */
+    public static final byte STAND = 0;
+
+    /**
+     * The player hits.
+     */
+    public static final byte HIT = 1;
+
+    /**
+     * The player doubles, or hits if he cannot double.
+     */
+    public static final byte DOUBLE = 2;
+
+    /**
+     * The player doubles, or stands if he cannot double.
+     */
+    public static final byte DOUBLE_OR_STAND = 3;
+
+    /**
+     * The highest total of a hand in the table.
+     */
+    public static final int MAXIMUM_TOTAL = 21;
+
+    /**
+     * The number of up cards of the dealer, from the ace to the cards worth 10.
+     */
+    public static final int UP_CARDS = 10;
+
+    /**
+     * The length of the binary form of a table.
+     */
+    public static final int BINARY_LENGTH = 4 + 2 * (MAXIMUM_TOTAL + 1) * UP_CARDS;
+
+    /**
+     * The first bytes of the binary form of a table.
+     */
+    private static final byte[] MAGIC = {'B', 'J', 'D', 'T'};
+
+    /**
+     * The letters of the actions in the text form of a table, indexed by action.
+     */
+    private static final String LETTERS = "SHDd";
+
+    /**
+     * The number of actions of a matrix.
+     */
+    private static final int MATRIX = (MAXIMUM_TOTAL + 1) * UP_CARDS;
+
+    /**
+     * The name of the resource of the basic strategy.
+     */
+    private static final String BASIC_STRATEGY = "basic-strategy.txt";
+
+    /**
+     * The actions, the matrix of the hard totals then the matrix of the soft totals.
+     */
+    private final byte[] actions;
+
+    /**
+     * Creates a new table with the given actions.
+     *
+     * @param actions The actions, the matrix of the hard totals then the matrix of the soft totals.
+     */
+    private DecisionTable(byte[] actions) {
+        this.actions = actions;
+    }
+
+    /**
+     * Returns the basic strategy of the game.
+     *
+     * @return The table of the basic strategy, read once.
+     */
+    public static DecisionTable basicStrategy() {
+        return BasicStrategy.TABLE;
+    }
+
+    /**
+     * Reads the table of the given resource, in the package of this class if its name is relative.
+     *
+     * @param name The name of the resource, in text or binary form.
+     * @return The table.
+     * @throws NullPointerException     if the name is null.
+     * @throws IllegalArgumentException if the resource does not exist or is not a valid table.
+     * @throws UncheckedIOException     if the resource cannot be read.
+     */
+    public static DecisionTable fromResource(String name) {
+        if (name == null) {
+            throw new NullPointerException("The name of the resource cannot be null.");
+        }
+        try (InputStream in = DecisionTable.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("The resource " + name + " does not exist.");
+            }
+            return read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a table in text or binary form, told apart by the first bytes of the binary form.
+     *
+     * @param in The stream of the table, which is not closed.
+     * @return The table.
+     * @throws NullPointerException     if the stream is null.
+     * @throws IllegalArgumentException if the stream is not a valid table.
+     * @throws IOException              if the stream cannot be read.
+     */
+    public static DecisionTable read(InputStream in) throws IOException {
+        if (in == null) {
+            throw new NullPointerException("The stream cannot be null.");
+        }
+        BufferedInputStream buffered = new BufferedInputStream(in, BINARY_LENGTH);
+        buffered.mark(MAGIC.length);
+        byte[] magic = new byte[MAGIC.length];
+        int read = readFully(buffered, magic);
+        if (read == MAGIC.length && Arrays.equals(magic, MAGIC)) {
+            byte[] actions = new byte[2 * MATRIX];
+            if (readFully(buffered, actions) != actions.length) {
+                throw new IllegalArgumentException("The binary decision table is truncated.");
+            }
+            for (byte action : actions) {
+                if (action < STAND || action > DOUBLE_OR_STAND) {
+                    throw new IllegalArgumentException("The binary decision table has an invalid action: " + action);
+                }
+            }
+            return new DecisionTable(actions);
+        }
+        buffered.reset();
+        return parse(new InputStreamReader(buffered, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads bytes until the buffer is full or the stream ends.
+     *
+     * @param in     The stream.
+     * @param buffer The buffer.
+     * @return The number of bytes read.
+     * @throws IOException if the stream cannot be read.
+     */
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int read = 0;
+        while (read < buffer.length) {
+            int n = in.read(buffer, read, buffer.length - read);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        return read;
+    }
+
+    /**
+     * Parses a table in text form.
+     *
+     * @param reader The text of the table, which is not closed.
+     * @return The table.
+     * @throws NullPointerException     if the reader is null.
+     * @throws IllegalArgumentException if a line of the text is invalid.
+     * @throws IOException              if the text cannot be read.
+     */
+    public static DecisionTable parse(Reader reader) throws IOException {
+        if (reader == null) {
+            throw new NullPointerException("The reader cannot be null.");
+        }
+        byte[] actions = new byte[2 * MATRIX];
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        for (int number = 1; (line = lines.readLine()) != null; number++) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\\s+");
+            if (fields.length != 3 || !(fields[0].equals("hard") || fields[0].equals("soft"))
+                    || !fields[1].matches("\\d{1,2}") || fields[2].length() != UP_CARDS) {
+                throw new IllegalArgumentException("The line " + number + " of the decision table is invalid: " + line);
+            }
+            int total = Integer.parseInt(fields[1]);
+            if (total > MAXIMUM_TOTAL) {
+                throw new IllegalArgumentException("The line " + number + " of the decision table is invalid: " + line);
+            }
+            boolean soft = fields[0].equals("soft");
+            for (int column = 0; column < UP_CARDS; column++) {
+                int action = LETTERS.indexOf(fields[2].charAt(column));
+                if (action < 0) {
+                    throw new IllegalArgumentException("The line " + number + " of the decision table is invalid: " + line);
+                }
+                // The text lists the up cards from 2 to the ace, the matrix from the ace to 10.
+                actions[index(total, soft, column == UP_CARDS - 1 ? 1 : column + 2)] = (byte) action;
+            }
+        }
+        return new DecisionTable(actions);
+    }
+
+    /**
+     * Returns the index of an action in the matrices.
+     *
+     * @param total  The total of the hand.
+     * @param soft   True if the hand is soft.
+     * @param upCard The value of the up card of the dealer, 1 for an ace.
+     * @return The index of the action.
+     */
+    private static int index(int total, boolean soft, int upCard) {
+        return (soft ? MATRIX : 0) + total * UP_CARDS + upCard - 1;
+    }
+
+    /**
+     * Returns the action of a player.
+     *
+     * @param total  The total of the hand of the player.
+     * @param soft   True if the hand of the player is soft.
+     * @param upCard The value of the up card of the dealer, 1 for an ace and 10 for the faces.
+     * @return The action: {@link #STAND}, {@link #HIT}, {@link #DOUBLE} or {@link #DOUBLE_OR_STAND}.
+     * @throws IllegalArgumentException if the total or the up card is out of the table.
+     */
+    public byte getAction(int total, boolean soft, int upCard) {
+        if (total < 0 || total > MAXIMUM_TOTAL || upCard < 1 || upCard > UP_CARDS) {
+            throw new IllegalArgumentException("There is no action for the total " + total + " and the up card " + upCard + ".");
+        }
+        return actions[index(total, soft, upCard)];
+    }
+
+    /**
+     * Writes the table in binary form.
+     *
+     * @param out The stream, which is not closed.
+     * @throws NullPointerException if the stream is null.
+     * @throws IOException          if the stream cannot be written.
+     */
+    public void write(OutputStream out) throws IOException {
+        if (out == null) {
+            throw new NullPointerException("The stream cannot be null.");
+        }
+        out.write(MAGIC);
+        out.write(actions);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof DecisionTable && Arrays.equals(actions, ((DecisionTable) o).actions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(actions);
+    }
+
+    /**
+     * Returns the table in text form, which {@link #parse(Reader)} reads back.
+     *
+     * @return The text of the table.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("# total   2 3 4 5 6 7 8 9 10 A\n");
+        for (int matrix = 0; matrix < 2; matrix++) {
+            for (int total = 0; total <= MAXIMUM_TOTAL; total++) {
+                text.append(matrix == 0 ? "hard " : "soft ").append(String.format("%-5d", total));
+                for (int column = 0; column < UP_CARDS; column++) {
+                    text.append(LETTERS.charAt(actions[index(total, matrix == 1, column == UP_CARDS - 1 ? 1 : column + 2)]));
+                }
+                text.append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Holder of the basic strategy, read when it is first used.
+     */
+    private static final class BasicStrategy {
+
+        /**
+         * The table of the basic strategy.
+         */
+        private static final DecisionTable TABLE = fromResource(BASIC_STRATEGY);
+    }
+}
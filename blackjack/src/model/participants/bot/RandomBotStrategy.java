@@ -1,6 +1,6 @@
 package model.participants.bot;
 
-import model.cards.Deck;
+import model.cards.CardSource;
 import model.participants.Dealer;
 
 import java.util.Random;
@@ -31,7 +31,7 @@ public class RandomBotStrategy implements BotStrategy{
     }
 
     @Override
-    public boolean execute(Bot bot, Deck deck) {
+    public boolean execute(Bot bot, CardSource deck) {
         boolean canPlay = false;
 
         // The probability to hit, double or draw are the same
@@ -0,0 +1,127 @@
+package model.participants.bot;
+
+import model.Constants;
+import model.cards.CardSource;
+import model.evaluation.HandState;
+import model.participants.Dealer;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <b>
+ * TableBotStrategy plays the action of a {@link DecisionTable} for the total of the bot and the up card of the dealer.
+ * </b>
+ *
+ * <p>
+ * The bot doubles only on its first two cards and when it has enough money, otherwise it hits or stands
+ * as the table says. The decisions are logged at {@link Level#FINE}, which is off by default, and the
+ * messages are only built when the level is enabled.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class TableBotStrategy implements BotStrategy {
+
+    /**
+     * The logger of the decisions of the bots.
+     */
+    private static final Logger LOGGER = Logger.getLogger(TableBotStrategy.class.getName());
+
+    /**
+     * The number of cards of a hand which can be doubled.
+     */
+    private static final int CARDS_TO_DOUBLE = 2;
+
+    /**
+     * The dealer of the game.
+     */
+    private final Dealer dealer;
+
+    /**
+     * The table of the decisions.
+     */
+    private final DecisionTable table;
+
+    /**
+     * Creates a new strategy which plays the given table.
+     *
+     * @param dealer The dealer of the game.
+     * @param table  The table of the decisions, one per rule set.
+     * @throws NullPointerException if the dealer or the table is null.
+     */
+    public TableBotStrategy(Dealer dealer, DecisionTable table) {
+        if (dealer == null) {
+            throw new NullPointerException("The dealer cannot be null.");
+        }
+        if (table == null) {
+            throw new NullPointerException("The decision table cannot be null.");
+        }
+        this.dealer = dealer;
+        this.table = table;
+    }
+
+    /**
+     * Creates a new strategy which plays the basic strategy.
+     *
+     * @param dealer The dealer of the game.
+     * @throws NullPointerException if the dealer is null.
+     */
+    public TableBotStrategy(Dealer dealer) {
+        this(dealer, DecisionTable.basicStrategy());
+    }
+
+    /**
+     * Returns the table of the decisions.
+     *
+     * @return The table of the decisions.
+     */
+    public DecisionTable getTable() {
+        return this.table;
+    }
+
+    /**
+     * Plays the action of the table.
+     *
+     * @param bot  The bot.
+     * @param deck The deck of the game.
+     * @return True if the bot can play again.
+     * @throws IndexOutOfBoundsException if the dealer has no card.
+     */
+    @Override
+    public boolean execute(Bot bot, CardSource deck) {
+        int total = bot.getHandValue();
+        if (total > Constants.BLACKJACK_VALUE) {
+            return bot.stand();
+        }
+        // The up card is the first card of the dealer, an ace counts as 1.
+        int upCard = HandState.getHardTotal(HandState.EVALUATOR.evaluate(this.dealer.getHand().getCard(0)));
+
+        byte action = this.table.getAction(total, bot.isSoft(), upCard);
+        if (action == DecisionTable.DOUBLE || action == DecisionTable.DOUBLE_OR_STAND) {
+            if (bot.getHand().size() == CARDS_TO_DOUBLE && bot.getMoney() >= bot.getBet()) {
+                log(bot, "doubles");
+                return bot.doubleHit(deck);
+            }
+            action = action == DecisionTable.DOUBLE ? DecisionTable.HIT : DecisionTable.STAND;
+        }
+        if (action == DecisionTable.HIT) {
+            log(bot, "hits");
+            return bot.hit(deck);
+        }
+        log(bot, "stands");
+        return bot.stand();
+    }
+
+    /**
+     * Logs the decision of the bot, if the decisions are logged.
+     *
+     * @param bot    The bot.
+     * @param action The action of the bot.
+     */
+    private static void log(Bot bot, String action) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Bot " + bot.getName() + " " + action + " with " + bot.getHandValue());
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package model.simulation;
+
+/**
+ * <b>
+ * SimulationResult holds the statistics of the hands played by a {@link Simulator}.
+ * </b>
+ *
+ * <p>
+ * The result of a hand is the money won or lost by the bot, in units of its initial bet:
+ * 1 for a hand won, 1.5 for a blackjack, 0 for a push and -1 for a hand lost.
+ * The expected value is the mean of the results, the variance is computed with Welford's algorithm
+ * so that it stays accurate over hundreds of millions of hands.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class SimulationResult {
+
+    /**
+     * The z-score of the 95% confidence interval.
+     */
+    private static final double Z_95 = 1.959964;
+
+    /**
+     * The number of hands played.
+     */
+    private final long hands;
+
+    /**
+     * The mean of the results of the hands.
+     */
+    private final double mean;
+
+    /**
+     * The sum of the squares of the differences between the results and their mean.
+     */
+    private final double squares;
+
+    /**
+     * The duration of the simulation, in nanoseconds.
+     */
+    private final long nanos;
+
+    /**
+     * Creates a new result.
+     *
+     * @param hands   The number of hands played.
+     * @param mean    The mean of the results of the hands.
+     * @param squares The sum of the squares of the differences between the results and their mean.
+     * @param nanos   The duration of the simulation, in nanoseconds.
+     */
+    SimulationResult(long hands, double mean, double squares, long nanos) {
+        this.hands = hands;
+        this.mean = mean;
+        this.squares = squares;
+        this.nanos = nanos;
+    }
+
+    /**
+     * Returns the number of hands played.
+     *
+     * @return The number of hands played.
+     */
+    public long getHands() {
+        return hands;
+    }
+
+    /**
+     * Returns the expected value of a hand, in units of the initial bet.
+     *
+     * @return The mean of the results of the hands.
+     */
+    public double getExpectedValue() {
+        return mean;
+    }
+
+    /**
+     * Returns the variance of the result of a hand.
+     *
+     * @return The sample variance of the results, 0 if less than two hands were played.
+     */
+    public double getVariance() {
+        return hands < 2 ? 0 : squares / (hands - 1);
+    }
+
+    /**
+     * Returns the standard deviation of the result of a hand.
+     *
+     * @return The standard deviation of the results.
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns the half-width of the 95% confidence interval of the expected value.
+     *
+     * @return The half-width of the confidence interval.
+     */
+    public double getConfidenceInterval() {
+        return hands == 0 ? 0 : Z_95 * Math.sqrt(getVariance() / hands);
+    }
+
+    /**
+     * Returns the duration of the simulation.
+     *
+     * @return The duration, in nanoseconds.
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Returns the number of hands played per second.
+     *
+     * @return The throughput of the simulation.
+     */
+    public double getHandsPerSecond() {
+        return nanos == 0 ? 0 : hands * 1e9 / nanos;
+    }
+
+    /**
+     * Returns the string representation of the result.
+     *
+     * @return The string representation of the result.
+     */
+    @Override
+    public String toString() {
+        return String.format("SimulationResult [hands=%d, ev=%.5f +/- %.5f, variance=%.4f, hands/s=%.0f]",
+                hands, mean, getConfidenceInterval(), getVariance(), getHandsPerSecond());
+    }
+
+    /**
+     * Accumulates the results of the hands of a task, with Welford's algorithm.
+     */
+    static final class Statistics {
+
+        /**
+         * The number of hands.
+         */
+        private long hands;
+
+        /**
+         * The mean of the results.
+         */
+        private double mean;
+
+        /**
+         * The sum of the squares of the differences between the results and their mean.
+         */
+        private double squares;
+
+        /**
+         * Adds the result of a hand.
+         *
+         * @param result The result of the hand.
+         */
+        void add(double result) {
+            hands++;
+            double delta = result - mean;
+            mean += delta / hands;
+            squares += delta * (result - mean);
+        }
+
+        /**
+         * Adds the results of other hands, with the parallel formula of Chan et al.
+         *
+         * @param other The statistics of the other hands.
+         * @return These statistics.
+         */
+        Statistics merge(Statistics other) {
+            if (other.hands > 0) {
+                long total = hands + other.hands;
+                double delta = other.mean - mean;
+                mean += delta * other.hands / total;
+                squares += other.squares + delta * delta * hands / total * other.hands;
+                hands = total;
+            }
+            return this;
+        }
+
+        /**
+         * Returns the result of the hands.
+         *
+         * @param nanos The duration of the simulation, in nanoseconds.
+         * @return The result.
+         */
+        SimulationResult toResult(long nanos) {
+            return new SimulationResult(hands, mean, squares, nanos);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package model.simulation;
+
+import model.Constants;
+import model.PackedShoe;
+import model.card.Card;
+import model.cards.Shuffler;
+import model.evaluation.BlackjackCardEvaluator;
+import model.participants.Dealer;
+import model.participants.bot.Bot;
+import model.participants.bot.BotStrategy;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+
+/**
+ * <b>
+ * Simulator plays blackjack hands between a bot and the dealer, without a view, to evaluate a bot strategy.
+ * </b>
+ *
+ * <p>
+ * A round follows the rules of the game: the bot bets {@link Constants#MINIMUM_BET}, the dealer takes one card
+ * and the bot two, a blackjack is paid {@link Constants#BLACKJACK_RATIO} at once, otherwise the bot plays its
+ * strategy, the dealer takes cards until {@link Constants#DEALER_LIMIT} and the bet is paid
+ * {@link Constants#WIN_RATIO} or returned as by the controller. The rules are the ones of the {@link Dealer}
+ * and the {@link Bot} of the game, whose hands are detached ({@link model.participants.Participant#detachHand()}):
+ * no listener is registered on the hands nor on the participants, so the cards dealt are not dispatched to any
+ * listener, the participants update themselves from the {@link model.evaluation.HandState} of their hands.
+ * </p>
+ *
+ * <p>
+ * The hands are split into tasks of {@link #HANDS_PER_TASK} hands run by a fork/join pool. A task has its own
+ * {@link PackedShoe}, shuffled when it is dealt to the cut card, its own bot and dealer, and its own random
+ * generators, seeded from the seed of the simulator and the index of its first hand. So the tasks share nothing,
+ * and a simulation gives the same result whatever the number of threads.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class Simulator {
+
+    /**
+     * The number of hands of a task.
+     */
+    public static final int HANDS_PER_TASK = 20_000;
+
+    /**
+     * The number of cards left in the shoe under which it is shuffled, enough for a round of two participants.
+     */
+    private static final int MINIMUM_CARDS_LEFT = 26;
+
+    /**
+     * The money of the bot at the beginning of each hand.
+     */
+    private static final int MONEY = Constants.MAXIMUM_MONEY;
+
+    /**
+     * The factory of the strategies of the bots, from the dealer and the random generator of a task.
+     */
+    private final BiFunction<Dealer, Random, BotStrategy> strategies;
+
+    /**
+     * The number of decks of the shoes.
+     */
+    private final int numberOfDecks;
+
+    /**
+     * The pool which runs the tasks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The seed of the random generators.
+     */
+    private final long seed;
+
+    /**
+     * Creates a new simulator with the given strategies, with shoes of {@link Constants#NUMBER_OF_DECKS}
+     * decks, run by the common pool with a random seed.
+     *
+     * @param strategies The factory of the strategies of the bots, from the dealer and the random generator.
+     * @throws NullPointerException if the strategies is null.
+     */
+    public Simulator(BiFunction<Dealer, Random, BotStrategy> strategies) {
+        this(strategies, Constants.NUMBER_OF_DECKS, ForkJoinPool.commonPool(), new Random().nextLong());
+    }
+
+    /**
+     * Creates a new simulator.
+     *
+     * @param strategies    The factory of the strategies of the bots, from the dealer and the random generator.
+     * @param numberOfDecks The number of decks of the shoes.
+     * @param pool          The pool which runs the tasks.
+     * @param seed          The seed of the random generators.
+     * @throws NullPointerException     if the strategies or the pool is null.
+     * @throws IllegalArgumentException if the number of decks is not positive.
+     */
+    public Simulator(BiFunction<Dealer, Random, BotStrategy> strategies, int numberOfDecks, ForkJoinPool pool, long seed) {
+        if (strategies == null) {
+            throw new NullPointerException("The strategies cannot be null.");
+        }
+        if (pool == null) {
+            throw new NullPointerException("The pool cannot be null.");
+        }
+        if (numberOfDecks <= 0) {
+            throw new IllegalArgumentException("The number of decks must be positive.");
+        }
+        this.strategies = strategies;
+        this.numberOfDecks = numberOfDecks;
+        this.pool = pool;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays the given number of hands.
+     *
+     * @param hands The number of hands to play.
+     * @return The result of the hands.
+     * @throws IllegalArgumentException if the number of hands is negative.
+     */
+    public SimulationResult run(long hands) {
+        if (hands < 0) {
+            throw new IllegalArgumentException("The number of hands cannot be negative.");
+        }
+        long start = System.nanoTime();
+        SimulationResult.Statistics statistics = pool.invoke(new HandsTask(0, hands));
+        return statistics.toResult(System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the seed of a task, mixed from the seed of the simulator and the index of its first hand.
+     *
+     * @param from The index of the first hand of the task.
+     * @return The seed of the task.
+     */
+    private long seedOf(long from) {
+        long z = seed + from * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * A task which plays the hands between two indexes, split in halves until {@link #HANDS_PER_TASK} hands.
+     */
+    private final class HandsTask extends RecursiveTask<SimulationResult.Statistics> {
+
+        /**
+         * The version of the serialized form of the task.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The index of the first hand, inclusive.
+         */
+        private final long from;
+
+        /**
+         * The index of the last hand, exclusive.
+         */
+        private final long to;
+
+        /**
+         * Creates a new task.
+         *
+         * @param from The index of the first hand, inclusive.
+         * @param to   The index of the last hand, exclusive.
+         */
+        private HandsTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult.Statistics compute() {
+            if (to - from <= HANDS_PER_TASK) {
+                return new Table(seedOf(from)).play(to - from);
+            }
+            // The split is aligned on the tasks, so the seeds do not depend on the number of threads.
+            long tasks = (to - from + HANDS_PER_TASK - 1) / HANDS_PER_TASK;
+            long middle = from + tasks / 2 * HANDS_PER_TASK;
+            HandsTask right = new HandsTask(middle, to);
+            right.fork();
+            SimulationResult.Statistics left = new HandsTask(from, middle).compute();
+            return left.merge(right.join());
+        }
+    }
+
+    /**
+     * The table of a task: its shoe, its dealer and its bot.
+     */
+    private final class Table {
+
+        /**
+         * The shoe of the table.
+         */
+        private final PackedShoe shoe = new PackedShoe(numberOfDecks);
+
+        /**
+         * The shuffler of the shoe.
+         */
+        private final Shuffler shuffler;
+
+        /**
+         * The dealer of the table.
+         */
+        private final Dealer dealer = new Dealer("Dealer", new BlackjackCardEvaluator());
+
+        /**
+         * The bot of the table.
+         */
+        private final Bot bot;
+
+        /**
+         * Creates a new table with a shuffled shoe.
+         *
+         * @param seed The seed of the random generators of the table.
+         */
+        private Table(long seed) {
+            this.shuffler = Shuffler.splittable(seed);
+            this.bot = new Bot("Bot", new BlackjackCardEvaluator(), MONEY, strategies.apply(dealer, new Random(~seed)));
+            this.dealer.detachHand();
+            this.bot.detachHand();
+            this.shoe.shuffle(shuffler);
+        }
+
+        /**
+         * Plays the given number of hands.
+         *
+         * @param hands The number of hands to play.
+         * @return The statistics of the hands.
+         */
+        private SimulationResult.Statistics play(long hands) {
+            SimulationResult.Statistics statistics = new SimulationResult.Statistics();
+            for (long hand = 0; hand < hands; hand++) {
+                if (shoe.size() < Math.max(MINIMUM_CARDS_LEFT, numberOfDecks * Card.COUNT / 4)) {
+                    shoe.reset();
+                    shoe.shuffle(shuffler);
+                }
+                statistics.add(playHand());
+            }
+            return statistics;
+        }
+
+        /**
+         * Plays a round as the controller does.
+         *
+         * @return The money won by the bot, in units of its bet.
+         */
+        private double playHand() {
+            dealer.reset();
+            bot.reset();
+            bot.setMoney(MONEY);
+            bot.placeBet(Constants.MINIMUM_BET);
+
+            dealer.takeCard(shoe);
+            bot.takeCard(shoe);
+            bot.takeCard(shoe);
+
+            if (bot.hasBlackjack()) {
+                bot.increaseMoney((1 + Constants.BLACKJACK_RATIO) * bot.getBet());
+                bot.setBet(0);
+            } else if (!bot.isBusted()) {
+                bot.setHisTurn(true);
+                while (bot.play(shoe)) {
+                    // The bot plays until it stands or busts.
+                }
+            }
+            dealer.takeCardsUntil(shoe, Constants.DEALER_LIMIT);
+
+            int win;
+            if (bot.isBusted()) {
+                win = -1;
+            } else if (dealer.isBusted()) {
+                win = 1;
+            } else {
+                win = Integer.compare(bot.getHandValue(), dealer.getHandValue());
+            }
+            if (win == 1) {
+                bot.increaseMoney((1 + Constants.WIN_RATIO) * bot.getBet());
+            } else if (win == 0) {
+                bot.increaseMoney(bot.getBet());
+            }
+            return (bot.getMoney() - MONEY) / Constants.MINIMUM_BET;
+        }
+    }
+}
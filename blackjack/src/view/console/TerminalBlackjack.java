@@ -48,7 +48,8 @@ public class TerminalBlackjack implements Blackjack {
 
 
     /**
-     * Show the round
+     * Show the round and ask the current player for one action, the controller shows the round again
+     * while it is the turn of a human player.
      */
     @Override
     public void showRound() {
@@ -56,7 +57,6 @@ public class TerminalBlackjack implements Blackjack {
         if (this.getController().getCurrentPlayer() != null) {
             System.out.println("It's " + this.getController().getCurrentPlayer().getName() + "'s turn.");
             this.askPlayerToPlay();
-            this.showRound();
         }
 
     }
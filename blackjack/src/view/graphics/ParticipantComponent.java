@@ -1,8 +1,10 @@
 package view.graphics;
 
 import model.participants.Participant;
+import observer.Channel;
+import observer.ChannelListener;
+import observer.Dispatcher;
 import observer.Listenable;
-import observer.Listener;
 import vue.graphic.components.HandComponent;
 
 import javax.swing.*;
@@ -20,7 +22,7 @@ import java.awt.*;
  *
  * @version 1.0
  */
-public class ParticipantComponent extends JPanel implements Listener {
+public class ParticipantComponent extends JPanel implements ChannelListener {
 
     /**
      * The participant to display.
@@ -78,20 +80,30 @@ public class ParticipantComponent extends JPanel implements Listener {
 
         this.updateBorder();
 
-        this.participant.addListener("handValue", this);
-        this.participant.addListener("canPlay", this);
-        this.participant.addListener("isHisTurn", this);
+        this.participant.addWeakListener(Participant.HAND_VALUE, this, Dispatcher.eventDispatchThread());
+        this.participant.addWeakListener(Participant.CAN_PLAY, this, Dispatcher.eventDispatchThread());
+        this.participant.addWeakListener(Participant.IS_HIS_TURN, this, Dispatcher.eventDispatchThread());
     }
 
     @Override
-    public void notify(Listenable listenable, String operation, Object... args) {
-        if (operation.equals("handValue")) {
+    public void notify(Listenable listenable, Channel channel, Object... args) {
+        this.notify(listenable, channel);
+    }
+
+    @Override
+    public void notify(Listenable listenable, Channel channel) {
+        if (channel == Participant.HAND_VALUE) {
             this.handValueLabel.setText("Value: " + this.participant.getHandValue());
-        } else if (operation.equals("isHisTurn") || operation.equals("canPlay")) {
+        } else if (channel == Participant.IS_HIS_TURN || channel == Participant.CAN_PLAY) {
             this.updateBorder();
         }
     }
 
+    @Override
+    public void notify(Listenable listenable, Channel channel, boolean data) {
+        this.notify(listenable, channel);
+    }
+
     /**
      * Update the border of the component.
      */
@@ -2,8 +2,10 @@ package view.graphics;
 
 import model.participants.Player;
 import model.participants.Players;
+import observer.Channel;
+import observer.ChannelListener;
+import observer.Dispatcher;
 import observer.Listenable;
-import observer.Listener;
 
 import javax.swing.table.AbstractTableModel;
 
@@ -14,7 +16,7 @@ import javax.swing.table.AbstractTableModel;
  *
  * @version 1.0
  */
-public class PlayersAdaptater extends AbstractTableModel implements Listener {
+public class PlayersAdaptater extends AbstractTableModel implements ChannelListener {
 
     /**
      * The listenablePlayers of the game.
@@ -33,8 +35,8 @@ public class PlayersAdaptater extends AbstractTableModel implements Listener {
      */
     public PlayersAdaptater(Players listenablePlayers) {
         this.listenablePlayers = listenablePlayers;
-        this.listenablePlayers.addListener("updatePlayer", this);
-        this.listenablePlayers.addListener("sortPlayers", this);
+        this.listenablePlayers.addWeakListener(Players.UPDATE_PLAYER, this, Dispatcher.eventDispatchThread());
+        this.listenablePlayers.addWeakListener(Players.SORT_PLAYERS, this, Dispatcher.eventDispatchThread());
     }
 
     /**
@@ -102,16 +104,35 @@ public class PlayersAdaptater extends AbstractTableModel implements Listener {
     }
 
     @Override
-    public void notify(Listenable listenable, String property, Object... args) {
-        if (property.equals("updatePlayer")) {
-            Player player = (Player) args[0];
-            int index = this.listenablePlayers.indexOf(player);
-            this.fireTableRowsUpdated(index, index);
+    public void notify(Listenable listenable, Channel channel, Object... args) {
+        if (args.length == 0) {
+            this.notify(listenable, channel);
+        } else {
+            this.notify(listenable, channel, args[0]);
         }
-        if (property.equals("sortPlayers")) {
+    }
+
+    @Override
+    public void notify(Listenable listenable, Channel channel) {
+        if (channel == Players.SORT_PLAYERS) {
+            this.fireTableDataChanged();
+        }
+    }
+
+    @Override
+    public void notifyBatch(Listenable listenable, Channel channel, int count) {
+        if (channel == Players.UPDATE_PLAYER || channel == Players.SORT_PLAYERS) {
             this.fireTableDataChanged();
         }
     }
 
+    @Override
+    public void notify(Listenable listenable, Channel channel, Object data) {
+        if (channel == Players.UPDATE_PLAYER) {
+            int index = this.listenablePlayers.indexOf((Player) data);
+            this.fireTableRowsUpdated(index, index);
+        }
+    }
+
 
 }
@@ -0,0 +1,172 @@
+package controller;
+
+import junit.framework.*;
+import model.Constants;
+import model.cards.Deck;
+import model.evaluation.BlackjackCardEvaluator;
+import model.participants.Player;
+import model.participants.bot.BasicProbalityStrategy;
+import model.participants.bot.Bot;
+import view.Blackjack;
+
+public class ControllerTest extends TestCase {
+
+    /**
+     * A view which asks nothing and samples the depth of the stack at the end of the rounds.
+     */
+    private static final class SilentView implements Blackjack {
+
+        /**
+         * The number of rounds between two samples of the depth of the stack.
+         */
+        private static final int SAMPLE = 1 << 20;
+
+        /**
+         * The controller of the view.
+         */
+        private Controller controller;
+
+        /**
+         * The number of rounds shown.
+         */
+        private long rounds;
+
+        /**
+         * The depth of the stack at the end of the first round.
+         */
+        private int firstDepth;
+
+        /**
+         * The deepest stack sampled at the end of a round.
+         */
+        private int maximumDepth;
+
+        @Override
+        public Controller getController() {
+            return this.controller;
+        }
+
+        @Override
+        public void setController(Controller controller) {
+            this.controller = controller;
+        }
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public void showRound() {
+            fail("A round without human player is never shown.");
+        }
+
+        @Override
+        public void showResult() {
+            if (this.rounds++ % SAMPLE == 0) {
+                int depth = Thread.currentThread().getStackTrace().length;
+                if (this.rounds == 1) {
+                    this.firstDepth = depth;
+                }
+                this.maximumDepth = Math.max(this.maximumDepth, depth);
+            }
+        }
+
+        @Override
+        public void processGame() {
+        }
+
+        @Override
+        public void displayMessage(String title, String message) {
+        }
+
+        @Override
+        public String ask(String title, String message) {
+            throw new AssertionFailedError("The view is never asked.");
+        }
+    }
+
+    /**
+     * Creates a controller with the given view and bots which have enough money to play for a long time.
+     *
+     * @param view The view.
+     * @param bots The number of bots.
+     * @return The controller.
+     */
+    private static Controller withBots(SilentView view, int bots) {
+        Controller controller = new Controller(new BlackjackCardEvaluator(), view);
+        view.setController(controller);
+        for (int i = 0; i < bots; i++) {
+            controller.addPlayer(new Bot("Bot" + i, new BlackjackCardEvaluator(), Integer.MAX_VALUE,
+                    new BasicProbalityStrategy(0.5)));
+        }
+        return controller;
+    }
+
+    /**
+     * Test that a session of bots plays 10 million rounds with the same depth of stack.
+     */
+    public void testTenMillionRounds() {
+        SilentView view = new SilentView();
+        Controller controller = withBots(view, 1);
+        assertEquals(10_000_000L, controller.playRounds(10_000_000L));
+        assertEquals(10_000_000L, view.rounds);
+        assertEquals(RoundState.OVER, controller.getState());
+        assertEquals(view.firstDepth, view.maximumDepth);
+    }
+
+    /**
+     * Test the rounds of several bots, which stop when the bots have no money left.
+     */
+    public void testPlayRounds() {
+        SilentView view = new SilentView();
+        Controller controller = withBots(view, 5);
+        assertEquals(0, controller.playRounds(0));
+        assertEquals(RoundState.OVER, controller.getState());
+        assertEquals(10_000, controller.playRounds(10_000));
+        assertEquals(5, controller.getStillPlaying().size());
+        for (Player player : controller.getStillPlaying()) {
+            assertEquals(0.0, player.getBet());
+        }
+
+        Controller poor = new Controller(new BlackjackCardEvaluator(), view);
+        poor.addPlayer(new Bot("Bot", new BlackjackCardEvaluator(), 2, new BasicProbalityStrategy(0.5)));
+        long rounds = poor.playRounds(1_000_000);
+        assertTrue(rounds >= 1 && rounds < 1_000_000);
+        assertEquals(0, poor.getStillPlaying().size());
+    }
+
+    /**
+     * Test that the unattended rounds shuffle the shoe back when it is dealt under the cut card.
+     */
+    public void testReshuffle() {
+        SilentView view = new SilentView();
+        Controller controller = withBots(view, 1);
+        Deck shoe = controller.getDeck();
+        shoe.deal(shoe.size() - Constants.RESHUFFLE_LIMIT + 1);
+        assertEquals(Constants.RESHUFFLE_LIMIT - 1, shoe.size());
+
+        assertEquals(1, controller.playRounds(1));
+        assertTrue(shoe.size() > Constants.RESHUFFLE_LIMIT);
+    }
+
+    /**
+     * Test the exceptions of the unattended rounds.
+     */
+    public void testPlayRoundsExceptions() {
+        SilentView view = new SilentView();
+        Controller controller = withBots(view, 1);
+        try {
+            controller.playRounds(-1);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        controller.addPlayer(new Player("Human", new BlackjackCardEvaluator(), 100));
+        try {
+            controller.playRounds(1);
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+}
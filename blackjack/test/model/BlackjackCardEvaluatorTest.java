@@ -2,6 +2,7 @@ package model;
 
 import junit.framework.*;
 import model.card.Card;
+import model.card.CompiledCardEvaluator;
 import model.card.Rank;
 import model.card.Suit;
 import model.evaluation.AceValue;
@@ -31,21 +32,21 @@ public class BlackjackCardEvaluatorTest extends TestCase{
     public void testEvaluateNumberRank() {
         BlackjackCardEvaluator evaluator = new BlackjackCardEvaluator();
         
-        Card card1 = new Card(Rank.TWO, Suit.CLUBS);
+        Card card1 = Card.of(Rank.TWO, Suit.CLUBS);
 
-        Card card2 = new Card(Rank.THREE, Suit.DIAMONDS);
+        Card card2 = Card.of(Rank.THREE, Suit.DIAMONDS);
 
-        Card card3 = new Card(Rank.FOUR, Suit.HEARTS);
+        Card card3 = Card.of(Rank.FOUR, Suit.HEARTS);
 
-        Card card4 = new Card(Rank.FIVE, Suit.SPADES);
+        Card card4 = Card.of(Rank.FIVE, Suit.SPADES);
 
-        Card card5 = new Card(Rank.JACK, Suit.CLUBS);
+        Card card5 = Card.of(Rank.JACK, Suit.CLUBS);
 
-        Card card6 = new Card(Rank.QUEEN, Suit.DIAMONDS);
+        Card card6 = Card.of(Rank.QUEEN, Suit.DIAMONDS);
 
-        Card card7 = new Card(Rank.KING, Suit.HEARTS);
+        Card card7 = Card.of(Rank.KING, Suit.HEARTS);
 
-        Card card8 = new Card(Rank.ACE, Suit.SPADES);
+        Card card8 = Card.of(Rank.ACE, Suit.SPADES);
 
 
 
@@ -65,5 +66,18 @@ public class BlackjackCardEvaluatorTest extends TestCase{
 
         assertEquals(11, evaluator.evaluate(card8));
     }
-    
+
+    /**
+     * Test that the compiled evaluator gives the score of the evaluator to every card, for every value of the ace.
+     */
+    public void testCompiledEvaluator() {
+        for (AceValue aceValue : AceValue.values()) {
+            BlackjackCardEvaluator evaluator = new BlackjackCardEvaluator(aceValue);
+            CompiledCardEvaluator compiled = CompiledCardEvaluator.of(evaluator);
+            for (Card card : Card.values()) {
+                assertEquals(evaluator.evaluate(card), compiled.evaluate(card));
+            }
+        }
+    }
+
 }
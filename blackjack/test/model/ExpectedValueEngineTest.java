@@ -0,0 +1,222 @@
+package model;
+
+import junit.framework.*;
+import model.card.Card;
+import model.card.Rank;
+import model.card.Suit;
+import model.evaluation.ExpectedValueEngine;
+import model.evaluation.HandState;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class ExpectedValueEngineTest extends TestCase {
+
+    /**
+     * Returns the state of a hand of the given values, 1 for an ace.
+     *
+     * @param values The values of the cards.
+     * @return The state of the hand.
+     */
+    private static int hand(int... values) {
+        int state = HandState.EMPTY;
+        for (int value : values) {
+            state += value == 1 ? (1 << HandState.ACE_SHIFT) + 1 : value;
+        }
+        return state;
+    }
+
+    /**
+     * Returns the best value of a hand, without memo.
+     *
+     * @param hard The hard total.
+     * @param ace  True if the hand has an ace.
+     * @return The value of the hand.
+     */
+    private static int value(int hard, boolean ace) {
+        return ace && hard + 10 <= 21 ? hard + 10 : hard;
+    }
+
+    /**
+     * Returns the expected value of standing, by enumerating the cards of the dealer.
+     *
+     * @param counts The composition.
+     * @param player The value of the player.
+     * @param hard   The hard total of the dealer.
+     * @param ace    True if the dealer has an ace.
+     * @return The expected value of standing.
+     */
+    private static double stand(int[] counts, int player, int hard, boolean ace) {
+        int total = Arrays.stream(counts).sum();
+        if (value(hard, ace) >= 17 || total == 0) {
+            return hard > 21 ? 1 : Integer.signum(player - value(hard, ace));
+        }
+        double ev = 0;
+        for (int card = 0; card < counts.length; card++) {
+            if (counts[card] > 0) {
+                double probability = (double) counts[card] / total;
+                counts[card]--;
+                ev += probability * stand(counts, player, hard + card + 1, ace || card == 0);
+                counts[card]++;
+            }
+        }
+        return ev;
+    }
+
+    /**
+     * Returns the expected value of the best of standing and hitting, by enumerating the cards.
+     *
+     * @param counts The composition.
+     * @param hard   The hard total of the player.
+     * @param ace    True if the player has an ace.
+     * @param upCard The up card of the dealer.
+     * @param hit    True for the value of hitting, false for the best value.
+     * @return The expected value.
+     */
+    private static double play(int[] counts, int hard, boolean ace, int upCard, boolean hit) {
+        if (hard > 21) {
+            return -1;
+        }
+        double stand = stand(counts, value(hard, ace), upCard, upCard == 1);
+        int total = Arrays.stream(counts).sum();
+        if (total == 0) {
+            return stand;
+        }
+        double ev = 0;
+        for (int card = 0; card < counts.length; card++) {
+            if (counts[card] > 0) {
+                double probability = (double) counts[card] / total;
+                counts[card]--;
+                ev += probability * play(counts, hard + card + 1, ace || card == 0, upCard, false);
+                counts[card]++;
+            }
+        }
+        return hit ? ev : Math.max(stand, ev);
+    }
+
+    /**
+     * Test that the engine gives the values of the enumeration of all the cards, with small shoes.
+     */
+    public void testEnumeration() {
+        Random random = new Random(3);
+        ExpectedValueEngine engine = new ExpectedValueEngine();
+        ExpectedValueEngine small = new ExpectedValueEngine(2);
+        for (int test = 0; test < 30; test++) {
+            int[] counts = new int[ExpectedValueEngine.VALUES];
+            for (int i = 0; i < 9; i++) {
+                counts[random.nextInt(counts.length)]++;
+            }
+            int upCard = 1 + random.nextInt(10);
+            int first = 1 + random.nextInt(10);
+            int second = 1 + random.nextInt(10);
+            int state = hand(first, second);
+            int hard = first + second;
+            boolean ace = first == 1 || second == 1;
+
+            double stand = stand(counts, value(hard, ace), upCard, upCard == 1);
+            double hit = play(counts, hard, ace, upCard, true);
+            assertEquals(stand, engine.stand(counts, state, upCard), 1e-12);
+            assertEquals(hit, engine.hit(counts, state, upCard), 1e-12);
+            assertEquals(stand, small.stand(counts, state, upCard), 1e-12);
+            assertEquals(hit, small.hit(counts, state, upCard), 1e-12);
+
+            double doubled = 0;
+            int total = Arrays.stream(counts).sum();
+            for (int card = 0; card < counts.length; card++) {
+                if (counts[card] > 0) {
+                    counts[card]--;
+                    int next = hard + card + 1;
+                    doubled += (double) (counts[card] + 1) / total
+                            * (next > 21 ? -1 : stand(counts, value(next, ace || card == 0), upCard, upCard == 1));
+                    counts[card]++;
+                }
+            }
+            assertEquals(2 * doubled, engine.doubleDown(counts, state, upCard), 1e-12);
+        }
+        assertTrue(engine.getHits() > 0);
+        assertTrue(small.getMisses() > engine.getMisses());
+    }
+
+    /**
+     * Test the outcomes of the dealer on a full shoe.
+     */
+    public void testDealerOutcomes() {
+        ExpectedValueEngine engine = new ExpectedValueEngine();
+        int[] counts = ExpectedValueEngine.countsOf(new Shoe(Constants.NUMBER_OF_DECKS));
+        int[] expected = new int[ExpectedValueEngine.VALUES];
+        Arrays.fill(expected, 4 * Constants.NUMBER_OF_DECKS);
+        expected[9] = 12 * Constants.NUMBER_OF_DECKS;
+        assertTrue(Arrays.equals(expected, counts));
+
+        for (int upCard = 1; upCard <= 10; upCard++) {
+            double[] outcomes = engine.getDealerOutcomes(counts, upCard);
+            assertEquals(23, outcomes.length);
+            assertEquals(1.0, Arrays.stream(outcomes).sum(), 1e-12);
+            for (int total = 0; total < 17; total++) {
+                assertEquals(0.0, outcomes[total]);
+            }
+        }
+        // The dealer busts more often with a 6 than with a 10.
+        assertTrue(engine.getDealerOutcomes(counts, 6)[22] > engine.getDealerOutcomes(counts, 10)[22]);
+
+        // An empty shoe leaves the dealer with his up card.
+        double[] outcomes = engine.getDealerOutcomes(new int[ExpectedValueEngine.VALUES], 1);
+        assertEquals(1.0, outcomes[11]);
+    }
+
+    /**
+     * Test expected values on a full shoe.
+     */
+    public void testFullShoe() {
+        ExpectedValueEngine engine = new ExpectedValueEngine();
+        int[] counts = ExpectedValueEngine.countsOf(new Shoe(Constants.NUMBER_OF_DECKS));
+        counts[9] -= 2;
+        counts[5]--;
+        // Hard 20 against a 6 stands, hard 11 doubles, hard 16 against a 10 hits.
+        assertTrue(engine.stand(counts, hand(10, 10), 6) > 0.6);
+        assertTrue(engine.stand(counts, hand(10, 10), 6) > engine.hit(counts, hand(10, 10), 6));
+        assertTrue(engine.doubleDown(counts, hand(5, 6), 6) > engine.hit(counts, hand(5, 6), 6));
+        assertTrue(engine.hit(counts, hand(10, 6), 10) > engine.stand(counts, hand(10, 6), 10));
+        assertEquals(-1.0, engine.hit(counts, hand(10, 10, 1), 6));
+        assertEquals(-1.0, engine.stand(counts, hand(10, 10, 5), 6));
+
+        Card card = Card.of(Rank.KING, Suit.HEARTS);
+        assertEquals(9, ExpectedValueEngine.valueOf(card));
+        assertEquals(0, ExpectedValueEngine.valueOf(Card.of(Rank.ACE, Suit.HEARTS)));
+    }
+
+    /**
+     * Test the exceptions of the engine.
+     */
+    public void testExceptions() {
+        ExpectedValueEngine engine = new ExpectedValueEngine();
+        int[][] invalid = {new int[9], {-1, 0, 0, 0, 0, 0, 0, 0, 0, 0}, {32, 0, 0, 0, 0, 0, 0, 0, 0, 0},
+                {0, 0, 0, 0, 0, 0, 0, 0, 0, 128}};
+        for (int[] counts : invalid) {
+            try {
+                engine.stand(counts, hand(10), 10);
+                fail();
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        try {
+            engine.hit(null, hand(10), 10);
+            fail();
+        } catch (NullPointerException e) {
+            // expected
+        }
+        try {
+            engine.doubleDown(new int[10], hand(10), 11);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new ExpectedValueEngine(0);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
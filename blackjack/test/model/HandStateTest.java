@@ -0,0 +1,101 @@
+package model;
+
+import junit.framework.*;
+import model.card.Card;
+import model.card.Rank;
+import model.card.Suit;
+import model.cards.Hand;
+import model.evaluation.AceValue;
+import model.evaluation.BlackjackCardEvaluator;
+import model.evaluation.HandState;
+import model.participants.Player;
+
+public class HandStateTest extends TestCase {
+
+    /**
+     * Returns the state of the given cards.
+     *
+     * @param cards The cards of the hand.
+     * @return The state of the hand.
+     */
+    private static int state(Card... cards) {
+        int state = HandState.EMPTY;
+        for (Card card : cards) {
+            state = HandState.add(state, card);
+        }
+        return state;
+    }
+
+    /**
+     * Test the soft and the hard totals.
+     */
+    public void testSoftAndHardTotals() {
+        Card ace = Card.of(Rank.ACE, Suit.SPADES);
+        Card king = Card.of(Rank.KING, Suit.HEARTS);
+        Card six = Card.of(Rank.SIX, Suit.CLUBS);
+
+        int aceAce = state(ace, ace);
+        assertEquals(2, HandState.getHardTotal(aceAce));
+        assertEquals(2, HandState.getAces(aceAce));
+        assertTrue(HandState.isSoft(aceAce));
+        assertEquals(12, HandState.getValue(aceAce));
+        assertEquals(2, HandState.getValue(aceAce, AceValue.ONE));
+        assertFalse(HandState.isBusted(aceAce));
+
+        int blackjack = state(ace, king);
+        assertEquals(21, HandState.getValue(blackjack));
+        assertTrue(HandState.isSoft(blackjack));
+
+        int hard = state(ace, king, six);
+        assertFalse(HandState.isSoft(hard));
+        assertEquals(17, HandState.getValue(hard));
+
+        int busted = state(king, king, six);
+        assertTrue(HandState.isBusted(busted));
+        assertEquals(26, HandState.getValue(busted));
+        assertEquals(HandState.EMPTY, HandState.remove(HandState.remove(state(king, ace), ace), king));
+        assertEquals("soft 17", HandState.toString(state(ace, six)));
+    }
+
+    /**
+     * Test that the state of every card is its value with the ace counted as 1.
+     */
+    public void testEveryCard() {
+        BlackjackCardEvaluator evaluator = new BlackjackCardEvaluator(AceValue.ONE);
+        for (Card card : Card.values()) {
+            int state = HandState.of(card);
+            assertEquals(evaluator.evaluate(card), HandState.getHardTotal(state));
+            assertEquals(card.getRank() == Rank.ACE ? 1 : 0, HandState.getAces(state));
+            assertEquals(state, HandState.EVALUATOR.evaluate(card));
+        }
+    }
+
+    /**
+     * Test that the hand value of a player counts the aces as 11 only if the hand does not bust.
+     */
+    public void testPlayerHandValue() {
+        Player player = new Player("Player", new BlackjackCardEvaluator(), 100);
+        Hand hand = player.getHand();
+        hand.addCard(Card.of(Rank.ACE, Suit.SPADES));
+        hand.addCard(Card.of(Rank.ACE, Suit.HEARTS));
+        assertEquals(12, player.getHandValue());
+        assertTrue(player.isSoft());
+        assertFalse(player.isBusted());
+        hand.addCard(Card.of(Rank.NINE, Suit.HEARTS));
+        assertEquals(21, player.getHandValue());
+        assertTrue(player.hasBlackjack());
+        hand.addCard(Card.of(Rank.KING, Suit.HEARTS));
+        assertEquals(21, player.getHandValue());
+        assertFalse(player.isSoft());
+        hand.removeCard(Card.of(Rank.ACE, Suit.SPADES));
+        assertEquals(20, player.getHandValue());
+        hand.clear();
+        assertEquals(0, player.getHandValue());
+
+        Player hardPlayer = new Player("Player", new BlackjackCardEvaluator(AceValue.ONE), 100);
+        hardPlayer.getHand().addCard(Card.of(Rank.ACE, Suit.SPADES));
+        hardPlayer.getHand().addCard(Card.of(Rank.KING, Suit.SPADES));
+        assertEquals(11, hardPlayer.getHandValue());
+        assertFalse(hardPlayer.isSoft());
+    }
+}
@@ -0,0 +1,103 @@
+package model;
+
+import junit.framework.*;
+import model.card.Card;
+import model.cards.CardMultiset;
+import model.cards.Shuffler;
+import model.evaluation.BlackjackCardEvaluator;
+import model.participants.Dealer;
+
+public class PackedShoeTest extends TestCase {
+
+    /**
+     * Test that a packed shoe has the cards of a shoe, in the same order.
+     */
+    public void testSameCardsAsShoe() {
+        for (int decks = 0; decks <= 8; decks++) {
+            PackedShoe packed = new PackedShoe(decks);
+            Shoe shoe = new Shoe(decks);
+            assertEquals(decks, packed.getNumberOfDecks());
+            assertEquals(shoe.size(), packed.size());
+            while (!shoe.isEmpty()) {
+                assertEquals(shoe.deal(), packed.deal());
+            }
+            assertTrue(packed.isEmpty());
+        }
+    }
+
+    /**
+     * Test that the shuffle keeps the cards left and that the reset puts the cards dealt back.
+     */
+    public void testShuffleAndReset() {
+        PackedShoe shoe = new PackedShoe(6);
+        shoe.deal(10);
+        shoe.shuffle(Shuffler.splittable(1));
+        assertEquals(6 * Card.COUNT - 10, shoe.size());
+        CardMultiset left = new CardMultiset();
+        while (!shoe.isEmpty()) {
+            left.add(shoe.deal());
+        }
+        assertEquals(6 * Card.COUNT - 10, left.size());
+        shoe.reset();
+        assertEquals(6 * Card.COUNT, shoe.size());
+        CardMultiset all = new CardMultiset();
+        for (int i = 0; i < shoe.size(); i++) {
+            all.add(shoe.getCard(i));
+        }
+        assertTrue(all.containsAll(CardMultiset.ofDecks(6)));
+        assertTrue(all.containsAll(left));
+    }
+
+    /**
+     * Test that a dealer takes the cards of a packed shoe.
+     */
+    public void testDealer() {
+        PackedShoe shoe = new PackedShoe(1);
+        shoe.shuffle(Shuffler.splittable(2));
+        Dealer dealer = new Dealer("Dealer", new BlackjackCardEvaluator());
+        dealer.takeCardsUntil(shoe, 17);
+        assertTrue(dealer.getHandValue() >= 17);
+        assertEquals(Card.COUNT - dealer.getHand().size(), shoe.size());
+    }
+
+    /**
+     * Test the deal of the ids in a buffer and the stream of the ids left.
+     */
+    public void testBulkDeal() {
+        PackedShoe shoe = new PackedShoe(2);
+        int[] ids = new int[Card.COUNT + 4];
+        assertEquals(Card.COUNT, shoe.deal(ids, 4, Card.COUNT));
+        for (int id = 0; id < Card.COUNT; id++) {
+            assertEquals(id, ids[4 + id]);
+        }
+        assertEquals(Card.COUNT, shoe.ids().count());
+        assertEquals(0, shoe.ids().findFirst().getAsInt());
+        assertEquals(Card.COUNT * (Card.COUNT - 1) / 2, shoe.ids().parallel().sum());
+        assertEquals(Card.COUNT, shoe.deal(ids, 0, ids.length));
+        assertTrue(shoe.isEmpty());
+    }
+
+    /**
+     * Test the exceptions.
+     */
+    public void testExceptions() {
+        try {
+            new PackedShoe(-1);
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The number of decks cannot be negative.", e.getMessage());
+        }
+        try {
+            new PackedShoe(0).deal();
+            fail("IllegalStateException expected");
+        } catch (IllegalStateException e) {
+            assertEquals("The shoe is empty.", e.getMessage());
+        }
+        try {
+            new PackedShoe(1).getCard(Card.COUNT);
+            fail("IndexOutOfBoundsException expected");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("Index: 48, Size: 48", e.getMessage());
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package model;
 
 import junit.framework.*;
+import model.cards.Deck;
 import model.cards.FactoryDeck;
 import model.cards.Hand;
 import model.evaluation.BlackjackCardEvaluator;
 import model.participants.Player;
+import model.participants.Players;
+import observer.Channel;
+import observer.ChannelListener;
+import observer.Listenable;
+import observer.monitoring.AllocationMeter;
+
 
 public class PlayerTest extends TestCase{
 
@@ -181,4 +188,84 @@ public class PlayerTest extends TestCase{
         assertFalse(player.isHisTurn());
     }
 
+    /**
+     * Test the hand value of a player after cards are added to its hand in a batch.
+     */
+    public void testHandValueAfterAddCards() {
+        Player player = new Player("Player", new BlackjackCardEvaluator(), 100);
+        Hand hand = player.getHand();
+        hand.addCards(FactoryDeck.createDeck32().deal(2));
+        assertEquals(hand.evaluate(new BlackjackCardEvaluator()), player.getHandValue());
+        hand.addCards(FactoryDeck.createDeck32().deal(3));
+        assertEquals(hand.evaluate(new BlackjackCardEvaluator()), player.getHandValue());
+        assertFalse(player.canPlay());
+    }
+
+    /**
+     * Test that the notifications of a player allocate nothing once the listeners are registered.
+     */
+    public void testNotificationsDoNotAllocate() {
+        Player player = new Player("Player", new BlackjackCardEvaluator(), 100);
+        Players players = new Players();
+        players.add(player);
+        int[] updates = new int[1];
+        players.addListener(Players.UPDATE_PLAYER, new ChannelListener() {
+            @Override
+            public void notify(Listenable source, Channel channel, Object... data) {
+                updates[0]++;
+            }
+
+            @Override
+            public void notify(Listenable source, Channel channel, Object data) {
+                updates[0]++;
+            }
+        });
+        Deck shoe = FactoryDeck.createDeck52();
+        Runnable play = () -> {
+            for (int i = 0; i < 10_000; i++) {
+                player.setMoney(100 + i % 10);
+                player.setBet(i % 10);
+                player.takeCard(shoe);
+                shoe.addCard(player.getHand().getCard(0));
+                player.clearHand();
+                player.setCanPlay(true);
+            }
+        };
+        // Warm up the path before measuring it.
+        play.run();
+        updates[0] = 0;
+        // The measure throws UnsupportedOperationException on a JVM which cannot measure the allocations.
+        assertEquals(0, AllocationMeter.allocatedBytes(play));
+        assertTrue(updates[0] > 0);
+    }
+
+    /**
+     * Test that a player whose hand is detached no longer listens to it, but still follows the cards it takes.
+     */
+    public void testDetachHand() {
+        Player player = new Player("Player", new BlackjackCardEvaluator(), 100);
+        Hand hand = player.getHand();
+        assertEquals(1, hand.getListenerCount(Hand.ADD_CARD));
+        player.detachHand();
+        player.detachHand();
+        assertEquals(0, hand.getListenerCount(Hand.ADD_CARD));
+        assertEquals(0, hand.getListenerCount(Hand.REMOVE_CARD));
+        assertEquals(0, hand.getListenerCount(Hand.CLEAR_CARDS));
+
+        int[] values = new int[1];
+        player.addListener(Player.HAND_VALUE, (source, operation, data) -> values[0]++);
+        Deck deck = FactoryDeck.createDeck52();
+        while (player.canPlay()) {
+            player.takeCard(deck);
+        }
+        assertEquals(hand.size(), values[0]);
+        assertEquals(hand.evaluate(new BlackjackCardEvaluator()), player.getHandValue());
+        assertTrue(player.getHandValue() >= 21);
+
+        player.reset();
+        assertTrue(hand.isEmpty());
+        assertTrue(player.canPlay());
+        assertEquals(0, player.getHandValue());
+    }
+
 }
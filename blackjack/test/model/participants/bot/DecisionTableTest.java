@@ -0,0 +1,110 @@
+package model.participants.bot;
+
+import junit.framework.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+
+public class DecisionTableTest extends TestCase {
+
+    /**
+     * Test the actions of the basic strategy.
+     */
+    public void testBasicStrategy() {
+        DecisionTable table = DecisionTable.basicStrategy();
+        assertSame(table, DecisionTable.basicStrategy());
+        assertEquals(DecisionTable.HIT, table.getAction(8, false, 6));
+        assertEquals(DecisionTable.DOUBLE, table.getAction(11, false, 6));
+        assertEquals(DecisionTable.HIT, table.getAction(11, false, 1));
+        assertEquals(DecisionTable.HIT, table.getAction(12, false, 2));
+        assertEquals(DecisionTable.STAND, table.getAction(12, false, 4));
+        assertEquals(DecisionTable.STAND, table.getAction(16, false, 6));
+        assertEquals(DecisionTable.HIT, table.getAction(16, false, 10));
+        assertEquals(DecisionTable.STAND, table.getAction(17, false, 1));
+        assertEquals(DecisionTable.DOUBLE_OR_STAND, table.getAction(18, true, 5));
+        assertEquals(DecisionTable.STAND, table.getAction(18, true, 2));
+        assertEquals(DecisionTable.HIT, table.getAction(18, true, 9));
+        assertEquals(DecisionTable.STAND, table.getAction(21, true, 1));
+    }
+
+    /**
+     * Test that the text and the binary forms of a table are read back to the same table.
+     *
+     * @throws IOException never.
+     */
+    public void testForms() throws IOException {
+        DecisionTable table = DecisionTable.basicStrategy();
+        assertEquals(table, DecisionTable.parse(new StringReader(table.toString())));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        table.write(out);
+        assertEquals(DecisionTable.BINARY_LENGTH, out.size());
+        DecisionTable binary = DecisionTable.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(table, binary);
+        assertEquals(table.hashCode(), binary.hashCode());
+
+        DecisionTable text = DecisionTable.read(new ByteArrayInputStream(table.toString().getBytes("UTF-8")));
+        assertEquals(table, text);
+    }
+
+    /**
+     * Test that the totals which are not in the text stand.
+     *
+     * @throws IOException never.
+     */
+    public void testParse() throws IOException {
+        DecisionTable table = DecisionTable.parse(new StringReader("# comment\n\nhard 16  SSSSSHHHHD\nsoft 13 dDHSSSSSSS\n"));
+        assertEquals(DecisionTable.STAND, table.getAction(16, false, 2));
+        assertEquals(DecisionTable.HIT, table.getAction(16, false, 7));
+        assertEquals(DecisionTable.DOUBLE, table.getAction(16, false, 1));
+        assertEquals(DecisionTable.DOUBLE_OR_STAND, table.getAction(13, true, 2));
+        assertEquals(DecisionTable.DOUBLE, table.getAction(13, true, 3));
+        assertEquals(DecisionTable.STAND, table.getAction(13, false, 3));
+        assertEquals(DecisionTable.STAND, table.getAction(5, true, 10));
+        assertFalse(table.equals(DecisionTable.basicStrategy()));
+    }
+
+    /**
+     * Test the exceptions of the tables.
+     *
+     * @throws IOException never.
+     */
+    public void testExceptions() throws IOException {
+        String[] invalid = {"hard 16 SSSSSHHHH", "medium 16 SSSSSHHHHH", "hard 22 SSSSSHHHHH", "hard x SSSSSHHHHH",
+                "soft 16 SSSSSHHHHX", "hard 16 SSSSS HHHHH"};
+        for (String line : invalid) {
+            try {
+                DecisionTable.parse(new StringReader(line));
+                fail(line);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        try {
+            DecisionTable.read(new ByteArrayInputStream(new byte[]{'B', 'J', 'D', 'T', 0, 1}));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            DecisionTable.fromResource("missing.txt");
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            DecisionTable.basicStrategy().getAction(22, false, 2);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            DecisionTable.basicStrategy().getAction(12, false, 0);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
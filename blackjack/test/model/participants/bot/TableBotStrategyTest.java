@@ -0,0 +1,117 @@
+package model.participants.bot;
+
+import junit.framework.*;
+import model.card.Card;
+import model.card.Rank;
+import model.card.Suit;
+import model.cards.Deck;
+import model.evaluation.BlackjackCardEvaluator;
+import model.participants.Dealer;
+import model.simulation.SimulationResult;
+import model.simulation.Simulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+public class TableBotStrategyTest extends TestCase {
+
+    /**
+     * Creates a bot with the given cards, playing the basic strategy against a dealer with the given up card.
+     *
+     * @param money  The money of the bot.
+     * @param upCard The up card of the dealer.
+     * @param ranks  The ranks of the cards of the bot.
+     * @return The bot.
+     */
+    private static Bot bot(int money, Rank upCard, Rank... ranks) {
+        Dealer dealer = new Dealer("Dealer", new BlackjackCardEvaluator());
+        dealer.getHand().addCard(Card.of(upCard, Suit.SPADES));
+        Bot bot = new Bot("Bot", new BlackjackCardEvaluator(), money, new TableBotStrategy(dealer));
+        bot.placeBet(10);
+        for (Rank rank : ranks) {
+            bot.getHand().addCard(Card.of(rank, Suit.HEARTS));
+        }
+        return bot;
+    }
+
+    /**
+     * Returns a deck with a single card.
+     *
+     * @param rank The rank of the card.
+     * @return The deck.
+     */
+    private static Deck deck(Rank rank) {
+        return new Deck(new ArrayList<>(Arrays.asList(Card.of(rank, Suit.CLUBS))));
+    }
+
+    /**
+     * Test the actions played from the table.
+     */
+    public void testExecute() {
+        // Hard 16 against a 6 stands.
+        Bot bot = bot(100, Rank.SIX, Rank.NINE, Rank.SEVEN);
+        assertFalse(bot.play(deck(Rank.TWO)));
+        assertEquals(2, bot.getHand().size());
+
+        // Hard 16 against a king hits.
+        bot = bot(100, Rank.KING, Rank.NINE, Rank.SEVEN);
+        assertTrue(bot.play(deck(Rank.TWO)));
+        assertEquals(18, bot.getHandValue());
+
+        // Hard 11 against a 6 doubles.
+        bot = bot(100, Rank.SIX, Rank.FIVE, Rank.SIX);
+        assertFalse(bot.play(deck(Rank.TWO)));
+        assertEquals(20.0, bot.getBet());
+        assertEquals(3, bot.getHand().size());
+
+        // Hard 11 against a 6 hits when the bot cannot double.
+        bot = bot(15, Rank.SIX, Rank.FIVE, Rank.SIX);
+        assertTrue(bot.play(deck(Rank.TWO)));
+        assertEquals(10.0, bot.getBet());
+
+        // Soft 18 against a 5 stands when the hand has three cards.
+        bot = bot(100, Rank.FIVE, Rank.ACE, Rank.FOUR, Rank.THREE);
+        assertFalse(bot.play(deck(Rank.TWO)));
+        assertEquals(10.0, bot.getBet());
+
+        // Soft 18 against an ace hits.
+        bot = bot(100, Rank.ACE, Rank.ACE, Rank.SEVEN);
+        assertTrue(bot.play(deck(Rank.TWO)));
+    }
+
+    /**
+     * Test that the basic strategy loses less than a bot which stands or hits at random.
+     */
+    public void testSimulation() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            SimulationResult table = new Simulator((dealer, random) -> new TableBotStrategy(dealer), 6, pool, 3)
+                    .run(200_000);
+            SimulationResult probability = new Simulator((dealer, random) -> new BasicProbalityStrategy(0.5, random),
+                    6, pool, 3).run(200_000);
+            assertTrue(table + " " + probability,
+                    table.getExpectedValue() > probability.getExpectedValue() + table.getConfidenceInterval());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test the exceptions of the strategy.
+     */
+    public void testExceptions() {
+        try {
+            new TableBotStrategy(null);
+            fail();
+        } catch (NullPointerException e) {
+            // expected
+        }
+        try {
+            new TableBotStrategy(new Dealer("Dealer", new BlackjackCardEvaluator()), null);
+            fail();
+        } catch (NullPointerException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package model.simulation;
+
+import junit.framework.*;
+import model.participants.bot.BasicProbalityStrategy;
+import model.participants.bot.RandomBotStrategy;
+import model.participants.bot.TableBotStrategy;
+import observer.monitoring.DispatchStatistics;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class SimulatorTest extends TestCase {
+
+    /**
+     * Test that the simulator plays the number of hands asked, with a sane expected value.
+     */
+    public void testRun() {
+        Simulator simulator = new Simulator((dealer, random) -> new BasicProbalityStrategy(0.5, random), 6,
+                ForkJoinPool.commonPool(), 42);
+        SimulationResult result = simulator.run(50_000);
+        assertEquals(50_000, result.getHands());
+        // A hand wins at most 1.5 bets with a blackjack, or 2 bets with a double.
+        assertTrue(result.getExpectedValue() > -0.5 && result.getExpectedValue() < 0.5);
+        assertTrue(result.getVariance() > 0.5 && result.getVariance() < 4);
+        assertTrue(result.getConfidenceInterval() > 0 && result.getConfidenceInterval() < 0.05);
+        assertTrue(result.getHandsPerSecond() > 0);
+
+        assertEquals(0, simulator.run(0).getHands());
+        assertEquals(0.0, simulator.run(0).getExpectedValue());
+    }
+
+    /**
+     * Test that the result of a simulation only depends on its seed, not on the number of threads.
+     */
+    public void testDeterministic() {
+        ForkJoinPool one = new ForkJoinPool(1);
+        ForkJoinPool four = new ForkJoinPool(4);
+        try {
+            long hands = 3 * Simulator.HANDS_PER_TASK + 123;
+            SimulationResult sequential = new Simulator((dealer, random) -> new RandomBotStrategy(random), 2, one, 7)
+                    .run(hands);
+            SimulationResult parallel = new Simulator((dealer, random) -> new RandomBotStrategy(random), 2, four, 7)
+                    .run(hands);
+            assertEquals(hands, sequential.getHands());
+            assertEquals(sequential.getExpectedValue(), parallel.getExpectedValue());
+            assertEquals(sequential.getVariance(), parallel.getVariance());
+
+            SimulationResult other = new Simulator((dealer, random) -> new RandomBotStrategy(random), 2, one, 8)
+                    .run(hands);
+            assertFalse(sequential.getExpectedValue() == other.getExpectedValue());
+        } finally {
+            one.shutdown();
+            four.shutdown();
+        }
+    }
+
+    /**
+     * Test that the hands of a simulation are played without calling any listener.
+     */
+    public void testNoListenerCalled() {
+        DispatchStatistics statistics = DispatchStatistics.install(8);
+        try {
+            new Simulator((dealer, random) -> new TableBotStrategy(dealer), 6, ForkJoinPool.commonPool(), 1).run(Simulator.HANDS_PER_TASK);
+            assertTrue(statistics.getCallbackCounts().isEmpty());
+        } finally {
+            DispatchStatistics.uninstall();
+        }
+    }
+
+    /**
+     * Test that the merged statistics are the statistics of all the results.
+     */
+    public void testMerge() {
+        double[] results = {1, -1, 1.5, 0, -1, -1, 2, 1, -2, 0};
+        SimulationResult.Statistics all = new SimulationResult.Statistics();
+        SimulationResult.Statistics left = new SimulationResult.Statistics();
+        SimulationResult.Statistics right = new SimulationResult.Statistics();
+        double sum = 0;
+        for (int i = 0; i < results.length; i++) {
+            all.add(results[i]);
+            (i < 3 ? left : right).add(results[i]);
+            sum += results[i];
+        }
+        double mean = sum / results.length;
+        double squares = 0;
+        for (double result : results) {
+            squares += (result - mean) * (result - mean);
+        }
+        SimulationResult merged = left.merge(right).merge(new SimulationResult.Statistics()).toResult(0);
+        assertEquals(results.length, merged.getHands());
+        assertEquals(mean, merged.getExpectedValue(), 1e-12);
+        assertEquals(squares / (results.length - 1), merged.getVariance(), 1e-12);
+        assertEquals(all.toResult(0).getVariance(), merged.getVariance(), 1e-12);
+    }
+
+    /**
+     * Test the exceptions of the simulator.
+     */
+    public void testExceptions() {
+        try {
+            new Simulator(null);
+            fail();
+        } catch (NullPointerException e) {
+            // expected
+        }
+        try {
+            new Simulator((dealer, random) -> new RandomBotStrategy(random), 6, null, 0);
+            fail();
+        } catch (NullPointerException e) {
+            // expected
+        }
+        try {
+            new Simulator((dealer, random) -> new RandomBotStrategy(random), 0, ForkJoinPool.commonPool(), 0);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new Simulator((dealer, random) -> new RandomBotStrategy(random)).run(-1);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
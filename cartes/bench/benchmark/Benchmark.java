@@ -0,0 +1,103 @@
+package benchmark;
+
+import java.util.Locale;
+
+/**
+ * <b>
+ *     A minimal micro-benchmark harness.
+ * </b>
+ *
+ * <p>
+ *     A benchmark runs an operation a number of warm-up rounds so that the JIT compiles it,
+ *     then measures it a number of rounds and prints the best and the median throughput.
+ *     The value returned by the operation is consumed so that the JIT cannot remove the work.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class Benchmark {
+
+    /**
+     * The number of warm-up rounds.
+     */
+    private static final int WARMUP_ROUNDS = Integer.getInteger("bench.warmup", 5);
+
+    /**
+     * The number of measured rounds.
+     */
+    private static final int MEASURED_ROUNDS = Integer.getInteger("bench.rounds", 10);
+
+    /**
+     * Consumes the results of the operations.
+     */
+    private static volatile long sink;
+
+    /**
+     * An operation to measure.
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        /**
+         * Runs the operation once.
+         *
+         * @return A value depending on the work done, consumed by the benchmark.
+         */
+        long run();
+    }
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private Benchmark() {
+    }
+
+    /**
+     * Measures an operation and prints its throughput.
+     *
+     * @param name       The name of the measure.
+     * @param operations The number of operations done by one run of the operation.
+     * @param operation  The operation to measure.
+     * @return The median throughput, in operations per second.
+     * @throws NullPointerException     If the name or the operation is null.
+     * @throws IllegalArgumentException If the number of operations is not positive.
+     */
+    public static double measure(String name, long operations, Operation operation) {
+        if (name == null) {
+            throw new NullPointerException("The name cannot be null.");
+        }
+        if (operation == null) {
+            throw new NullPointerException("The operation cannot be null.");
+        }
+        if (operations <= 0) {
+            throw new IllegalArgumentException("The number of operations must be positive.");
+        }
+        long consumed = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            consumed += operation.run();
+        }
+        double[] throughputs = new double[MEASURED_ROUNDS];
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            consumed += operation.run();
+            long elapsed = Math.max(1, System.nanoTime() - start);
+            throughputs[round] = operations * 1e9 / elapsed;
+        }
+        sink += consumed;
+        java.util.Arrays.sort(throughputs);
+        double median = throughputs[throughputs.length / 2];
+        System.out.println(String.format(Locale.ROOT, "%-50s %,15.0f ops/s (best %,.0f)",
+                name, median, throughputs[throughputs.length - 1]));
+        return median;
+    }
+
+    /**
+     * Prints the title of a group of measures.
+     *
+     * @param title The title.
+     */
+    public static void title(String title) {
+        System.out.println();
+        System.out.println("== " + title + " ==");
+    }
+}
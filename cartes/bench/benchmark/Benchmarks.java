@@ -0,0 +1,53 @@
+package benchmark;
+
+import java.lang.reflect.Method;
+
+/**
+ * <b>
+ *     Runs the benchmarks.
+ * </b>
+ *
+ * <p>
+ *     The benchmarks to run are given by their class name on the command line,
+ *     all the benchmarks of the project are run when no class is given.
+ *     A benchmark is a class with a {@code public static void main(String[])} method.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class Benchmarks {
+
+    /**
+     * The benchmarks of the project.
+     */
+    private static final String[] BENCHMARKS = {
+            "model.cards.ListOfCardsBenchmark",
+            "model.cards.DeckBenchmark",
+            "model.cards.ShufflerBenchmark",
+            "model.cards.SortBenchmark",
+            "model.cards.DeckCodecBenchmark",
+            "model.cards.ConcurrentDeckBenchmark",
+            "model.poker.PokerEvaluatorBenchmark",
+            "model.poker.EquityCalculatorBenchmark",
+    };
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private Benchmarks() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args The class names of the benchmarks to run.
+     * @throws Exception If a benchmark cannot be run.
+     */
+    public static void main(String[] args) throws Exception {
+        String[] benchmarks = args.length == 0 ? BENCHMARKS : args;
+        for (String benchmark : benchmarks) {
+            Method main = Class.forName(benchmark).getMethod("main", String[].class);
+            main.invoke(null, (Object) new String[0]);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package model.cards;
+
+import benchmark.Benchmark;
+import model.card.Card;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <b>
+ *     Benchmark of {@link ConcurrentDeck#tryDeal()} under contention.
+ * </b>
+ *
+ * <p>
+ *     1 to 64 threads deal every card of a shoe of {@link #CARDS} cards, one card at a time,
+ *     then the same threads deal the shoe by bulks of 8 cards. The throughput is the number of
+ *     cards dealt per second by all the threads.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ConcurrentDeckBenchmark {
+
+    /**
+     * The numbers of threads.
+     */
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    /**
+     * The number of cards of the shoe.
+     */
+    private static final int CARDS = 1_000_000;
+
+    /**
+     * The number of cards of a bulk deal.
+     */
+    private static final int BULK = 8;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private ConcurrentDeckBenchmark() {
+    }
+
+    /**
+     * Deals every card of a new shoe with the given threads.
+     *
+     * @param executor The threads.
+     * @param threads  The number of threads.
+     * @param cards    The cards of the shoe.
+     * @param bulk     The number of cards dealt at once, 1 to deal one card at a time.
+     * @return The sum of the ids of the cards dealt.
+     * @throws Exception if a thread fails.
+     */
+    private static long deal(ExecutorService executor, int threads, List<Card> cards, int bulk) throws Exception {
+        ConcurrentDeck deck = new ConcurrentDeck(cards);
+        AtomicLong sum = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long local = 0;
+                if (bulk == 1) {
+                    for (Card card = deck.tryDeal(); card != null; card = deck.tryDeal()) {
+                        local += card.getId();
+                    }
+                } else {
+                    int[] ids = new int[bulk];
+                    for (int count = deck.deal(ids, 0, bulk); count > 0; count = deck.deal(ids, 0, bulk)) {
+                        for (int i = 0; i < count; i++) {
+                            local += ids[i];
+                        }
+                    }
+                }
+                sum.addAndGet(local);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return sum.get();
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     * @throws Exception if a thread fails.
+     */
+    public static void main(String[] args) throws Exception {
+        Benchmark.title("ConcurrentDeck, " + Runtime.getRuntime().availableProcessors() + " processors");
+        List<Card> cards = new ArrayList<>(CARDS);
+        while (cards.size() < CARDS) {
+            cards.add(Card.fromId(cards.size() % Card.COUNT));
+        }
+        for (int threads : THREADS) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                Benchmark.measure("tryDeal, " + threads + " threads", CARDS, () -> {
+                    try {
+                        return deal(executor, threads, cards, 1);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                Benchmark.measure("deal " + BULK + " ids, " + threads + " threads", CARDS, () -> {
+                    try {
+                        return deal(executor, threads, cards, BULK);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package model.cards;
+
+import benchmark.Benchmark;
+import model.card.Card;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b>
+ *     Benchmark of {@link Deck#deal()}.
+ * </b>
+ *
+ * <p>
+ *     Measures the cost of dealing every card of shoes of 1, 6, 8 and 100 decks, one card at a time.
+ *     The throughput in cards per second does not depend on the number of decks.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class DeckBenchmark {
+
+    /**
+     * The number of decks of the shoes.
+     */
+    private static final int[] DECKS = {1, 6, 8, 100};
+
+    /**
+     * The number of cards dealt in one run.
+     */
+    private static final int CARDS = 1_000_000;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private DeckBenchmark() {
+    }
+
+    /**
+     * Deals the whole shoe, refilled each time it is empty, until {@link #CARDS} cards are dealt.
+     *
+     * @param deck  The deck to deal.
+     * @param cards The cards of the shoe.
+     * @return The sum of the ids of the cards dealt.
+     */
+    private static long deal(Deck deck, List<Card> cards) {
+        long sum = 0;
+        for (int dealt = 0; dealt < CARDS; ) {
+            deck.addCards(cards);
+            while (!deck.isEmpty()) {
+                sum += deck.deal().getId();
+                dealt++;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        Benchmark.title("Deck.deal");
+        for (int decks : DECKS) {
+            List<Card> cards = new ArrayList<>(decks * Card.COUNT);
+            for (int i = 0; i < decks; i++) {
+                cards.addAll(Card.values());
+            }
+            Deck deck = new Deck(new ArrayList<>(cards.size()));
+            Benchmark.measure("deal, " + decks + " decks (" + cards.size() + " cards)", CARDS, () -> deal(deck, cards));
+        }
+    }
+}
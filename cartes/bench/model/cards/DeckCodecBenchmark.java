@@ -0,0 +1,85 @@
+package model.cards;
+
+import benchmark.Benchmark;
+import model.card.Card;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b>
+ *     Benchmark of {@link DeckCodec}.
+ * </b>
+ *
+ * <p>
+ *     Measures the encoding and the decoding of shuffled decks of 1 and 6 decks.
+ *     The decks are shuffled once, the benchmark encodes and decodes the same codes in a loop.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class DeckCodecBenchmark {
+
+    /**
+     * The number of decks of the shoes.
+     */
+    private static final int[] DECKS = {1, 6};
+
+    /**
+     * The number of shuffled decks.
+     */
+    private static final int ORDERS = 1024;
+
+    /**
+     * The number of decks encoded or decoded in one run.
+     */
+    private static final int OPERATIONS = 200_000;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private DeckCodecBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        Benchmark.title("DeckCodec");
+        for (int decks : DECKS) {
+            List<Card> cards = new ArrayList<>(decks * Card.COUNT);
+            for (int i = 0; i < decks; i++) {
+                cards.addAll(Card.values());
+            }
+            DeckCodec codec = new DeckCodec(CardMultiset.ofDecks(decks));
+            Shuffler shuffler = Shuffler.splittable(decks);
+            Deck[] orders = new Deck[ORDERS];
+            byte[] codes = new byte[ORDERS * codec.getByteLength()];
+            for (int i = 0; i < ORDERS; i++) {
+                orders[i] = new Deck(new ArrayList<>(cards));
+                orders[i].shuffle(shuffler);
+                codec.encode(orders[i], codes, i * codec.getByteLength());
+            }
+            String name = decks + " decks (" + codec.getByteLength() + " bytes)";
+            int operations = OPERATIONS / decks;
+            Benchmark.measure("encode, " + name, operations, () -> {
+                long sum = 0;
+                for (int i = 0; i < operations; i++) {
+                    int order = i % ORDERS;
+                    codec.encode(orders[order], codes, order * codec.getByteLength());
+                    sum += codes[order * codec.getByteLength()];
+                }
+                return sum;
+            });
+            Benchmark.measure("decode, " + name, operations, () -> {
+                long sum = 0;
+                for (int i = 0; i < operations; i++) {
+                    sum += codec.decodeCards(codes, (i % ORDERS) * codec.getByteLength()).get(0).getId();
+                }
+                return sum;
+            });
+        }
+    }
+}
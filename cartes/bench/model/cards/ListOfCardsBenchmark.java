@@ -0,0 +1,148 @@
+package model.cards;
+
+import benchmark.Benchmark;
+import model.card.Card;
+import observer.Channel;
+import observer.ChannelListener;
+import observer.Listenable;
+import observer.Listener;
+import observer.monitoring.DispatchStatistics;
+
+import java.util.List;
+
+/**
+ * <b>
+ *     Benchmark of {@link ListOfCards#addCard(Card)}.
+ * </b>
+ *
+ * <p>
+ *     Measures the throughput of adding cards to a hand without listener,
+ *     with listeners dispatching on the name of the operation
+ *     and with listeners dispatching on the channel of the operation, with and without monitoring.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ListOfCardsBenchmark {
+
+    /**
+     * The number of times the deck is added to the hand in one run.
+     */
+    private static final int REPETITIONS = 20_000;
+
+    /**
+     * The number of listeners registered on the hand.
+     */
+    private static final int LISTENERS = 3;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private ListOfCardsBenchmark() {
+    }
+
+    /**
+     * A listener that dispatches the events on the name of the operation.
+     */
+    private static final class OperationListener implements Listener {
+
+        /**
+         * The number of cards currently notified.
+         */
+        private long count;
+
+        @Override
+        public void notify(Listenable source, String operation, Object... data) {
+            switch (operation) {
+                case "addCard":
+                    this.count++;
+                    break;
+                case "removeCard":
+                    this.count--;
+                    break;
+                case "clearCards":
+                    this.count = 0;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * A listener that dispatches the events on the channel of the operation.
+     */
+    private static final class ChannelCounter implements ChannelListener {
+
+        /**
+         * The number of cards currently notified.
+         */
+        private long count;
+
+        @Override
+        public void notify(Listenable source, Channel channel, Object... data) {
+            if (channel == ListOfCards.ADD_CARD) {
+                this.count++;
+            } else if (channel == ListOfCards.REMOVE_CARD) {
+                this.count--;
+            } else if (channel == ListOfCards.CLEAR_CARDS) {
+                this.count = 0;
+            }
+        }
+    }
+
+    /**
+     * Adds the cards to the hand {@link #REPETITIONS} times, the hand is cleared between two repetitions.
+     *
+     * @param hand  The hand.
+     * @param cards The cards to add.
+     * @return The number of cards in the hand at the end.
+     */
+    private static long fill(Hand hand, List<Card> cards) {
+        for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+            hand.clear();
+            for (Card card : cards) {
+                hand.addCard(card);
+            }
+        }
+        return hand.size();
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        List<Card> cards = FactoryDeck.createDeck52().getCards();
+        long operations = (long) REPETITIONS * cards.size();
+        Benchmark.title("ListOfCards.addCard");
+
+        Hand bare = new Hand();
+        Benchmark.measure("addCard, no listener", operations, () -> fill(bare, cards));
+
+        Hand byName = new Hand();
+        for (int i = 0; i < LISTENERS; i++) {
+            OperationListener listener = new OperationListener();
+            byName.addListener("addCard", listener);
+            byName.addListener("removeCard", listener);
+            byName.addListener("clearCards", listener);
+        }
+        Benchmark.measure("addCard, " + LISTENERS + " listeners by operation name", operations, () -> fill(byName, cards));
+
+        Hand byChannel = new Hand();
+        for (int i = 0; i < LISTENERS; i++) {
+            ChannelCounter listener = new ChannelCounter();
+            byChannel.addListener(ListOfCards.ADD_CARD, listener);
+            byChannel.addListener(ListOfCards.REMOVE_CARD, listener);
+            byChannel.addListener(ListOfCards.CLEAR_CARDS, listener);
+        }
+        Benchmark.measure("addCard, " + LISTENERS + " listeners by channel", operations, () -> fill(byChannel, cards));
+
+        DispatchStatistics.install();
+        try {
+            Benchmark.measure("addCard, " + LISTENERS + " listeners by channel, monitored", operations, () -> fill(byChannel, cards));
+        } finally {
+            DispatchStatistics.uninstall();
+        }
+        Benchmark.measure("addCard, " + LISTENERS + " listeners by channel, after monitoring", operations, () -> fill(byChannel, cards));
+    }
+}
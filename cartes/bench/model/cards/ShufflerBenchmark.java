@@ -0,0 +1,105 @@
+package model.cards;
+
+import benchmark.Benchmark;
+import model.card.Card;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * <b>
+ *     Benchmark of the shuffling of a shoe.
+ * </b>
+ *
+ * <p>
+ *     Measures the shuffles per second of a shoe of 6 decks with {@link Collections#shuffle(List, Random)}
+ *     and with the shufflers, on one thread and on several threads sharing a {@link Random}
+ *     or using the shuffler of their thread.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ShufflerBenchmark {
+
+    /**
+     * The number of decks of the shoe.
+     */
+    private static final int DECKS = 6;
+
+    /**
+     * The number of shuffles in one run.
+     */
+    private static final int SHUFFLES = 20_000;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private ShufflerBenchmark() {
+    }
+
+    /**
+     * Returns a new shoe.
+     *
+     * @return The cards of a shoe of {@link #DECKS} decks.
+     */
+    private static List<Card> shoe() {
+        List<Card> cards = new ArrayList<>(DECKS * Card.COUNT);
+        for (int i = 0; i < DECKS; i++) {
+            cards.addAll(Card.values());
+        }
+        return cards;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        Benchmark.title("Shuffler, " + DECKS + " decks");
+        List<Card> cards = shoe();
+
+        Benchmark.measure("Collections.shuffle, new Random", SHUFFLES, () -> {
+            for (int i = 0; i < SHUFFLES; i++) {
+                Collections.shuffle(cards, new Random());
+            }
+            return cards.get(0).getId();
+        });
+        Shuffler splittable = Shuffler.splittable(1);
+        Benchmark.measure("SplittableRandom shuffler", SHUFFLES, () -> {
+            for (int i = 0; i < SHUFFLES; i++) {
+                splittable.shuffle(cards);
+            }
+            return cards.get(0).getId();
+        });
+        Shuffler xoroshiro = Shuffler.xoroshiro(1);
+        Benchmark.measure("xoroshiro128+ shuffler", SHUFFLES, () -> {
+            for (int i = 0; i < SHUFFLES; i++) {
+                xoroshiro.shuffle(cards);
+            }
+            return cards.get(0).getId();
+        });
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        long operations = (long) threads * SHUFFLES;
+        Random shared = new Random();
+        Benchmark.measure(threads + " threads, shared Random", operations, () -> IntStream.range(0, threads).parallel().map(thread -> {
+            List<Card> shoe = shoe();
+            for (int i = 0; i < SHUFFLES; i++) {
+                Collections.shuffle(shoe, shared);
+            }
+            return shoe.get(0).getId();
+        }).sum());
+        Benchmark.measure(threads + " threads, shuffler of the thread", operations, () -> IntStream.range(0, threads).parallel().map(thread -> {
+            List<Card> shoe = shoe();
+            Shuffler shuffler = Shuffler.current();
+            for (int i = 0; i < SHUFFLES; i++) {
+                shuffler.shuffle(shoe);
+            }
+            return shoe.get(0).getId();
+        }).sum());
+    }
+}
@@ -0,0 +1,77 @@
+package model.cards;
+
+import benchmark.Benchmark;
+import model.card.Card;
+import model.card.ClassicCardComparator;
+import model.card.ClassicCardEvaluator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <b>
+ *     Benchmark of {@link ListOfCards#sort(java.util.Comparator)}.
+ * </b>
+ *
+ * <p>
+ *     Measures the sort of a shuffled shoe of 6 decks and of a pile of 5,000 decks,
+ *     with the counting sort on the keys of the classic comparator
+ *     and with the sort comparing the cards.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class SortBenchmark {
+
+    /**
+     * The number of cards sorted in one run.
+     */
+    private static final int CARDS = 2_000_000;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private SortBenchmark() {
+    }
+
+    /**
+     * Shuffles and sorts the cards until {@link #CARDS} cards are sorted.
+     *
+     * @param cards      The cards to sort.
+     * @param comparator The comparator to use.
+     * @param shuffler   The shuffler to use.
+     * @return The id of the first card.
+     */
+    private static long sort(Hand cards, Comparator<Card> comparator, Shuffler shuffler) {
+        long first = 0;
+        for (int sorted = 0; sorted < CARDS; sorted += cards.size()) {
+            cards.shuffle(shuffler);
+            cards.sort(comparator);
+            first += cards.getCard(0).getId();
+        }
+        return first;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        Benchmark.title("ListOfCards.sort");
+        ClassicCardComparator keyed = new ClassicCardComparator(new ClassicCardEvaluator());
+        // The same order, without the sort key.
+        Comparator<Card> compared = keyed::compare;
+        for (int decks : new int[]{6, 5_000}) {
+            List<Card> cards = new ArrayList<>(decks * Card.COUNT);
+            for (int i = 0; i < decks; i++) {
+                cards.addAll(Card.values());
+            }
+            Hand pile = new Hand(cards);
+            Shuffler shuffler = Shuffler.xoroshiro(1);
+            Benchmark.measure("counting sort, " + decks + " decks (cards/s)", CARDS, () -> sort(pile, keyed, shuffler));
+            Benchmark.measure("comparison sort, " + decks + " decks (cards/s)", CARDS, () -> sort(pile, compared, shuffler));
+        }
+    }
+}
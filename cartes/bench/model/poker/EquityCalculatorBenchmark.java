@@ -0,0 +1,79 @@
+package model.poker;
+
+import benchmark.Benchmark;
+import model.card.Card;
+import model.card.Rank;
+import model.card.Suit;
+import model.cards.Deck;
+import model.cards.FactoryDeck;
+import model.cards.Hand;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <b>
+ *     Benchmark of {@link EquityCalculator}.
+ * </b>
+ *
+ * <p>
+ *     Measures the boards evaluated per second of two hands before the flop, by enumeration and by sampling,
+ *     with pools of one thread up to one thread per processor, to show how the calculator scales.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class EquityCalculatorBenchmark {
+
+    /**
+     * The number of boards sampled in one run.
+     */
+    private static final long SAMPLES = 1_000_000;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private EquityCalculatorBenchmark() {
+    }
+
+    /**
+     * Returns a hand of two cards.
+     *
+     * @param first  The first card.
+     * @param second The second card.
+     * @return The hand.
+     */
+    private static Hand hand(Card first, Card second) {
+        Hand hand = new Hand();
+        hand.addCard(first);
+        hand.addCard(second);
+        return hand;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        Benchmark.title("EquityCalculator, boards/s");
+        List<Hand> hands = Arrays.asList(
+                hand(Card.of(Rank.ACE, Suit.SPADES), Card.of(Rank.ACE, Suit.HEARTS)),
+                hand(Card.of(Rank.KING, Suit.CLUBS), Card.of(Rank.QUEEN, Suit.CLUBS)));
+        Deck deck = FactoryDeck.createDeck52();
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= processors; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                EquityCalculator calculator = new EquityCalculator(hands, new Hand(), deck, pool, 1);
+                Benchmark.measure("exhaustive, " + threads + " threads", calculator.getBoardCount(),
+                        () -> (long) (calculator.exhaustive().getEquity(0) * 1e6));
+                Benchmark.measure("monte carlo, " + threads + " threads", SAMPLES,
+                        () -> (long) (calculator.monteCarlo(SAMPLES).getEquity(0) * 1e6));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package model.poker;
+
+import benchmark.Benchmark;
+import model.card.Card;
+import model.cards.Shuffler;
+
+/**
+ * <b>
+ *     Benchmark of {@link PokerEvaluator}.
+ * </b>
+ *
+ * <p>
+ *     Measures the evaluations per second of random hands of five and seven cards, by ids and by masks.
+ *     The hands are dealt before the measure, so only the evaluation is measured.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class PokerEvaluatorBenchmark {
+
+    /**
+     * The number of hands evaluated in one run.
+     */
+    private static final int HANDS = 1 << 20;
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private PokerEvaluatorBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        Benchmark.title("PokerEvaluator");
+        int[] ids = new int[Card.COUNT];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+        }
+        // The cards of the hands, seven consecutive ids per hand.
+        int[] hands = new int[HANDS * 7];
+        long[] masks = new long[HANDS];
+        Shuffler shuffler = Shuffler.xoroshiro(1);
+        for (int hand = 0; hand < HANDS; hand++) {
+            shuffler.draw(ids, 7);
+            for (int i = 0; i < 7; i++) {
+                hands[hand * 7 + i] = ids[i];
+                masks[hand] |= 1L << ids[i];
+            }
+        }
+
+        Benchmark.measure("evaluate 5 card ids", HANDS, () -> {
+            long sum = 0;
+            for (int i = 0; i < hands.length; i += 7) {
+                sum += PokerEvaluator.evaluate(hands[i], hands[i + 1], hands[i + 2], hands[i + 3], hands[i + 4]);
+            }
+            return sum;
+        });
+        Benchmark.measure("evaluate 7 card ids", HANDS, () -> {
+            long sum = 0;
+            for (int i = 0; i < hands.length; i += 7) {
+                sum += PokerEvaluator.evaluate(hands[i], hands[i + 1], hands[i + 2], hands[i + 3], hands[i + 4],
+                        hands[i + 5], hands[i + 6]);
+            }
+            return sum;
+        });
+        Benchmark.measure("evaluate 7 card mask", HANDS, () -> {
+            long sum = 0;
+            for (long mask : masks) {
+                sum += PokerEvaluator.evaluate(mask);
+            }
+            return sum;
+        });
+    }
+}
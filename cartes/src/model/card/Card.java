@@ -1,5 +1,9 @@
 package model.card;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * <b>
  * This class represents a card in classic playing cards.
@@ -14,9 +18,41 @@ package model.card;
  * The rank and the suit are not empty.
  * </p>
  *
+ * <p>
+ * Each card has a dense id, between 0 and {@link #COUNT} excluded, computed from its suit and its rank
+ * in the order of the decks created by {@code FactoryDeck}. A card is immutable, so the cards are shared:
+ * the constructor is private, {@link #of(Rank, Suit)} and {@link #fromId(int)} return one of the
+ * {@link #COUNT} canonical cards, so two equal cards are the same instance and can be compared with {@code ==}.
+ * </p>
+ *
  * @version 1.0
  */
-public class Card {
+public final class Card {
+
+    /**
+     * The number of distinct cards.
+     */
+    public static final int COUNT = Suit.COUNT * Rank.COUNT;
+
+    /**
+     * The canonical cards, indexed by their id.
+     */
+    private static final Card[] CARDS = new Card[COUNT];
+
+    /**
+     * The canonical cards, in the order of their id.
+     */
+    private static final List<Card> VALUES;
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                Card card = new Card(rank, suit);
+                CARDS[card.id] = card;
+            }
+        }
+        VALUES = Collections.unmodifiableList(Arrays.asList(CARDS));
+    }
 
     /**
      * The rank of the card.
@@ -29,35 +65,70 @@ public class Card {
     private final Suit suit;
 
     /**
-     * Creates a new card with the given rank and suit.
+     * The id of the card.
+     */
+    private final int id;
+
+    /**
+     * Creates the canonical card with the given rank and suit, the cards are obtained with {@link #of(Rank, Suit)}.
+     *
+     * @param rank The rank of the card.
+     * @param suit The suit of the card.
+     */
+    private Card(Rank rank, Suit suit) {
+        this.rank = rank;
+        this.suit = suit;
+        this.id = suit.ordinal() * Rank.COUNT + rank.ordinal();
+    }
+
+    /**
+     * Returns the canonical card of the given rank and suit.
      *
      * @param rank The rank of the card.
      * @param suit The suit of the card.
+     * @return The canonical card.
      * @throws NullPointerException if the rank or the suit is null.
      */
-    public Card(Rank rank, Suit suit) {
+    public static Card of(Rank rank, Suit suit) {
         if (rank == null) {
             throw new NullPointerException("The rank of the card cannot be null.");
         }
         if (suit == null) {
             throw new NullPointerException("The suit of the card cannot be null.");
         }
-        this.rank = rank;
-        this.suit = suit;
+        return CARDS[suit.ordinal() * Rank.COUNT + rank.ordinal()];
     }
 
     /**
-     * Creates a new card
+     * Returns the canonical card of the given id.
      *
-     * @param card The card to copy.
-     * @throws NullPointerException if the card is null.
+     * @param id The id of the card.
+     * @return The canonical card.
+     * @throws IllegalArgumentException if the id is not between 0 and {@link #COUNT} excluded.
      */
-    public Card(Card card) {
-        if (card == null) {
-            throw new NullPointerException("The card to copy cannot be null.");
+    public static Card fromId(int id) {
+        if (id < 0 || id >= COUNT) {
+            throw new IllegalArgumentException("The id of the card must be between 0 and " + (COUNT - 1) + ".");
         }
-        this.rank = card.rank;
-        this.suit = card.suit;
+        return CARDS[id];
+    }
+
+    /**
+     * Returns the canonical cards, in the order of their id.
+     *
+     * @return The unmodifiable list of the canonical cards.
+     */
+    public static List<Card> values() {
+        return VALUES;
+    }
+
+    /**
+     * Returns the id of the card, between 0 and {@link #COUNT} excluded.
+     *
+     * @return The id of the card.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
@@ -121,11 +192,7 @@ public class Card {
         if (getClass() != obj.getClass()) {
             return false;
         }
-        final Card other = (Card) obj;
-        if (this.rank != other.rank) {
-            return false;
-        }
-        return this.suit == other.suit;
+        return this.id == ((Card) obj).id;
     }
 
     /**
@@ -135,10 +202,7 @@ public class Card {
      */
     @Override
     public int hashCode() {
-        int hash = 7;
-        hash = 97 * hash + (this.rank != null ? this.rank.hashCode() : 0);
-        hash = 97 * hash + (this.suit != null ? this.suit.hashCode() : 0);
-        return hash;
+        return id;
     }
 
 
@@ -86,5 +86,28 @@ public interface CardComparator extends Comparator<Card> {
         return compare(card1, card2) >= 0;
     }
 
+    /**
+     * Returns true if the comparator gives a sort key to the cards with {@link #sortKey(Card)}.
+     * The lists of cards are sorted on the keys in linear time instead of comparing the cards.
+     *
+     * @return True if the comparator has a sort key, false by default.
+     */
+    default boolean hasSortKey() {
+        return false;
+    }
+
+    /**
+     * Returns the sort key of the card, consistent with {@link #compare(Card, Card)}:
+     * the first card is less than, equal to or greater than the second card
+     * as its key is less than, equal to or greater than the key of the second card.
+     *
+     * @param card The card.
+     * @return The sort key of the card, between 0 and {@link Card#COUNT} excluded.
+     * @throws UnsupportedOperationException if the comparator has no sort key.
+     */
+    default int sortKey(Card card) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " has no sort key.");
+    }
+
 
 }
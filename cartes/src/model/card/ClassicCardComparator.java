@@ -30,6 +30,16 @@ public class ClassicCardComparator implements CardComparator {
      */
     private final CardEvaluator cardEvaluator;
 
+    /**
+     * The card evaluator compiled, which evaluates the cards in the comparisons.
+     */
+    private final CompiledCardEvaluator compiledEvaluator;
+
+    /**
+     * The sort keys of the cards, indexed by their id.
+     */
+    private final int[] keys;
+
     /**
      * Creates a new classic card comparator with the given card evaluator.
      *
@@ -41,6 +51,8 @@ public class ClassicCardComparator implements CardComparator {
             throw new NullPointerException("The card evaluator cannot be null.");
         }
         this.cardEvaluator = cardEvaluator;
+        this.compiledEvaluator = CompiledCardEvaluator.of(cardEvaluator);
+        this.keys = EvaluatorCardComparator.sortKeys(this::compareClassic);
     }
 
     /**
@@ -62,12 +74,39 @@ public class ClassicCardComparator implements CardComparator {
      */
     @Override
     public int compare(Card card1, Card card2) {
+        return compareClassic(card1, card2);
+    }
+
+    /**
+     * Returns true, the sort key of a card is its position in the natural order of classic playing cards.
+     * A subclass which changes the order must also override this method.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean hasSortKey() {
+        return true;
+    }
+
+    @Override
+    public int sortKey(Card card) {
+        return keys[card.getId()];
+    }
+
+    /**
+     * Compares two cards according to the natural order of classic playing cards.
+     *
+     * @param card1 The first card to compare.
+     * @param card2 The second card to compare.
+     * @return A negative integer, zero, or a positive integer as the first card is less than, equal to, or greater than the second card.
+     */
+    private int compareClassic(Card card1, Card card2) {
         // Compare the suits of the cards (the order is: clubs, diamonds, hearts, spades).
-        int result = String.valueOf(card1.getSuit().getLetter()).compareTo(String.valueOf(card2.getSuit().getLetter()));
+        int result = Character.compare(card1.getSuit().getLetter(), card2.getSuit().getLetter());
 
         // If the suits are equal, compare the values of the cards (the order is: 2, 3, 4, 5, 6, 7, 8, 9, 10, J, Q, K, A).
         if (result == 0) {
-            result = cardEvaluator.evaluate(card1) - cardEvaluator.evaluate(card2);
+            result = compiledEvaluator.evaluate(card1) - compiledEvaluator.evaluate(card2);
         }
 
         return result;
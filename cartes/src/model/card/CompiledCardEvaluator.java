@@ -0,0 +1,90 @@
+package model.card;
+
+/**
+ * <b>
+ * Compiled card evaluator holds the scores given by a card evaluator to all the cards.
+ * </b>
+ *
+ * <p>
+ * The source card evaluator is called once for each of the {@link Card#COUNT} cards,
+ * then a card is evaluated by reading its score in an array indexed by the id of the card.
+ * The class is final, so the call to {@link #evaluate(Card)} is resolved to a single method
+ * which the JIT inlines in the loops over the cards.
+ * The source card evaluator must always give the same score to a card.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class CompiledCardEvaluator implements CardEvaluator {
+
+    /**
+     * The card evaluator compiled.
+     */
+    private final CardEvaluator source;
+
+    /**
+     * The scores of the cards, indexed by their id.
+     */
+    private final int[] scores = new int[Card.COUNT];
+
+    /**
+     * Creates a new compiled card evaluator of the given card evaluator.
+     *
+     * @param source The card evaluator to compile.
+     */
+    private CompiledCardEvaluator(CardEvaluator source) {
+        this.source = source;
+        for (Card card : Card.values()) {
+            this.scores[card.getId()] = source.evaluate(card);
+        }
+    }
+
+    /**
+     * Returns the compiled card evaluator of the given card evaluator.
+     *
+     * @param cardEvaluator The card evaluator to compile.
+     * @return The compiled card evaluator, the card evaluator itself if it is already compiled.
+     * @throws NullPointerException if the card evaluator is null.
+     */
+    public static CompiledCardEvaluator of(CardEvaluator cardEvaluator) {
+        if (cardEvaluator == null) {
+            throw new NullPointerException("The card evaluator cannot be null.");
+        }
+        if (cardEvaluator instanceof CompiledCardEvaluator) {
+            return (CompiledCardEvaluator) cardEvaluator;
+        }
+        return new CompiledCardEvaluator(cardEvaluator);
+    }
+
+    /**
+     * Returns the card evaluator compiled.
+     *
+     * @return The source card evaluator.
+     */
+    public CardEvaluator getSource() {
+        return source;
+    }
+
+    /**
+     * Evaluate a card.
+     *
+     * @param card The card to evaluate.
+     * @return the score of the card.
+     * @throws NullPointerException if the card is null.
+     */
+    @Override
+    public int evaluate(Card card) {
+        return scores[card.getId()];
+    }
+
+    /**
+     * Evaluate the card of the given id.
+     *
+     * @param id The id of the card.
+     * @return the score of the card.
+     * @throws ArrayIndexOutOfBoundsException if the id is not between 0 and {@link Card#COUNT} excluded.
+     */
+    public int evaluate(int id) {
+        return scores[id];
+    }
+}
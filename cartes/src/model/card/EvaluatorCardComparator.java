@@ -0,0 +1,99 @@
+package model.card;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <b>
+ * Evaluator card comparator permits to compare two cards by their value.
+ * </b>
+ *
+ * <p>
+ * The cards are ordered by the value given by the card evaluator, the cards of the same value are equal.
+ * The values of the {@link Card#COUNT} cards are computed once, so the comparator has a sort key
+ * and a list of cards is sorted by value in linear time.
+ * The card evaluator must always give the same value to a card.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class EvaluatorCardComparator implements CardComparator {
+
+    /**
+     * The card evaluator to evaluate the cards.
+     */
+    private final CardEvaluator cardEvaluator;
+
+    /**
+     * The sort keys of the cards, indexed by their id.
+     */
+    private final int[] keys;
+
+    /**
+     * Creates a new comparator of the cards by the value given by the card evaluator.
+     *
+     * @param cardEvaluator The card evaluator to evaluate the cards.
+     * @throws NullPointerException if the card evaluator is null.
+     */
+    public EvaluatorCardComparator(CardEvaluator cardEvaluator) {
+        if (cardEvaluator == null) {
+            throw new NullPointerException("The card evaluator cannot be null.");
+        }
+        this.cardEvaluator = cardEvaluator;
+        this.keys = sortKeys((card1, card2) -> Integer.compare(cardEvaluator.evaluate(card1), cardEvaluator.evaluate(card2)));
+    }
+
+    /**
+     * Returns the sort keys of the cards in the order of the given comparator.
+     * The cards equal for the comparator have the same key, the keys are consecutive from 0.
+     *
+     * @param comparator The comparator of the cards.
+     * @return The sort keys of the cards, indexed by their id.
+     */
+    static int[] sortKeys(Comparator<Card> comparator) {
+        List<Card> cards = new ArrayList<>(Card.values());
+        cards.sort(comparator);
+        int[] keys = new int[Card.COUNT];
+        int key = 0;
+        for (int i = 0; i < cards.size(); i++) {
+            if (i > 0 && comparator.compare(cards.get(i - 1), cards.get(i)) != 0) {
+                key++;
+            }
+            keys[cards.get(i).getId()] = key;
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the evaluator of the cards.
+     *
+     * @return the evaluator of the cards.
+     */
+    @Override
+    public CardEvaluator getCardEvaluator() {
+        return this.cardEvaluator;
+    }
+
+    /**
+     * Compares two cards by their value.
+     *
+     * @param card1 The first card to compare.
+     * @param card2 The second card to compare.
+     * @return A negative integer, zero, or a positive integer as the value of the first card is less than, equal to, or greater than the value of the second card.
+     */
+    @Override
+    public int compare(Card card1, Card card2) {
+        return keys[card1.getId()] - keys[card2.getId()];
+    }
+
+    @Override
+    public boolean hasSortKey() {
+        return true;
+    }
+
+    @Override
+    public int sortKey(Card card) {
+        return keys[card.getId()];
+    }
+}
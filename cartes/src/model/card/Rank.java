@@ -27,6 +27,28 @@ public enum Rank {
     KING(12, 'K'),
     ACE(13, 'A');
 
+    /**
+     * The number of ranks.
+     */
+    public static final int COUNT = values().length;
+
+    /**
+     * The ranks indexed by their value.
+     */
+    private static final Rank[] BY_VALUE = new Rank[ACE.value + 1];
+
+    /**
+     * The ranks indexed by their symbol.
+     */
+    private static final Rank[] BY_SYMBOL = new Rank[128];
+
+    static {
+        for (Rank rank : values()) {
+            BY_VALUE[rank.value] = rank;
+            BY_SYMBOL[rank.symbol] = rank;
+        }
+    }
+
     /**
      * The value of the rank.
      */
@@ -55,12 +77,7 @@ public enum Rank {
      * @return The rank with the given value.
      */
     public static Rank getRank(int value) {
-        for (Rank rank : Rank.values()) {
-            if (rank.getValue() == value) {
-                return rank;
-            }
-        }
-        return null;
+        return value >= 0 && value < BY_VALUE.length ? BY_VALUE[value] : null;
     }
 
     /**
@@ -70,12 +87,7 @@ public enum Rank {
      * @return The rank with the given symbol.
      */
     public static Rank getRank(char symbol) {
-        for (Rank rank : Rank.values()) {
-            if (rank.getSymbol() == symbol) {
-                return rank;
-            }
-        }
-        return null;
+        return symbol < BY_SYMBOL.length ? BY_SYMBOL[symbol] : null;
     }
 
     /**
@@ -19,6 +19,22 @@ public enum Suit {
     HEARTS('H', "RED", '♥'),
     SPADES('S', "BLACK", '♠');
 
+    /**
+     * The number of suits.
+     */
+    public static final int COUNT = values().length;
+
+    /**
+     * The suits indexed by their letter.
+     */
+    private static final Suit[] BY_LETTER = new Suit[128];
+
+    static {
+        for (Suit suit : values()) {
+            BY_LETTER[suit.letter] = suit;
+        }
+    }
+
     /**
      * The letter of the suit.
      */
@@ -54,12 +70,7 @@ public enum Suit {
      * @return The suit corresponding to the given letter.
      */
     public static Suit getSuit(char letter) {
-        for (Suit suit : Suit.values()) {
-            if (suit.getLetter() == letter) {
-                return suit;
-            }
-        }
-        return null;
+        return letter < BY_LETTER.length ? BY_LETTER[letter] : null;
     }
 
     /**
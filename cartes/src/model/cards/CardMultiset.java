@@ -0,0 +1,275 @@
+package model.cards;
+
+import model.card.Card;
+import model.card.Rank;
+import model.card.Suit;
+
+import java.util.Arrays;
+
+/**
+ * <b>
+ * CardMultiset counts the copies of each card, as in a shoe of several decks.
+ * </b>
+ *
+ * <p>
+ * The number of copies of a card is stored at its id, and the cards with at least one copy are kept
+ * in a {@link CardSet} mask, so the membership and the distinct cards are answered in constant time.
+ * The multiset is mutable and is not thread-safe.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class CardMultiset {
+
+    /**
+     * The number of copies of the cards, indexed by their id.
+     */
+    private final int[] counts = new int[Card.COUNT];
+
+    /**
+     * The mask of the cards with at least one copy.
+     */
+    private long mask;
+
+    /**
+     * The total number of cards.
+     */
+    private int size;
+
+    /**
+     * Creates a new empty multiset.
+     */
+    public CardMultiset() {
+        super();
+    }
+
+    /**
+     * Creates a new multiset with the given cards.
+     *
+     * @param cards The cards of the multiset.
+     * @throws NullPointerException if the cards or one of the cards is null.
+     */
+    public CardMultiset(Iterable<Card> cards) {
+        addAll(cards);
+    }
+
+    /**
+     * Creates a new multiset with the given number of copies of each card, as in a shoe of several decks.
+     *
+     * @param decks The number of copies of each card.
+     * @return The multiset of the decks.
+     * @throws IllegalArgumentException if the number of decks is negative.
+     */
+    public static CardMultiset ofDecks(int decks) {
+        if (decks < 0) {
+            throw new IllegalArgumentException("The number of decks cannot be negative.");
+        }
+        CardMultiset multiset = new CardMultiset();
+        if (decks > 0) {
+            Arrays.fill(multiset.counts, decks);
+            multiset.mask = CardSet.FULL.getMask();
+            multiset.size = decks * Card.COUNT;
+        }
+        return multiset;
+    }
+
+    /**
+     * Adds a copy of the given card.
+     *
+     * @param card The card to add.
+     * @throws NullPointerException if the card is null.
+     */
+    public void add(Card card) {
+        add(card, 1);
+    }
+
+    /**
+     * Adds the given number of copies of the card.
+     *
+     * @param card   The card to add.
+     * @param copies The number of copies to add.
+     * @throws NullPointerException     if the card is null.
+     * @throws IllegalArgumentException if the number of copies is negative.
+     */
+    public void add(Card card, int copies) {
+        long bit = CardSet.bit(card);
+        if (copies < 0) {
+            throw new IllegalArgumentException("The number of copies cannot be negative.");
+        }
+        if (copies > 0) {
+            counts[card.getId()] += copies;
+            mask |= bit;
+            size += copies;
+        }
+    }
+
+    /**
+     * Adds a copy of each given card.
+     *
+     * @param cards The cards to add.
+     * @throws NullPointerException if the cards or one of the cards is null.
+     */
+    public void addAll(Iterable<Card> cards) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        for (Card card : cards) {
+            add(card);
+        }
+    }
+
+    /**
+     * Removes a copy of the given card.
+     *
+     * @param card The card to remove.
+     * @return True if a copy of the card was removed.
+     * @throws NullPointerException if the card is null.
+     */
+    public boolean remove(Card card) {
+        long bit = CardSet.bit(card);
+        if ((mask & bit) == 0) {
+            return false;
+        }
+        if (--counts[card.getId()] == 0) {
+            mask &= ~bit;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes all the cards.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        mask = 0L;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of copies of the given card.
+     *
+     * @param card The card to count.
+     * @return The number of copies of the card.
+     * @throws NullPointerException if the card is null.
+     */
+    public int count(Card card) {
+        if (card == null) {
+            throw new NullPointerException("The card cannot be null.");
+        }
+        return counts[card.getId()];
+    }
+
+    /**
+     * Returns the number of cards of the given suit.
+     *
+     * @param suit The suit of the cards.
+     * @return The number of cards of the suit.
+     * @throws NullPointerException if the suit is null.
+     */
+    public int count(Suit suit) {
+        if (suit == null) {
+            throw new NullPointerException("The suit cannot be null.");
+        }
+        int count = 0;
+        int from = suit.ordinal() * Rank.COUNT;
+        for (int id = from; id < from + Rank.COUNT; id++) {
+            count += counts[id];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of cards of the given rank.
+     *
+     * @param rank The rank of the cards.
+     * @return The number of cards of the rank.
+     * @throws NullPointerException if the rank is null.
+     */
+    public int count(Rank rank) {
+        if (rank == null) {
+            throw new NullPointerException("The rank cannot be null.");
+        }
+        int count = 0;
+        for (int id = rank.ordinal(); id < Card.COUNT; id += Rank.COUNT) {
+            count += counts[id];
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if the multiset has a copy of the given card.
+     *
+     * @param card The card to find.
+     * @return True if the multiset has a copy of the card.
+     * @throws NullPointerException if the card is null.
+     */
+    public boolean contains(Card card) {
+        return (mask & CardSet.bit(card)) != 0;
+    }
+
+    /**
+     * Returns true if the multiset has at least as many copies of each card as the given multiset.
+     *
+     * @param other The cards to find.
+     * @return True if the multiset contains the other multiset.
+     * @throws NullPointerException if the other multiset is null.
+     */
+    public boolean containsAll(CardMultiset other) {
+        if (other == null) {
+            throw new NullPointerException("The card multiset cannot be null.");
+        }
+        if ((other.mask & ~mask) != 0 || other.size > size) {
+            return false;
+        }
+        for (long bits = other.mask; bits != 0; bits &= bits - 1) {
+            int id = Long.numberOfTrailingZeros(bits);
+            if (other.counts[id] > counts[id]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the distinct cards of the multiset.
+     *
+     * @return The set of the cards with at least one copy.
+     */
+    public CardSet toCardSet() {
+        return CardSet.fromMask(mask);
+    }
+
+    /**
+     * Returns the total number of cards.
+     *
+     * @return The total number of cards.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the multiset is empty.
+     *
+     * @return True if the multiset is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the string representation of the multiset.
+     *
+     * @return The string representation of the multiset.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("CardMultiset [size=").append(size);
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            int id = Long.numberOfTrailingZeros(bits);
+            builder.append(", ").append(Card.fromId(id)).append('x').append(counts[id]);
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,531 @@
+package model.cards;
+
+import model.card.Card;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * <b>
+ * CardSequence is an immutable sequence of cards, whose versions share their structure.
+ * </b>
+ *
+ * <p>
+ * The cards are stored in a balanced tree (an AVL tree ordered by the index of the cards) whose nodes
+ * are never modified: an operation returns a new sequence which shares all the nodes of the old one
+ * except the O(log n) nodes on the path to the card added or removed. So a sequence is a snapshot of
+ * a list of cards that costs nothing to keep, and the branches explored from one state of a shoe
+ * add, deal and remove cards in O(log n) without copying the cards.
+ * </p>
+ *
+ * <p>
+ * {@link ListOfCards#snapshot()} and {@link ListOfCards#restore(CardSequence)} convert a list of cards
+ * to a sequence and back. The list keeps its last snapshot until it is modified, so that taking the snapshot
+ * again or restoring it takes constant time.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class CardSequence implements Iterable<Card> {
+
+    /**
+     * The empty sequence.
+     */
+    private static final CardSequence EMPTY = new CardSequence(null);
+
+    /**
+     * The root of the tree of the cards, null if the sequence is empty.
+     */
+    private final Node root;
+
+    /**
+     * Creates a new sequence with the given tree.
+     *
+     * @param root The root of the tree of the cards.
+     */
+    private CardSequence(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty sequence.
+     *
+     * @return The empty sequence.
+     */
+    public static CardSequence empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the sequence of the given cards, in linear time.
+     *
+     * @param cards The cards of the sequence.
+     * @return The sequence of the cards, in the same order.
+     * @throws NullPointerException if the cards or one of the cards is null.
+     */
+    public static CardSequence of(List<Card> cards) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        return valueOf(build(cards.toArray(new Card[0]), 0, cards.size()));
+    }
+
+    /**
+     * Returns the sequence of the given cards, in linear time.
+     *
+     * @param cards The cards of the sequence.
+     * @return The sequence of the cards, in the same order.
+     * @throws NullPointerException if the cards or one of the cards is null.
+     */
+    public static CardSequence of(Card... cards) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        return valueOf(build(cards.clone(), 0, cards.length));
+    }
+
+    /**
+     * Returns the sequence of the given tree, sharing the empty sequence.
+     *
+     * @param root The root of the tree of the cards.
+     * @return The sequence.
+     */
+    private static CardSequence valueOf(Node root) {
+        return root == null ? EMPTY : new CardSequence(root);
+    }
+
+    /**
+     * Builds a balanced tree of the cards between the given indexes.
+     *
+     * @param cards The cards.
+     * @param from  The index of the first card, inclusive.
+     * @param to    The index of the last card, exclusive.
+     * @return The root of the tree.
+     * @throws NullPointerException if one of the cards is null.
+     */
+    private static Node build(Card[] cards, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        if (cards[middle] == null) {
+            throw new NullPointerException("The card cannot be null.");
+        }
+        return new Node(build(cards, from, middle), cards[middle], build(cards, middle + 1, to));
+    }
+
+    /**
+     * Returns the number of cards in the sequence.
+     *
+     * @return The number of cards.
+     */
+    public int size() {
+        return Node.size(root);
+    }
+
+    /**
+     * Returns true if the sequence is empty.
+     *
+     * @return True if the sequence is empty.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the card at the given index, in O(log n).
+     *
+     * @param index The index of the card.
+     * @return The card at the index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public Card get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int left = Node.size(node.left);
+            if (index < left) {
+                node = node.left;
+            } else if (index > left) {
+                index -= left + 1;
+                node = node.right;
+            } else {
+                return node.card;
+            }
+        }
+    }
+
+    /**
+     * Returns the first card of the sequence, the top of a deck.
+     *
+     * @return The first card.
+     * @throws IllegalStateException if the sequence is empty.
+     */
+    public Card first() {
+        if (root == null) {
+            throw new IllegalStateException("The sequence of cards is empty.");
+        }
+        return get(0);
+    }
+
+    /**
+     * Returns the sequence without its first card, as if the first card was dealt, in O(log n).
+     *
+     * @return The sequence without the first card.
+     * @throws IllegalStateException if the sequence is empty.
+     */
+    public CardSequence pop() {
+        if (root == null) {
+            throw new IllegalStateException("The sequence of cards is empty.");
+        }
+        return removeAt(0);
+    }
+
+    /**
+     * Returns the sequence with the given card added before the first card, in O(log n).
+     *
+     * @param card The card to add.
+     * @return The sequence with the card on top.
+     * @throws NullPointerException if the card is null.
+     */
+    public CardSequence push(Card card) {
+        return insert(0, card);
+    }
+
+    /**
+     * Returns the sequence with the given card added after the last card, in O(log n).
+     *
+     * @param card The card to add.
+     * @return The sequence with the card at the end.
+     * @throws NullPointerException if the card is null.
+     */
+    public CardSequence add(Card card) {
+        return insert(size(), card);
+    }
+
+    /**
+     * Returns the sequence with the given card inserted at the given index, in O(log n).
+     *
+     * @param index The index of the card in the new sequence.
+     * @param card  The card to insert.
+     * @return The sequence with the card.
+     * @throws NullPointerException      if the card is null.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public CardSequence insert(int index, Card card) {
+        if (card == null) {
+            throw new NullPointerException("The card cannot be null.");
+        }
+        checkIndex(index, size() + 1);
+        return new CardSequence(Node.insert(root, index, card));
+    }
+
+    /**
+     * Returns the sequence without the card at the given index, in O(log n).
+     *
+     * @param index The index of the card to remove.
+     * @return The sequence without the card.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public CardSequence removeAt(int index) {
+        checkIndex(index, size());
+        return valueOf(Node.remove(root, index));
+    }
+
+    /**
+     * Returns the index of the first occurrence of the given card, in linear time.
+     *
+     * @param card The card to find.
+     * @return The index of the card, or -1 if the sequence does not contain the card.
+     */
+    public int indexOf(Card card) {
+        int index = 0;
+        for (Card other : this) {
+            if (other.equals(card)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the sequence without the first occurrence of the given card.
+     *
+     * @param card The card to remove.
+     * @return The sequence without the card, the sequence itself if it does not contain the card.
+     */
+    public CardSequence remove(Card card) {
+        int index = indexOf(card);
+        return index < 0 ? this : removeAt(index);
+    }
+
+    /**
+     * Returns the cards of the sequence.
+     *
+     * @return A new list of the cards, in the order of the sequence.
+     */
+    public List<Card> toList() {
+        List<Card> cards = new ArrayList<>(size());
+        for (Card card : this) {
+            cards.add(card);
+        }
+        return cards;
+    }
+
+    /**
+     * Returns the cards of the sequence in an array, in linear time.
+     *
+     * @return A new array of the cards, in the order of the sequence.
+     */
+    public Card[] toArray() {
+        Card[] cards = new Card[size()];
+        Node.fill(root, cards, 0);
+        return cards;
+    }
+
+    /**
+     * Checks that the index is between 0 and the bound.
+     *
+     * @param index The index.
+     * @param bound The bound, exclusive.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    /**
+     * Iterator for the cards of the sequence, in order.
+     *
+     * @return Iterator for the cards of the sequence.
+     */
+    @Override
+    public Iterator<Card> iterator() {
+        return new Iterator<Card>() {
+            private final Deque<Node> path = new ArrayDeque<>();
+
+            {
+                descend(root);
+            }
+
+            private void descend(Node node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public Card next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node node = path.pop();
+                descend(node.right);
+                return node.card;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CardSequence) || ((CardSequence) o).size() != size()) {
+            return false;
+        }
+        Iterator<Card> others = ((CardSequence) o).iterator();
+        for (Card card : this) {
+            if (!card.equals(others.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (Card card : this) {
+            hash = 31 * hash + card.hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the string representation of the sequence of cards.
+     *
+     * @return The string representation of the sequence of cards.
+     */
+    @Override
+    public String toString() {
+        return "CardSequence " + toList();
+    }
+
+    /**
+     * A node of the tree, which is never modified once created.
+     */
+    private static final class Node {
+
+        /**
+         * The card of the node.
+         */
+        private final Card card;
+
+        /**
+         * The cards before the card of the node.
+         */
+        private final Node left;
+
+        /**
+         * The cards after the card of the node.
+         */
+        private final Node right;
+
+        /**
+         * The number of cards of the tree.
+         */
+        private final int size;
+
+        /**
+         * The height of the tree.
+         */
+        private final int height;
+
+        /**
+         * Creates a new node.
+         *
+         * @param left  The cards before the card.
+         * @param card  The card.
+         * @param right The cards after the card.
+         */
+        private Node(Node left, Card card, Node right) {
+            this.left = left;
+            this.card = card;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+
+        /**
+         * Returns the number of cards of the tree.
+         *
+         * @param node The root of the tree.
+         * @return The number of cards.
+         */
+        private static int size(Node node) {
+            return node == null ? 0 : node.size;
+        }
+
+        /**
+         * Returns the height of the tree.
+         *
+         * @param node The root of the tree.
+         * @return The height of the tree.
+         */
+        private static int height(Node node) {
+            return node == null ? 0 : node.height;
+        }
+
+        /**
+         * Returns a balanced tree of the given subtrees, whose heights differ by at most 2.
+         *
+         * @param left  The cards before the card.
+         * @param card  The card.
+         * @param right The cards after the card.
+         * @return The root of the tree.
+         */
+        private static Node balance(Node left, Card card, Node right) {
+            if (height(left) > height(right) + 1) {
+                if (height(left.left) >= height(left.right)) {
+                    return new Node(left.left, left.card, new Node(left.right, card, right));
+                }
+                Node middle = left.right;
+                return new Node(new Node(left.left, left.card, middle.left), middle.card,
+                        new Node(middle.right, card, right));
+            }
+            if (height(right) > height(left) + 1) {
+                if (height(right.right) >= height(right.left)) {
+                    return new Node(new Node(left, card, right.left), right.card, right.right);
+                }
+                Node middle = right.left;
+                return new Node(new Node(left, card, middle.left), middle.card,
+                        new Node(middle.right, right.card, right.right));
+            }
+            return new Node(left, card, right);
+        }
+
+        /**
+         * Copies the cards of the tree in order in the array.
+         *
+         * @param node  The root of the tree.
+         * @param cards The array of the cards.
+         * @param index The index of the first card of the tree in the array.
+         * @return The index after the last card of the tree.
+         */
+        private static int fill(Node node, Card[] cards, int index) {
+            if (node == null) {
+                return index;
+            }
+            index = fill(node.left, cards, index);
+            cards[index] = node.card;
+            return fill(node.right, cards, index + 1);
+        }
+
+        /**
+         * Returns the tree with the card inserted at the given index.
+         *
+         * @param node  The root of the tree.
+         * @param index The index of the card.
+         * @param card  The card.
+         * @return The root of the new tree.
+         */
+        private static Node insert(Node node, int index, Card card) {
+            if (node == null) {
+                return new Node(null, card, null);
+            }
+            int left = size(node.left);
+            if (index <= left) {
+                return balance(insert(node.left, index, card), node.card, node.right);
+            }
+            return balance(node.left, node.card, insert(node.right, index - left - 1, card));
+        }
+
+        /**
+         * Returns the tree without the card at the given index.
+         *
+         * @param node  The root of the tree.
+         * @param index The index of the card.
+         * @return The root of the new tree, null if it is empty.
+         */
+        private static Node remove(Node node, int index) {
+            int left = size(node.left);
+            if (index < left) {
+                return balance(remove(node.left, index), node.card, node.right);
+            }
+            if (index > left) {
+                return balance(node.left, node.card, remove(node.right, index - left - 1));
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node first = node.right;
+            while (first.left != null) {
+                first = first.left;
+            }
+            return balance(node.left, first.card, remove(node.right, 0));
+        }
+    }
+}
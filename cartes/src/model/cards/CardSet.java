@@ -0,0 +1,465 @@
+package model.cards;
+
+import model.card.Card;
+import model.card.Rank;
+import model.card.Suit;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * <b>
+ * CardSet is an immutable set of distinct cards.
+ * </b>
+ *
+ * <p>
+ * The set is represented by a mask of {@link Card#COUNT} bits, the bit of a card is its id.
+ * The membership, the set operations and the size are computed on the mask in constant time,
+ * so a card set is the fast way to compare the content of lists of cards.
+ * The cards of the same suit are consecutive bits of the mask, the cards of the same rank are
+ * every {@link Rank#COUNT} bits. The cards are iterated in the order of their id.
+ * </p>
+ *
+ * <p>
+ * A set does not count the copies of a card, the {@link CardMultiset} does it for the shoes of several decks.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class CardSet implements Iterable<Card> {
+
+    /**
+     * The mask of all the cards.
+     */
+    private static final long ALL = (1L << Card.COUNT) - 1;
+
+    /**
+     * The empty set.
+     */
+    public static final CardSet EMPTY = new CardSet(0L);
+
+    /**
+     * The set of all the cards.
+     */
+    public static final CardSet FULL = new CardSet(ALL);
+
+    /**
+     * The masks of the suits, indexed by the ordinal of the suit.
+     */
+    private static final long[] SUIT_MASKS = new long[Suit.COUNT];
+
+    /**
+     * The masks of the ranks, indexed by the ordinal of the rank.
+     */
+    private static final long[] RANK_MASKS = new long[Rank.COUNT];
+
+    static {
+        for (int id = 0; id < Card.COUNT; id++) {
+            SUIT_MASKS[id / Rank.COUNT] |= 1L << id;
+            RANK_MASKS[id % Rank.COUNT] |= 1L << id;
+        }
+    }
+
+    /**
+     * The mask of the cards in the set.
+     */
+    private final long mask;
+
+    /**
+     * Creates a new set of cards with the given mask.
+     *
+     * @param mask The mask of the cards.
+     */
+    private CardSet(long mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Returns the set of cards with the given mask.
+     *
+     * @param mask The mask of the cards, the bit of a card is its id.
+     * @return The set of cards.
+     * @throws IllegalArgumentException if the mask has a bit which is not the id of a card.
+     */
+    public static CardSet fromMask(long mask) {
+        if ((mask & ~ALL) != 0) {
+            throw new IllegalArgumentException("The mask can only contain the bits of the " + Card.COUNT + " cards.");
+        }
+        return valueOf(mask);
+    }
+
+    /**
+     * Returns the set of the given cards.
+     *
+     * @param cards The cards of the set.
+     * @return The set of the cards, without their copies.
+     * @throws NullPointerException if the cards or one of the cards is null.
+     */
+    public static CardSet of(Card... cards) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        long mask = 0L;
+        for (Card card : cards) {
+            mask |= bit(card);
+        }
+        return valueOf(mask);
+    }
+
+    /**
+     * Returns the set of the given cards.
+     *
+     * @param cards The cards of the set.
+     * @return The set of the cards, without their copies.
+     * @throws NullPointerException if the cards or one of the cards is null.
+     */
+    public static CardSet of(Iterable<Card> cards) {
+        return valueOf(maskOf(cards));
+    }
+
+    /**
+     * Returns the set of the cards of the given suit.
+     *
+     * @param suit The suit of the cards.
+     * @return The set of the cards of the suit.
+     * @throws NullPointerException if the suit is null.
+     */
+    public static CardSet ofSuit(Suit suit) {
+        if (suit == null) {
+            throw new NullPointerException("The suit cannot be null.");
+        }
+        return new CardSet(SUIT_MASKS[suit.ordinal()]);
+    }
+
+    /**
+     * Returns the set of the cards of the given rank.
+     *
+     * @param rank The rank of the cards.
+     * @return The set of the cards of the rank.
+     * @throws NullPointerException if the rank is null.
+     */
+    public static CardSet ofRank(Rank rank) {
+        if (rank == null) {
+            throw new NullPointerException("The rank cannot be null.");
+        }
+        return new CardSet(RANK_MASKS[rank.ordinal()]);
+    }
+
+    /**
+     * Returns the mask of the given cards.
+     *
+     * @param cards The cards.
+     * @return The mask of the cards.
+     * @throws NullPointerException if the cards or one of the cards is null.
+     */
+    static long maskOf(Iterable<Card> cards) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        long mask = 0L;
+        for (Card card : cards) {
+            mask |= bit(card);
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the bit of the given card.
+     *
+     * @param card The card.
+     * @return The bit of the card.
+     * @throws NullPointerException if the card is null.
+     */
+    static long bit(Card card) {
+        if (card == null) {
+            throw new NullPointerException("The card cannot be null.");
+        }
+        return 1L << card.getId();
+    }
+
+    /**
+     * Returns the set of the given mask, sharing the empty and the full sets.
+     *
+     * @param mask The mask of the cards.
+     * @return The set of cards.
+     */
+    private static CardSet valueOf(long mask) {
+        if (mask == 0L) {
+            return EMPTY;
+        }
+        return mask == ALL ? FULL : new CardSet(mask);
+    }
+
+    /**
+     * Returns the mask of the cards in the set, the bit of a card is its id.
+     *
+     * @return The mask of the cards.
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * Returns the number of cards in the set.
+     *
+     * @return The number of cards in the set.
+     */
+    public int size() {
+        return Long.bitCount(mask);
+    }
+
+    /**
+     * Returns true if the set is empty.
+     *
+     * @return True if the set is empty.
+     */
+    public boolean isEmpty() {
+        return mask == 0L;
+    }
+
+    /**
+     * Returns true if the set contains the given card.
+     *
+     * @param card The card to find.
+     * @return True if the set contains the card.
+     * @throws NullPointerException if the card is null.
+     */
+    public boolean contains(Card card) {
+        return (mask & bit(card)) != 0;
+    }
+
+    /**
+     * Returns true if the set contains all the cards of the given set.
+     *
+     * @param other The cards to find.
+     * @return True if the set contains all the cards.
+     * @throws NullPointerException if the other set is null.
+     */
+    public boolean containsAll(CardSet other) {
+        if (other == null) {
+            throw new NullPointerException("The card set cannot be null.");
+        }
+        return (other.mask & ~mask) == 0;
+    }
+
+    /**
+     * Returns true if the set has at least one card of the given set.
+     *
+     * @param other The cards to find.
+     * @return True if the sets have a card in common.
+     * @throws NullPointerException if the other set is null.
+     */
+    public boolean intersects(CardSet other) {
+        if (other == null) {
+            throw new NullPointerException("The card set cannot be null.");
+        }
+        return (other.mask & mask) != 0;
+    }
+
+    /**
+     * Returns the set with the given card added.
+     *
+     * @param card The card to add.
+     * @return The set with the card.
+     * @throws NullPointerException if the card is null.
+     */
+    public CardSet with(Card card) {
+        long added = mask | bit(card);
+        return added == mask ? this : valueOf(added);
+    }
+
+    /**
+     * Returns the set with the given card removed.
+     *
+     * @param card The card to remove.
+     * @return The set without the card.
+     * @throws NullPointerException if the card is null.
+     */
+    public CardSet without(Card card) {
+        long removed = mask & ~bit(card);
+        return removed == mask ? this : valueOf(removed);
+    }
+
+    /**
+     * Returns the cards which are in this set or in the given set.
+     *
+     * @param other The other set.
+     * @return The union of the sets.
+     * @throws NullPointerException if the other set is null.
+     */
+    public CardSet union(CardSet other) {
+        if (other == null) {
+            throw new NullPointerException("The card set cannot be null.");
+        }
+        return valueOf(mask | other.mask);
+    }
+
+    /**
+     * Returns the cards which are in this set and in the given set.
+     *
+     * @param other The other set.
+     * @return The intersection of the sets.
+     * @throws NullPointerException if the other set is null.
+     */
+    public CardSet intersection(CardSet other) {
+        if (other == null) {
+            throw new NullPointerException("The card set cannot be null.");
+        }
+        return valueOf(mask & other.mask);
+    }
+
+    /**
+     * Returns the cards which are in this set but not in the given set.
+     *
+     * @param other The other set.
+     * @return The difference of the sets.
+     * @throws NullPointerException if the other set is null.
+     */
+    public CardSet difference(CardSet other) {
+        if (other == null) {
+            throw new NullPointerException("The card set cannot be null.");
+        }
+        return valueOf(mask & ~other.mask);
+    }
+
+    /**
+     * Returns the cards which are not in the set.
+     *
+     * @return The complement of the set.
+     */
+    public CardSet complement() {
+        return valueOf(~mask & ALL);
+    }
+
+    /**
+     * Returns the cards of the set of the given suit.
+     *
+     * @param suit The suit of the cards.
+     * @return The cards of the suit.
+     * @throws NullPointerException if the suit is null.
+     */
+    public CardSet bySuit(Suit suit) {
+        if (suit == null) {
+            throw new NullPointerException("The suit cannot be null.");
+        }
+        return valueOf(mask & SUIT_MASKS[suit.ordinal()]);
+    }
+
+    /**
+     * Returns the cards of the set of the given rank.
+     *
+     * @param rank The rank of the cards.
+     * @return The cards of the rank.
+     * @throws NullPointerException if the rank is null.
+     */
+    public CardSet byRank(Rank rank) {
+        if (rank == null) {
+            throw new NullPointerException("The rank cannot be null.");
+        }
+        return valueOf(mask & RANK_MASKS[rank.ordinal()]);
+    }
+
+    /**
+     * Returns the ranks of the cards of the given suit, the bit of a rank is its ordinal.
+     *
+     * @param suit The suit of the cards.
+     * @return The mask of {@link Rank#COUNT} bits of the ranks.
+     * @throws NullPointerException if the suit is null.
+     */
+    public int getRanks(Suit suit) {
+        if (suit == null) {
+            throw new NullPointerException("The suit cannot be null.");
+        }
+        return (int) (mask >>> (suit.ordinal() * Rank.COUNT)) & ((1 << Rank.COUNT) - 1);
+    }
+
+    /**
+     * Returns the number of cards of the given suit.
+     *
+     * @param suit The suit of the cards.
+     * @return The number of cards of the suit.
+     * @throws NullPointerException if the suit is null.
+     */
+    public int count(Suit suit) {
+        return Integer.bitCount(getRanks(suit));
+    }
+
+    /**
+     * Returns the number of cards of the given rank.
+     *
+     * @param rank The rank of the cards.
+     * @return The number of cards of the rank.
+     * @throws NullPointerException if the rank is null.
+     */
+    public int count(Rank rank) {
+        if (rank == null) {
+            throw new NullPointerException("The rank cannot be null.");
+        }
+        return Long.bitCount(mask & RANK_MASKS[rank.ordinal()]);
+    }
+
+    /**
+     * Returns the cards of the set, in the order of their id.
+     *
+     * @return A new list of the cards.
+     */
+    public List<Card> toList() {
+        List<Card> cards = new ArrayList<>(size());
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            cards.add(Card.fromId(Long.numberOfTrailingZeros(bits)));
+        }
+        return cards;
+    }
+
+    /**
+     * Iterator for the cards of the set, in the order of their id.
+     *
+     * @return Iterator for the cards of the set.
+     */
+    @Override
+    public Iterator<Card> iterator() {
+        return new Iterator<Card>() {
+            private long remaining = mask;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public Card next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                Card card = Card.fromId(Long.numberOfTrailingZeros(remaining));
+                remaining &= remaining - 1;
+                return card;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof CardSet && ((CardSet) o).mask == mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(mask);
+    }
+
+    /**
+     * Returns the string representation of the set of cards.
+     *
+     * @return The string representation of the set of cards.
+     */
+    @Override
+    public String toString() {
+        return "CardSet " + toList();
+    }
+}
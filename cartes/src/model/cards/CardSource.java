@@ -0,0 +1,182 @@
+package model.cards;
+
+import model.card.Card;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <b>
+ * CardSource is the contract of the decks the cards are dealt from.
+ * </b>
+ *
+ * <p>
+ * The participants of a game only need to deal cards, so they take a card source rather than a {@link Deck}.
+ * A {@link Deck} is the card source of the graphical games, which listen to its cards; a source without
+ * the lists of cards and their listeners can store the cards of a simulation in a few bytes.
+ * </p>
+ *
+ * <p>
+ * The bulk methods deal the cards in the buffers of the caller or in a list of cards, and return the number
+ * of cards dealt, which is lower than the number asked when the source runs out of cards.
+ * The sources which notify listeners notify them once for all the cards dealt by a bulk method.
+ * </p>
+ *
+ * @version 1.0
+ */
+public interface CardSource {
+
+    /**
+     * Deal one card from the top of the source.
+     *
+     * @return The card dealt.
+     * @throws IllegalStateException if the source is empty.
+     */
+    Card deal();
+
+    /**
+     * Returns the number of cards left in the source.
+     *
+     * @return The number of cards left.
+     */
+    int size();
+
+    /**
+     * Returns the card left at the given index, the top card has the index 0.
+     *
+     * @param index The index of the card.
+     * @return The card at the index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    Card getCard(int index);
+
+    /**
+     * Returns true if there is no card left in the source.
+     *
+     * @return True if the source is empty.
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Deal a number of cards from the source.
+     *
+     * @param number The number of cards to deal.
+     * @return The cards dealt.
+     * @throws IllegalStateException if the source is empty.
+     */
+    default List<Card> deal(int number) {
+        if (this.isEmpty()) {
+            throw new IllegalStateException("The source is empty.");
+        }
+        List<Card> cards = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            cards.add(this.deal());
+        }
+        return cards;
+    }
+
+    /**
+     * Deals cards in the given buffer, until the buffer is full or the source is empty.
+     *
+     * @param buffer The buffer to write the cards dealt in.
+     * @param offset The index of the first card dealt in the buffer.
+     * @param length The number of cards to deal.
+     * @return The number of cards dealt.
+     * @throws NullPointerException      if the buffer is null.
+     * @throws IndexOutOfBoundsException if the cards do not fit in the buffer.
+     */
+    default int deal(Card[] buffer, int offset, int length) {
+        if (buffer == null) {
+            throw new NullPointerException("The buffer cannot be null.");
+        }
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Size: " + buffer.length);
+        }
+        int count = Math.min(length, size());
+        for (int i = 0; i < count; i++) {
+            buffer[offset + i] = deal();
+        }
+        return count;
+    }
+
+    /**
+     * Deals cards in the given buffer of ids, until the buffer is full or the source is empty.
+     *
+     * @param buffer The buffer to write the ids of the cards dealt in.
+     * @param offset The index of the first card dealt in the buffer.
+     * @param length The number of cards to deal.
+     * @return The number of cards dealt.
+     * @throws NullPointerException      if the buffer is null.
+     * @throws IndexOutOfBoundsException if the cards do not fit in the buffer.
+     */
+    default int deal(int[] buffer, int offset, int length) {
+        if (buffer == null) {
+            throw new NullPointerException("The buffer cannot be null.");
+        }
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Size: " + buffer.length);
+        }
+        int count = Math.min(length, size());
+        for (int i = 0; i < count; i++) {
+            buffer[offset + i] = deal().getId();
+        }
+        return count;
+    }
+
+    /**
+     * Deals cards in the given list of cards, such as a hand, which notifies its listeners once.
+     *
+     * @param cards  The list of cards to add the cards dealt to.
+     * @param number The number of cards to deal.
+     * @return The number of cards dealt.
+     * @throws NullPointerException     if the list of cards is null.
+     * @throws IllegalArgumentException if the number of cards is negative.
+     */
+    default int deal(ListOfCards cards, int number) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        if (number < 0) {
+            throw new IllegalArgumentException("The number of cards cannot be negative.");
+        }
+        int count = Math.min(number, size());
+        cards.batch(() -> {
+            for (int i = 0; i < count; i++) {
+                cards.addCard(deal());
+            }
+        });
+        return count;
+    }
+
+    /**
+     * Returns a spliterator over the ids of the cards left, from the top of the source.
+     * The ids are copied when the spliterator is created, so the spliterator is
+     * {@link Spliterator#SIZED}, {@link Spliterator#ORDERED} and {@link Spliterator#IMMUTABLE},
+     * and it splits in halves for the parallel streams.
+     *
+     * @return The spliterator over the ids of the cards left.
+     */
+    default Spliterator.OfInt idSpliterator() {
+        int[] ids = new int[size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = getCard(i).getId();
+        }
+        return Arrays.spliterator(ids);
+    }
+
+    /**
+     * Returns a stream of the ids of the cards left, from the top of the source.
+     *
+     * @return The sequential stream of the ids of the cards left.
+     * @see #idSpliterator()
+     */
+    default IntStream ids() {
+        return StreamSupport.intStream(idSpliterator(), false);
+    }
+}
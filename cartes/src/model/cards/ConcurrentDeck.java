@@ -0,0 +1,249 @@
+package model.cards;
+
+import model.card.Card;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <b>
+ * ConcurrentDeck is a deck which several threads deal from at the same time, without locking.
+ * </b>
+ *
+ * <p>
+ * The cards are fixed when the deck is created, and a thread deals a card by claiming the next position
+ * with an atomic cursor. So each card is dealt exactly once, whatever the number of threads, and the
+ * only shared write is the increment of the cursor. A bulk deal claims a whole range of positions at once,
+ * and deals the cards left if another thread has dealt the others first.
+ * </p>
+ *
+ * <p>
+ * {@link #tryDeal()} returns null once the deck is exhausted, which is the signal for the threads
+ * to stop dealing; {@link #deal()} throws an {@link IllegalStateException} as the other card sources.
+ * The deck does not notify listeners: the graphical games deal from a {@link Deck}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ConcurrentDeck implements CardSource {
+
+    /**
+     * The cards of the deck, never modified.
+     */
+    private final Card[] cards;
+
+    /**
+     * The index of the next card to deal, greater than the number of cards once the deck is exhausted.
+     */
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    /**
+     * Creates a new deck with the given cards.
+     *
+     * @param cards The cards of the deck, from the top to the bottom. The list is copied.
+     * @throws NullPointerException if the cards or one of the cards is null.
+     */
+    public ConcurrentDeck(List<Card> cards) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        this.cards = cards.toArray(new Card[0]);
+        for (Card card : this.cards) {
+            if (card == null) {
+                throw new NullPointerException("The card cannot be null.");
+            }
+        }
+    }
+
+    /**
+     * Deals the next card, or returns null if the deck is exhausted.
+     *
+     * @return The card dealt, or null if there is no card left.
+     */
+    public Card tryDeal() {
+        if (cursor.get() >= cards.length) {
+            // The cursor is not incremented once the deck is exhausted.
+            return null;
+        }
+        int index = cursor.getAndIncrement();
+        return index < cards.length ? cards[index] : null;
+    }
+
+    /**
+     * Deal one card from the top of the deck.
+     *
+     * @return The card dealt.
+     * @throws IllegalStateException if the deck is empty.
+     */
+    @Override
+    public Card deal() {
+        Card card = tryDeal();
+        if (card == null) {
+            throw new IllegalStateException("The deck is empty.");
+        }
+        return card;
+    }
+
+    /**
+     * Claims the positions of the given number of cards, or of the cards left if there are fewer.
+     *
+     * @param number The number of cards to claim.
+     * @return The index of the first card claimed, the cards claimed are then dealt by the caller only.
+     */
+    private int claim(int number) {
+        while (true) {
+            int from = cursor.get();
+            int to = from + Math.min(number, Math.max(0, cards.length - from));
+            if (from == to || cursor.compareAndSet(from, to)) {
+                return from;
+            }
+        }
+    }
+
+    /**
+     * Deals a number of cards, the positions of the cards are claimed at once.
+     *
+     * @param number The number of cards to deal.
+     * @return The cards dealt, fewer than the number if the deck is exhausted meanwhile.
+     * @throws IllegalStateException if the deck is empty.
+     */
+    @Override
+    public List<Card> deal(int number) {
+        int from = claim(number);
+        int count = Math.min(number, Math.max(0, cards.length - from));
+        if (count == 0) {
+            throw new IllegalStateException("The deck is empty.");
+        }
+        return new ArrayList<>(Arrays.asList(cards).subList(from, from + count));
+    }
+
+    /**
+     * Deals cards in the given buffer, the positions of the cards are claimed at once.
+     *
+     * @param buffer The buffer to write the cards dealt in.
+     * @param offset The index of the first card dealt in the buffer.
+     * @param length The number of cards to deal.
+     * @return The number of cards dealt.
+     * @throws NullPointerException      if the buffer is null.
+     * @throws IndexOutOfBoundsException if the cards do not fit in the buffer.
+     */
+    @Override
+    public int deal(Card[] buffer, int offset, int length) {
+        if (buffer == null) {
+            throw new NullPointerException("The buffer cannot be null.");
+        }
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Size: " + buffer.length);
+        }
+        int from = claim(length);
+        int count = Math.min(length, Math.max(0, cards.length - from));
+        System.arraycopy(cards, from, buffer, offset, count);
+        return count;
+    }
+
+    /**
+     * Deals the ids of the cards in the given buffer, the positions of the cards are claimed at once.
+     *
+     * @param buffer The buffer to write the ids of the cards dealt in.
+     * @param offset The index of the first card dealt in the buffer.
+     * @param length The number of cards to deal.
+     * @return The number of cards dealt.
+     * @throws NullPointerException      if the buffer is null.
+     * @throws IndexOutOfBoundsException if the cards do not fit in the buffer.
+     */
+    @Override
+    public int deal(int[] buffer, int offset, int length) {
+        if (buffer == null) {
+            throw new NullPointerException("The buffer cannot be null.");
+        }
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Size: " + buffer.length);
+        }
+        int from = claim(length);
+        int count = Math.min(length, Math.max(0, cards.length - from));
+        for (int i = 0; i < count; i++) {
+            buffer[offset + i] = cards[from + i].getId();
+        }
+        return count;
+    }
+
+    /**
+     * Deals cards in the given list of cards, the positions of the cards are claimed at once.
+     *
+     * @param cards  The list of cards to add the cards dealt to.
+     * @param number The number of cards to deal.
+     * @return The number of cards dealt.
+     * @throws NullPointerException     if the list of cards is null.
+     * @throws IllegalArgumentException if the number of cards is negative.
+     */
+    @Override
+    public int deal(ListOfCards cards, int number) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        if (number < 0) {
+            throw new IllegalArgumentException("The number of cards cannot be negative.");
+        }
+        int from = claim(number);
+        int count = Math.min(number, Math.max(0, this.cards.length - from));
+        if (count > 0) {
+            cards.addCards(Arrays.asList(this.cards).subList(from, from + count));
+        }
+        return count;
+    }
+
+    /**
+     * Returns a spliterator over the ids of the cards left when it is created, from the top of the deck.
+     * The cards are not dealt, other threads may deal them meanwhile.
+     *
+     * @return The spliterator over the ids of the cards left.
+     */
+    @Override
+    public Spliterator.OfInt idSpliterator() {
+        int top = Math.min(cursor.get(), cards.length);
+        int[] ids = new int[cards.length - top];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = cards[top + i].getId();
+        }
+        return Arrays.spliterator(ids);
+    }
+
+    /**
+     * Returns the number of cards left in the deck, which other threads may be dealing.
+     *
+     * @return The number of cards left.
+     */
+    @Override
+    public int size() {
+        return Math.max(0, cards.length - cursor.get());
+    }
+
+    /**
+     * Returns the card left at the given index, the top card has the index 0.
+     *
+     * @param index The index of the card.
+     * @return The card at the index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    @Override
+    public Card getCard(int index) {
+        int top = Math.min(cursor.get(), cards.length);
+        if (index < 0 || index >= cards.length - top) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (cards.length - top));
+        }
+        return cards[top + index];
+    }
+
+    /**
+     * Returns the string representation of the deck.
+     *
+     * @return The string representation of the deck.
+     */
+    @Override
+    public String toString() {
+        return "ConcurrentDeck [size=" + size() + "]";
+    }
+}
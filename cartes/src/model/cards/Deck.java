@@ -18,7 +18,7 @@ import java.util.List;
  * The deck of cards can be used to sort the cards.
  * </p>
  */
-public class Deck extends ListOfCards {
+public class Deck extends ListOfCards implements CardSource {
 
     /**
      * Creates a new deck of cards.
@@ -32,17 +32,16 @@ public class Deck extends ListOfCards {
 
 
     /**
-     * Deal one card from the deck.
+     * Deal one card from the top of the deck, in constant time.
      * @return The card dealt.
      * @throws IllegalStateException if the deck is empty.
      */
+    @Override
     public Card deal() {
         if (this.isEmpty()) {
             throw new IllegalStateException("The deck is empty.");
         }
-        Card card = this.getCard(0);
-        this.removeCard(card);
-        return card;
+        return super.removeFirst();
     }
 
     /**
@@ -52,14 +51,17 @@ public class Deck extends ListOfCards {
      * @return The cards dealt.
      * @throws IllegalStateException if the deck is empty.
      */
+    @Override
     public List<Card> deal(int number) {
         if (this.isEmpty()) {
             throw new IllegalStateException("The deck is empty.");
         }
-        List<Card> cards = new ArrayList<>();
-        for (int i = 0; i < number; i++) {
-            cards.add(this.deal());
-        }
+        List<Card> cards = new ArrayList<>(number);
+        super.batch(() -> {
+            for (int i = 0; i < number; i++) {
+                cards.add(this.deal());
+            }
+        });
         return cards;
     }
 
@@ -74,5 +76,63 @@ public class Deck extends ListOfCards {
         return cards;
     }
 
-}
+    /**
+     * Deals cards in the given buffer, the listeners are notified once for all the cards.
+     *
+     * @param buffer The buffer to write the cards dealt in.
+     * @param offset The index of the first card dealt in the buffer.
+     * @param length The number of cards to deal.
+     * @return The number of cards dealt.
+     * @throws NullPointerException      if the buffer is null.
+     * @throws IndexOutOfBoundsException if the cards do not fit in the buffer.
+     */
+    @Override
+    public int deal(Card[] buffer, int offset, int length) {
+        Batch batch = super.beginBatch();
+        try {
+            return CardSource.super.deal(buffer, offset, length);
+        } finally {
+            batch.close();
+        }
+    }
 
+    /**
+     * Deals cards in the given buffer of ids, the listeners are notified once for all the cards.
+     *
+     * @param buffer The buffer to write the ids of the cards dealt in.
+     * @param offset The index of the first card dealt in the buffer.
+     * @param length The number of cards to deal.
+     * @return The number of cards dealt.
+     * @throws NullPointerException      if the buffer is null.
+     * @throws IndexOutOfBoundsException if the cards do not fit in the buffer.
+     */
+    @Override
+    public int deal(int[] buffer, int offset, int length) {
+        Batch batch = super.beginBatch();
+        try {
+            return CardSource.super.deal(buffer, offset, length);
+        } finally {
+            batch.close();
+        }
+    }
+
+    /**
+     * Deals cards in the given list of cards, the listeners of the deck and of the list are notified once.
+     *
+     * @param cards  The list of cards to add the cards dealt to.
+     * @param number The number of cards to deal.
+     * @return The number of cards dealt.
+     * @throws NullPointerException     if the list of cards is null.
+     * @throws IllegalArgumentException if the number of cards is negative.
+     */
+    @Override
+    public int deal(ListOfCards cards, int number) {
+        Batch batch = super.beginBatch();
+        try {
+            return CardSource.super.deal(cards, number);
+        } finally {
+            batch.close();
+        }
+    }
+
+}
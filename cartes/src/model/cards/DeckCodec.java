@@ -0,0 +1,588 @@
+package model.cards;
+
+import model.card.Card;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <b>
+ * DeckCodec encodes the order of the cards of a deck in a fixed number of bytes, and decodes it back.
+ * </b>
+ *
+ * <p>
+ * A codec is created for a composition, the number of copies of each card, and encodes the decks
+ * of this composition: a deck of distinct cards or a shoe of several decks.
+ * The order of the cards is ranked as a mixed radix number: in the order of their id, each card of the
+ * composition chooses the positions of its copies among the positions not yet chosen, which gives one digit
+ * per card in the combinatorial number system. For a deck of distinct cards, the digits are the Lehmer code
+ * of the inverse permutation, and the number is the index of the permutation.
+ * </p>
+ *
+ * <p>
+ * The digits are packed in 64 bits words, as many digits per word as the product of their radices fits,
+ * then the words are written in {@link #getByteLength()} bytes. The code is only a few bits longer than
+ * the permutation index, 26 bytes for a deck of the {@link Card#COUNT} cards, and is computed with
+ * arithmetic on longs. {@link #rank(ListOfCards)} returns the exact permutation index for the audit.
+ * </p>
+ *
+ * <p>
+ * A codec is immutable and can be shared by several threads.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class DeckCodec {
+
+    /**
+     * The number of bits of a byte.
+     */
+    private static final int BYTE_SIZE = 8;
+
+    /**
+     * The number of copies of the cards, indexed by their id.
+     */
+    private final int[] counts = new int[Card.COUNT];
+
+    /**
+     * The ids of the cards of the composition, in increasing order. A card has one digit in the code.
+     */
+    private final int[] ids;
+
+    /**
+     * The radices of the digits, the number of ways to place the copies of a card among the free positions.
+     */
+    private final long[] radices;
+
+    /**
+     * The index of the first digit of each word, the last element is the number of digits.
+     */
+    private final int[] wordStarts;
+
+    /**
+     * The number of bits of each word.
+     */
+    private final int[] wordBits;
+
+    /**
+     * The number of cards of the composition.
+     */
+    private final int size;
+
+    /**
+     * The number of bytes of a code.
+     */
+    private final int byteLength;
+
+    /**
+     * The binomial coefficients C(n, k) for k up to the largest number of copies and n up to the number of cards,
+     * indexed by k then by n, saturated to {@link Long#MAX_VALUE}.
+     */
+    private final long[][] binomials;
+
+    /**
+     * Creates a new codec for the decks of the given composition.
+     *
+     * @param composition The number of copies of each card of the decks.
+     * @throws NullPointerException     if the composition is null.
+     * @throws IllegalArgumentException if the copies of a card can be placed in more than {@link Long#MAX_VALUE} ways.
+     */
+    public DeckCodec(CardMultiset composition) {
+        if (composition == null) {
+            throw new NullPointerException("The composition cannot be null.");
+        }
+        this.size = composition.size();
+        int maxCount = 0;
+        List<Card> cards = composition.toCardSet().toList();
+        this.ids = new int[cards.size()];
+        for (int i = 0; i < ids.length; i++) {
+            Card card = cards.get(i);
+            ids[i] = card.getId();
+            counts[ids[i]] = composition.count(card);
+            maxCount = Math.max(maxCount, counts[ids[i]]);
+        }
+        this.binomials = binomials(size, maxCount);
+
+        this.radices = new long[ids.length];
+        int free = size;
+        for (int i = 0; i < ids.length; i++) {
+            int count = counts[ids[i]];
+            radices[i] = binomials[count][free];
+            if (radices[i] == Long.MAX_VALUE) {
+                throw new IllegalArgumentException("The copies of a card can be placed in too many ways.");
+            }
+            free -= count;
+        }
+
+        List<Integer> starts = new ArrayList<>();
+        List<Integer> bits = new ArrayList<>();
+        long product = 1;
+        int total = 0;
+        starts.add(0);
+        for (int i = 0; i < radices.length; i++) {
+            if (radices[i] > Long.MAX_VALUE / product) {
+                bits.add(bitLength(product));
+                total += bitLength(product);
+                starts.add(i);
+                product = 1;
+            }
+            product *= radices[i];
+        }
+        bits.add(bitLength(product));
+        total += bitLength(product);
+        starts.add(radices.length);
+        this.wordStarts = starts.stream().mapToInt(Integer::intValue).toArray();
+        this.wordBits = bits.stream().mapToInt(Integer::intValue).toArray();
+        this.byteLength = (total + BYTE_SIZE - 1) / BYTE_SIZE;
+    }
+
+    /**
+     * Returns a codec for the decks with the same cards as the given list.
+     *
+     * @param cards The cards of the decks.
+     * @return The codec of the composition of the cards.
+     * @throws NullPointerException if the cards is null.
+     */
+    public static DeckCodec of(ListOfCards cards) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        return new DeckCodec(cards.toCardMultiset());
+    }
+
+    /**
+     * Returns the binomial coefficients up to the given bounds, saturated to {@link Long#MAX_VALUE}.
+     *
+     * @param n The largest number of elements.
+     * @param k The largest number of elements chosen.
+     * @return The binomial coefficients C(n, k), indexed by k then by n.
+     */
+    private static long[][] binomials(int n, int k) {
+        long[][] binomials = new long[k + 1][n + 1];
+        Arrays.fill(binomials[0], 1);
+        for (int j = 1; j <= k; j++) {
+            for (int i = j; i <= n; i++) {
+                long sum = binomials[j - 1][i - 1] + binomials[j][i - 1];
+                binomials[j][i] = sum < 0 ? Long.MAX_VALUE : sum;
+            }
+        }
+        return binomials;
+    }
+
+    /**
+     * Returns the number of bits of the values lower than the given product.
+     *
+     * @param product The product of the radices of a word.
+     * @return The number of bits of a word.
+     */
+    private static int bitLength(long product) {
+        return Long.SIZE - Long.numberOfLeadingZeros(product - 1);
+    }
+
+    /**
+     * Returns the number of cards of the decks.
+     *
+     * @return The number of cards of the decks.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes of a code.
+     *
+     * @return The number of bytes of a code.
+     */
+    public int getByteLength() {
+        return byteLength;
+    }
+
+    /**
+     * Returns the number of orders of the cards of the decks, the distinct permutations of the composition.
+     *
+     * @return The number of orders of the cards.
+     */
+    public BigInteger getPermutationCount() {
+        BigInteger count = BigInteger.ONE;
+        for (long radix : radices) {
+            count = count.multiply(BigInteger.valueOf(radix));
+        }
+        return count;
+    }
+
+    /**
+     * Encodes the order of the given cards.
+     *
+     * @param cards The cards to encode, from the top to the bottom of the deck.
+     * @return The code of the order of the cards, of {@link #getByteLength()} bytes.
+     * @throws NullPointerException     if the cards is null.
+     * @throws IllegalArgumentException if the cards are not the cards of the composition.
+     */
+    public byte[] encode(ListOfCards cards) {
+        byte[] code = new byte[byteLength];
+        encode(cards, code, 0);
+        return code;
+    }
+
+    /**
+     * Encodes the order of the given cards in the given array, so that the codes of many decks are written
+     * in a single array of records of {@link #getByteLength()} bytes.
+     *
+     * @param cards  The cards to encode, from the top to the bottom of the deck.
+     * @param code   The array to write the code in.
+     * @param offset The index of the first byte of the code.
+     * @throws NullPointerException      if the cards or the code is null.
+     * @throws IllegalArgumentException  if the cards are not the cards of the composition.
+     * @throws IndexOutOfBoundsException if the code does not fit in the array.
+     */
+    public void encode(ListOfCards cards, byte[] code, int offset) {
+        checkBounds(code, offset);
+        long[] digits = digits(cards);
+        Arrays.fill(code, offset, offset + byteLength, (byte) 0);
+        int bit = offset * BYTE_SIZE;
+        for (int w = 0; w < wordBits.length; w++) {
+            long word = 0;
+            for (int i = wordStarts[w]; i < wordStarts[w + 1]; i++) {
+                word = word * radices[i] + digits[i];
+            }
+            writeBits(code, bit, word, wordBits[w]);
+            bit += wordBits[w];
+        }
+    }
+
+    /**
+     * Decodes the order of the cards of the given code.
+     *
+     * @param code The code of the order of the cards.
+     * @return A new deck with the cards in the order of the code.
+     * @throws NullPointerException      if the code is null.
+     * @throws IllegalArgumentException  if the code is not the code of an order of the cards.
+     * @throws IndexOutOfBoundsException if the code is shorter than {@link #getByteLength()} bytes.
+     */
+    public Deck decode(byte[] code) {
+        return decode(code, 0);
+    }
+
+    /**
+     * Decodes the order of the cards of the code at the given offset.
+     *
+     * @param code   The array of the code.
+     * @param offset The index of the first byte of the code.
+     * @return A new deck with the cards in the order of the code.
+     * @throws NullPointerException      if the code is null.
+     * @throws IllegalArgumentException  if the code is not the code of an order of the cards.
+     * @throws IndexOutOfBoundsException if the code does not fit in the array.
+     */
+    public Deck decode(byte[] code, int offset) {
+        return new Deck(decodeCards(code, offset));
+    }
+
+    /**
+     * Replaces the cards of the given list by the cards of the code, the listeners are notified once.
+     * A shoe is restored in place without creating a new deck.
+     *
+     * @param cards  The list of cards to restore.
+     * @param code   The array of the code.
+     * @param offset The index of the first byte of the code.
+     * @throws NullPointerException      if the cards or the code is null.
+     * @throws IllegalArgumentException  if the code is not the code of an order of the cards.
+     * @throws IndexOutOfBoundsException if the code does not fit in the array.
+     */
+    public void restore(ListOfCards cards, byte[] code, int offset) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        List<Card> decoded = decodeCards(code, offset);
+        cards.batch(() -> {
+            cards.clear();
+            cards.addCards(decoded);
+        });
+    }
+
+    /**
+     * Decodes the order of the cards of the code at the given offset.
+     *
+     * @param code   The array of the code.
+     * @param offset The index of the first byte of the code.
+     * @return A new list of the cards in the order of the code.
+     * @throws NullPointerException      if the code is null.
+     * @throws IllegalArgumentException  if the code is not the code of an order of the cards.
+     * @throws IndexOutOfBoundsException if the code does not fit in the array.
+     */
+    public List<Card> decodeCards(byte[] code, int offset) {
+        checkBounds(code, offset);
+        long[] digits = new long[radices.length];
+        int bit = offset * BYTE_SIZE;
+        for (int w = 0; w < wordBits.length; w++) {
+            long word = readBits(code, bit, wordBits[w]);
+            bit += wordBits[w];
+            for (int i = wordStarts[w + 1] - 1; i >= wordStarts[w]; i--) {
+                digits[i] = word % radices[i];
+                word /= radices[i];
+            }
+            if (word != 0) {
+                throw new IllegalArgumentException("The code is not the code of an order of the cards.");
+            }
+        }
+        return cards(digits);
+    }
+
+    /**
+     * Returns the index of the order of the given cards among all the orders of the composition.
+     *
+     * @param cards The cards, from the top to the bottom of the deck.
+     * @return The index of the order, between 0 and {@link #getPermutationCount()} excluded.
+     * @throws NullPointerException     if the cards is null.
+     * @throws IllegalArgumentException if the cards are not the cards of the composition.
+     */
+    public BigInteger rank(ListOfCards cards) {
+        long[] digits = digits(cards);
+        BigInteger index = BigInteger.ZERO;
+        for (int i = 0; i < digits.length; i++) {
+            index = index.multiply(BigInteger.valueOf(radices[i])).add(BigInteger.valueOf(digits[i]));
+        }
+        return index;
+    }
+
+    /**
+     * Returns the deck of the given index among all the orders of the composition.
+     *
+     * @param index The index of the order.
+     * @return A new deck with the cards in the order of the index.
+     * @throws NullPointerException     if the index is null.
+     * @throws IllegalArgumentException if the index is not between 0 and {@link #getPermutationCount()} excluded.
+     */
+    public Deck unrank(BigInteger index) {
+        if (index == null) {
+            throw new NullPointerException("The index cannot be null.");
+        }
+        if (index.signum() < 0 || index.compareTo(getPermutationCount()) >= 0) {
+            throw new IllegalArgumentException("The index must be between 0 and the number of orders excluded.");
+        }
+        long[] digits = new long[radices.length];
+        BigInteger rest = index;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            BigInteger[] division = rest.divideAndRemainder(BigInteger.valueOf(radices[i]));
+            digits[i] = division[1].longValue();
+            rest = division[0];
+        }
+        return new Deck(cards(digits));
+    }
+
+    /**
+     * Computes the digits of the order of the given cards.
+     *
+     * @param cards The cards, from the top to the bottom of the deck.
+     * @return The digits, one per card of the composition.
+     * @throws NullPointerException     if the cards is null.
+     * @throws IllegalArgumentException if the cards are not the cards of the composition.
+     */
+    private long[] digits(ListOfCards cards) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        if (cards.size() != size) {
+            throw new IllegalArgumentException("The cards are not the cards of the composition.");
+        }
+        // The positions of the copies of each card, grouped by card in the order of the ids.
+        int[] starts = new int[Card.COUNT + 1];
+        for (int id = 0; id < Card.COUNT; id++) {
+            starts[id + 1] = starts[id] + counts[id];
+        }
+        int[] next = Arrays.copyOf(starts, Card.COUNT);
+        int[] positions = new int[size];
+        for (int position = 0; position < size; position++) {
+            int id = cards.getCard(position).getId();
+            if (next[id] == starts[id + 1]) {
+                throw new IllegalArgumentException("The cards are not the cards of the composition.");
+            }
+            positions[next[id]++] = position;
+        }
+
+        long[] free = freePositions();
+        long[] digits = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            int from = starts[ids[i]];
+            int count = counts[ids[i]];
+            long digit = 0;
+            for (int j = 0; j < count; j++) {
+                digit += binomials[j + 1][rankOf(free, positions[from + j])];
+            }
+            for (int j = 0; j < count; j++) {
+                free[positions[from + j] >>> 6] &= ~(1L << positions[from + j]);
+            }
+            digits[i] = digit;
+        }
+        return digits;
+    }
+
+    /**
+     * Places the cards of the given digits.
+     *
+     * @param digits The digits, one per card of the composition.
+     * @return A new list of the cards, from the top to the bottom of the deck.
+     */
+    private List<Card> cards(long[] digits) {
+        Card[] cards = new Card[size];
+        long[] free = freePositions();
+        int[] ranks = new int[binomials.length];
+        int remaining = size;
+        for (int i = 0; i < ids.length; i++) {
+            int count = counts[ids[i]];
+            long digit = digits[i];
+            int high = remaining - 1;
+            for (int j = count; j > 0; j--) {
+                int rank = j == 1 ? (int) digit : highestRank(digit, j, high);
+                digit -= binomials[j][rank];
+                ranks[j - 1] = rank;
+                high = rank - 1;
+            }
+            Card card = Card.fromId(ids[i]);
+            for (int j = count - 1; j >= 0; j--) {
+                // The highest ranks first, so that the lower ranks do not move.
+                int position = select(free, ranks[j]);
+                free[position >>> 6] &= ~(1L << position);
+                cards[position] = card;
+            }
+            remaining -= count;
+        }
+        return new ArrayList<>(Arrays.asList(cards));
+    }
+
+    /**
+     * Returns the largest rank r, not greater than the given bound, such that C(r, k) is not greater than the digit.
+     *
+     * @param digit The digit to decode.
+     * @param k     The number of copies left to place.
+     * @param high  The largest rank.
+     * @return The rank of the free position of the copy.
+     */
+    private int highestRank(long digit, int k, int high) {
+        int low = k - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (binomials[k][middle] <= digit) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the mask of all the positions of the deck.
+     *
+     * @return The mask with the bits of the positions of the cards.
+     */
+    private long[] freePositions() {
+        long[] free = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        Arrays.fill(free, -1L);
+        if (size % Long.SIZE != 0) {
+            free[free.length - 1] = (1L << size) - 1;
+        }
+        return free;
+    }
+
+    /**
+     * Returns the number of free positions before the given position.
+     *
+     * @param free     The mask of the free positions.
+     * @param position The position.
+     * @return The rank of the position among the free positions.
+     */
+    private static int rankOf(long[] free, int position) {
+        int word = position >>> 6;
+        int rank = Long.bitCount(free[word] & ((1L << position) - 1));
+        for (int w = 0; w < word; w++) {
+            rank += Long.bitCount(free[w]);
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the free position of the given rank.
+     *
+     * @param free The mask of the free positions.
+     * @param rank The rank of the position among the free positions.
+     * @return The position.
+     */
+    private static int select(long[] free, int rank) {
+        int w = 0;
+        int count = Long.bitCount(free[w]);
+        while (rank >= count) {
+            rank -= count;
+            count = Long.bitCount(free[++w]);
+        }
+        long bits = free[w];
+        int shift = 0;
+        for (int ones = Long.bitCount(bits & 0xFF); rank >= ones; ones = Long.bitCount((bits >>> shift) & 0xFF)) {
+            rank -= ones;
+            shift += BYTE_SIZE;
+        }
+        bits >>>= shift;
+        for (; rank > 0; rank--) {
+            bits &= bits - 1;
+        }
+        return w * Long.SIZE + shift + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Checks that a code fits in the given array at the given offset.
+     *
+     * @param code   The array of the code.
+     * @param offset The index of the first byte of the code.
+     * @throws NullPointerException      if the code is null.
+     * @throws IndexOutOfBoundsException if the code does not fit in the array.
+     */
+    private void checkBounds(byte[] code, int offset) {
+        if (code == null) {
+            throw new NullPointerException("The code cannot be null.");
+        }
+        if (offset < 0 || offset > code.length - byteLength) {
+            throw new IndexOutOfBoundsException("The code of " + byteLength + " bytes does not fit at the offset " + offset + ".");
+        }
+    }
+
+    /**
+     * Writes the low bits of the value in the array, the first bit in the lowest bit of the first byte.
+     *
+     * @param code  The array to write in, the bits written must be zero.
+     * @param bit   The index of the first bit.
+     * @param value The value to write.
+     * @param bits  The number of bits to write.
+     */
+    private static void writeBits(byte[] code, int bit, long value, int bits) {
+        while (bits > 0) {
+            int shift = bit % BYTE_SIZE;
+            int written = Math.min(bits, BYTE_SIZE - shift);
+            code[bit / BYTE_SIZE] |= (byte) ((value & ((1 << written) - 1)) << shift);
+            value >>>= written;
+            bit += written;
+            bits -= written;
+        }
+    }
+
+    /**
+     * Reads a value written by {@link #writeBits(byte[], int, long, int)}.
+     *
+     * @param code The array to read.
+     * @param bit  The index of the first bit.
+     * @param bits The number of bits to read.
+     * @return The value read.
+     */
+    private static long readBits(byte[] code, int bit, int bits) {
+        long value = 0;
+        int read = 0;
+        while (read < bits) {
+            int shift = bit % BYTE_SIZE;
+            int length = Math.min(bits - read, BYTE_SIZE - shift);
+            value |= (long) (((code[bit / BYTE_SIZE] & 0xFF) >>> shift) & ((1 << length) - 1)) << read;
+            bit += length;
+            read += length;
+        }
+        return value;
+    }
+}
@@ -45,15 +45,7 @@ public final class FactoryDeck {
      * @return A deck of 52 cards.
      */
     public static Deck createDeck52() {
-        List<Card> cards = new ArrayList<>();
-
-        for (Suit suit : Suit.values()) {
-            for (Rank rank : Rank.values()) {
-                cards.add(new Card(rank, suit));
-            }
-        }
-
-        return new Deck(cards);
+        return new Deck(new ArrayList<>(Card.values()));
     }
 
     /**
@@ -73,7 +65,7 @@ public final class FactoryDeck {
         for (Suit suit : Suit.values()) {
             // Add 7, 8, 9, 10, Jack, Queen, King, Ace
             for (int i = 7; i <= 13; i++) {
-                cards.add(new Card(Rank.getRank(i), suit));
+                cards.add(Card.of(Rank.getRank(i), suit));
             }
         }
         return new Deck(cards);
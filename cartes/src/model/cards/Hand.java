@@ -3,7 +3,13 @@ package model.cards;
 import model.card.Card;
 import model.card.CardComparator;
 import model.card.CardEvaluator;
+import model.card.CompiledCardEvaluator;
+import model.card.Rank;
+import model.card.Suit;
+import model.poker.HandCategory;
+import model.poker.PokerEvaluator;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -21,6 +27,31 @@ import java.util.List;
  */
 public class Hand extends ListOfCards {
 
+    /**
+     * The number of cards of each rank, indexed by the ordinal of the rank.
+     */
+    private final int[] rankCounts = new int[Rank.COUNT];
+
+    /**
+     * The number of cards of each suit, indexed by the ordinal of the suit.
+     */
+    private final int[] suitCounts = new int[Suit.COUNT];
+
+    /**
+     * The card evaluators whose score is kept up to date.
+     */
+    private CardEvaluator[] evaluators = new CardEvaluator[0];
+
+    /**
+     * The compiled card evaluators, in the same order as the card evaluators.
+     */
+    private CompiledCardEvaluator[] compiledEvaluators = new CompiledCardEvaluator[0];
+
+    /**
+     * The scores of the hand for the cached card evaluators.
+     */
+    private int[] scores = new int[0];
+
     /**
      * Creates a new hand.
      */
@@ -36,10 +67,41 @@ public class Hand extends ListOfCards {
      */
     public Hand(List<Card> cards) {
         super(cards);
+        for (Card card : cards) {
+            cardAdded(card);
+        }
+    }
+
+    /**
+     * Keeps the score of the hand for the given card evaluator up to date when the cards change,
+     * so that {@link #evaluate(CardEvaluator)} with this evaluator takes constant time.
+     * The card evaluator is compiled in a {@link CompiledCardEvaluator} to update the score.
+     * The card evaluator must always give the same score to a card.
+     *
+     * @param cardEvaluator The card evaluator to cache.
+     * @throws NullPointerException if the card evaluator is null.
+     */
+    public void cacheEvaluator(CardEvaluator cardEvaluator) {
+        if (cardEvaluator == null) {
+            throw new NullPointerException("The card evaluator cannot be null.");
+        }
+        if (indexOfEvaluator(cardEvaluator) >= 0) {
+            return;
+        }
+        CompiledCardEvaluator compiled = CompiledCardEvaluator.of(cardEvaluator);
+        int score = sum(compiled);
+        int count = evaluators.length;
+        evaluators = Arrays.copyOf(evaluators, count + 1);
+        compiledEvaluators = Arrays.copyOf(compiledEvaluators, count + 1);
+        scores = Arrays.copyOf(scores, count + 1);
+        evaluators[count] = cardEvaluator;
+        compiledEvaluators[count] = compiled;
+        scores[count] = score;
     }
 
     /**
      * Returns the score of the hand.
+     * The score is computed in constant time for a card evaluator given to {@link #cacheEvaluator(CardEvaluator)}.
      *
      * @param cardEvaluator The card evaluator to use.
      * @return the score of the hand.
@@ -49,7 +111,106 @@ public class Hand extends ListOfCards {
         if (cardEvaluator == null) {
             throw new NullPointerException("The card evaluator cannot be null.");
         }
-        return getCards().stream().mapToInt(cardEvaluator::evaluate).sum();
+        int index = indexOfEvaluator(cardEvaluator);
+        return index >= 0 ? scores[index] : sum(cardEvaluator);
+    }
+
+    /**
+     * Returns the number of cards of the given rank.
+     *
+     * @param rank The rank of the cards.
+     * @return the number of cards of the rank.
+     * @throws NullPointerException if the rank is null.
+     */
+    public int getRankCount(Rank rank) {
+        if (rank == null) {
+            throw new NullPointerException("The rank cannot be null.");
+        }
+        return rankCounts[rank.ordinal()];
+    }
+
+    /**
+     * Returns the number of cards of the given suit.
+     *
+     * @param suit The suit of the cards.
+     * @return the number of cards of the suit.
+     * @throws NullPointerException if the suit is null.
+     */
+    public int getSuitCount(Suit suit) {
+        if (suit == null) {
+            throw new NullPointerException("The suit cannot be null.");
+        }
+        return suitCounts[suit.ordinal()];
+    }
+
+    @Override
+    protected void cardAdded(Card card) {
+        rankCounts[card.getRank().ordinal()]++;
+        suitCounts[card.getSuit().ordinal()]++;
+        for (int i = 0; i < evaluators.length; i++) {
+            scores[i] += compiledEvaluators[i].evaluate(card);
+        }
+    }
+
+    @Override
+    protected void cardRemoved(Card card) {
+        rankCounts[card.getRank().ordinal()]--;
+        suitCounts[card.getSuit().ordinal()]--;
+        for (int i = 0; i < evaluators.length; i++) {
+            scores[i] -= compiledEvaluators[i].evaluate(card);
+        }
+    }
+
+    @Override
+    protected void cardsCleared() {
+        Arrays.fill(rankCounts, 0);
+        Arrays.fill(suitCounts, 0);
+        Arrays.fill(scores, 0);
+    }
+
+    /**
+     * Returns the index of the given card evaluator among the cached ones.
+     *
+     * @param cardEvaluator The card evaluator.
+     * @return The index of the card evaluator, or -1 if it is not cached.
+     */
+    private int indexOfEvaluator(CardEvaluator cardEvaluator) {
+        for (int i = 0; i < evaluators.length; i++) {
+            if (evaluators[i] == cardEvaluator) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the sum of the scores of the cards.
+     *
+     * @param cardEvaluator The card evaluator to use.
+     * @return The score of the hand.
+     */
+    private int sum(CardEvaluator cardEvaluator) {
+        List<Card> cards = getCards();
+        int score = 0;
+        for (int i = 0; i < cards.size(); i++) {
+            score += cardEvaluator.evaluate(cards.get(i));
+        }
+        return score;
+    }
+
+    /**
+     * Returns true if the hand has exactly the given number of cards of a rank.
+     *
+     * @param count The number of cards.
+     * @return True if a rank has exactly the number of cards.
+     */
+    private boolean hasRankOfCount(int count) {
+        for (int rankCount : rankCounts) {
+            if (rankCount == count) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -81,13 +242,66 @@ public class Hand extends ListOfCards {
     }
 
     /**
-     * Returns a boolean indicating if the hand contains a pair.
+     * Returns a boolean indicating if the hand contains a pair,
+     * that is exactly two cards of the same rank.
      *
      * @return a boolean indicating if the hand contains a pair.
      */
     public boolean containsPair() {
-        return getCards().stream().anyMatch(card -> getCards().stream().filter(card::equals).count() == 2);
+        return hasRankOfCount(2);
+    }
+
+    /**
+     * Returns a boolean indicating if the hand contains two pairs.
+     *
+     * @return a boolean indicating if the hand contains two pairs.
+     */
+    public boolean containsTwoPairs() {
+        int pairs = 0;
+        for (int rankCount : rankCounts) {
+            if (rankCount == 2) {
+                pairs++;
+            }
+        }
+        return pairs >= 2;
+    }
+
+    /**
+     * Returns a boolean indicating if the hand contains a three of a kind,
+     * that is exactly three cards of the same rank.
+     *
+     * @return a boolean indicating if the hand contains a three of a kind.
+     */
+    public boolean containsThreeOfAKind() {
+        return hasRankOfCount(3);
+    }
+
+    /**
+     * Returns a boolean indicating if the hand contains a four of a kind.
+     *
+     * @return a boolean indicating if the hand contains a four of a kind.
+     */
+    public boolean containsFourOfAKind() {
+        return hasRankOfCount(4);
     }
 
+    /**
+     * Returns the value of the hand as a poker hand, see {@link PokerEvaluator}.
+     *
+     * @return the value of the hand, the greater the better.
+     * @throws IllegalArgumentException if the hand contains the same card twice or if it has not between 5 and 7 cards.
+     */
+    public int evaluatePoker() {
+        return PokerEvaluator.evaluate(getCards());
+    }
 
+    /**
+     * Returns the category of the hand as a poker hand.
+     *
+     * @return the category of the hand.
+     * @throws IllegalArgumentException if the hand contains the same card twice or if it has not between 5 and 7 cards.
+     */
+    public HandCategory getPokerCategory() {
+        return PokerEvaluator.getCategory(evaluatePoker());
+    }
 }
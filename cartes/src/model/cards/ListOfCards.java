@@ -2,13 +2,15 @@ package model.cards;
 
 
 import model.card.Card;
+import model.card.CardComparator;
+import model.card.EvaluatorCardComparator;
 import model.card.Rank;
 import model.card.Suit;
+import observer.Channel;
 import observer.ListenableObject;
 
 import java.util.*;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /**
  * <b>
@@ -19,19 +21,66 @@ import java.util.stream.Collectors;
  */
 public abstract class ListOfCards extends ListenableObject implements Iterable<Card> {
 
+    /**
+     * The channel notified when a card is added, the data of the event is the card.
+     * When the cards are added in a batch, the cards added are the last cards of the list.
+     */
+    public static final Channel ADD_CARD = Channel.of("addCard");
+
+    /**
+     * The channel notified when a card is removed, the data of the event is the card.
+     * When the cards are removed in a batch, the cards removed are no longer in the list.
+     */
+    public static final Channel REMOVE_CARD = Channel.of("removeCard");
+
+    /**
+     * The channel notified when the list is cleared.
+     */
+    public static final Channel CLEAR_CARDS = Channel.of("clearCards");
+
+    /**
+     * The channel notified when the list is shuffled.
+     */
+    public static final Channel SHUFFLE_CARDS = Channel.of("shuffleCards");
+
+    /**
+     * The channel notified when the list is sorted.
+     */
+    public static final Channel SORT_CARDS = Channel.of("sortCards");
+
     /**
      * The list of cards.
      */
     private final List<Card> cards;
 
+    /**
+     * The read-only view of the cards returned to the users of the list, from the top of the backing list.
+     */
+    private final List<Card> view = new CardsView();
+
+    /**
+     * The number of cards removed from the top of the list but not yet from the backing list.
+     * The cards before this index are dealt, they are removed from the backing list at once
+     * by {@link #compact()} when a method modifies the order of the cards or when they outnumber the cards
+     * of the list. The methods which only read the cards never compact the list, they read from the top.
+     */
+    private int top;
+
+    /**
+     * The snapshot of the cards taken or restored since the last modification of the list,
+     * null if the list was modified since. It is returned by {@link #snapshot()} without copying the cards.
+     */
+    private CardSequence snapshot;
+
     /**
      * Creates a new list of cards with the given cards.
+     * The list is kept as the backing list of the cards, it must not be modified afterwards.
      *
      * @param cards The cards in the list.
      * @throws NullPointerException if the cards is null.
      */
     protected ListOfCards(List<Card> cards) {
-        super("addCard", "removeCard", "clearCards", "shuffleCards", "sortCards");
+        super(ADD_CARD, REMOVE_CARD, CLEAR_CARDS, SHUFFLE_CARDS, SORT_CARDS);
         if (cards == null) {
             throw new NullPointerException("The cards cannot be null.");
         }
@@ -56,13 +105,29 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
         if (card == null) {
             throw new NullPointerException("The card cannot be null.");
         }
+        if (top > 0 && top >= cards.size() - top) {
+            // The dealt cards are removed once they outnumber the cards of the list,
+            // so the backing list does not grow when the cards dealt are put back.
+            compact();
+        }
         cards.add(card);
-        super.notifyListeners("addCard", card);
+        snapshot = null;
+        cardAdded(card);
+        super.notifyListeners(ADD_CARD, card);
         return true;
     }
 
+    /**
+     * Adds the cards to the list, the listeners are notified once for all the cards.
+     *
+     * @param cards The cards to add.
+     * @throws NullPointerException if the cards or one of the cards is null.
+     */
     public void addCards(List<Card> cards) {
-        cards.forEach(this::addCard);
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        super.batch(() -> cards.forEach(this::addCard));
     }
 
 
@@ -76,8 +141,57 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
         if (card == null) {
             throw new NullPointerException("The card cannot be null.");
         }
-        this.cards.remove(card);
-        super.notifyListeners("removeCard", card);
+        if (this.compact().remove(card)) {
+            snapshot = null;
+            cardRemoved(card);
+        }
+        super.notifyListeners(REMOVE_CARD, card);
+    }
+
+    /**
+     * Removes the first card of the list in constant time.
+     *
+     * <p>
+     * The card is not removed from the backing list, the top of the list moves after it.
+     * The listeners are notified as by {@link #removeCard(Card)}.
+     * </p>
+     *
+     * @return The card removed.
+     * @throws IllegalStateException if the list is empty.
+     */
+    protected Card removeFirst() {
+        if (size() == 0) {
+            throw new IllegalStateException("The list of cards is empty.");
+        }
+        Card card = cards.get(top++);
+        if (top == cards.size()) {
+            cards.clear();
+            top = 0;
+        }
+        snapshot = null;
+        cardRemoved(card);
+        super.notifyListeners(REMOVE_CARD, card);
+        return card;
+    }
+
+    /**
+     * Removes the cards before the top from the backing list.
+     *
+     * @return The backing list, which starts with the first card of the list.
+     */
+    private List<Card> compact() {
+        if (top > 0) {
+            // The cards are shifted and the tail is removed from the end, without allocating a view.
+            int size = cards.size() - top;
+            for (int i = 0; i < size; i++) {
+                cards.set(i, cards.get(top + i));
+            }
+            for (int i = cards.size() - 1; i >= size; i--) {
+                cards.remove(i);
+            }
+            top = 0;
+        }
+        return cards;
     }
 
     /**
@@ -85,16 +199,50 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
      */
     public void clear() {
         cards.clear();
-        super.notifyListeners("clearCards");
+        top = 0;
+        snapshot = CardSequence.empty();
+        cardsCleared();
+        super.notifyListeners(CLEAR_CARDS);
+    }
+
+    /**
+     * Called when a card is added to the list, before the listeners are notified.
+     * The subclasses override it to keep values computed on the cards up to date, it does nothing by default.
+     *
+     * @param card The card added.
+     */
+    protected void cardAdded(Card card) {
+        // Nothing to update by default.
+    }
+
+    /**
+     * Called when a card is removed from the list, before the listeners are notified.
+     *
+     * @param card The card removed.
+     * @see #cardAdded(Card)
+     */
+    protected void cardRemoved(Card card) {
+        // Nothing to update by default.
+    }
+
+    /**
+     * Called when the list is cleared, before the listeners are notified.
+     *
+     * @see #cardAdded(Card)
+     */
+    protected void cardsCleared() {
+        // Nothing to update by default.
     }
 
     /**
      * Returns the cards in the list.
+     * The list is a read-only view, the cards are modified by the methods of this class,
+     * which notify the listeners.
      *
-     * @return The cards in the list.
+     * @return The read-only view of the cards in the list.
      */
     public List<Card> getCards() {
-        return cards;
+        return view;
     }
 
     /**
@@ -103,7 +251,7 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
      * @return The number of cards in the list.
      */
     public int size() {
-        return cards.size();
+        return cards.size() - top;
     }
 
     /**
@@ -114,10 +262,10 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
      * @throws IndexOutOfBoundsException if the index is out of bounds.
      */
     public Card getCard(int index) {
-        if (index < 0 || index >= cards.size()) {
+        if (index < 0 || index >= size()) {
             throw new IndexOutOfBoundsException("The index of the card is out of bounds.");
         }
-        return cards.get(index);
+        return cards.get(top + index);
     }
 
     /**
@@ -131,12 +279,22 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
         if (card == null) {
             throw new NullPointerException("The card cannot be null.");
         }
-        return this.cards.indexOf(card);
+        for (int i = top; i < cards.size(); i++) {
+            if (card.equals(cards.get(i))) {
+                return i - top;
+            }
+        }
+        return -1;
     }
 
     @Override
     public void forEach(Consumer<? super Card> action) {
-        this.cards.forEach(action);
+        if (action == null) {
+            throw new NullPointerException("The action cannot be null.");
+        }
+        for (int i = top; i < cards.size(); i++) {
+            action.accept(cards.get(i));
+        }
     }
 
     /**
@@ -150,7 +308,7 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
         if (card == null) {
             throw new NullPointerException("The card cannot be null.");
         }
-        return cards.contains(card);
+        return indexOf(card) >= 0;
     }
 
     /**
@@ -159,7 +317,7 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
      * @return True if the list is empty.
      */
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return size() == 0;
     }
 
     /**
@@ -173,8 +331,9 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
         if (cards == null) {
             throw new NullPointerException("The cards cannot be null.");
         }
-        // We wrap the list in a set to remove duplicates.
-        return new HashSet<>(this.cards).containsAll(cards);
+        // The copies of the cards are ignored, as in a set.
+        long mask = CardSet.maskOf(cards);
+        return (mask & ~CardSet.maskOf(view)) == 0;
     }
 
     /**
@@ -202,9 +361,10 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
         if (cards == null) {
             throw new NullPointerException("The cards cannot be null.");
         }
+        long excluded = CardSet.maskOf(cards);
         List<Card> notIn = new ArrayList<>();
-        for (Card card : this.cards) {
-            if (!cards.contains(card)) {
+        for (Card card : view) {
+            if ((excluded & CardSet.bit(card)) == 0) {
                 notIn.add(card);
             }
         }
@@ -225,8 +385,77 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
         return getNotIn(cards.getCards());
     }
 
+    /**
+     * Returns the distinct cards of the list.
+     *
+     * @return The set of the cards in the list.
+     */
+    public CardSet toCardSet() {
+        return CardSet.of(view);
+    }
+
+    /**
+     * Returns the cards of the list with their number of copies.
+     *
+     * @return A new multiset of the cards in the list.
+     */
+    public CardMultiset toCardMultiset() {
+        return new CardMultiset(view);
+    }
 
+    /**
+     * Returns an immutable snapshot of the cards of the list.
+     * The branches explored from this state add, deal and remove the cards of the snapshot in O(log n),
+     * and the list comes back to one of them with {@link #restore(CardSequence)}.
+     *
+     * <p>
+     * The snapshot is kept until the next modification of the list: the first snapshot after a modification
+     * takes linear time, the next ones and the snapshot of a list just restored take constant time.
+     * </p>
+     *
+     * @return The sequence of the cards in the list.
+     */
+    public CardSequence snapshot() {
+        if (snapshot == null) {
+            snapshot = CardSequence.of(view);
+        }
+        return snapshot;
+    }
 
+    /**
+     * Replaces the cards of the list by the cards of the given sequence, the listeners are notified once.
+     *
+     * <p>
+     * Nothing is done if the list was not modified since the sequence was taken or restored. Otherwise the
+     * backing list is refilled at once from the cards of the sequence, without adding them one by one.
+     * </p>
+     *
+     * @param sequence The cards to restore.
+     * @throws NullPointerException if the sequence is null.
+     */
+    public void restore(CardSequence sequence) {
+        if (sequence == null) {
+            throw new NullPointerException("The sequence of cards cannot be null.");
+        }
+        if (sequence == snapshot) {
+            return;
+        }
+        Card[] restored = sequence.toArray();
+        cards.clear();
+        top = 0;
+        cards.addAll(Arrays.asList(restored));
+        snapshot = sequence;
+        cardsCleared();
+        for (Card card : restored) {
+            cardAdded(card);
+        }
+        super.batch(() -> {
+            super.notifyListeners(CLEAR_CARDS);
+            for (Card card : restored) {
+                super.notifyListeners(ADD_CARD, card);
+            }
+        });
+    }
 
     /**
      * Get list of cards that are between the given indexes.
@@ -237,11 +466,11 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
      * @throws IndexOutOfBoundsException if the indexes are out of bounds.
      */
     public List<Card> getBetween(int from, int to) {
-        if (from < 0 || from >= cards.size() || to < 0 || to >= cards.size()) {
+        if (from < 0 || from >= size() || to < 0 || to >= size()) {
             throw new IndexOutOfBoundsException("The indexes are out of bounds.");
         }
 
-        return cards.subList(from, to);
+        return view.subList(from, to);
     }
 
     /**
@@ -256,13 +485,15 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
             throw new NullPointerException("The suit cannot be null.");
         }
 
-        return cards.stream().filter(card -> card.getSuit() == suit).collect(Collectors.toList());
+        List<Card> found = new ArrayList<>();
+        for (Card card : view) {
+            if (card.getSuit() == suit) {
+                found.add(card);
+            }
+        }
+        return found;
     }
 
-
-
-
-
     /**
      * Get a list of cards that are a specific rank.
      *
@@ -275,17 +506,125 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
             throw new NullPointerException("The rank cannot be null.");
         }
 
-        return cards.stream().filter(card -> card.getRank() == rank).collect(Collectors.toList());
+        List<Card> found = new ArrayList<>();
+        for (Card card : view) {
+            if (card.getRank() == rank) {
+                found.add(card);
+            }
+        }
+        return found;
     }
 
     /**
-     * Sorts the list of cards.
+     * The comparators of the cards by rank, indexed by the order and by the ace high option.
+     */
+    private static final CardComparator[] BY_RANK = {
+            new EvaluatorCardComparator(card -> -rankValue(card, false)),
+            new EvaluatorCardComparator(card -> -rankValue(card, true)),
+            new EvaluatorCardComparator(card -> rankValue(card, false)),
+            new EvaluatorCardComparator(card -> rankValue(card, true)),
+    };
+
+    /**
+     * The comparators of the cards by suit, indexed by the order.
+     * The order of the suits it is the same as the order of the enum.
+     */
+    private static final CardComparator[] BY_SUIT = {
+            new EvaluatorCardComparator(card -> -card.getSuit().ordinal()),
+            new EvaluatorCardComparator(card -> card.getSuit().ordinal()),
+    };
+
+    /**
+     * Returns the value of the rank of the card used to sort the cards by rank.
+     *
+     * @param card    The card.
+     * @param aceHigh True if the ace should be high.
+     * @return The value of the rank of the card.
+     */
+    private static int rankValue(Card card, boolean aceHigh) {
+        int rank = card.getRank().getValue();
+        return aceHigh && rank == 1 ? 14 : rank;
+    }
+
+    /**
+     * Sorts the list of cards, the sort is stable.
+     *
+     * <p>
+     * When the comparator is a {@link CardComparator} with a sort key, the cards are sorted
+     * by a counting sort on the keys in linear time. The listeners are not notified
+     * if the cards were already sorted.
+     * </p>
      *
      * @param comparator The comparator to use.
      */
     public void sort(Comparator<Card> comparator) {
-        cards.sort(comparator);
-        super.notifyListeners("sortCards");
+        boolean sorted;
+        if (comparator instanceof CardComparator && ((CardComparator) comparator).hasSortKey()) {
+            sorted = countingSort(compact(), (CardComparator) comparator);
+        } else {
+            sorted = comparisonSort(compact(), comparator);
+        }
+        if (sorted) {
+            snapshot = null;
+            super.notifyListeners(SORT_CARDS);
+        }
+    }
+
+    /**
+     * Sorts the cards by a stable counting sort on their sort key.
+     *
+     * @param cards      The cards to sort.
+     * @param comparator The comparator giving the sort keys.
+     * @return True if the order of the cards changed.
+     * @throws IllegalStateException if a sort key is not between 0 and {@link Card#COUNT} excluded.
+     */
+    private static boolean countingSort(List<Card> cards, CardComparator comparator) {
+        int size = cards.size();
+        // The count of each key is stored at the next key, so that the prefix sums are the first positions of the keys.
+        int[] positions = new int[Card.COUNT + 1];
+        boolean ordered = true;
+        int previous = 0;
+        for (int i = 0; i < size; i++) {
+            int key = comparator.sortKey(cards.get(i));
+            if (key < 0 || key >= Card.COUNT) {
+                throw new IllegalStateException("The sort key of a card must be between 0 and " + (Card.COUNT - 1) + ".");
+            }
+            ordered &= key >= previous;
+            previous = key;
+            positions[key + 1]++;
+        }
+        if (ordered) {
+            return false;
+        }
+        for (int key = 1; key < Card.COUNT; key++) {
+            positions[key] += positions[key - 1];
+        }
+        Card[] sorted = new Card[size];
+        for (int i = 0; i < size; i++) {
+            Card card = cards.get(i);
+            sorted[positions[comparator.sortKey(card)]++] = card;
+        }
+        for (int i = 0; i < size; i++) {
+            cards.set(i, sorted[i]);
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the cards by comparing them.
+     *
+     * @param cards      The cards to sort.
+     * @param comparator The comparator to use.
+     * @return True if the order of the cards changed.
+     */
+    private static boolean comparisonSort(List<Card> cards, Comparator<Card> comparator) {
+        for (int i = 1; i < cards.size(); i++) {
+            if (comparator.compare(cards.get(i - 1), cards.get(i)) > 0) {
+                cards.sort(comparator);
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -295,24 +634,7 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
      * @param aceHigh   True if the ace should be high.
      */
     public void sortByRank(boolean ascending, boolean aceHigh) {
-        sort((card1, card2) -> {
-            int rank1 = card1.getRank().getValue();
-            int rank2 = card2.getRank().getValue();
-            if (aceHigh) {
-                if (rank1 == 1) {
-                    rank1 = 14;
-                }
-                if (rank2 == 1) {
-                    rank2 = 14;
-                }
-            }
-
-            if (ascending) {
-                return rank1 - rank2;
-            } else {
-                return rank2 - rank1;
-            }
-        });
+        sort(BY_RANK[(ascending ? 2 : 0) + (aceHigh ? 1 : 0)]);
     }
 
     /**
@@ -321,17 +643,7 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
      * @param ascending True if the cards should be sorted in ascending order.
      */
     public void sortBySuit(boolean ascending) {
-        // The order of the suits it is the same as the order of the enum.
-        sort((card1, card2) -> {
-            int suit1 = card1.getSuit().ordinal();
-            int suit2 = card2.getSuit().ordinal();
-
-            if (ascending) {
-                return suit1 - suit2;
-            } else {
-                return suit2 - suit1;
-            }
-        });
+        sort(BY_SUIT[ascending ? 1 : 0]);
     }
 
     /**
@@ -341,7 +653,7 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
      */
     @Override
     public Iterator<Card> iterator() {
-        return cards.iterator();
+        return view.iterator();
     }
 
     /**
@@ -354,15 +666,31 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
         if (random == null) {
             throw new NullPointerException("The random for shuffling cannot be null.");
         }
-        Collections.shuffle(cards, random);
-        super.notifyListeners("shuffleCards");
+        Collections.shuffle(compact(), random);
+        snapshot = null;
+        super.notifyListeners(SHUFFLE_CARDS);
     }
 
     /**
      * Shuffles the list of cards.
+     *
+     * @param shuffler The shuffler to use.
+     * @throws NullPointerException if the shuffler is null.
+     */
+    public void shuffle(Shuffler shuffler) {
+        if (shuffler == null) {
+            throw new NullPointerException("The shuffler cannot be null.");
+        }
+        shuffler.shuffle(compact());
+        snapshot = null;
+        super.notifyListeners(SHUFFLE_CARDS);
+    }
+
+    /**
+     * Shuffles the list of cards with the shuffler of the current thread.
      */
     public void shuffle() {
-        shuffle(new Random());
+        shuffle(Shuffler.current());
     }
 
     /**
@@ -372,8 +700,23 @@ public abstract class ListOfCards extends ListenableObject implements Iterable<C
      */
     @Override
     public String toString() {
-        return this.getClass().getSimpleName() + " [size=" + cards.size() + "\n" + cards + "]";
+        return this.getClass().getSimpleName() + " [size=" + size() + "\n" + view + "]";
     }
 
+    /**
+     * The read-only view of the cards of the list, which reads the backing list from the top.
+     */
+    private final class CardsView extends AbstractList<Card> implements RandomAccess {
+
+        @Override
+        public Card get(int index) {
+            return getCard(index);
+        }
+
+        @Override
+        public int size() {
+            return ListOfCards.this.size();
+        }
+    }
 
 }
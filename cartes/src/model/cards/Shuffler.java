@@ -0,0 +1,186 @@
+package model.cards;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <b>
+ * Shuffler permits to shuffle the cards with a given source of randomness.
+ * </b>
+ *
+ * <p>
+ * The cards are shuffled in place by the Fisher-Yates algorithm, every permutation has the same probability.
+ * A shuffler created with a seed always produces the same sequence of shuffles, so a shoe can be reproduced.
+ * A shuffler is not thread-safe, {@link #current()} returns the shuffler of the current thread.
+ * </p>
+ *
+ * @version 1.0
+ */
+public interface Shuffler {
+
+    /**
+     * Returns 32 random bits.
+     *
+     * @return A random int.
+     */
+    int nextInt();
+
+    /**
+     * Returns a random int between 0 included and the given bound excluded.
+     *
+     * <p>
+     * By default, the 32 random bits are multiplied by the bound and the high half of the product is kept,
+     * the few products which would bias the result are rejected (Lemire's method), so there is no division
+     * in the common case.
+     * </p>
+     *
+     * @param bound The bound of the int.
+     * @return A random int between 0 and the bound.
+     * @throws IllegalArgumentException if the bound is not positive.
+     */
+    default int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("The bound must be positive.");
+        }
+        long product = (nextInt() & 0xFFFFFFFFL) * bound;
+        int low = (int) product;
+        if (Integer.compareUnsigned(low, bound) < 0) {
+            int threshold = Integer.remainderUnsigned(-bound, bound);
+            while (Integer.compareUnsigned(low, threshold) < 0) {
+                product = (nextInt() & 0xFFFFFFFFL) * bound;
+                low = (int) product;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Shuffles the given list in place.
+     *
+     * @param list The list to shuffle.
+     * @throws NullPointerException if the list is null.
+     */
+    default <T> void shuffle(List<T> list) {
+        if (list == null) {
+            throw new NullPointerException("The list to shuffle cannot be null.");
+        }
+        if (list instanceof RandomAccess) {
+            for (int i = list.size() - 1; i > 0; i--) {
+                int j = nextInt(i + 1);
+                list.set(j, list.set(i, list.get(j)));
+            }
+        } else {
+            @SuppressWarnings("unchecked")
+            T[] array = (T[]) list.toArray();
+            for (int i = array.length - 1; i > 0; i--) {
+                int j = nextInt(i + 1);
+                T element = array[i];
+                array[i] = array[j];
+                array[j] = element;
+            }
+            for (int i = 0; i < array.length; i++) {
+                list.set(i, array[i]);
+            }
+        }
+    }
+
+    /**
+     * Shuffles in place the ids of cards between the given indexes, the other ids are not moved.
+     *
+     * @param ids  The ids to shuffle.
+     * @param from The index of the first id to shuffle, included.
+     * @param to   The index of the last id to shuffle, excluded.
+     * @throws NullPointerException      if the ids are null.
+     * @throws IndexOutOfBoundsException if the indexes are out of the ids.
+     */
+    default void shuffle(byte[] ids, int from, int to) {
+        if (ids == null) {
+            throw new NullPointerException("The ids to shuffle cannot be null.");
+        }
+        if (from < 0 || from > to || to > ids.length) {
+            throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Length: " + ids.length);
+        }
+        for (int i = to - 1; i > from; i--) {
+            int j = from + nextInt(i - from + 1);
+            byte id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+        }
+    }
+
+    /**
+     * Moves the given number of ids of cards, drawn at random, to the front of the ids.
+     *
+     * <p>
+     * This is a partial Fisher-Yates shuffle: the ids in front are drawn in a random order and the others are left
+     * in any order, so drawing a few cards costs as many random numbers as cards drawn.
+     * </p>
+     *
+     * @param ids   The ids to draw from.
+     * @param count The number of ids to draw.
+     * @throws NullPointerException      if the ids are null.
+     * @throws IndexOutOfBoundsException if the count is negative or greater than the number of ids.
+     */
+    default void draw(int[] ids, int count) {
+        if (ids == null) {
+            throw new NullPointerException("The ids to draw from cannot be null.");
+        }
+        if (count < 0 || count > ids.length) {
+            throw new IndexOutOfBoundsException("Count: " + count + ", Length: " + ids.length);
+        }
+        for (int i = 0; i < count; i++) {
+            int j = i + nextInt(ids.length - i);
+            int id = ids[j];
+            ids[j] = ids[i];
+            ids[i] = id;
+        }
+    }
+
+    /**
+     * Returns the shuffler of the current thread, seeded randomly.
+     *
+     * @return The shuffler of the current thread.
+     */
+    static Shuffler current() {
+        return XoroshiroShuffler.CURRENT.get();
+    }
+
+    /**
+     * Returns a new shuffler backed by a {@link java.util.SplittableRandom} with the given seed.
+     *
+     * @param seed The seed of the shuffler.
+     * @return A new shuffler.
+     */
+    static Shuffler splittable(long seed) {
+        return new SplittableShuffler(seed);
+    }
+
+    /**
+     * Returns a new shuffler backed by a {@link java.util.SplittableRandom} seeded randomly.
+     *
+     * @return A new shuffler.
+     */
+    static Shuffler splittable() {
+        return new SplittableShuffler(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Returns a new shuffler backed by a xoroshiro128+ generator with the given seed.
+     *
+     * @param seed The seed of the shuffler.
+     * @return A new shuffler.
+     */
+    static Shuffler xoroshiro(long seed) {
+        return new XoroshiroShuffler(seed);
+    }
+
+    /**
+     * Returns a new shuffler backed by a xoroshiro128+ generator seeded randomly.
+     *
+     * @return A new shuffler.
+     */
+    static Shuffler xoroshiro() {
+        return new XoroshiroShuffler(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -0,0 +1,37 @@
+package model.cards;
+
+import java.util.SplittableRandom;
+
+/**
+ * <b>
+ * A shuffler backed by a {@link SplittableRandom}.
+ * </b>
+ *
+ * @version 1.0
+ */
+final class SplittableShuffler implements Shuffler {
+
+    /**
+     * The generator of the shuffler.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Creates a new shuffler with the given seed.
+     *
+     * @param seed The seed of the generator.
+     */
+    SplittableShuffler(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+}
@@ -0,0 +1,81 @@
+package model.cards;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <b>
+ * A shuffler backed by a xoroshiro128+ generator.
+ * </b>
+ *
+ * <p>
+ * The generator keeps 128 bits of state in two longs and produces a long with a few shifts and xors.
+ * Its lowest bits are the weakest, so the random ints are taken from the highest bits.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class XoroshiroShuffler implements Shuffler {
+
+    /**
+     * The shufflers of the threads.
+     */
+    static final ThreadLocal<XoroshiroShuffler> CURRENT =
+            ThreadLocal.withInitial(() -> new XoroshiroShuffler(ThreadLocalRandom.current().nextLong()));
+
+    /**
+     * The first half of the state.
+     */
+    private long s0;
+
+    /**
+     * The second half of the state.
+     */
+    private long s1;
+
+    /**
+     * Creates a new shuffler with the given seed.
+     * The state is expanded from the seed by SplitMix64, so that it is never zero.
+     *
+     * @param seed The seed of the generator.
+     */
+    XoroshiroShuffler(long seed) {
+        long x = seed;
+        this.s0 = mix(x += 0x9E3779B97F4A7C15L);
+        this.s1 = mix(x + 0x9E3779B97F4A7C15L);
+        if ((s0 | s1) == 0) {
+            this.s1 = 1;
+        }
+    }
+
+    /**
+     * Mixes the bits of the given value (the finalizer of SplitMix64).
+     *
+     * @param z The value to mix.
+     * @return The mixed value.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns 64 random bits and advances the state.
+     *
+     * @return A random long.
+     */
+    long nextLong() {
+        long a = s0;
+        long b = s1;
+        long result = a + b;
+        b ^= a;
+        s0 = Long.rotateLeft(a, 24) ^ b ^ (b << 16);
+        s1 = Long.rotateLeft(b, 37);
+        return result;
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+}
@@ -0,0 +1,470 @@
+package model.poker;
+
+import model.card.Card;
+import model.cards.CardSet;
+import model.cards.Hand;
+import model.cards.ListOfCards;
+import model.cards.Shuffler;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * <b>
+ * EquityCalculator computes the probabilities of winning of poker hands against the cards left in a deck.
+ * </b>
+ *
+ * <p>
+ * Each hand has at most two cards and shares a board of five cards, partially dealt.
+ * The board is completed with the cards of the deck which are neither in the hands nor on the board.
+ * When there are few boards to complete, they are all enumerated as the combinations of the cards left,
+ * each combination being the next mask with the same number of bits (Gosper's hack).
+ * Otherwise random boards are sampled. In both cases the work is split in tasks run by a {@link ForkJoinPool}.
+ * </p>
+ *
+ * <p>
+ * The random boards of a task are drawn by a shuffler seeded from the seed of the calculator and the index
+ * of the task, so an estimate does not depend on the threads which computed it.
+ * {@link #estimates(long)} gives the estimates refined batch after batch, the caller stops
+ * when the confidence intervals are narrow enough.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class EquityCalculator {
+
+    /**
+     * The number of cards of a complete board.
+     */
+    public static final int BOARD_SIZE = 5;
+
+    /**
+     * The maximum number of cards of a hand.
+     */
+    public static final int MAX_HAND_SIZE = PokerEvaluator.MAX_CARDS - BOARD_SIZE;
+
+    /**
+     * The maximum number of boards enumerated by {@link #calculate()}, more boards are sampled.
+     */
+    public static final long MAX_EXHAUSTIVE_BOARDS = 2_000_000;
+
+    /**
+     * The number of boards sampled by {@link #calculate()} when the boards are not enumerated.
+     */
+    public static final long DEFAULT_SAMPLES = 1_000_000;
+
+    /**
+     * The number of boards sampled by one task.
+     */
+    private static final int SAMPLES_PER_TASK = 1 << 14;
+
+    /**
+     * The masks of the cards of the hands.
+     */
+    private final long[] hands;
+
+    /**
+     * The mask of the cards of the board.
+     */
+    private final long board;
+
+    /**
+     * The ids of the cards left to complete the board.
+     */
+    private final int[] remaining;
+
+    /**
+     * The number of cards missing on the board.
+     */
+    private final int missing;
+
+    /**
+     * The pool running the tasks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The seed of the random boards.
+     */
+    private final long seed;
+
+    /**
+     * Creates a new calculator for the given hands, board and deck, run by the common pool.
+     *
+     * @param hands The hands, of at most two cards each.
+     * @param board The cards of the board, at most five.
+     * @param deck  The cards left in the deck.
+     * @throws NullPointerException     if the hands, one of the hands, the board or the deck is null.
+     * @throws IllegalArgumentException if there is no hand, if a hand or the board has too many cards,
+     *                                  if a card is dealt twice or if the deck has not enough cards.
+     */
+    public EquityCalculator(List<Hand> hands, ListOfCards board, ListOfCards deck) {
+        this(hands, board, deck, ForkJoinPool.commonPool(), System.nanoTime());
+    }
+
+    /**
+     * Creates a new calculator for the given hands, board and deck.
+     *
+     * @param hands The hands, of at most two cards each.
+     * @param board The cards of the board, at most five.
+     * @param deck  The cards left in the deck.
+     * @param pool  The pool running the tasks.
+     * @param seed  The seed of the random boards.
+     * @throws NullPointerException     if the hands, one of the hands, the board, the deck or the pool is null.
+     * @throws IllegalArgumentException if there is no hand, if a hand or the board has too many cards,
+     *                                  if a card is dealt twice or if the deck has not enough cards.
+     */
+    public EquityCalculator(List<Hand> hands, ListOfCards board, ListOfCards deck, ForkJoinPool pool, long seed) {
+        if (hands == null) {
+            throw new NullPointerException("The hands cannot be null.");
+        }
+        if (board == null) {
+            throw new NullPointerException("The board cannot be null.");
+        }
+        if (deck == null) {
+            throw new NullPointerException("The deck cannot be null.");
+        }
+        if (pool == null) {
+            throw new NullPointerException("The pool cannot be null.");
+        }
+        if (hands.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one hand.");
+        }
+        if (board.size() > BOARD_SIZE) {
+            throw new IllegalArgumentException("The board cannot have more than " + BOARD_SIZE + " cards.");
+        }
+        long dealt = board.toCardSet().getMask();
+        if (Long.bitCount(dealt) != board.size()) {
+            throw new IllegalArgumentException("A card cannot be dealt twice.");
+        }
+        this.hands = new long[hands.size()];
+        int dealtCount = board.size();
+        for (int i = 0; i < this.hands.length; i++) {
+            Hand hand = hands.get(i);
+            if (hand == null) {
+                throw new NullPointerException("The hand cannot be null.");
+            }
+            if (hand.size() > MAX_HAND_SIZE) {
+                throw new IllegalArgumentException("A hand cannot have more than " + MAX_HAND_SIZE + " cards.");
+            }
+            this.hands[i] = hand.toCardSet().getMask();
+            dealt |= this.hands[i];
+            dealtCount += hand.size();
+        }
+        if (Long.bitCount(dealt) != dealtCount) {
+            throw new IllegalArgumentException("A card cannot be dealt twice.");
+        }
+        this.board = board.toCardSet().getMask();
+        this.missing = BOARD_SIZE - board.size();
+        CardSet left = deck.toCardSet().difference(CardSet.fromMask(dealt));
+        if (left.size() < missing) {
+            throw new IllegalArgumentException("The deck has not enough cards to complete the board.");
+        }
+        this.remaining = new int[left.size()];
+        int i = 0;
+        for (Card card : left) {
+            this.remaining[i++] = card.getId();
+        }
+        this.pool = pool;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the number of boards which complete the board.
+     *
+     * @return The number of combinations of the missing cards among the cards left.
+     */
+    public long getBoardCount() {
+        long count = 1;
+        for (int i = 0; i < missing; i++) {
+            count = count * (remaining.length - i) / (i + 1);
+        }
+        return count;
+    }
+
+    /**
+     * Computes the equities, exactly if there are at most {@link #MAX_EXHAUSTIVE_BOARDS} boards,
+     * otherwise by sampling {@link #DEFAULT_SAMPLES} boards.
+     *
+     * @return The equities of the hands.
+     */
+    public EquityResult calculate() {
+        return getBoardCount() <= MAX_EXHAUSTIVE_BOARDS ? exhaustive() : monteCarlo(DEFAULT_SAMPLES);
+    }
+
+    /**
+     * Computes the exact equities by evaluating all the boards.
+     *
+     * @return The exact equities of the hands.
+     */
+    public EquityResult exhaustive() {
+        if (missing == 0) {
+            Tally tally = new Tally(hands.length);
+            tally.showdown(board);
+            return tally.toResult(true);
+        }
+        // The boards are split by the first card left in the board, the next cards are enumerated after it.
+        int firsts = remaining.length - missing + 1;
+        return pool.invoke(new RangeTask(0, firsts, this::enumerate)).toResult(true);
+    }
+
+    /**
+     * Estimates the equities by evaluating random boards.
+     *
+     * @param samples The number of boards to sample.
+     * @return The estimated equities of the hands.
+     * @throws IllegalArgumentException if the number of samples is not positive.
+     */
+    public EquityResult monteCarlo(long samples) {
+        if (samples <= 0) {
+            throw new IllegalArgumentException("The number of samples must be positive.");
+        }
+        return sample(0, samples).toResult(false);
+    }
+
+    /**
+     * Returns the estimates of the equities, refined by each batch of random boards.
+     * The stream is infinite, each estimate includes the boards of the previous ones.
+     *
+     * @param batch The number of boards sampled for each estimate.
+     * @return The stream of the estimates.
+     * @throws IllegalArgumentException if the size of the batch is not positive.
+     */
+    public Stream<EquityResult> estimates(long batch) {
+        if (batch <= 0) {
+            throw new IllegalArgumentException("The size of the batch must be positive.");
+        }
+        long tasks = (batch + SAMPLES_PER_TASK - 1) / SAMPLES_PER_TASK;
+        Tally total = new Tally(hands.length);
+        return Stream.iterate(0L, round -> round + 1).map(round -> {
+            total.merge(sample(round * tasks, batch));
+            return total.toResult(false);
+        });
+    }
+
+    /**
+     * Samples random boards.
+     *
+     * @param firstTask The index of the first task, which seeds its random boards.
+     * @param samples   The number of boards to sample.
+     * @return The tally of the boards.
+     */
+    private Tally sample(long firstTask, long samples) {
+        int tasks = (int) ((samples + SAMPLES_PER_TASK - 1) / SAMPLES_PER_TASK);
+        return pool.invoke(new RangeTask(0, tasks, task -> {
+            long from = (long) task * SAMPLES_PER_TASK;
+            return sampleTask(firstTask + task, (int) Math.min(SAMPLES_PER_TASK, samples - from));
+        }));
+    }
+
+    /**
+     * Evaluates random boards with the shuffler of the given task.
+     *
+     * @param task    The index of the task.
+     * @param samples The number of boards.
+     * @return The tally of the boards.
+     */
+    private Tally sampleTask(long task, int samples) {
+        Shuffler shuffler = Shuffler.xoroshiro(seed ^ (task * 0x9E3779B97F4A7C15L));
+        int[] cards = remaining.clone();
+        Tally tally = new Tally(hands.length);
+        for (int sample = 0; sample < samples; sample++) {
+            shuffler.draw(cards, missing);
+            long drawn = board;
+            for (int i = 0; i < missing; i++) {
+                drawn |= 1L << cards[i];
+            }
+            tally.showdown(drawn);
+        }
+        return tally;
+    }
+
+    /**
+     * Evaluates all the boards whose first card left is the given one.
+     *
+     * @param first The index of the first card left in the board.
+     * @return The tally of the boards.
+     */
+    private Tally enumerate(int first) {
+        Tally tally = new Tally(hands.length);
+        long start = board | 1L << remaining[first];
+        int others = missing - 1;
+        int positions = remaining.length - first - 1;
+        if (others == 0) {
+            tally.showdown(start);
+            return tally;
+        }
+        // The combinations of the other cards are the masks of positions with the same number of bits, in increasing order.
+        long end = 1L << positions;
+        for (long combination = (1L << others) - 1; combination < end; ) {
+            long drawn = start;
+            for (long bits = combination; bits != 0; bits &= bits - 1) {
+                drawn |= 1L << remaining[first + 1 + Long.numberOfTrailingZeros(bits)];
+            }
+            tally.showdown(drawn);
+            // Gosper's hack: the next mask with the same number of bits.
+            long lowest = combination & -combination;
+            long ripple = combination + lowest;
+            combination = ripple | (((combination ^ ripple) >>> 2) / lowest);
+        }
+        return tally;
+    }
+
+    /**
+     * The tally of the boards evaluated.
+     */
+    private final class Tally {
+
+        /**
+         * The number of boards.
+         */
+        private long boards;
+
+        /**
+         * The number of boards won by each hand.
+         */
+        private final long[] wins;
+
+        /**
+         * The number of boards tied by each hand.
+         */
+        private final long[] ties;
+
+        /**
+         * The sum of the shares of each hand.
+         */
+        private final double[] shares;
+
+        /**
+         * The sum of the squares of the shares of each hand.
+         */
+        private final double[] squares;
+
+        /**
+         * The values of the hands on the current board.
+         */
+        private final int[] values;
+
+        /**
+         * Creates a new empty tally.
+         *
+         * @param count The number of hands.
+         */
+        Tally(int count) {
+            this.wins = new long[count];
+            this.ties = new long[count];
+            this.shares = new double[count];
+            this.squares = new double[count];
+            this.values = new int[count];
+        }
+
+        /**
+         * Evaluates the hands on the given board.
+         *
+         * @param drawn The mask of the cards of the board.
+         */
+        void showdown(long drawn) {
+            int best = -1;
+            int winners = 0;
+            for (int i = 0; i < hands.length; i++) {
+                int value = PokerEvaluator.evaluate(hands[i] | drawn);
+                values[i] = value;
+                if (value > best) {
+                    best = value;
+                    winners = 1;
+                } else if (value == best) {
+                    winners++;
+                }
+            }
+            double share = 1.0 / winners;
+            for (int i = 0; i < hands.length; i++) {
+                if (values[i] == best) {
+                    if (winners == 1) {
+                        wins[i]++;
+                    } else {
+                        ties[i]++;
+                    }
+                    shares[i] += share;
+                    squares[i] += share * share;
+                }
+            }
+            boards++;
+        }
+
+        /**
+         * Adds the given tally to this one.
+         *
+         * @param other The tally to add.
+         * @return This tally.
+         */
+        Tally merge(Tally other) {
+            boards += other.boards;
+            for (int i = 0; i < wins.length; i++) {
+                wins[i] += other.wins[i];
+                ties[i] += other.ties[i];
+                shares[i] += other.shares[i];
+                squares[i] += other.squares[i];
+            }
+            return this;
+        }
+
+        /**
+         * Returns the result of the tally.
+         *
+         * @param exact True if all the boards were evaluated.
+         * @return The result.
+         */
+        EquityResult toResult(boolean exact) {
+            return new EquityResult(boards, exact, wins.clone(), ties.clone(), shares.clone(), squares.clone());
+        }
+    }
+
+    /**
+     * A task evaluating the boards of a range of units of work, split in two until a single unit is left.
+     */
+    private final class RangeTask extends RecursiveTask<Tally> {
+
+        /**
+         * The first unit of the range.
+         */
+        private final int from;
+
+        /**
+         * The unit after the range.
+         */
+        private final int to;
+
+        /**
+         * The work of a unit.
+         */
+        private final IntFunction<Tally> unit;
+
+        /**
+         * Creates a new task.
+         *
+         * @param from The first unit of the range.
+         * @param to   The unit after the range.
+         * @param unit The work of a unit.
+         */
+        RangeTask(int from, int to, IntFunction<Tally> unit) {
+            this.from = from;
+            this.to = to;
+            this.unit = unit;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from == 1) {
+                return unit.apply(from);
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask left = new RangeTask(from, middle, unit);
+            left.fork();
+            Tally right = new RangeTask(middle, to, unit).compute();
+            return left.join().merge(right);
+        }
+    }
+}
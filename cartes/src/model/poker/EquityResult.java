@@ -0,0 +1,181 @@
+package model.poker;
+
+/**
+ * <b>
+ * EquityResult holds the probabilities of winning of the hands computed by an {@link EquityCalculator}.
+ * </b>
+ *
+ * <p>
+ * The equity of a hand is its expected share of the pot: a board won counts one,
+ * a board tied between several hands counts one divided by the number of hands tied.
+ * An exact result enumerates all the boards, an estimate samples random boards and gives
+ * the half-width of the 95% confidence interval of each equity.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class EquityResult {
+
+    /**
+     * The z-score of the 95% confidence interval.
+     */
+    private static final double Z_95 = 1.959964;
+
+    /**
+     * The number of boards evaluated.
+     */
+    private final long boards;
+
+    /**
+     * True if all the boards were evaluated.
+     */
+    private final boolean exact;
+
+    /**
+     * The number of boards won by each hand.
+     */
+    private final long[] wins;
+
+    /**
+     * The number of boards tied by each hand.
+     */
+    private final long[] ties;
+
+    /**
+     * The sum of the shares of each hand.
+     */
+    private final double[] shares;
+
+    /**
+     * The sum of the squares of the shares of each hand.
+     */
+    private final double[] squares;
+
+    /**
+     * Creates a new result.
+     *
+     * @param boards  The number of boards evaluated.
+     * @param exact   True if all the boards were evaluated.
+     * @param wins    The number of boards won by each hand.
+     * @param ties    The number of boards tied by each hand.
+     * @param shares  The sum of the shares of each hand.
+     * @param squares The sum of the squares of the shares of each hand.
+     */
+    EquityResult(long boards, boolean exact, long[] wins, long[] ties, double[] shares, double[] squares) {
+        this.boards = boards;
+        this.exact = exact;
+        this.wins = wins;
+        this.ties = ties;
+        this.shares = shares;
+        this.squares = squares;
+    }
+
+    /**
+     * Returns the number of hands.
+     *
+     * @return The number of hands.
+     */
+    public int getHandCount() {
+        return wins.length;
+    }
+
+    /**
+     * Returns the number of boards evaluated.
+     *
+     * @return The number of boards evaluated.
+     */
+    public long getBoards() {
+        return boards;
+    }
+
+    /**
+     * Returns true if all the boards were evaluated, so the probabilities are exact.
+     *
+     * @return True if the probabilities are exact.
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Returns the probability that the hand wins alone.
+     *
+     * @param hand The index of the hand.
+     * @return The probability of winning.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public double getWinProbability(int hand) {
+        return boards == 0 ? 0 : (double) wins[hand] / boards;
+    }
+
+    /**
+     * Returns the probability that the hand ties with other hands.
+     *
+     * @param hand The index of the hand.
+     * @return The probability of tying.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public double getTieProbability(int hand) {
+        return boards == 0 ? 0 : (double) ties[hand] / boards;
+    }
+
+    /**
+     * Returns the equity of the hand, its expected share of the pot.
+     *
+     * @param hand The index of the hand.
+     * @return The equity of the hand.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public double getEquity(int hand) {
+        return boards == 0 ? 0 : shares[hand] / boards;
+    }
+
+    /**
+     * Returns the half-width of the 95% confidence interval of the equity of the hand, zero if the result is exact.
+     *
+     * @param hand The index of the hand.
+     * @return The half-width of the confidence interval.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public double getConfidenceInterval(int hand) {
+        if (exact) {
+            return 0;
+        }
+        if (boards < 2) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double mean = shares[hand] / boards;
+        double variance = Math.max(0, (squares[hand] - boards * mean * mean) / (boards - 1));
+        return Z_95 * Math.sqrt(variance / boards);
+    }
+
+    /**
+     * Returns the widest confidence interval of the hands.
+     *
+     * @return The half-width of the widest confidence interval.
+     */
+    public double getMaxConfidenceInterval() {
+        double max = 0;
+        for (int hand = 0; hand < wins.length; hand++) {
+            max = Math.max(max, getConfidenceInterval(hand));
+        }
+        return max;
+    }
+
+    /**
+     * Returns the string representation of the result.
+     *
+     * @return The string representation of the result.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("EquityResult [boards=").append(boards).append(exact ? ", exact" : "");
+        for (int hand = 0; hand < wins.length; hand++) {
+            builder.append(String.format(", %d: %.4f", hand, getEquity(hand)));
+            if (!exact) {
+                builder.append(String.format(" ± %.4f", getConfidenceInterval(hand)));
+            }
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,36 @@
+package model.poker;
+
+/**
+ * <b>
+ * This enum represents the categories of the poker hands, from the weakest to the strongest.
+ * </b>
+ *
+ * @version 1.0
+ */
+public enum HandCategory {
+
+    HIGH_CARD,
+    PAIR,
+    TWO_PAIRS,
+    THREE_OF_A_KIND,
+    STRAIGHT,
+    FLUSH,
+    FULL_HOUSE,
+    FOUR_OF_A_KIND,
+    STRAIGHT_FLUSH;
+
+    /**
+     * The categories indexed by their ordinal.
+     */
+    private static final HandCategory[] VALUES = values();
+
+    /**
+     * Returns the category of the given ordinal.
+     *
+     * @param ordinal The ordinal of the category.
+     * @return The category.
+     */
+    static HandCategory of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,300 @@
+package model.poker;
+
+import model.card.Card;
+import model.card.Rank;
+import model.card.Suit;
+
+import java.util.List;
+
+/**
+ * <b>
+ * PokerEvaluator ranks the poker hands of five to seven cards.
+ * </b>
+ *
+ * <p>
+ * The value of a hand is an int, the greater value is the better hand and two hands of the same value are equal.
+ * The value holds the {@link HandCategory} and the ranks which decide between two hands of the same category,
+ * so the best five cards of a hand of seven cards are never enumerated.
+ * </p>
+ *
+ * <p>
+ * The cards are read as a mask of their ids: each suit is a mask of {@link Rank#COUNT} bits of ranks.
+ * The flushes are found on the masks of the suits, the pairs, the three and four of a kind on the masks of the ranks
+ * seen at least two, three and four times, and the straights and the best ranks of a mask are read in tables
+ * of {@code 2^Rank.COUNT} entries computed once. The evaluation allocates nothing.
+ * </p>
+ *
+ * <p>
+ * A straight is made of five consecutive ranks in the order of {@link Rank}, the ace also starts the straight
+ * ace, two, three, four, five.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class PokerEvaluator {
+
+    /**
+     * The number of cards of a poker hand.
+     */
+    public static final int HAND_SIZE = 5;
+
+    /**
+     * The maximum number of cards evaluated.
+     */
+    public static final int MAX_CARDS = 7;
+
+    /**
+     * The mask of all the ranks.
+     */
+    private static final int RANKS = (1 << Rank.COUNT) - 1;
+
+    /**
+     * The mask of all the cards.
+     */
+    private static final long CARDS = (1L << Card.COUNT) - 1;
+
+    /**
+     * The shift of the category in the value of a hand, the lower bits are five ranks of four bits.
+     */
+    private static final int CATEGORY_SHIFT = 4 * HAND_SIZE;
+
+    /**
+     * The highest rank of the best straight of the masks of ranks, plus one, or zero if there is no straight.
+     */
+    private static final byte[] STRAIGHTS = new byte[1 << Rank.COUNT];
+
+    /**
+     * The five highest ranks of the masks of ranks, plus one, in four bits each from the highest.
+     */
+    private static final int[] HIGHEST = new int[1 << Rank.COUNT];
+
+    static {
+        int wheel = (1 << Rank.ACE.ordinal()) | 0b1111;
+        for (int ranks = 0; ranks <= RANKS; ranks++) {
+            for (int top = Rank.COUNT - 1; top >= HAND_SIZE - 1 && STRAIGHTS[ranks] == 0; top--) {
+                int straight = 0b11111 << (top - HAND_SIZE + 1);
+                if ((ranks & straight) == straight) {
+                    STRAIGHTS[ranks] = (byte) (top + 1);
+                }
+            }
+            if (STRAIGHTS[ranks] == 0 && (ranks & wheel) == wheel) {
+                STRAIGHTS[ranks] = HAND_SIZE - 1;
+            }
+            int highest = 0;
+            int remaining = ranks;
+            for (int i = 0; i < HAND_SIZE; i++) {
+                highest <<= 4;
+                if (remaining != 0) {
+                    int rank = 31 - Integer.numberOfLeadingZeros(remaining);
+                    highest |= rank + 1;
+                    remaining &= ~(1 << rank);
+                }
+            }
+            HIGHEST[ranks] = highest;
+        }
+    }
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private PokerEvaluator() {
+    }
+
+    /**
+     * Returns the value of the hand of the given cards.
+     *
+     * @param cards The mask of the cards, the bit of a card is its id.
+     * @return The value of the hand, the greater the better.
+     * @throws IllegalArgumentException if the mask has a bit which is not the id of a card,
+     *                                  or if the number of cards is not between 5 and 7.
+     */
+    public static int evaluate(long cards) {
+        if ((cards & ~CARDS) != 0) {
+            throw new IllegalArgumentException("The mask can only contain the bits of the " + Card.COUNT + " cards.");
+        }
+        int count = Long.bitCount(cards);
+        if (count < HAND_SIZE || count > MAX_CARDS) {
+            throw new IllegalArgumentException("A poker hand must have between " + HAND_SIZE + " and " + MAX_CARDS + " cards.");
+        }
+        return evaluateMask(cards);
+    }
+
+    /**
+     * Returns the value of the hand of the five given cards.
+     *
+     * @param c1 The id of the first card.
+     * @param c2 The id of the second card.
+     * @param c3 The id of the third card.
+     * @param c4 The id of the fourth card.
+     * @param c5 The id of the fifth card.
+     * @return The value of the hand, the greater the better.
+     * @throws IllegalArgumentException if an id is not the id of a card or if two cards are the same.
+     */
+    public static int evaluate(int c1, int c2, int c3, int c4, int c5) {
+        return evaluateIds(bit(c1) | bit(c2) | bit(c3) | bit(c4) | bit(c5), 5);
+    }
+
+    /**
+     * Returns the value of the best hand of five cards among the seven given cards.
+     *
+     * @param c1 The id of the first card.
+     * @param c2 The id of the second card.
+     * @param c3 The id of the third card.
+     * @param c4 The id of the fourth card.
+     * @param c5 The id of the fifth card.
+     * @param c6 The id of the sixth card.
+     * @param c7 The id of the seventh card.
+     * @return The value of the hand, the greater the better.
+     * @throws IllegalArgumentException if an id is not the id of a card or if two cards are the same.
+     */
+    public static int evaluate(int c1, int c2, int c3, int c4, int c5, int c6, int c7) {
+        return evaluateIds(bit(c1) | bit(c2) | bit(c3) | bit(c4) | bit(c5) | bit(c6) | bit(c7), 7);
+    }
+
+    /**
+     * Returns the value of the hand of the given cards.
+     *
+     * @param cards The cards of the hand.
+     * @return The value of the hand, the greater the better.
+     * @throws NullPointerException     if the cards or one of the cards is null.
+     * @throws IllegalArgumentException if two cards are the same or if the number of cards is not between 5 and 7.
+     */
+    public static int evaluate(List<Card> cards) {
+        if (cards == null) {
+            throw new NullPointerException("The cards cannot be null.");
+        }
+        long mask = 0L;
+        for (int i = 0; i < cards.size(); i++) {
+            mask |= 1L << cards.get(i).getId();
+        }
+        if (Long.bitCount(mask) != cards.size()) {
+            throw new IllegalArgumentException("A poker hand cannot contain the same card twice.");
+        }
+        return evaluate(mask);
+    }
+
+    /**
+     * Returns the category of the hand of the given value.
+     *
+     * @param value The value of the hand.
+     * @return The category of the hand.
+     */
+    public static HandCategory getCategory(int value) {
+        return HandCategory.of(value >>> CATEGORY_SHIFT);
+    }
+
+    /**
+     * Returns the bit of the card of the given id.
+     *
+     * @param id The id of the card.
+     * @return The bit of the card.
+     * @throws IllegalArgumentException if the id is not the id of a card.
+     */
+    private static long bit(int id) {
+        if (id < 0 || id >= Card.COUNT) {
+            throw new IllegalArgumentException("The id of the card must be between 0 and " + (Card.COUNT - 1) + ".");
+        }
+        return 1L << id;
+    }
+
+    /**
+     * Returns the value of the hand of the given distinct cards.
+     *
+     * @param cards The mask of the cards.
+     * @param count The number of ids given.
+     * @return The value of the hand.
+     * @throws IllegalArgumentException if two cards are the same.
+     */
+    private static int evaluateIds(long cards, int count) {
+        if (Long.bitCount(cards) != count) {
+            throw new IllegalArgumentException("A poker hand cannot contain the same card twice.");
+        }
+        return evaluateMask(cards);
+    }
+
+    /**
+     * Returns the value of the hand of the given cards, without checking them.
+     *
+     * @param cards The mask of the cards.
+     * @return The value of the hand.
+     */
+    private static int evaluateMask(long cards) {
+        int atLeast1 = 0;
+        int atLeast2 = 0;
+        int atLeast3 = 0;
+        int atLeast4 = 0;
+        int flush = 0;
+        for (int suit = 0; suit < Suit.COUNT; suit++) {
+            int ranks = (int) (cards >>> (suit * Rank.COUNT)) & RANKS;
+            atLeast4 |= atLeast3 & ranks;
+            atLeast3 |= atLeast2 & ranks;
+            atLeast2 |= atLeast1 & ranks;
+            atLeast1 |= ranks;
+            if (Integer.bitCount(ranks) >= HAND_SIZE) {
+                flush = ranks;
+            }
+        }
+
+        if (flush != 0 && STRAIGHTS[flush] != 0) {
+            return value(HandCategory.STRAIGHT_FLUSH, STRAIGHTS[flush] << 16);
+        }
+        if (atLeast4 != 0) {
+            int four = highest(atLeast4);
+            return value(HandCategory.FOUR_OF_A_KIND, rankOf(four) << 16 | (HIGHEST[atLeast1 & ~four] >>> 16) << 12);
+        }
+        int three = atLeast3 == 0 ? 0 : highest(atLeast3);
+        if (three != 0 && (atLeast2 & ~three) != 0) {
+            return value(HandCategory.FULL_HOUSE, rankOf(three) << 16 | rankOf(highest(atLeast2 & ~three)) << 12);
+        }
+        if (flush != 0) {
+            return value(HandCategory.FLUSH, HIGHEST[flush]);
+        }
+        if (STRAIGHTS[atLeast1] != 0) {
+            return value(HandCategory.STRAIGHT, STRAIGHTS[atLeast1] << 16);
+        }
+        if (three != 0) {
+            return value(HandCategory.THREE_OF_A_KIND, rankOf(three) << 16 | (HIGHEST[atLeast1 & ~three] >>> 12) << 8);
+        }
+        if (atLeast2 != 0) {
+            int first = highest(atLeast2);
+            int second = highest(atLeast2 & ~first);
+            if (second != 0) {
+                int kickers = HIGHEST[atLeast1 & ~first & ~second] >>> 16;
+                return value(HandCategory.TWO_PAIRS, rankOf(first) << 16 | rankOf(second) << 12 | kickers << 8);
+            }
+            return value(HandCategory.PAIR, rankOf(first) << 16 | (HIGHEST[atLeast1 & ~first] >>> 8) << 4);
+        }
+        return value(HandCategory.HIGH_CARD, HIGHEST[atLeast1]);
+    }
+
+    /**
+     * Returns the value of a hand of the given category and ranks.
+     *
+     * @param category The category of the hand.
+     * @param ranks    The five ranks of four bits deciding between the hands of the category.
+     * @return The value of the hand.
+     */
+    private static int value(HandCategory category, int ranks) {
+        return category.ordinal() << CATEGORY_SHIFT | ranks;
+    }
+
+    /**
+     * Returns the highest bit of the given mask of ranks.
+     *
+     * @param ranks The mask of ranks.
+     * @return The bit of the highest rank, or zero if the mask is empty.
+     */
+    private static int highest(int ranks) {
+        return Integer.highestOneBit(ranks);
+    }
+
+    /**
+     * Returns the rank plus one of the given bit of a rank.
+     *
+     * @param bit The bit of the rank.
+     * @return The ordinal of the rank plus one.
+     */
+    private static int rankOf(int bit) {
+        return 32 - Integer.numberOfLeadingZeros(bit);
+    }
+}
@@ -4,6 +4,7 @@ package vue.graphic.components;
 import model.card.Card;
 import model.card.Suit;
 import model.cards.Hand;
+import observer.Dispatcher;
 import observer.Listenable;
 import observer.Listener;
 
@@ -61,7 +62,7 @@ public class HandComponent extends JPanel implements Listener {
      */
     private void initComponents() {
         this.setLayout(new FlowLayout(FlowLayout.CENTER, HORIZONTAL_GAP, VERTICAL_GAP));
-        this.hand.addListener(this);
+        this.hand.addWeakListener(this, Dispatcher.eventDispatchThread());
 
     }
 
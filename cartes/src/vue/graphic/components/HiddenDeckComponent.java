@@ -2,6 +2,7 @@ package vue.graphic.components;
 
 
 import model.cards.Deck;
+import observer.Dispatcher;
 import observer.Listenable;
 import observer.Listener;
 
@@ -84,7 +85,7 @@ public class HiddenDeckComponent extends JPanel implements DeckComponent, Listen
         this.horizontalShift = horizontalShift;
         this.currentX = 0;
         this.currentY = 0;
-        this.deck.addListener(this);
+        this.deck.addWeakListener(this, Dispatcher.eventDispatchThread());
 
     }
 
@@ -5,20 +5,20 @@ import junit.framework.*;
 public class CardTest extends TestCase {
 
     /**
-     * Test constructor under normal conditions.
+     * Test Card.of under normal conditions.
      */
     public void testConstructor() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
         assertEquals(Rank.ACE, card.getRank());
         assertEquals(Suit.CLUBS, card.getSuit());
     }
 
     /**
-     * Test constructor with null rank.
+     * Test Card.of with null rank.
      */
     public void testConstructorNullRank() {
         try {
-            new Card(null, Suit.CLUBS);
+            Card.of(null, Suit.CLUBS);
             fail("Expected NullPointerException");
         } catch (NullPointerException e) {
             // Expected
@@ -26,11 +26,11 @@ public class CardTest extends TestCase {
     }
 
     /**
-     * Test constructor with null suit.
+     * Test Card.of with null suit.
      */
     public void testConstructorNullSuit() {
         try {
-            new Card(Rank.ACE, null);
+            Card.of(Rank.ACE, null);
             fail("Expected NullPointerException");
         } catch (NullPointerException e) {
             // Expected
@@ -38,11 +38,11 @@ public class CardTest extends TestCase {
     }
 
     /**
-     * Test constructor with null rank and suit.
+     * Test Card.of with null rank and suit.
      */
     public void testConstructorNullRankAndSuit() {
         try {
-            new Card(null, null);
+            Card.of(null, null);
             fail("Expected NullPointerException");
         } catch (NullPointerException e) {
             // Expected
@@ -50,38 +50,26 @@ public class CardTest extends TestCase {
     }
 
     /**
-     * Test constructor with null card.
+     * Test the cards of the same rank and suit are the same instance.
      */
-    public void testConstructorNullCard() {
-        try {
-            new Card(null);
-            fail("Expected NullPointerException");
-        } catch (NullPointerException e) {
-            // Expected
-        }
-    }
-
-    /**
-     * Test constructor with a card.
-     */
-    public void testConstructorCard() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(card);
-        assertEquals(Rank.ACE, card2.getRank());
-        assertEquals(Suit.CLUBS, card2.getSuit());
+    public void testCardsAreShared() {
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
+        assertSame(card, Card.of(Rank.ACE, Suit.CLUBS));
+        assertSame(card, Card.fromId(card.getId()));
+        assertNotSame(card, Card.of(Rank.ACE, Suit.SPADES));
     }
 
     /**
      * Test color of the card.
      */
     public void testColor() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
         assertEquals("BLACK", card.getColor());
-        card = new Card(Rank.ACE, Suit.DIAMONDS);
+        card = Card.of(Rank.ACE, Suit.DIAMONDS);
         assertEquals("RED", card.getColor());
-        card = new Card(Rank.ACE, Suit.HEARTS);
+        card = Card.of(Rank.ACE, Suit.HEARTS);
         assertEquals("RED", card.getColor());
-        card = new Card(Rank.ACE, Suit.SPADES);
+        card = Card.of(Rank.ACE, Suit.SPADES);
         assertEquals("BLACK", card.getColor());
     }
 
@@ -89,7 +77,7 @@ public class CardTest extends TestCase {
      * Test the string representation of a card.
      */
     public void testToString() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
         assertEquals("( A , ♣ )", card.toString());
     }
 
@@ -97,8 +85,8 @@ public class CardTest extends TestCase {
      * Test equality of two cards.
      */
     public void testEquals() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.ACE, Suit.CLUBS);
         assertEquals(card, card2);
     }
 
@@ -106,8 +94,8 @@ public class CardTest extends TestCase {
      * Test equality of two cards with different ranks.
      */
     public void testEqualsDifferentRank() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
         assertFalse(card.equals(card2));
     }
 
@@ -115,8 +103,8 @@ public class CardTest extends TestCase {
      * Test equality of two cards with different suits.
      */
     public void testEqualsDifferentSuit() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
         assertFalse(card.equals(card2));
     }
 
@@ -124,8 +112,8 @@ public class CardTest extends TestCase {
      * Test equality of two cards with different ranks and suits.
      */
     public void testEqualsDifferentRankAndSuit() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
         assertFalse(card.equals(card2));
     }
 
@@ -133,7 +121,7 @@ public class CardTest extends TestCase {
      * Test equality of two cards with null.
      */
     public void testEqualsNull() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
         assertFalse(card.equals(null));
     }
 
@@ -141,7 +129,7 @@ public class CardTest extends TestCase {
      * Test equality of two cards with a different object.
      */
     public void testEqualsDifferentObject() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
         assertFalse(card.equals(new Object()));
     }
 
@@ -149,8 +137,8 @@ public class CardTest extends TestCase {
      * Test the hash code of a card.
      */
     public void testHashCode() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.ACE, Suit.CLUBS);
         assertEquals(card.hashCode(), card2.hashCode());
     }
 
@@ -158,8 +146,8 @@ public class CardTest extends TestCase {
      * Test the hash code of a card with different ranks.
      */
     public void testHashCodeDifferentRank() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
         assertFalse(card.hashCode() == card2.hashCode());
     }
 
@@ -167,8 +155,8 @@ public class CardTest extends TestCase {
      * Test the hash code of a card with different suits.
      */
     public void testHashCodeDifferentSuit() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
         assertFalse(card.hashCode() == card2.hashCode());
     }
 
@@ -176,10 +164,93 @@ public class CardTest extends TestCase {
      * Test the hash code of a card with different ranks and suits.
      */
     public void testHashCodeDifferentRankAndSuit() {
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
         assertFalse(card.hashCode() == card2.hashCode());
     }
 
-}
+    /**
+     * Test the canonical cards are shared.
+     */
+    public void testOf() {
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
+        assertSame(card, Card.of(Rank.ACE, Suit.CLUBS));
+        assertEquals(Rank.ACE, card.getRank());
+        assertEquals(Suit.CLUBS, card.getSuit());
+    }
+
+    /**
+     * Test of with a null rank or suit.
+     */
+    public void testOfNull() {
+        try {
+            Card.of(null, Suit.CLUBS);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The rank of the card cannot be null.", e.getMessage());
+        }
+        try {
+            Card.of(Rank.ACE, null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The suit of the card cannot be null.", e.getMessage());
+        }
+    }
+
+    /**
+     * Test the ids of the cards are dense and give back the canonical cards.
+     */
+    public void testId() {
+        assertEquals(Suit.values().length * Rank.values().length, Card.COUNT);
+        boolean[] seen = new boolean[Card.COUNT];
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                Card card = Card.of(rank, suit);
+                assertFalse(seen[card.getId()]);
+                seen[card.getId()] = true;
+                assertSame(card, Card.fromId(card.getId()));
+                assertSame(card, Card.values().get(card.getId()));
+                assertEquals(suit.ordinal() * Rank.COUNT + rank.ordinal(), card.getId());
+            }
+        }
+    }
+
+    /**
+     * Test fromId with an id out of bounds.
+     */
+    public void testFromIdOutOfBounds() {
+        try {
+            Card.fromId(Card.COUNT);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The id of the card must be between 0 and " + (Card.COUNT - 1) + ".", e.getMessage());
+        }
+        try {
+            Card.fromId(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    /**
+     * Test the lookups of the ranks and the suits.
+     */
+    public void testLookups() {
+        for (Rank rank : Rank.values()) {
+            assertSame(rank, Rank.getRank(rank.getValue()));
+            assertSame(rank, Rank.getRank(rank.getSymbol()));
+        }
+        for (Suit suit : Suit.values()) {
+            assertSame(suit, Suit.getSuit(suit.getLetter()));
+        }
+        assertNull(Rank.getRank(1));
+        assertNull(Rank.getRank(-1));
+        assertNull(Rank.getRank(14));
+        assertNull(Rank.getRank('Z'));
+        assertNull(Rank.getRank('\u2660'));
+        assertNull(Suit.getSuit('Z'));
+        assertNull(Suit.getSuit('\u2660'));
+    }
 
+}
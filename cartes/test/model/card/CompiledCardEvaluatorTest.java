@@ -0,0 +1,62 @@
+package model.card;
+
+import junit.framework.*;
+
+public class CompiledCardEvaluatorTest extends TestCase {
+
+    /**
+     * Test that the compiled evaluator gives the score of the source evaluator to every card.
+     */
+    public void testEvaluateEveryCard() {
+        CardEvaluator source = new ClassicCardEvaluator();
+        CompiledCardEvaluator compiled = CompiledCardEvaluator.of(source);
+        assertSame(source, compiled.getSource());
+        for (Card card : Card.values()) {
+            assertEquals(source.evaluate(card), compiled.evaluate(card));
+            assertEquals(source.evaluate(card), compiled.evaluate(card.getId()));
+        }
+    }
+
+    /**
+     * Test that the source evaluator is called once for each card.
+     */
+    public void testSourceCalledOnce() {
+        int[] calls = new int[1];
+        CompiledCardEvaluator compiled = CompiledCardEvaluator.of(card -> {
+            calls[0]++;
+            return card.getId() * 2;
+        });
+        assertEquals(Card.COUNT, calls[0]);
+        for (Card card : Card.values()) {
+            assertEquals(card.getId() * 2, compiled.evaluate(card));
+        }
+        assertEquals(Card.COUNT, calls[0]);
+    }
+
+    /**
+     * Test that a compiled evaluator is not compiled again.
+     */
+    public void testOfCompiled() {
+        CompiledCardEvaluator compiled = CompiledCardEvaluator.of(new ClassicCardEvaluator());
+        assertSame(compiled, CompiledCardEvaluator.of(compiled));
+    }
+
+    /**
+     * Test the exceptions.
+     */
+    public void testExceptions() {
+        try {
+            CompiledCardEvaluator.of(null);
+            fail("NullPointerException expected");
+        } catch (NullPointerException e) {
+            assertEquals("The card evaluator cannot be null.", e.getMessage());
+        }
+        CompiledCardEvaluator compiled = CompiledCardEvaluator.of(new ClassicCardEvaluator());
+        try {
+            compiled.evaluate(null);
+            fail("NullPointerException expected");
+        } catch (NullPointerException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package model.cards;
+
+import junit.framework.*;
+import model.card.Card;
+import observer.Channel;
+import observer.ChannelListener;
+import observer.Listenable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CardSequenceTest extends TestCase {
+
+    /**
+     * Test the sequence against a list with random insertions and removals, keeping every version.
+     */
+    public void testAgainstList() {
+        Shuffler shuffler = Shuffler.splittable(3);
+        CardSequence sequence = CardSequence.empty();
+        List<Card> list = new ArrayList<>();
+        List<CardSequence> versions = new ArrayList<>();
+        List<List<Card>> lists = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (list.isEmpty() || shuffler.nextInt(3) > 0) {
+                Card card = Card.fromId(shuffler.nextInt(Card.COUNT));
+                int index = shuffler.nextInt(list.size() + 1);
+                sequence = sequence.insert(index, card);
+                list.add(index, card);
+            } else {
+                int index = shuffler.nextInt(list.size());
+                sequence = sequence.removeAt(index);
+                list.remove(index);
+            }
+            versions.add(sequence);
+            lists.add(new ArrayList<>(list));
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            CardSequence version = versions.get(i);
+            List<Card> expected = lists.get(i);
+            assertEquals(expected.size(), version.size());
+            assertEquals(expected, version.toList());
+            for (int j = 0; j < expected.size(); j += 7) {
+                assertEquals(expected.get(j), version.get(j));
+            }
+        }
+    }
+
+    /**
+     * Test the deal of the cards of a shoe in two branches.
+     */
+    public void testBranches() {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            cards.addAll(Card.values());
+        }
+        CardSequence shoe = CardSequence.of(cards);
+        CardSequence branch = shoe.pop().pop();
+        CardSequence other = shoe.pop().push(Card.fromId(5)).add(Card.fromId(7));
+        assertEquals(cards.size(), shoe.size());
+        assertEquals(cards, shoe.toList());
+        assertEquals(cards.size() - 2, branch.size());
+        assertEquals(cards.get(2), branch.first());
+        assertEquals(cards.size() + 1, other.size());
+        assertEquals(Card.fromId(5), other.first());
+        assertEquals(Card.fromId(7), other.get(other.size() - 1));
+        assertEquals(shoe, CardSequence.of(cards));
+        assertEquals(shoe.hashCode(), CardSequence.of(cards).hashCode());
+        assertFalse(shoe.equals(branch));
+        assertEquals(1, shoe.indexOf(Card.fromId(1)));
+        assertEquals(cards.size() - 1, shoe.remove(Card.fromId(1)).size());
+        assertSame(branch, branch.remove(null));
+    }
+
+    /**
+     * Test the snapshot and the restore of a deck.
+     */
+    public void testDeckSnapshot() {
+        Deck deck = new Deck(new ArrayList<>(Card.values()));
+        deck.deal();
+        CardSequence snapshot = deck.snapshot();
+        deck.dealAll();
+        assertTrue(deck.isEmpty());
+        deck.restore(snapshot);
+        assertEquals(snapshot.toList(), deck.getCards());
+        assertEquals(Card.COUNT - 1, deck.size());
+        assertEquals(Card.fromId(1), deck.deal());
+    }
+
+    /**
+     * Test that the snapshot is kept until the deck is modified, and that the restore notifies once.
+     */
+    public void testSnapshotKept() {
+        Deck deck = new Deck(new ArrayList<>(Card.values()));
+        CardSequence snapshot = deck.snapshot();
+        assertSame(snapshot, deck.snapshot());
+        assertEquals(Card.COUNT, snapshot.toArray().length);
+
+        List<String> events = new ArrayList<>();
+        deck.addListener(new ChannelListener() {
+            @Override
+            public void notify(Listenable source, Channel channel, Object... data) {
+                events.add(channel.getName());
+            }
+
+            @Override
+            public void notifyBatch(Listenable source, Channel channel, int count) {
+                events.add(channel.getName() + " x" + count);
+            }
+        });
+        deck.deal();
+        assertNotSame(snapshot, deck.snapshot());
+        deck.shuffle(Shuffler.splittable(5));
+        events.clear();
+
+        deck.restore(snapshot);
+        assertSame(snapshot, deck.snapshot());
+        assertEquals(snapshot.toList(), deck.getCards());
+        assertEquals(2, events.size());
+        assertTrue(events.contains("clearCards x1"));
+        assertTrue(events.contains("addCard x" + Card.COUNT));
+
+        // Restoring the snapshot of the deck not modified since does nothing.
+        events.clear();
+        deck.restore(snapshot);
+        assertTrue(events.isEmpty());
+        deck.clear();
+        assertSame(CardSequence.empty(), deck.snapshot());
+    }
+
+    /**
+     * Test the exceptions.
+     */
+    public void testExceptions() {
+        try {
+            CardSequence.empty().pop();
+            fail("IllegalStateException expected");
+        } catch (IllegalStateException e) {
+            assertEquals("The sequence of cards is empty.", e.getMessage());
+        }
+        try {
+            CardSequence.of(Card.fromId(0)).get(1);
+            fail("IndexOutOfBoundsException expected");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("Index: 1, Size: 1", e.getMessage());
+        }
+        try {
+            CardSequence.empty().add(null);
+            fail("NullPointerException expected");
+        } catch (NullPointerException e) {
+            assertEquals("The card cannot be null.", e.getMessage());
+        }
+        try {
+            new Deck(new ArrayList<>()).restore(null);
+            fail("NullPointerException expected");
+        } catch (NullPointerException e) {
+            assertEquals("The sequence of cards cannot be null.", e.getMessage());
+        }
+    }
+}
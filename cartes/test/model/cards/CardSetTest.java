@@ -0,0 +1,160 @@
+package model.cards;
+
+import junit.framework.*;
+import model.card.Card;
+import model.card.Rank;
+import model.card.Suit;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+public class CardSetTest extends TestCase {
+
+    /**
+     * Test of under normal conditions.
+     */
+    public void testOf() {
+        CardSet set = CardSet.of(Card.of(Rank.ACE, Suit.CLUBS), Card.of(Rank.TWO, Suit.HEARTS), Card.of(Rank.ACE, Suit.CLUBS));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(Card.of(Rank.ACE, Suit.CLUBS)));
+        assertTrue(set.contains(Card.of(Rank.TWO, Suit.HEARTS)));
+        assertFalse(set.contains(Card.of(Rank.TWO, Suit.CLUBS)));
+        assertEquals(set, CardSet.of(Arrays.asList(Card.of(Rank.TWO, Suit.HEARTS), Card.of(Rank.ACE, Suit.CLUBS))));
+    }
+
+    /**
+     * Test of with a null card.
+     */
+    public void testOfNullCard() {
+        try {
+            CardSet.of(Card.of(Rank.ACE, Suit.CLUBS), null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // Expected
+        }
+    }
+
+    /**
+     * Test fromMask with a bit which is not a card.
+     */
+    public void testFromMaskOutOfBounds() {
+        assertEquals(CardSet.FULL, CardSet.fromMask((1L << Card.COUNT) - 1));
+        try {
+            CardSet.fromMask(1L << Card.COUNT);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    /**
+     * Test the set operations.
+     */
+    public void testSetOperations() {
+        CardSet clubs = CardSet.ofSuit(Suit.CLUBS);
+        CardSet aces = CardSet.ofRank(Rank.ACE);
+        assertEquals(Rank.COUNT, clubs.size());
+        assertEquals(Suit.COUNT, aces.size());
+        assertEquals(CardSet.of(Card.of(Rank.ACE, Suit.CLUBS)), clubs.intersection(aces));
+        assertEquals(Rank.COUNT + Suit.COUNT - 1, clubs.union(aces).size());
+        assertEquals(Rank.COUNT - 1, clubs.difference(aces).size());
+        assertEquals(Card.COUNT - Rank.COUNT, clubs.complement().size());
+        assertTrue(clubs.union(aces).containsAll(aces));
+        assertFalse(clubs.containsAll(aces));
+        assertTrue(clubs.intersects(aces));
+        assertFalse(clubs.intersects(CardSet.ofSuit(Suit.SPADES)));
+        assertEquals(CardSet.EMPTY, CardSet.FULL.complement());
+    }
+
+    /**
+     * Test with and without.
+     */
+    public void testWithAndWithout() {
+        Card card = Card.of(Rank.KING, Suit.SPADES);
+        CardSet set = CardSet.EMPTY.with(card);
+        assertEquals(1, set.size());
+        assertSame(set, set.with(card));
+        assertSame(CardSet.EMPTY, set.without(card));
+        assertTrue(CardSet.EMPTY.isEmpty());
+    }
+
+    /**
+     * Test the queries by suit and by rank.
+     */
+    public void testBySuitAndByRank() {
+        CardSet set = CardSet.of(Card.of(Rank.TWO, Suit.HEARTS), Card.of(Rank.FOUR, Suit.HEARTS), Card.of(Rank.FOUR, Suit.CLUBS));
+        assertEquals(2, set.bySuit(Suit.HEARTS).size());
+        assertEquals(2, set.count(Suit.HEARTS));
+        assertEquals(2, set.byRank(Rank.FOUR).size());
+        assertEquals(2, set.count(Rank.FOUR));
+        assertEquals(0, set.count(Suit.SPADES));
+        assertEquals((1 << Rank.TWO.ordinal()) | (1 << Rank.FOUR.ordinal()), set.getRanks(Suit.HEARTS));
+    }
+
+    /**
+     * Test the iteration in the order of the ids.
+     */
+    public void testIterator() {
+        CardSet set = CardSet.of(Card.of(Rank.ACE, Suit.SPADES), Card.of(Rank.TWO, Suit.CLUBS));
+        List<Card> cards = set.toList();
+        assertEquals(Arrays.asList(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.ACE, Suit.SPADES)), cards);
+        Iterator<Card> iterator = set.iterator();
+        assertSame(Card.of(Rank.TWO, Suit.CLUBS), iterator.next());
+        assertSame(Card.of(Rank.ACE, Suit.SPADES), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(Card.values(), CardSet.FULL.toList());
+    }
+
+    /**
+     * Test the multiset of several decks.
+     */
+    public void testMultisetOfDecks() {
+        CardMultiset shoe = CardMultiset.ofDecks(6);
+        Card card = Card.of(Rank.QUEEN, Suit.DIAMONDS);
+        assertEquals(6 * Card.COUNT, shoe.size());
+        assertEquals(6, shoe.count(card));
+        assertEquals(6 * Rank.COUNT, shoe.count(Suit.DIAMONDS));
+        assertEquals(6 * Suit.COUNT, shoe.count(Rank.QUEEN));
+        for (int i = 0; i < 6; i++) {
+            assertTrue(shoe.remove(card));
+        }
+        assertFalse(shoe.remove(card));
+        assertFalse(shoe.contains(card));
+        assertEquals(CardSet.FULL.without(card), shoe.toCardSet());
+        assertEquals(6 * Card.COUNT - 6, shoe.size());
+    }
+
+    /**
+     * Test containsAll of the multiset.
+     */
+    public void testMultisetContainsAll() {
+        Card card = Card.of(Rank.ACE, Suit.HEARTS);
+        CardMultiset twice = new CardMultiset(Arrays.asList(card, card));
+        CardMultiset once = new CardMultiset(Arrays.asList(card));
+        assertTrue(twice.containsAll(once));
+        assertFalse(once.containsAll(twice));
+        twice.clear();
+        assertTrue(twice.isEmpty());
+        try {
+            CardMultiset.ofDecks(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    /**
+     * Test the conversions of a list of cards.
+     */
+    public void testListOfCardsConversions() {
+        Card card = Card.of(Rank.FIVE, Suit.CLUBS);
+        Hand hand = new Hand();
+        hand.addCard(card);
+        hand.addCard(card);
+        hand.addCard(Card.of(Rank.SIX, Suit.CLUBS));
+        assertEquals(2, hand.toCardSet().size());
+        assertEquals(2, hand.toCardMultiset().count(card));
+        assertEquals(3, hand.toCardMultiset().size());
+    }
+}
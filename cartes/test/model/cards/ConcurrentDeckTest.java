@@ -0,0 +1,152 @@
+package model.cards;
+
+import junit.framework.*;
+import model.card.Card;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentDeckTest extends TestCase {
+
+    /**
+     * The number of decks of the stress test.
+     */
+    private static final int DECKS = 200;
+
+    /**
+     * Returns a shuffled list of the given number of copies of each card.
+     *
+     * @param decks The number of copies of each card.
+     * @return The cards.
+     */
+    private static List<Card> cards(int decks) {
+        List<Card> cards = new ArrayList<>(decks * Card.COUNT);
+        for (int i = 0; i < decks; i++) {
+            cards.addAll(Card.values());
+        }
+        Shuffler.splittable(decks).shuffle(cards);
+        return cards;
+    }
+
+    /**
+     * Test that every card is dealt exactly once by many threads, one card at a time, in a buffer,
+     * in a list and in a hand.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    public void testEveryCardDealtOnce() throws InterruptedException {
+        List<Card> cards = cards(DECKS);
+        ConcurrentDeck deck = new ConcurrentDeck(cards);
+        int threads = 16;
+        int[][] dealt = new int[threads][cards.size()];
+        int[] counts = new int[threads];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    Card card;
+                    while (true) {
+                        if (thread % 4 == 0) {
+                            card = deck.tryDeal();
+                            if (card == null) {
+                                break;
+                            }
+                            dealt[thread][counts[thread]++] = card.getId();
+                        } else if (thread % 4 == 1) {
+                            int count = deck.deal(dealt[thread], counts[thread], Math.min(7, cards.size() - counts[thread]));
+                            if (count == 0) {
+                                break;
+                            }
+                            counts[thread] += count;
+                        } else if (thread % 4 == 2) {
+                            List<Card> list;
+                            try {
+                                list = deck.deal(5);
+                            } catch (IllegalStateException e) {
+                                break;
+                            }
+                            for (Card each : list) {
+                                dealt[thread][counts[thread]++] = each.getId();
+                            }
+                        } else {
+                            Hand hand = new Hand();
+                            int count = deck.deal(hand, 3);
+                            if (count == 0) {
+                                break;
+                            }
+                            if (count != hand.size()) {
+                                failures.incrementAndGet();
+                            }
+                            for (Card each : hand.getCards()) {
+                                dealt[thread][counts[thread]++] = each.getId();
+                            }
+                        }
+                    }
+                } catch (RuntimeException | InterruptedException e) {
+                    failures.incrementAndGet();
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(0, failures.get());
+
+        int[] copies = new int[Card.COUNT];
+        int total = 0;
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < counts[t]; i++) {
+                copies[dealt[t][i]]++;
+            }
+            total += counts[t];
+        }
+        assertEquals(cards.size(), total);
+        for (int id = 0; id < Card.COUNT; id++) {
+            assertEquals(DECKS, copies[id]);
+        }
+        assertTrue(deck.isEmpty());
+        assertNull(deck.tryDeal());
+        assertEquals(0, deck.size());
+        assertEquals(0, deck.ids().count());
+    }
+
+    /**
+     * Test that the cards are dealt in order by one thread.
+     */
+    public void testDealInOrder() {
+        List<Card> cards = cards(1);
+        ConcurrentDeck deck = new ConcurrentDeck(cards);
+        assertEquals(cards.get(0), deck.getCard(0));
+        assertEquals(cards.get(0), deck.deal());
+        Card[] buffer = new Card[10];
+        assertEquals(10, deck.deal(buffer, 0, 10));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(cards.get(1 + i), buffer[i]);
+        }
+        assertEquals(cards.size() - 11, deck.size());
+        assertEquals(cards.get(11).getId(), deck.ids().findFirst().getAsInt());
+        assertEquals(cards.size() - 11, deck.ids().count());
+        Hand hand = new Hand();
+        assertEquals(2, deck.deal(hand, 2));
+        assertEquals(cards.subList(11, 13), hand.getCards());
+        assertEquals(cards.subList(13, cards.size()), deck.deal(deck.size() + 5));
+        assertTrue(deck.isEmpty());
+        try {
+            deck.deal();
+            fail("IllegalStateException expected");
+        } catch (IllegalStateException e) {
+            assertEquals("The deck is empty.", e.getMessage());
+        }
+        assertEquals(0, deck.deal(buffer, 0, 10));
+        assertEquals(0, deck.deal(hand, 3));
+    }
+}
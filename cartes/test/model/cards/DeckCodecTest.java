@@ -0,0 +1,139 @@
+package model.cards;
+
+import junit.framework.*;
+import model.card.Card;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DeckCodecTest extends TestCase {
+
+    /**
+     * Returns a new deck with the given number of copies of each card.
+     *
+     * @param decks The number of copies of each card.
+     * @return The deck, in the order of the ids of the cards.
+     */
+    private static Deck shoe(int decks) {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < decks; i++) {
+            cards.addAll(Card.values());
+        }
+        return new Deck(cards);
+    }
+
+    /**
+     * Test that the shuffled decks are decoded in the same order.
+     */
+    public void testRoundTripDeck() {
+        Deck deck = shoe(1);
+        DeckCodec codec = DeckCodec.of(deck);
+        assertEquals(Card.COUNT, codec.size());
+        assertEquals(26, codec.getByteLength());
+        Shuffler shuffler = Shuffler.splittable(42);
+        for (int i = 0; i < 1000; i++) {
+            deck.shuffle(shuffler);
+            byte[] code = codec.encode(deck);
+            assertEquals(codec.getByteLength(), code.length);
+            assertEquals(deck.getCards(), codec.decode(code).getCards());
+        }
+    }
+
+    /**
+     * Test that the shuffled shoes of several decks are decoded in the same order.
+     */
+    public void testRoundTripShoe() {
+        Deck shoe = shoe(6);
+        DeckCodec codec = new DeckCodec(CardMultiset.ofDecks(6));
+        int bits = codec.getPermutationCount().bitLength();
+        // Less than one bit is lost by word of the code.
+        assertTrue(codec.getByteLength() * 8 < bits + Card.COUNT);
+        Shuffler shuffler = Shuffler.splittable(7);
+        byte[] codes = new byte[codec.getByteLength() * 3];
+        List<List<Card>> orders = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            shoe.shuffle(shuffler);
+            codec.encode(shoe, codes, i * codec.getByteLength());
+            orders.add(new ArrayList<>(shoe.getCards()));
+        }
+        for (int i = 0; i < 3; i++) {
+            assertEquals(orders.get(i), codec.decodeCards(codes, i * codec.getByteLength()));
+            codec.restore(shoe, codes, i * codec.getByteLength());
+            assertEquals(orders.get(i), shoe.getCards());
+        }
+    }
+
+    /**
+     * Test the rank and the unrank of all the orders of a small deck.
+     */
+    public void testRankEveryOrder() {
+        CardMultiset composition = new CardMultiset();
+        composition.add(Card.fromId(0), 2);
+        composition.add(Card.fromId(5));
+        composition.add(Card.fromId(9), 2);
+        DeckCodec codec = new DeckCodec(composition);
+        // 5! / (2! 2!) orders.
+        assertEquals(BigInteger.valueOf(30), codec.getPermutationCount());
+        List<List<Card>> orders = new ArrayList<>();
+        for (int index = 0; index < 30; index++) {
+            Deck deck = codec.unrank(BigInteger.valueOf(index));
+            assertFalse(orders.contains(deck.getCards()));
+            orders.add(deck.getCards());
+            assertEquals(BigInteger.valueOf(index), codec.rank(deck));
+            assertEquals(deck.getCards(), codec.decode(codec.encode(deck)).getCards());
+        }
+    }
+
+    /**
+     * Test that the sorted deck has the index 0 and the reversed deck the last index.
+     */
+    public void testRankSortedDeck() {
+        Deck deck = shoe(1);
+        DeckCodec codec = DeckCodec.of(deck);
+        assertEquals(BigInteger.ZERO, codec.rank(deck));
+        List<Card> reversed = new ArrayList<>(deck.getCards());
+        java.util.Collections.reverse(reversed);
+        assertEquals(codec.getPermutationCount().subtract(BigInteger.ONE), codec.rank(new Deck(reversed)));
+    }
+
+    /**
+     * Test the exceptions.
+     */
+    public void testExceptions() {
+        Deck deck = shoe(1);
+        DeckCodec codec = DeckCodec.of(deck);
+        try {
+            new DeckCodec(null);
+            fail("NullPointerException expected");
+        } catch (NullPointerException e) {
+            assertEquals("The composition cannot be null.", e.getMessage());
+        }
+        try {
+            codec.encode(shoe(2));
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The cards are not the cards of the composition.", e.getMessage());
+        }
+        List<Card> cards = new ArrayList<>(deck.getCards());
+        cards.set(0, cards.get(1));
+        try {
+            codec.encode(new Deck(cards));
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The cards are not the cards of the composition.", e.getMessage());
+        }
+        try {
+            codec.decode(new byte[codec.getByteLength() - 1]);
+            fail("IndexOutOfBoundsException expected");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            codec.unrank(codec.getPermutationCount());
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The index must be between 0 and the number of orders excluded.", e.getMessage());
+        }
+    }
+}
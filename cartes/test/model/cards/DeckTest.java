@@ -3,12 +3,20 @@ package model.cards;
 import junit.framework.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
 
 
+import model.card.Card;
+import observer.Channel;
+import observer.ChannelListener;
+import observer.Listenable;
+import observer.monitoring.AllocationMeter;
 import org.junit.Test;
 import vue.graphic.components.HandComponent;
 
+
 public class DeckTest extends TestCase {
     /**
      * Method under test: {@link Deck#Deck(List)}
@@ -92,5 +100,182 @@ public class DeckTest extends TestCase {
         assertEquals(28, FactoryDeck.createDeck32().dealAll().size());
     }
 
+    /**
+     * Method under test: {@link Deck#deal()}
+     * Normal case: The cards dealt from the top are no longer seen by the other methods of the deck.
+     */
+    public void testDealFromTop() {
+        Deck deck = FactoryDeck.createDeck52();
+        List<Card> expected = new ArrayList<>(deck.getCards());
+        CountingListener listener = new CountingListener();
+        deck.addListener(ListOfCards.REMOVE_CARD, listener);
+        for (int i = 0; i < 10; i++) {
+            assertSame(expected.remove(0), deck.deal());
+        }
+        assertEquals(10, listener.count);
+        assertEquals(expected.size(), deck.size());
+        assertSame(expected.get(0), deck.getCard(0));
+        assertSame(expected.get(expected.size() - 1), deck.getCard(deck.size() - 1));
+        assertEquals(expected.get(0), deck.iterator().next());
+
+        Card card = Card.fromId(0);
+        deck.addCard(card);
+        expected.add(card);
+        assertEquals(expected, deck.getCards());
+        assertEquals(0, deck.indexOf(expected.get(0)));
+        assertEquals(expected, deck.dealAll());
+        assertTrue(deck.isEmpty());
+    }
+
+    /**
+     * Method under test: {@link Deck#deal()} with the methods reading the cards
+     * Normal case: The reads between the deals neither write the backing list nor see the cards dealt,
+     * and the view of the cards follows the deals.
+     */
+    public void testReadsBetweenDeals() {
+        int[] writes = new int[1];
+        List<Card> backing = new ArrayList<Card>(FactoryDeck.createDeck52().getCards()) {
+            @Override
+            public Card set(int index, Card element) {
+                writes[0]++;
+                return super.set(index, element);
+            }
+
+            @Override
+            public Card remove(int index) {
+                writes[0]++;
+                return super.remove(index);
+            }
+        };
+        Deck deck = new Deck(backing);
+        List<Card> view = deck.getCards();
+        List<Card> expected = new ArrayList<>(backing);
+        while (deck.size() > 1) {
+            Card dealt = deck.deal();
+            assertSame(expected.remove(0), dealt);
+            assertFalse(deck.contains(dealt));
+            assertEquals(-1, deck.indexOf(dealt));
+            assertEquals(0, deck.indexOf(expected.get(0)));
+            assertSame(expected.get(0), deck.iterator().next());
+            assertEquals(expected, view);
+            assertEquals(expected.toString(), deck.getCards().toString());
+            assertEquals(expected.size(), deck.getBySuit(expected.get(0).getSuit()).size()
+                    + deck.getNotIn(deck.getBySuit(expected.get(0).getSuit())).size());
+        }
+        assertEquals(0, writes[0]);
+        try {
+            view.set(0, expected.get(0));
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(0, writes[0]);
+        }
+    }
+
+    /**
+     * Method under test: {@link Deck#deal(Card[], int, int)}, {@link Deck#deal(int[], int, int)}
+     * and {@link Deck#deal(ListOfCards, int)}
+     * Normal case: The cards are dealt from the top in the buffers, the listeners are notified once by deal.
+     */
+    public void testBulkDeal() {
+        Deck deck = FactoryDeck.createDeck52();
+        List<Card> expected = new ArrayList<>(deck.getCards());
+        int[] batches = new int[2];
+        deck.addListener(ListOfCards.REMOVE_CARD, new ChannelListener() {
+            @Override
+            public void notify(Listenable source, Channel channel, Object... data) {
+                batches[0]++;
+            }
+
+            @Override
+            public void notifyBatch(Listenable source, Channel channel, int count) {
+                batches[0]++;
+                batches[1] += count;
+            }
+        });
+
+        Card[] cards = new Card[12];
+        assertEquals(10, deck.deal(cards, 2, 10));
+        assertNull(cards[0]);
+        assertEquals(expected.subList(0, 10), Arrays.asList(cards).subList(2, 12));
+        int[] ids = new int[5];
+        assertEquals(5, deck.deal(ids, 0, 5));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(expected.get(10 + i).getId(), ids[i]);
+        }
+        Hand hand = new Hand();
+        assertEquals(3, deck.deal(hand, 3));
+        assertEquals(expected.subList(15, 18), hand.getCards());
+        assertEquals(3, batches[0]);
+        assertEquals(18, batches[1]);
+
+        assertEquals(expected.size() - 18, deck.ids().count());
+        assertEquals(expected.get(18).getId(), deck.ids().findFirst().getAsInt());
+        assertEquals(expected.subList(18, expected.size()).stream().mapToInt(Card::getId).sum(),
+                deck.ids().parallel().sum());
+        Spliterator.OfInt spliterator = deck.idSpliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED
+                | Spliterator.IMMUTABLE));
+        assertEquals(deck.size(), spliterator.getExactSizeIfKnown());
+
+        assertEquals(deck.size(), deck.deal(new Card[100], 0, 100));
+        assertTrue(deck.isEmpty());
+        assertEquals(0, deck.deal(ids, 0, 5));
+        try {
+            deck.deal(ids, 3, 5);
+            fail("IndexOutOfBoundsException expected");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Method under test: {@link Deck#deal()}
+     * Normal case: Once the listeners are registered, dealing a card into a hand allocates nothing.
+     */
+    public void testDealDoesNotAllocate() {
+        Deck deck = FactoryDeck.createDeck52();
+        Hand hand = new Hand(new ArrayList<>(deck.size()));
+        CountingListener listener = new CountingListener();
+        deck.addListener(ListOfCards.REMOVE_CARD, listener);
+        deck.addListener(ListOfCards.ADD_CARD, listener);
+        hand.addListener(ListOfCards.ADD_CARD, listener);
+        hand.addListener(ListOfCards.REMOVE_CARD, listener);
+        Runnable dealCards = () -> {
+            for (int i = 0; i < 10_000; i++) {
+                Card card = deck.deal();
+                hand.addCard(card);
+                hand.removeCard(card);
+                deck.addCard(card);
+            }
+        };
+        // Warm up the path before measuring it.
+        dealCards.run();
+        // The measure throws UnsupportedOperationException on a JVM which cannot measure the allocations.
+        assertEquals(0, AllocationMeter.allocatedBytes(dealCards));
+        assertTrue(listener.count > 0);
+        assertEquals(48, deck.size());
+    }
+
+    /**
+     * A listener counting the cards notified without allocating.
+     */
+    private static final class CountingListener implements ChannelListener {
+
+        /**
+         * The number of cards notified.
+         */
+        private int count;
+
+        @Override
+        public void notify(Listenable source, Channel channel, Object... data) {
+            this.notify(source, channel, data[0]);
+        }
+
+        @Override
+        public void notify(Listenable source, Channel channel, Object data) {
+            this.count++;
+        }
+    }
+
 }
 
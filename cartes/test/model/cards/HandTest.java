@@ -3,6 +3,7 @@ package model.cards;
 import junit.framework.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import model.card.Card;
@@ -31,9 +32,9 @@ public class HandTest extends TestCase {
      */
     public void testConstructor2() {
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(Rank.ACE, Suit.CLUBS));
-        cards.add(new Card(Rank.TWO, Suit.CLUBS));
-        cards.add(new Card(Rank.THREE, Suit.CLUBS));
+        cards.add(Card.of(Rank.ACE, Suit.CLUBS));
+        cards.add(Card.of(Rank.TWO, Suit.CLUBS));
+        cards.add(Card.of(Rank.THREE, Suit.CLUBS));
 
         assertEquals(cards, (new Hand(cards)).getCards());
     }
@@ -80,9 +81,9 @@ public class HandTest extends TestCase {
      */
     public void testEvaluate3() {
         Hand hand = new Hand();
-        hand.addCard(new Card(Rank.ACE, Suit.CLUBS));
-        hand.addCard(new Card(Rank.TWO, Suit.CLUBS));
-        hand.addCard(new Card(Rank.THREE, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.ACE, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.TWO, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.THREE, Suit.CLUBS));
         assertEquals(18, hand.evaluate(new ClassicCardEvaluator()));
     }
 
@@ -116,10 +117,10 @@ public class HandTest extends TestCase {
     public void testGetBestCard3() {
         Hand hand = new Hand();
         CardEvaluator cardEvaluator = new ClassicCardEvaluator();
-        hand.addCard(new Card(Rank.ACE, Suit.CLUBS));
-        hand.addCard(new Card(Rank.TWO, Suit.CLUBS));
-        hand.addCard(new Card(Rank.THREE, Suit.CLUBS));
-        assertEquals(new Card(Rank.ACE, Suit.CLUBS), hand.getBestCard(new ClassicCardComparator(cardEvaluator)));
+        hand.addCard(Card.of(Rank.ACE, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.TWO, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.THREE, Suit.CLUBS));
+        assertEquals(Card.of(Rank.ACE, Suit.CLUBS), hand.getBestCard(new ClassicCardComparator(cardEvaluator)));
     }
 
     /**
@@ -158,7 +159,7 @@ public class HandTest extends TestCase {
      */
     public void testContainsPair2() {
         Hand hand = new Hand();
-        hand.addCard(new Card(Rank.TWO, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.TWO, Suit.CLUBS));
         assertFalse(hand.containsPair());
     }
 
@@ -167,8 +168,8 @@ public class HandTest extends TestCase {
      */
     public void testContainsPair3() {
         Hand hand = new Hand();
-        hand.addCard(new Card(Rank.TWO, Suit.CLUBS));
-        hand.addCard(new Card(Rank.TWO, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.TWO, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.TWO, Suit.CLUBS));
         assertTrue(hand.containsPair());
     }
 
@@ -177,10 +178,106 @@ public class HandTest extends TestCase {
      */
     public void testContainsPair4() {
         Hand hand = new Hand();
-        hand.addCard(new Card(Rank.TWO, Suit.CLUBS));
-        hand.addCard(new Card(Rank.TWO, Suit.CLUBS));
-        hand.addCard(new Card(Rank.TWO, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.TWO, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.TWO, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.TWO, Suit.CLUBS));
         assertFalse(hand.containsPair());
     }
-}
 
+    /**
+     * Method under test: {@link Hand#containsPair()}
+     * Normal case: The cards of a pair have the same rank, not the same suit.
+     */
+    public void testContainsPairOfRank() {
+        Hand hand = new Hand();
+        hand.addCard(Card.of(Rank.TWO, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.TWO, Suit.HEARTS));
+        hand.addCard(Card.of(Rank.KING, Suit.HEARTS));
+        assertTrue(hand.containsPair());
+        assertFalse(hand.containsTwoPairs());
+        hand.addCard(Card.of(Rank.KING, Suit.SPADES));
+        assertTrue(hand.containsTwoPairs());
+        assertFalse(hand.containsThreeOfAKind());
+        hand.addCard(Card.of(Rank.KING, Suit.CLUBS));
+        assertTrue(hand.containsThreeOfAKind());
+        assertFalse(hand.containsFourOfAKind());
+        hand.addCard(Card.of(Rank.KING, Suit.DIAMONDS));
+        assertTrue(hand.containsFourOfAKind());
+    }
+
+    /**
+     * Method under test: {@link Hand#evaluate(CardEvaluator)}
+     * Normal case: The score of a cached evaluator follows the changes of the hand.
+     */
+    public void testCachedEvaluator() {
+        CardEvaluator evaluator = new ClassicCardEvaluator();
+        Hand hand = new Hand(new ArrayList<>(Arrays.asList(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.ACE, Suit.HEARTS))));
+        hand.cacheEvaluator(evaluator);
+        hand.cacheEvaluator(evaluator);
+        assertEquals(15, hand.evaluate(evaluator));
+        hand.addCard(Card.of(Rank.KING, Suit.CLUBS));
+        assertEquals(27, hand.evaluate(evaluator));
+        hand.removeCard(Card.of(Rank.TWO, Suit.CLUBS));
+        hand.removeCard(Card.of(Rank.TWO, Suit.CLUBS));
+        assertEquals(25, hand.evaluate(evaluator));
+        hand.sortByRank(false, true);
+        hand.shuffle(Shuffler.xoroshiro(1));
+        assertEquals(25, hand.evaluate(evaluator));
+        assertEquals(2, hand.getSuitCount(Suit.CLUBS) + hand.getSuitCount(Suit.HEARTS));
+        assertEquals(1, hand.getRankCount(Rank.KING));
+        assertEquals(0, hand.getRankCount(Rank.TWO));
+        hand.clear();
+        assertEquals(0, hand.evaluate(evaluator));
+        assertEquals(0, hand.getSuitCount(Suit.HEARTS));
+        try (ListOfCards.Batch batch = hand.beginBatch()) {
+            hand.addCards(Arrays.asList(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.THREE, Suit.CLUBS)));
+            assertEquals(5, hand.evaluate(evaluator));
+        }
+    }
+
+    /**
+     * Method under test: {@link Hand#getCards()}
+     * Normal case: The cards cannot be modified without the methods of the hand.
+     */
+    public void testGetCardsReadOnly() {
+        Hand hand = new Hand();
+        hand.addCard(Card.of(Rank.TWO, Suit.CLUBS));
+        try {
+            hand.getCards().add(Card.of(Rank.THREE, Suit.CLUBS));
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // Expected
+        }
+        try {
+            hand.iterator().remove();
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException | IllegalStateException e) {
+            // Expected
+        }
+        assertEquals(1, hand.size());
+    }
+
+    /**
+     * Method under test: {@link Hand#snapshot()} and {@link Hand#restore(CardSequence)}
+     * Normal case: The hand comes back to the cards and the score of the snapshot.
+     */
+    public void testSnapshotRestore() {
+        CardEvaluator evaluator = new ClassicCardEvaluator();
+        Hand hand = new Hand();
+        hand.cacheEvaluator(evaluator);
+        hand.addCard(Card.of(Rank.TWO, Suit.CLUBS));
+        hand.addCard(Card.of(Rank.KING, Suit.HEARTS));
+        CardSequence snapshot = hand.snapshot();
+        int score = hand.evaluate(evaluator);
+
+        hand.addCard(Card.of(Rank.ACE, Suit.SPADES));
+        hand.removeCard(Card.of(Rank.TWO, Suit.CLUBS));
+        assertEquals(2, snapshot.size());
+
+        hand.restore(snapshot);
+        assertEquals(snapshot.toList(), hand.getCards());
+        assertEquals(score, hand.evaluate(evaluator));
+        assertEquals(1, hand.getSuitCount(Suit.CLUBS));
+        assertEquals(0, hand.getSuitCount(Suit.SPADES));
+    }
+}
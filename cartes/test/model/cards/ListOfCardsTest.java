@@ -2,12 +2,21 @@ package model.cards;
 
 import junit.framework.*;
 import model.card.Card;
+import model.card.CardComparator;
+import model.card.CardEvaluator;
+import model.card.ClassicCardComparator;
+import model.card.ClassicCardEvaluator;
+import model.card.EvaluatorCardComparator;
 import model.card.Rank;
 import model.card.Suit;
+import observer.Channel;
+import observer.Listenable;
+import observer.Listener;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class ListOfCardsTest extends TestCase {
@@ -38,7 +47,7 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testAddCard() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        cards.addCard(new Card(Rank.ACE, Suit.CLUBS));
+        cards.addCard(Card.of(Rank.ACE, Suit.CLUBS));
         assertEquals(1, cards.size());
         assertEquals(Rank.ACE, cards.getCard(0).getRank());
         assertEquals(Suit.CLUBS, cards.getCard(0).getSuit());
@@ -63,9 +72,9 @@ public class ListOfCardsTest extends TestCase {
     public void testAddCards() {
         ListOfCardsMock cards = new ListOfCardsMock();
         List<Card> cardsToAdd = new ArrayList<>();
-        cardsToAdd.add(new Card(Rank.ACE, Suit.CLUBS));
-        cardsToAdd.add(new Card(Rank.TWO, Suit.CLUBS));
-        cardsToAdd.add(new Card(Rank.THREE, Suit.CLUBS));
+        cardsToAdd.add(Card.of(Rank.ACE, Suit.CLUBS));
+        cardsToAdd.add(Card.of(Rank.TWO, Suit.CLUBS));
+        cardsToAdd.add(Card.of(Rank.THREE, Suit.CLUBS));
 
         cardsToAdd.forEach(cards::addCard);
 
@@ -76,12 +85,61 @@ public class ListOfCardsTest extends TestCase {
         }
     }
 
+    /**
+     * Test addCards notifies the listeners once for all the cards.
+     */
+    public void testAddCardsNotifiesOnce() {
+        ListOfCardsMock cards = new ListOfCardsMock();
+        int[] notifications = new int[2];
+        cards.addListener(ListOfCards.ADD_CARD, new Listener() {
+            @Override
+            public void notify(Listenable source, String operation, Object... data) {
+                notifications[0]++;
+            }
+
+            @Override
+            public void notifyBatch(Listenable source, Channel channel, int count) {
+                notifications[1] += count;
+            }
+        });
+
+        cards.addCards(FactoryDeck.createDeck32().getCards());
+
+        assertEquals(28, cards.size());
+        assertEquals(0, notifications[0]);
+        assertEquals(28, notifications[1]);
+    }
+
+    /**
+     * Test the notifications of nested batches are delivered when the outermost batch is closed.
+     */
+    public void testNestedBatches() {
+        ListOfCardsMock cards = new ListOfCardsMock();
+        List<String> operations = new ArrayList<>();
+        cards.addListener((source, operation, data) -> operations.add(operation));
+
+        try (ListOfCards.Batch batch = cards.beginBatch()) {
+            cards.addCard(Card.of(Rank.ACE, Suit.CLUBS));
+            try (ListOfCards.Batch nested = cards.beginBatch()) {
+                cards.addCard(Card.of(Rank.TWO, Suit.CLUBS));
+                cards.shuffle();
+            }
+            assertTrue(operations.isEmpty());
+            assertTrue(cards.isBatching());
+        }
+
+        assertFalse(cards.isBatching());
+        assertEquals(2, operations.size());
+        assertEquals("addCard", operations.get(0));
+        assertEquals("shuffleCards", operations.get(1));
+    }
+
     /**
      * Test indexOf under normal conditions.
      */
     public void testIndexOf() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
         cards.addCard(card);
         assertEquals(0, cards.indexOf(card));
     }
@@ -104,7 +162,7 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testIndexOfCardNotInList() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        assertEquals(-1, cards.indexOf(new Card(Rank.ACE, Suit.CLUBS)));
+        assertEquals(-1, cards.indexOf(Card.of(Rank.ACE, Suit.CLUBS)));
     }
 
     /**
@@ -112,7 +170,7 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testRemoveCard() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
         cards.addCard(card);
         cards.removeCard(card);
         assertEquals(0, cards.size());
@@ -136,7 +194,7 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testRemoveCardCardNotInList() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        cards.removeCard(new Card(Rank.ACE, Suit.CLUBS));
+        cards.removeCard(Card.of(Rank.ACE, Suit.CLUBS));
         assertEquals(0, cards.size());
     }
 
@@ -145,9 +203,9 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testClear() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        cards.addCard(new Card(Rank.ACE, Suit.CLUBS));
-        cards.addCard(new Card(Rank.TWO, Suit.CLUBS));
-        cards.addCard(new Card(Rank.THREE, Suit.CLUBS));
+        cards.addCard(Card.of(Rank.ACE, Suit.CLUBS));
+        cards.addCard(Card.of(Rank.TWO, Suit.CLUBS));
+        cards.addCard(Card.of(Rank.THREE, Suit.CLUBS));
         cards.clear();
         assertEquals(0, cards.size());
     }
@@ -157,7 +215,7 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testGetCard() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
         cards.addCard(card);
         assertEquals(card, cards.getCard(0));
     }
@@ -181,11 +239,11 @@ public class ListOfCardsTest extends TestCase {
     public void testSize() {
         ListOfCardsMock cards = new ListOfCardsMock();
         assertEquals(0, cards.size());
-        cards.addCard(new Card(Rank.ACE, Suit.CLUBS));
+        cards.addCard(Card.of(Rank.ACE, Suit.CLUBS));
         assertEquals(1, cards.size());
-        cards.addCard(new Card(Rank.TWO, Suit.CLUBS));
+        cards.addCard(Card.of(Rank.TWO, Suit.CLUBS));
         assertEquals(2, cards.size());
-        cards.addCard(new Card(Rank.THREE, Suit.CLUBS));
+        cards.addCard(Card.of(Rank.THREE, Suit.CLUBS));
         assertEquals(3, cards.size());
     }
 
@@ -195,7 +253,7 @@ public class ListOfCardsTest extends TestCase {
     public void testIsEmpty() {
         ListOfCardsMock cards = new ListOfCardsMock();
         assertTrue(cards.isEmpty());
-        cards.addCard(new Card(Rank.ACE, Suit.CLUBS));
+        cards.addCard(Card.of(Rank.ACE, Suit.CLUBS));
         assertFalse(cards.isEmpty());
     }
 
@@ -204,9 +262,9 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testIterator() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-        Card card3 = new Card(Rank.THREE, Suit.CLUBS);
+        Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+        Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
         cards.addCard(card1);
         cards.addCard(card2);
         cards.addCard(card3);
@@ -235,7 +293,7 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testContains() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
         cards.addCard(card);
         assertTrue(cards.contains(card));
     }
@@ -258,7 +316,7 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testContainsCardNotInList() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        assertFalse(cards.contains(new Card(Rank.ACE, Suit.CLUBS)));
+        assertFalse(cards.contains(Card.of(Rank.ACE, Suit.CLUBS)));
     }
 
     /**
@@ -266,9 +324,9 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testContainsAll() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-        Card card3 = new Card(Rank.THREE, Suit.CLUBS);
+        Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+        Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
         cards.addCard(card1);
         cards.addCard(card2);
         cards.addCard(card3);
@@ -312,9 +370,9 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testContainsAllCardsNotInList() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-        Card card3 = new Card(Rank.THREE, Suit.CLUBS);
+        Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+        Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
         cards.addCard(card1);
         cards.addCard(card2);
         cards.addCard(card3);
@@ -323,7 +381,7 @@ public class ListOfCardsTest extends TestCase {
         otherCards.addCard(card1);
         otherCards.addCard(card2);
         otherCards.addCard(card3);
-        otherCards.addCard(new Card(Rank.FOUR, Suit.CLUBS));
+        otherCards.addCard(Card.of(Rank.FOUR, Suit.CLUBS));
         assertFalse(cards.containsAll(otherCards));
     }
 
@@ -332,7 +390,7 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testAdd() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card = new Card(Rank.ACE, Suit.CLUBS);
+        Card card = Card.of(Rank.ACE, Suit.CLUBS);
         assertTrue(cards.addCard(card));
         assertEquals(1, cards.size());
         assertEquals(card, cards.getCard(0));
@@ -356,9 +414,9 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testGetNotIn() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-        Card card3 = new Card(Rank.THREE, Suit.CLUBS);
+        Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+        Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
         cards.addCard(card1);
         cards.addCard(card2);
         cards.addCard(card3);
@@ -403,9 +461,9 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testGetNotInCardsNotInList() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-        Card card3 = new Card(Rank.THREE, Suit.CLUBS);
+        Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+        Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
         cards.addCard(card1);
         cards.addCard(card2);
         cards.addCard(card3);
@@ -414,7 +472,7 @@ public class ListOfCardsTest extends TestCase {
         otherCards.addCard(card1);
         otherCards.addCard(card2);
         otherCards.addCard(card3);
-        otherCards.addCard(new Card(Rank.FOUR, Suit.CLUBS));
+        otherCards.addCard(Card.of(Rank.FOUR, Suit.CLUBS));
         List<Card> notIn = cards.getNotIn(otherCards);
         assertEquals(0, notIn.size());
     }
@@ -424,9 +482,9 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testGetNotInCardsNotInList2() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-        Card card3 = new Card(Rank.THREE, Suit.CLUBS);
+        Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+        Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
         cards.addCard(card1);
         cards.addCard(card2);
         cards.addCard(card3);
@@ -435,10 +493,10 @@ public class ListOfCardsTest extends TestCase {
         otherCards.addCard(card1);
         otherCards.addCard(card2);
         otherCards.addCard(card3);
-        otherCards.addCard(new Card(Rank.FOUR, Suit.CLUBS));
+        otherCards.addCard(Card.of(Rank.FOUR, Suit.CLUBS));
         List<Card> notIn = otherCards.getNotIn(cards);
         assertEquals(1, notIn.size());
-        assertEquals(new Card(Rank.FOUR, Suit.CLUBS), notIn.get(0));
+        assertEquals(Card.of(Rank.FOUR, Suit.CLUBS), notIn.get(0));
     }
 
     /**
@@ -446,11 +504,11 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testGetBetween() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-        Card card3 = new Card(Rank.THREE, Suit.CLUBS);
-        Card card4 = new Card(Rank.FOUR, Suit.CLUBS);
-        Card card5 = new Card(Rank.FIVE, Suit.CLUBS);
+        Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+        Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
+        Card card4 = Card.of(Rank.FOUR, Suit.CLUBS);
+        Card card5 = Card.of(Rank.FIVE, Suit.CLUBS);
         cards.addCard(card1);
         cards.addCard(card2);
         cards.addCard(card3);
@@ -508,11 +566,11 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testGetBySuit() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-        Card card3 = new Card(Rank.THREE, Suit.CLUBS);
-        Card card4 = new Card(Rank.FOUR, Suit.CLUBS);
-        Card card5 = new Card(Rank.FIVE, Suit.CLUBS);
+        Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+        Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
+        Card card4 = Card.of(Rank.FOUR, Suit.CLUBS);
+        Card card5 = Card.of(Rank.FIVE, Suit.CLUBS);
         cards.addCard(card1);
         cards.addCard(card2);
         cards.addCard(card3);
@@ -555,11 +613,11 @@ public class ListOfCardsTest extends TestCase {
      */
     public void testGetByRank() {
         ListOfCardsMock cards = new ListOfCardsMock();
-        Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-        Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-        Card card3 = new Card(Rank.THREE, Suit.CLUBS);
-        Card card4 = new Card(Rank.FOUR, Suit.CLUBS);
-        Card card5 = new Card(Rank.FIVE, Suit.CLUBS);
+        Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+        Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+        Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
+        Card card4 = Card.of(Rank.FOUR, Suit.CLUBS);
+        Card card5 = Card.of(Rank.FIVE, Suit.CLUBS);
         cards.addCard(card1);
         cards.addCard(card2);
         cards.addCard(card3);
@@ -592,4 +650,85 @@ public class ListOfCardsTest extends TestCase {
             // Expected
         }
     }
+
+    /**
+     * Test that the sort on the keys gives the same order as the sort comparing the cards.
+     */
+    public void testSortWithSortKey() {
+        ClassicCardComparator classic = new ClassicCardComparator(new ClassicCardEvaluator());
+        EvaluatorCardComparator byValue = new EvaluatorCardComparator(card -> Math.min(10, card.getRank().getValue()));
+        for (CardComparator comparator : new CardComparator[]{classic, byValue}) {
+            assertTrue(comparator.hasSortKey());
+            ListOfCardsMock cards = new ListOfCardsMock();
+            for (int i = 0; i < 3; i++) {
+                cards.addCards(Card.values());
+            }
+            cards.shuffle(Shuffler.xoroshiro(5));
+            List<Card> expected = new ArrayList<>(cards.getCards());
+            // List.sort is stable, so the cards of the same key keep the same order.
+            expected.sort((card1, card2) -> comparator.compare(card1, card2));
+            cards.sort(comparator);
+            assertEquals(expected, cards.getCards());
+        }
+    }
+
+    /**
+     * Test that sorting sorted cards does not notify the listeners.
+     */
+    public void testSortAlreadySorted() {
+        ListOfCardsMock cards = new ListOfCardsMock();
+        cards.addCards(Card.values());
+        AtomicInteger sorts = new AtomicInteger();
+        cards.addListener(ListOfCards.SORT_CARDS, (source, operation, data) -> sorts.incrementAndGet());
+        cards.sortBySuit(true);
+        assertEquals(0, sorts.get());
+        cards.sortBySuit(false);
+        assertEquals(1, sorts.get());
+        assertEquals(Suit.SPADES, cards.getCard(0).getSuit());
+        cards.sort((card1, card2) -> card1.getId() - card2.getId());
+        assertEquals(2, sorts.get());
+        assertEquals(Card.values(), cards.getCards());
+        cards.sort((card1, card2) -> card1.getId() - card2.getId());
+        assertEquals(2, sorts.get());
+    }
+
+    /**
+     * Test sortByRank.
+     */
+    public void testSortByRank() {
+        ListOfCardsMock cards = new ListOfCardsMock();
+        cards.addCards(Card.values());
+        cards.sortByRank(true, true);
+        assertEquals(Rank.TWO, cards.getCard(0).getRank());
+        assertEquals(Rank.ACE, cards.getCard(cards.size() - 1).getRank());
+        // The cards of the same rank keep the order of their suit.
+        assertEquals(Suit.CLUBS, cards.getCard(0).getSuit());
+        cards.sortByRank(false, false);
+        assertEquals(Rank.ACE, cards.getCard(0).getRank());
+        assertEquals(Rank.TWO, cards.getCard(cards.size() - 1).getRank());
+    }
+
+    /**
+     * Test that a comparator without sort key does not give one.
+     */
+    public void testNoSortKey() {
+        CardComparator comparator = new CardComparator() {
+            @Override
+            public CardEvaluator getCardEvaluator() {
+                return null;
+            }
+
+            @Override
+            public int compare(Card card1, Card card2) {
+                return card1.getId() - card2.getId();
+            }
+        };
+        assertFalse(comparator.hasSortKey());
+        try {
+            comparator.sortKey(Card.fromId(0));
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // Expected
+        }
+    }
 }
@@ -0,0 +1,239 @@
+package model.cards;
+
+import junit.framework.*;
+import model.card.Card;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ShufflerTest extends TestCase {
+
+    /**
+     * The critical value of the chi-square distribution with 23 degrees of freedom at 0.001.
+     */
+    private static final double CHI_SQUARE_23 = 49.73;
+
+    /**
+     * The critical value of the chi-square distribution with 47 degrees of freedom at 0.001.
+     */
+    private static final double CHI_SQUARE_47 = 82.72;
+
+    /**
+     * Returns the chi-square statistic of the observed counts against a uniform distribution.
+     *
+     * @param counts The observed counts.
+     * @param total  The total of the counts.
+     * @return The chi-square statistic.
+     */
+    private static double chiSquare(int[] counts, int total) {
+        double expected = (double) total / counts.length;
+        double chiSquare = 0;
+        for (int count : counts) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        return chiSquare;
+    }
+
+    /**
+     * Asserts that the 24 permutations of 4 elements are equally likely.
+     *
+     * @param shuffler The shuffler to test.
+     */
+    private static void assertUniformPermutations(Shuffler shuffler) {
+        int shuffles = 24_000;
+        int[] counts = new int[24];
+        byte[] elements = new byte[4];
+        for (int n = 0; n < shuffles; n++) {
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = (byte) i;
+            }
+            shuffler.shuffle(elements, 0, elements.length);
+            // The Lehmer code of the permutation is its index among the 24 permutations.
+            int index = 0;
+            for (int i = 0; i < elements.length; i++) {
+                int smaller = 0;
+                for (int j = i + 1; j < elements.length; j++) {
+                    if (elements[j] < elements[i]) {
+                        smaller++;
+                    }
+                }
+                index = index * (elements.length - i) + smaller;
+            }
+            counts[index]++;
+        }
+        double chiSquare = chiSquare(counts, shuffles);
+        assertTrue("chi-square " + chiSquare, chiSquare < CHI_SQUARE_23);
+    }
+
+    /**
+     * Asserts that the first card of a deck ends at each position with the same probability.
+     *
+     * @param shuffler The shuffler to test.
+     */
+    private static void assertUniformPositions(Shuffler shuffler) {
+        int shuffles = 48_000;
+        int[] counts = new int[Card.COUNT];
+        List<Card> cards = new ArrayList<>(Card.values());
+        for (int n = 0; n < shuffles; n++) {
+            shuffler.shuffle(cards);
+            counts[cards.indexOf(Card.fromId(0))]++;
+        }
+        double chiSquare = chiSquare(counts, shuffles);
+        assertTrue("chi-square " + chiSquare, chiSquare < CHI_SQUARE_47);
+    }
+
+    /**
+     * Test the uniformity of the shuffler backed by a SplittableRandom.
+     */
+    public void testSplittableUniformity() {
+        assertUniformPermutations(Shuffler.splittable(42));
+        assertUniformPositions(Shuffler.splittable(42));
+    }
+
+    /**
+     * Test the uniformity of the shuffler backed by xoroshiro128+.
+     */
+    public void testXoroshiroUniformity() {
+        assertUniformPermutations(Shuffler.xoroshiro(42));
+        assertUniformPositions(Shuffler.xoroshiro(42));
+    }
+
+    /**
+     * Test that the same seed gives the same shuffles.
+     */
+    public void testSeedReproducible() {
+        Deck first = FactoryDeck.createDeck52();
+        Deck second = FactoryDeck.createDeck52();
+        first.shuffle(Shuffler.xoroshiro(7));
+        second.shuffle(Shuffler.xoroshiro(7));
+        assertEquals(first.getCards(), second.getCards());
+        second.shuffle(Shuffler.xoroshiro(8));
+        assertFalse(first.getCards().equals(second.getCards()));
+
+        byte[] ids = {0, 1, 2, 3, 4, 5, 6, 7};
+        byte[] same = ids.clone();
+        Shuffler.splittable(7).shuffle(ids, 0, ids.length);
+        Shuffler.splittable(7).shuffle(same, 0, same.length);
+        assertTrue(Arrays.equals(ids, same));
+    }
+
+    /**
+     * Test that shuffling a range of ids does not move the ids out of the range.
+     */
+    public void testShuffleRange() {
+        byte[] ids = new byte[Card.COUNT];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = (byte) i;
+        }
+        Shuffler.xoroshiro(5).shuffle(ids, 10, 40);
+        long shuffled = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i < 10 || i >= 40) {
+                assertEquals(i, ids[i]);
+            } else {
+                shuffled |= 1L << ids[i];
+            }
+        }
+        assertEquals(((1L << 40) - 1) & ~((1L << 10) - 1), shuffled);
+        try {
+            Shuffler.xoroshiro(5).shuffle(ids, 40, 10);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("From: 40, To: 10, Length: " + Card.COUNT, e.getMessage());
+        }
+    }
+
+    /**
+     * Test that the ids drawn are moved to the front, each id being drawn first with the same probability.
+     */
+    public void testDraw() {
+        int draws = 48_000;
+        int[] counts = new int[Card.COUNT];
+        int[] ids = new int[Card.COUNT];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+        }
+        Shuffler shuffler = Shuffler.xoroshiro(9);
+        for (int n = 0; n < draws; n++) {
+            shuffler.draw(ids, 5);
+            counts[ids[0]]++;
+        }
+        double chiSquare = chiSquare(counts, draws);
+        assertTrue("chi-square " + chiSquare, chiSquare < CHI_SQUARE_47);
+        int[] sorted = ids.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(i, sorted[i]);
+        }
+        try {
+            shuffler.draw(ids, Card.COUNT + 1);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("Count: " + (Card.COUNT + 1) + ", Length: " + Card.COUNT, e.getMessage());
+        }
+    }
+
+    /**
+     * Test that shuffling keeps the cards and notifies the listeners.
+     */
+    public void testShuffleList() {
+        Deck deck = FactoryDeck.createDeck52();
+        List<String> operations = new ArrayList<>();
+        deck.addListener("shuffleCards", (source, operation, data) -> operations.add(operation));
+        deck.deal();
+        deck.shuffle(Shuffler.splittable(1));
+        assertEquals(Card.COUNT - 1, deck.size());
+        assertEquals(CardSet.FULL.without(Card.fromId(0)), deck.toCardSet());
+        assertEquals(1, operations.size());
+
+        List<Card> linked = new LinkedList<>(Card.values());
+        Shuffler.xoroshiro(1).shuffle(linked);
+        assertEquals(CardSet.FULL, CardSet.of(linked));
+    }
+
+    /**
+     * Test nextInt with a bound.
+     */
+    public void testNextIntBound() {
+        Shuffler shuffler = Shuffler.xoroshiro(3);
+        for (int bound = 1; bound < 100; bound++) {
+            int value = shuffler.nextInt(bound);
+            assertTrue(value >= 0 && value < bound);
+        }
+        try {
+            shuffler.nextInt(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    /**
+     * Test that each thread has its own shuffler.
+     */
+    public void testCurrent() throws InterruptedException {
+        Shuffler current = Shuffler.current();
+        assertSame(current, Shuffler.current());
+        AtomicReference<Shuffler> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(Shuffler.current()));
+        thread.start();
+        thread.join();
+        assertNotNull(other.get());
+        assertNotSame(current, other.get());
+    }
+
+    /**
+     * Test shuffle with a null shuffler.
+     */
+    public void testShuffleNullShuffler() {
+        try {
+            FactoryDeck.createDeck52().shuffle((Shuffler) null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package model.poker;
+
+import junit.framework.*;
+import model.card.Card;
+import model.card.Rank;
+import model.card.Suit;
+import model.cards.Deck;
+import model.cards.FactoryDeck;
+import model.cards.Hand;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class EquityCalculatorTest extends TestCase {
+
+    /**
+     * Returns a hand of the given cards.
+     *
+     * @param cards The symbols of the cards, like "AS" for the ace of spades.
+     * @return The hand.
+     */
+    private static Hand hand(String... cards) {
+        Hand hand = new Hand();
+        for (String card : cards) {
+            hand.addCard(Card.of(Rank.getRank(card.charAt(0)), Suit.getSuit(card.charAt(1))));
+        }
+        return hand;
+    }
+
+    /**
+     * Test the equities of two hands on a complete board.
+     */
+    public void testCompleteBoard() {
+        List<Hand> hands = Arrays.asList(hand("AS", "AH"), hand("KS", "KH"));
+        EquityResult result = new EquityCalculator(hands, hand("2C", "3C", "4C", "5C", "6C"), FactoryDeck.createDeck52()).calculate();
+        // The straight flush of the board is shared.
+        assertTrue(result.isExact());
+        assertEquals(1, result.getBoards());
+        assertEquals(0.5, result.getEquity(0), 1e-12);
+        assertEquals(1.0, result.getTieProbability(1), 1e-12);
+
+        result = new EquityCalculator(hands, hand("2C", "7D", "9H", "JS", "QC"), FactoryDeck.createDeck52()).calculate();
+        assertEquals(1.0, result.getWinProbability(0), 1e-12);
+        assertEquals(0.0, result.getEquity(1), 1e-12);
+    }
+
+    /**
+     * Test the enumeration against a direct enumeration of the two cards missing on the board.
+     */
+    public void testExhaustiveTurnAndRiver() {
+        Hand first = hand("AS", "KS");
+        Hand second = hand("QH", "QD");
+        Hand board = hand("2S", "7S", "QC");
+        Deck deck = FactoryDeck.createDeck52();
+        EquityResult result = new EquityCalculator(Arrays.asList(first, second), board, deck).exhaustive();
+
+        long dealt = first.toCardSet().union(second.toCardSet()).union(board.toCardSet()).getMask();
+        long wins = 0;
+        long boards = 0;
+        for (int turn = 0; turn < Card.COUNT; turn++) {
+            for (int river = turn + 1; river < Card.COUNT; river++) {
+                long drawn = 1L << turn | 1L << river;
+                if ((drawn & dealt) != 0) {
+                    continue;
+                }
+                long common = board.toCardSet().getMask() | drawn;
+                if (PokerEvaluator.evaluate(first.toCardSet().getMask() | common) > PokerEvaluator.evaluate(second.toCardSet().getMask() | common)) {
+                    wins++;
+                }
+                boards++;
+            }
+        }
+        assertEquals(boards, result.getBoards());
+        assertEquals((double) wins / boards, result.getWinProbability(0), 1e-12);
+        assertEquals(1.0, result.getEquity(0) + result.getEquity(1), 1e-9);
+    }
+
+    /**
+     * Test that the sampled equities are close to the exact ones.
+     */
+    public void testMonteCarloMatchesExhaustive() {
+        List<Hand> hands = Arrays.asList(hand("AS", "AH"), hand("KC", "QC"), hand("7D", "7H"));
+        EquityCalculator calculator = new EquityCalculator(hands, hand("3S", "JC"), FactoryDeck.createDeck52(), ForkJoinPool.commonPool(), 1);
+        EquityResult exact = calculator.exhaustive();
+        EquityResult estimate = calculator.monteCarlo(200_000);
+        assertFalse(estimate.isExact());
+        assertEquals(200_000, estimate.getBoards());
+        for (int hand = 0; hand < hands.size(); hand++) {
+            assertEquals(exact.getEquity(hand), estimate.getEquity(hand), 2 * estimate.getConfidenceInterval(hand));
+        }
+    }
+
+    /**
+     * Test that the estimates are refined until they are precise enough, and that they do not depend on the pool.
+     */
+    public void testEstimates() {
+        List<Hand> hands = Arrays.asList(hand("AS", "AH"), hand("KS", "KH"));
+        Deck deck = FactoryDeck.createDeck52();
+        EquityResult estimate = new EquityCalculator(hands, new Hand(), deck, ForkJoinPool.commonPool(), 3)
+                .estimates(50_000)
+                .filter(result -> result.getMaxConfidenceInterval() < 0.003)
+                .findFirst()
+                .get();
+        assertTrue(estimate.getBoards() % 50_000 == 0);
+        assertTrue(estimate.getEquity(0) > 0.75);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            EquityResult common = new EquityCalculator(hands, new Hand(), deck, ForkJoinPool.commonPool(), 3).monteCarlo(100_000);
+            EquityResult other = new EquityCalculator(hands, new Hand(), deck, pool, 3).monteCarlo(100_000);
+            assertEquals(common.getEquity(0), other.getEquity(0), 1e-12);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test the invalid hands and boards.
+     */
+    public void testInvalidArguments() {
+        Deck deck = FactoryDeck.createDeck52();
+        try {
+            new EquityCalculator(Arrays.asList(hand("AS", "AH"), hand("AS", "KH")), new Hand(), deck);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            new EquityCalculator(Arrays.asList(hand("AS", "AH", "AD")), new Hand(), deck);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            new EquityCalculator(Arrays.asList(hand("AS", "AH")), new Hand(), hand("2C", "3C"));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            new EquityCalculator(Arrays.asList(hand("AS", "AH")), null, deck);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // Expected
+        }
+    }
+}
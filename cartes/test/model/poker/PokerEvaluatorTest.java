@@ -0,0 +1,148 @@
+package model.poker;
+
+import junit.framework.*;
+import model.card.Card;
+import model.card.Rank;
+import model.card.Suit;
+import model.cards.Hand;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class PokerEvaluatorTest extends TestCase {
+
+    /**
+     * Returns the id of the card of the given symbols, like "AS" for the ace of spades.
+     *
+     * @param symbols The symbol of the rank and the letter of the suit.
+     * @return The id of the card.
+     */
+    private static int id(String symbols) {
+        return Card.of(Rank.getRank(symbols.charAt(0)), Suit.getSuit(symbols.charAt(1))).getId();
+    }
+
+    /**
+     * Returns the value of the hand of the given cards.
+     *
+     * @param cards The symbols of the cards.
+     * @return The value of the hand.
+     */
+    private static int evaluate(String... cards) {
+        long mask = 0L;
+        for (String card : cards) {
+            mask |= 1L << id(card);
+        }
+        return PokerEvaluator.evaluate(mask);
+    }
+
+    /**
+     * Test the category of each kind of hand.
+     */
+    public void testCategories() {
+        assertEquals(HandCategory.HIGH_CARD, PokerEvaluator.getCategory(evaluate("2C", "5D", "7H", "9S", "JC")));
+        assertEquals(HandCategory.PAIR, PokerEvaluator.getCategory(evaluate("2C", "2D", "7H", "9S", "JC")));
+        assertEquals(HandCategory.TWO_PAIRS, PokerEvaluator.getCategory(evaluate("2C", "2D", "7H", "7S", "JC")));
+        assertEquals(HandCategory.THREE_OF_A_KIND, PokerEvaluator.getCategory(evaluate("2C", "2D", "2H", "7S", "JC")));
+        assertEquals(HandCategory.STRAIGHT, PokerEvaluator.getCategory(evaluate("5C", "6D", "7H", "8S", "9C")));
+        assertEquals(HandCategory.FLUSH, PokerEvaluator.getCategory(evaluate("2C", "5C", "7C", "9C", "JC")));
+        assertEquals(HandCategory.FULL_HOUSE, PokerEvaluator.getCategory(evaluate("2C", "2D", "2H", "7S", "7C")));
+        assertEquals(HandCategory.FOUR_OF_A_KIND, PokerEvaluator.getCategory(evaluate("2C", "2D", "2H", "2S", "7C")));
+        assertEquals(HandCategory.STRAIGHT_FLUSH, PokerEvaluator.getCategory(evaluate("5H", "6H", "7H", "8H", "9H")));
+    }
+
+    /**
+     * Test the order of the hands.
+     */
+    public void testOrder() {
+        // The ace is low in the wheel, which is the lowest straight.
+        int wheel = evaluate("AC", "2D", "3H", "4S", "5C");
+        assertEquals(HandCategory.STRAIGHT, PokerEvaluator.getCategory(wheel));
+        assertTrue(wheel < evaluate("2D", "3H", "4S", "5C", "6C"));
+        // There is no ten, so the nine is followed by the jack.
+        assertEquals(HandCategory.STRAIGHT, PokerEvaluator.getCategory(evaluate("9C", "JD", "QH", "KS", "AC")));
+        assertTrue(evaluate("KC", "KD", "2H", "3S", "4C") > evaluate("QC", "QD", "AH", "KS", "JC"));
+        assertTrue(evaluate("KC", "KD", "5H", "3S", "4C") > evaluate("KH", "KS", "4D", "3C", "2C"));
+        assertTrue(evaluate("AC", "AD", "2H", "2S", "5C") > evaluate("KC", "KD", "QH", "QS", "AC"));
+        assertTrue(evaluate("3C", "3D", "3H", "2S", "2C") > evaluate("2D", "2H", "2C", "AS", "AC"));
+        assertEquals(evaluate("KC", "QD", "9H", "7S", "5C"), evaluate("KD", "QH", "9S", "7C", "5D"));
+    }
+
+    /**
+     * Test that a hand of seven cards has the value of its best hand of five cards.
+     */
+    public void testSevenCardsIsBestOfFive() {
+        SplittableRandom random = new SplittableRandom(12);
+        int[] ids = new int[Card.COUNT];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+        }
+        for (int n = 0; n < 20_000; n++) {
+            for (int i = 0; i < 7; i++) {
+                int j = i + random.nextInt(ids.length - i);
+                int id = ids[i];
+                ids[i] = ids[j];
+                ids[j] = id;
+            }
+            int best = 0;
+            for (int skip1 = 0; skip1 < 7; skip1++) {
+                for (int skip2 = skip1 + 1; skip2 < 7; skip2++) {
+                    int[] five = new int[5];
+                    int k = 0;
+                    for (int i = 0; i < 7; i++) {
+                        if (i != skip1 && i != skip2) {
+                            five[k++] = ids[i];
+                        }
+                    }
+                    best = Math.max(best, PokerEvaluator.evaluate(five[0], five[1], five[2], five[3], five[4]));
+                }
+            }
+            assertEquals(best, PokerEvaluator.evaluate(ids[0], ids[1], ids[2], ids[3], ids[4], ids[5], ids[6]));
+        }
+    }
+
+    /**
+     * Test the evaluation of a hand.
+     */
+    public void testHand() {
+        Hand hand = new Hand();
+        for (String card : Arrays.asList("AS", "AH", "KS", "QS", "8S", "6S", "2D")) {
+            hand.addCard(Card.fromId(id(card)));
+        }
+        assertEquals(HandCategory.FLUSH, hand.getPokerCategory());
+        assertEquals(evaluate("AS", "KS", "QS", "8S", "6S"), hand.evaluatePoker());
+    }
+
+    /**
+     * Test the evaluation of invalid hands.
+     */
+    public void testInvalidHands() {
+        try {
+            PokerEvaluator.evaluate(1, 1, 2, 3, 4);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            PokerEvaluator.evaluate(0, 1, 2, 3, Card.COUNT);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            PokerEvaluator.evaluate(0b1111L);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        List<Card> cards = new ArrayList<>(Card.values().subList(0, 4));
+        cards.add(Card.fromId(0));
+        try {
+            PokerEvaluator.evaluate(cards);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package observer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <b>
+ *     A channel of events.
+ * </b>
+ *
+ * <p>
+ *     A channel is the pre-resolved handle of an operation that can be listened.
+ *     The channels are interned: there is only one channel for a given operation name,
+ *     so two channels can be compared with {@code ==}.
+ *     Each channel has a dense integer id that is used by a Listenable object to find its listeners
+ *     without hashing the name of the operation.
+ * </p>
+ *
+ * <p>
+ *     A channel is usually resolved once and kept in a constant:
+ * </p>
+ * <pre>
+ *     public static final Channel ADD_CARD = Channel.of("addCard");
+ * </pre>
+ *
+ * @version	1.0
+ */
+public final class Channel {
+
+    /**
+     * The channels already created, indexed by their name.
+     */
+    private static final Map<String, Channel> CHANNELS = new HashMap<>();
+
+    /**
+     * The channels already created, indexed by their id.
+     */
+    private static final List<Channel> VALUES = new ArrayList<>();
+
+    /**
+     * The id of the channel.
+     */
+    private final int id;
+
+    /**
+     * The name of the operation of the channel.
+     */
+    private final String name;
+
+    /**
+     * Private constructor, the channels are created by {@link #of(String)}.
+     *
+     * @param id   The id of the channel.
+     * @param name The name of the operation of the channel.
+     */
+    private Channel(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * Returns the channel of the given operation, the channel is created if it does not exist yet.
+     *
+     * @param name The name of the operation.
+     * @return The channel of the given operation.
+     * @throws NullPointerException If the name is null.
+     */
+    public static Channel of(String name) {
+        if (name == null) {
+            throw new NullPointerException("The operation cannot be null.");
+        }
+        synchronized (CHANNELS) {
+            Channel channel = CHANNELS.get(name);
+            if (channel == null) {
+                channel = new Channel(CHANNELS.size(), name);
+                CHANNELS.put(name, channel);
+                VALUES.add(channel);
+            }
+            return channel;
+        }
+    }
+
+    /**
+     * Returns the channel of the given operation if it exists.
+     *
+     * @param name The name of the operation.
+     * @return The channel of the given operation, or null if no channel has this name.
+     * @throws NullPointerException If the name is null.
+     */
+    public static Channel lookup(String name) {
+        if (name == null) {
+            throw new NullPointerException("The operation cannot be null.");
+        }
+        synchronized (CHANNELS) {
+            return CHANNELS.get(name);
+        }
+    }
+
+    /**
+     * Returns the channels already created, in the order of their id.
+     *
+     * @return The channels already created.
+     */
+    public static Channel[] values() {
+        synchronized (CHANNELS) {
+            return VALUES.toArray(new Channel[0]);
+        }
+    }
+
+    /**
+     * Returns the id of the channel.
+     *
+     * @return The id of the channel.
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * Returns the name of the operation of the channel.
+     *
+     * @return The name of the operation of the channel.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,45 @@
+package observer;
+
+/**
+ * <b>
+ *     A listener of events identified by their channel.
+ * </b>
+ *
+ * <p>
+ *     A channel listener receives the {@link Channel} of the event instead of the name of the operation,
+ *     so it can dispatch the event by comparing the channel with {@code ==} rather than switching on a String.
+ *     The events notified with the name of the operation are resolved to their channel.
+ * </p>
+ *
+ * @version	1.0
+ */
+public interface ChannelListener extends Listener {
+
+    /**
+     * Notifies the listener when an event occurs on a channel.
+     *
+     * @param source  The source of the event.
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     */
+    @Override
+    void notify(Listenable source, Channel channel, Object... data);
+
+    /**
+     * Notifies the listener when the event occurs.
+     *
+     * @param source    The source of the event.
+     * @param operation The operation that occurs.
+     * @param data      The data of the event.
+     * @throws IllegalArgumentException If the operation is not supported.
+     * @throws NullPointerException     If the operation is null.
+     */
+    @Override
+    default void notify(Listenable source, String operation, Object... data) {
+        Channel channel = Channel.lookup(operation);
+        if (channel == null) {
+            throw new IllegalArgumentException("The operation " + operation + " is not supported by " + this.getClass().getSimpleName());
+        }
+        notify(source, channel, data);
+    }
+}
@@ -0,0 +1,38 @@
+package observer;
+
+/**
+ * <b>
+ *     A monitor of the notifications of the Listenable objects.
+ * </b>
+ *
+ * <p>
+ *     The monitor installed with {@link ListenableObject#setMonitor(DispatchMonitor)} is told about
+ *     every event notified by a {@link ListenableObject} and about the time spent in each listener.
+ *     When no monitor is installed, the notifications only pay for a null check.
+ *     The monitor is called on the notifying thread, so it must be thread-safe.
+ * </p>
+ *
+ * @version	1.0
+ */
+public interface DispatchMonitor {
+
+    /**
+     * Called when an event is notified to the listeners of a channel, before the listeners are called.
+     *
+     * @param source    The source of the event.
+     * @param channel   The channel of the event.
+     * @param listeners The number of listeners of the channel.
+     */
+    void eventNotified(Listenable source, Channel channel, int listeners);
+
+    /**
+     * Called when a listener has handled an event.
+     *
+     * @param source   The source of the event.
+     * @param channel  The channel of the event.
+     * @param listener The listener that handled the event,
+     *                 the listener registered with a dispatcher or a weak reference is given instead of its decorator.
+     * @param duration The time spent in the listener, in nanoseconds.
+     */
+    void callbackCompleted(Listenable source, Channel channel, Listener listener, long duration);
+}
@@ -0,0 +1,38 @@
+package observer;
+
+/**
+ * <b>
+ *     A listener receiving its events through a dispatcher.
+ * </b>
+ *
+ * <p>
+ *     The dispatched listener decorates the listener registered with a {@link Dispatcher}.
+ * </p>
+ *
+ * @version	1.0
+ */
+abstract class DispatchedListener extends ListenerDecorator {
+
+    /**
+     * The listener receiving the events.
+     */
+    private final Listener listener;
+
+    /**
+     * Creates a dispatched listener.
+     *
+     * @param listener The listener receiving the events.
+     * @throws NullPointerException If the listener is null.
+     */
+    DispatchedListener(Listener listener) {
+        if (listener == null) {
+            throw new NullPointerException("The listener cannot be null.");
+        }
+        this.listener = listener;
+    }
+
+    @Override
+    Listener getListener() {
+        return this.listener;
+    }
+}
@@ -0,0 +1,77 @@
+package observer;
+
+import java.util.concurrent.Executor;
+
+/**
+ * <b>
+ *     A dispatcher of events.
+ * </b>
+ *
+ * <p>
+ *     A dispatcher chooses the thread on which a listener receives its events.
+ *     The model objects notify their listeners on the thread that mutates them,
+ *     a listener registered with a dispatcher receives the events through the dispatcher instead:
+ * </p>
+ * <ul>
+ *     <li>{@link #synchronous()} delivers the events on the notifying thread,</li>
+ *     <li>{@link #eventDispatchThread()} delivers the events on the event dispatch thread of Swing,
+ *     the events raised on other threads are coalesced until they are delivered,</li>
+ *     <li>{@link #executor(Executor)} delivers each event asynchronously with an executor.</li>
+ * </ul>
+ * <pre>
+ *     hand.addListener(ListOfCards.ADD_CARD, component, Dispatcher.eventDispatchThread());
+ * </pre>
+ *
+ * @version	1.0
+ */
+@FunctionalInterface
+public interface Dispatcher {
+
+    /**
+     * Returns the listener delivering the events of the given listener through this dispatcher.
+     *
+     * @param listener The listener.
+     * @return The listener delivering the events through this dispatcher.
+     */
+    Listener decorate(Listener listener);
+
+    /**
+     * Returns the dispatcher delivering the events on the notifying thread.
+     *
+     * @return The synchronous dispatcher.
+     */
+    static Dispatcher synchronous() {
+        return listener -> listener;
+    }
+
+    /**
+     * Returns the dispatcher delivering the events on the event dispatch thread of Swing.
+     *
+     * <p>
+     *     An event raised on the event dispatch thread is delivered immediately.
+     *     The events raised on another thread are delivered later on the event dispatch thread:
+     *     while they are waiting, the events of the same source and channel are coalesced
+     *     into a single {@link Listener#notifyBatch(Listenable, Channel, int)}.
+     * </p>
+     *
+     * @return The dispatcher of the event dispatch thread.
+     */
+    static Dispatcher eventDispatchThread() {
+        return EventDispatchListener::new;
+    }
+
+    /**
+     * Returns the dispatcher delivering each event asynchronously with the given executor.
+     * The events are delivered in order if the executor runs its tasks in order, for example with a single thread.
+     *
+     * @param executor The executor.
+     * @return The dispatcher of the executor.
+     * @throws NullPointerException If the executor is null.
+     */
+    static Dispatcher executor(Executor executor) {
+        if (executor == null) {
+            throw new NullPointerException("The executor cannot be null.");
+        }
+        return listener -> new ExecutorListener(listener, executor);
+    }
+}
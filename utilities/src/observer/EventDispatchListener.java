@@ -0,0 +1,212 @@
+package observer;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b>
+ *     A listener receiving its events on the event dispatch thread of Swing.
+ * </b>
+ *
+ * <p>
+ *     The events raised on the event dispatch thread are delivered immediately when no event is waiting.
+ *     The other events wait in a queue to be delivered by the event dispatch thread, in the order they were raised.
+ *     An event of the same source and channel as the last event waiting is coalesced with it,
+ *     so the listener receives a single {@link Listener#notifyBatch(Listenable, Channel, int)}
+ *     for a run of consecutive events, never ahead of the events raised before the run.
+ * </p>
+ *
+ * @version	1.0
+ */
+final class EventDispatchListener extends DispatchedListener {
+
+    /**
+     * The events waiting to be delivered, in the order they were raised.
+     */
+    private final List<Pending> pending = new ArrayList<>();
+
+    /**
+     * Creates a listener receiving its events on the event dispatch thread.
+     *
+     * @param listener The listener receiving the events.
+     * @throws NullPointerException If the listener is null.
+     */
+    EventDispatchListener(Listener listener) {
+        super(listener);
+    }
+
+    @Override
+    public void notify(Listenable source, String operation, Object... data) {
+        if (this.isDirect()) {
+            this.getListener().notify(source, operation, data);
+        } else {
+            // The events named by their operation are never coalesced, but they wait in the same queue.
+            this.enqueue(source, null, 1, () -> this.getListener().notify(source, operation, data));
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, Object... data) {
+        if (this.isDirect()) {
+            this.getListener().notify(source, channel, data);
+        } else {
+            this.enqueue(source, channel, 1, () -> this.getListener().notify(source, channel, data));
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel) {
+        if (this.isDirect()) {
+            this.getListener().notify(source, channel);
+        } else {
+            this.enqueue(source, channel, 1, () -> this.getListener().notify(source, channel));
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, Object data) {
+        if (this.isDirect()) {
+            this.getListener().notify(source, channel, data);
+        } else {
+            this.enqueue(source, channel, 1, () -> this.getListener().notify(source, channel, data));
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, int data) {
+        if (this.isDirect()) {
+            this.getListener().notify(source, channel, data);
+        } else {
+            this.enqueue(source, channel, 1, () -> this.getListener().notify(source, channel, data));
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, double data) {
+        if (this.isDirect()) {
+            this.getListener().notify(source, channel, data);
+        } else {
+            this.enqueue(source, channel, 1, () -> this.getListener().notify(source, channel, data));
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, boolean data) {
+        if (this.isDirect()) {
+            this.getListener().notify(source, channel, data);
+        } else {
+            this.enqueue(source, channel, 1, () -> this.getListener().notify(source, channel, data));
+        }
+    }
+
+    @Override
+    public void notifyBatch(Listenable source, Channel channel, int count) {
+        if (this.isDirect()) {
+            this.getListener().notifyBatch(source, channel, count);
+        } else {
+            this.enqueue(source, channel, count, () -> this.getListener().notifyBatch(source, channel, count));
+        }
+    }
+
+    /**
+     * Returns true if the event can be delivered immediately,
+     * i.e. if the current thread is the event dispatch thread and no event is waiting.
+     *
+     * @return True if the event can be delivered immediately.
+     */
+    private boolean isDirect() {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            return false;
+        }
+        synchronized (this.pending) {
+            return this.pending.isEmpty();
+        }
+    }
+
+    /**
+     * Adds an event to the events waiting to be delivered, coalesced with the last event waiting
+     * if it has the same source and channel.
+     *
+     * @param source  The source of the event.
+     * @param channel The channel of the event, or null if the event is named by its operation.
+     * @param count   The number of events.
+     * @param event   The delivery of the event if it is not coalesced with another one.
+     */
+    private void enqueue(Listenable source, Channel channel, int count, Runnable event) {
+        synchronized (this.pending) {
+            if (channel != null && !this.pending.isEmpty()) {
+                Pending last = this.pending.get(this.pending.size() - 1);
+                if (last.source == source && last.channel == channel) {
+                    last.count += count;
+                    last.event = null;
+                    return;
+                }
+            }
+            this.pending.add(new Pending(source, channel, count, event));
+            if (this.pending.size() > 1) {
+                return;
+            }
+        }
+        SwingUtilities.invokeLater(this::deliver);
+    }
+
+    /**
+     * Delivers the events waiting on the event dispatch thread.
+     */
+    private void deliver() {
+        List<Pending> events;
+        synchronized (this.pending) {
+            events = new ArrayList<>(this.pending);
+            this.pending.clear();
+        }
+        for (Pending waiting : events) {
+            if (waiting.event != null) {
+                waiting.event.run();
+            } else {
+                this.getListener().notifyBatch(waiting.source, waiting.channel, waiting.count);
+            }
+        }
+    }
+
+    /**
+     * A run of consecutive events of a source and a channel waiting to be delivered.
+     */
+    private static final class Pending {
+
+        /**
+         * The source of the events.
+         */
+        private final Listenable source;
+
+        /**
+         * The channel of the events, or null if the event is named by its operation.
+         */
+        private final Channel channel;
+
+        /**
+         * The number of events.
+         */
+        private int count;
+
+        /**
+         * The delivery of the event, or null if several events are coalesced.
+         */
+        private Runnable event;
+
+        /**
+         * Creates the events waiting to be delivered.
+         *
+         * @param source  The source of the events.
+         * @param channel The channel of the events.
+         * @param count   The number of events.
+         * @param event   The delivery of the event.
+         */
+        private Pending(Listenable source, Channel channel, int count, Runnable event) {
+            this.source = source;
+            this.channel = channel;
+            this.count = count;
+            this.event = event;
+        }
+    }
+}
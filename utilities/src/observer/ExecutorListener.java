@@ -0,0 +1,73 @@
+package observer;
+
+import java.util.concurrent.Executor;
+
+/**
+ * <b>
+ *     A listener receiving each event asynchronously with an executor.
+ * </b>
+ *
+ * @version	1.0
+ */
+final class ExecutorListener extends DispatchedListener {
+
+    /**
+     * The executor delivering the events.
+     */
+    private final Executor executor;
+
+    /**
+     * Creates a listener receiving its events with the given executor.
+     *
+     * @param listener The listener receiving the events.
+     * @param executor The executor delivering the events.
+     * @throws NullPointerException If the listener or the executor is null.
+     */
+    ExecutorListener(Listener listener, Executor executor) {
+        super(listener);
+        if (executor == null) {
+            throw new NullPointerException("The executor cannot be null.");
+        }
+        this.executor = executor;
+    }
+
+    @Override
+    public void notify(Listenable source, String operation, Object... data) {
+        this.executor.execute(() -> this.getListener().notify(source, operation, data));
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, Object... data) {
+        this.executor.execute(() -> this.getListener().notify(source, channel, data));
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel) {
+        this.executor.execute(() -> this.getListener().notify(source, channel));
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, Object data) {
+        this.executor.execute(() -> this.getListener().notify(source, channel, data));
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, int data) {
+        this.executor.execute(() -> this.getListener().notify(source, channel, data));
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, double data) {
+        this.executor.execute(() -> this.getListener().notify(source, channel, data));
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, boolean data) {
+        this.executor.execute(() -> this.getListener().notify(source, channel, data));
+    }
+
+    @Override
+    public void notifyBatch(Listenable source, Channel channel, int count) {
+        this.executor.execute(() -> this.getListener().notifyBatch(source, channel, count));
+    }
+}
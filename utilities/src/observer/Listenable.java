@@ -25,6 +25,17 @@ public interface Listenable {
      */
     void addListener(String operation, Listener listener);
 
+    /**
+     * Adds a listener to a channel of the Listenable object.
+     *
+     * @param channel  The channel that can be listened.
+     * @param listener The listener to add.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the listener is null.
+     * @throws NullPointerException     If the channel is null.
+     */
+    void addListener(Channel channel, Listener listener);
+
     /**
      * Adds a listener to the Listenable object.
      *
@@ -32,6 +43,70 @@ public interface Listenable {
      */
     void addListener(Listener listener);
 
+    /**
+     * Adds a listener to a channel of the Listenable object, the listener receives its events through the dispatcher.
+     *
+     * @param channel    The channel that can be listened.
+     * @param listener   The listener to add.
+     * @param dispatcher The dispatcher delivering the events to the listener.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the listener, the channel or the dispatcher is null.
+     */
+    void addListener(Channel channel, Listener listener, Dispatcher dispatcher);
+
+    /**
+     * Adds a listener to the Listenable object, the listener receives its events through the dispatcher.
+     *
+     * @param listener   The listener to add.
+     * @param dispatcher The dispatcher delivering the events to the listener.
+     * @throws NullPointerException If the listener or the dispatcher is null.
+     */
+    void addListener(Listener listener, Dispatcher dispatcher);
+
+    /**
+     * Adds a listener to a channel of the Listenable object with a weak reference.
+     * The Listenable object does not keep the listener reachable,
+     * the listener is removed once it has been garbage collected.
+     *
+     * @param channel  The channel that can be listened.
+     * @param listener The listener to add.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the listener or the channel is null.
+     */
+    void addWeakListener(Channel channel, Listener listener);
+
+    /**
+     * Adds a listener to the Listenable object with a weak reference.
+     * The Listenable object does not keep the listener reachable,
+     * the listener is removed once it has been garbage collected.
+     *
+     * @param listener The listener to add.
+     * @throws NullPointerException If the listener is null.
+     */
+    void addWeakListener(Listener listener);
+
+    /**
+     * Adds a listener to a channel of the Listenable object with a weak reference,
+     * the listener receives its events through the dispatcher.
+     *
+     * @param channel    The channel that can be listened.
+     * @param listener   The listener to add.
+     * @param dispatcher The dispatcher delivering the events to the listener.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the listener, the channel or the dispatcher is null.
+     */
+    void addWeakListener(Channel channel, Listener listener, Dispatcher dispatcher);
+
+    /**
+     * Adds a listener to the Listenable object with a weak reference,
+     * the listener receives its events through the dispatcher.
+     *
+     * @param listener   The listener to add.
+     * @param dispatcher The dispatcher delivering the events to the listener.
+     * @throws NullPointerException If the listener or the dispatcher is null.
+     */
+    void addWeakListener(Listener listener, Dispatcher dispatcher);
+
     /**
      * Removes a listener from the Listenable object.
      *
@@ -43,6 +118,17 @@ public interface Listenable {
      */
     void removeListener(String operation, Listener listener);
 
+    /**
+     * Removes a listener from a channel of the Listenable object.
+     *
+     * @param channel  The channel that can be listened.
+     * @param listener The listener to remove.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the listener is null.
+     * @throws NullPointerException     If the channel is null.
+     */
+    void removeListener(Channel channel, Listener listener);
+
     /**
      * Removes a listener from the Listenable object.
      *
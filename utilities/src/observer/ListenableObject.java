@@ -1,9 +1,12 @@
 package observer;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * <b>
@@ -14,39 +17,138 @@ import java.util.Map;
  *     A Listenable object is an object that can be listened.
  * </p>
  *
+ * <p>
+ *     The operations that can be listened are registered once as {@link Channel}s.
+ *     The listeners of a channel are stored in an array indexed by the id of the channel,
+ *     and this array is copied when a listener is added or removed (copy-on-write),
+ *     so a notification is only an array lookup followed by a loop over the listeners.
+ *     The arrays are published atomically: the listeners can be added and removed from any thread,
+ *     without locking the notifications, and a notification always iterates over a consistent snapshot.
+ *     The methods taking the name of the operation are kept as a thin compatibility layer
+ *     that resolves the channel of the operation.
+ * </p>
+ *
+ * <p>
+ *     The events without data or with a single object, int, double or boolean are notified
+ *     with the fixed-arity methods, which neither allocate an array for the data nor box it.
+ * </p>
+ *
+ * <p>
+ *     The notifications raised inside a {@link Batch} are deferred: when the outermost batch is closed,
+ *     the listeners receive the events in the order they were raised, the consecutive events of a channel
+ *     being coalesced in a single event through {@link Listener#notifyBatch(Listenable, Channel, int)}.
+ *     A batch is confined to the thread that opened it: the notifications raised by the other threads
+ *     are delivered at once, and the other threads cannot open a batch until it is closed.
+ * </p>
+ *
+ * <p>
+ *     A listener can be registered with a {@link Dispatcher}, which chooses the thread
+ *     on which the listener receives its events, for example the event dispatch thread of Swing.
+ *     A listener registered with {@code addWeakListener} is not kept reachable by the Listenable object,
+ *     it is purged from the listeners once it has been garbage collected.
+ * </p>
+ *
+ * <p>
+ *     A {@link DispatchMonitor} can be installed to observe the notifications of all the Listenable objects,
+ *     when no monitor is installed the notifications only pay for a null check.
+ * </p>
+ * <pre>
+ *     cards.batch(() -&gt; {
+ *         cards.addCard(card1);
+ *         cards.addCard(card2);
+ *     });
+ * </pre>
+ *
  * @version	1.0
  */
 
 public abstract class ListenableObject implements Listenable{
 
     /**
-    * The listeners of the Listenable object.
+     * The listeners of an operation without listeners.
+     */
+    private static final Listener[] NO_LISTENERS = new Listener[0];
+
+    /**
+     * The monitor of the notifications, or null if the notifications are not monitored.
+     */
+    private static volatile DispatchMonitor monitor;
+
+    /**
+    * The listeners of the Listenable object, indexed by the id of their channel.
+    * A null entry means that the channel is not supported.
+    * The arrays are never modified once published, they are replaced.
     */
-    private final Map<String, List<Listener>> listeners;
+    private final AtomicReference<Listener[][]> listeners = new AtomicReference<>(new Listener[0][]);
+
+    /**
+     * The thread which opened the current batch, or null if no batch is open.
+     * The other fields of the batch are only read and written by this thread.
+     */
+    private final AtomicReference<Thread> batchOwner = new AtomicReference<>();
+
+    /**
+     * The number of batches currently open.
+     */
+    private int batchDepth;
+
+    /**
+     * The channel of each run of consecutive events deferred in the current batch, in the order of the runs.
+     */
+    private Channel[] pendingChannels = new Channel[0];
+
+    /**
+     * The number of events of each run deferred in the current batch.
+     */
+    private int[] pendingCounts = new int[0];
+
+    /**
+     * The number of runs deferred in the current batch.
+     */
+    private int pendingSize;
+
+    /**
+     * Protected constructor of a Listenable object without operations.
+     */
+    protected ListenableObject() {
+    }
 
     /**
      * Protected constructor.
      * @param operations The operations that can be listened.
      */
     protected ListenableObject(String... operations) {
-        this.listeners = new HashMap<>();
-        for (String operation : operations) {
-            this.listeners.put(operation, new ArrayList<>());
-        }
+        this.addOperation(operations);
+    }
+
+    /**
+     * Protected constructor.
+     * @param channels The channels that can be listened.
+     */
+    protected ListenableObject(Channel... channels) {
+        this.addChannel(channels);
     }
 
     @Override
     public void addListener(String operation, Listener listener) {
-        if (operation == null) {
-            throw new NullPointerException("The operation cannot be null.");
+        this.addListener(this.resolve(operation), listener);
+    }
+
+    @Override
+    public void addListener(Channel channel, Listener listener) {
+        if (channel == null) {
+            throw new NullPointerException("The channel cannot be null.");
         }
         if (listener == null) {
             throw new NullPointerException("The listener cannot be null.");
         }
-        if (!this.listeners.containsKey(operation)) {
-            throw new IllegalArgumentException("The operation " + operation + " is not supported by " + this.getClass().getSimpleName());
-        }
-        this.listeners.get(operation).add(listener);
+        this.listenersOf(channel);
+        int id = channel.getId();
+        this.update(table -> {
+            Listener[][] updated = table.clone();
+            updated[id] = with(table[id], listener);
+            return updated;
+        });
     }
 
     @Override
@@ -54,33 +156,107 @@ public abstract class ListenableObject implements Listenable{
         if (listener == null) {
             throw new NullPointerException("The listener cannot be null.");
         }
-        for (Map.Entry<String, List<Listener>> entry : this.listeners.entrySet()) {
-            entry.getValue().add(listener);
+        this.update(table -> {
+            Listener[][] updated = table.clone();
+            for (int id = 0; id < updated.length; id++) {
+                if (updated[id] != null) {
+                    updated[id] = with(updated[id], listener);
+                }
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    public void addListener(Channel channel, Listener listener, Dispatcher dispatcher) {
+        if (dispatcher == null) {
+            throw new NullPointerException("The dispatcher cannot be null.");
+        }
+        if (listener == null) {
+            throw new NullPointerException("The listener cannot be null.");
         }
+        this.addListener(channel, dispatcher.decorate(listener));
     }
 
     @Override
-    public void removeListener(String operation, Listener listener) {
-        if (operation == null) {
-            throw new NullPointerException("The operation cannot be null.");
+    public void addListener(Listener listener, Dispatcher dispatcher) {
+        if (dispatcher == null) {
+            throw new NullPointerException("The dispatcher cannot be null.");
         }
         if (listener == null) {
             throw new NullPointerException("The listener cannot be null.");
         }
-        if (!this.listeners.containsKey(operation)) {
-            throw new IllegalArgumentException("The operation " + operation + " is not supported by " + this.getClass().getSimpleName());
+        this.addListener(dispatcher.decorate(listener));
+    }
+
+    @Override
+    public void addWeakListener(Channel channel, Listener listener) {
+        if (listener == null) {
+            throw new NullPointerException("The listener cannot be null.");
         }
-        this.listeners.get(operation).remove(listener);
+        this.addListener(channel, new WeakListener(listener));
     }
 
     @Override
-    public void removeListener(Listener listener) {
+    public void addWeakListener(Listener listener) {
         if (listener == null) {
             throw new NullPointerException("The listener cannot be null.");
         }
-        for (Map.Entry<String, List<Listener>> entry : this.listeners.entrySet()) {
-            entry.getValue().remove(listener);
+        this.addListener(new WeakListener(listener));
+    }
+
+    @Override
+    public void addWeakListener(Channel channel, Listener listener, Dispatcher dispatcher) {
+        if (listener == null) {
+            throw new NullPointerException("The listener cannot be null.");
+        }
+        this.addListener(channel, new WeakListener(listener), dispatcher);
+    }
+
+    @Override
+    public void addWeakListener(Listener listener, Dispatcher dispatcher) {
+        if (listener == null) {
+            throw new NullPointerException("The listener cannot be null.");
+        }
+        this.addListener(new WeakListener(listener), dispatcher);
+    }
+
+    @Override
+    public void removeListener(String operation, Listener listener) {
+        this.removeListener(this.resolve(operation), listener);
+    }
+
+    @Override
+    public void removeListener(Channel channel, Listener listener) {
+        if (channel == null) {
+            throw new NullPointerException("The channel cannot be null.");
+        }
+        if (listener == null) {
+            throw new NullPointerException("The listener cannot be null.");
         }
+        this.listenersOf(channel);
+        int id = channel.getId();
+        this.update(table -> {
+            Listener[][] updated = table.clone();
+            updated[id] = without(table[id], listener);
+            return updated;
+        });
+    }
+
+    @Override
+    public void removeListener(Listener listener) {
+        if (listener == null) {
+            throw new NullPointerException("The listener cannot be null.");
+        }
+        this.update(table -> {
+            Listener[][] updated = table.clone();
+            for (int id = 0; id < updated.length; id++) {
+                if (updated[id] != null) {
+                    updated[id] = without(updated[id], listener);
+                }
+            }
+            return updated;
+        });
     }
 
     /**
@@ -90,11 +266,87 @@ public abstract class ListenableObject implements Listenable{
      */
     protected void addOperation(String... operation) {
         for (String op : operation) {
-            this.listeners.put(op, new ArrayList<>());
+            this.addChannel(Channel.of(op));
         }
     }
 
+    /**
+     * Add new channels to the Listenable object.
+     *
+     * @param channels The channels to add.
+     */
+    protected void addChannel(Channel... channels) {
+        for (Channel channel : channels) {
+            int id = channel.getId();
+            this.update(table -> {
+                if (id < table.length && table[id] != null) {
+                    return table;
+                }
+                Listener[][] updated = Arrays.copyOf(table, Math.max(table.length, id + 1));
+                updated[id] = NO_LISTENERS;
+                return updated;
+            });
+        }
+    }
 
+    /**
+     * Returns true if the given channel can be listened.
+     *
+     * @param channel The channel.
+     * @return True if the given channel can be listened.
+     */
+    public boolean supports(Channel channel) {
+        Listener[][] table = this.listeners.get();
+        return channel != null && channel.getId() < table.length && table[channel.getId()] != null;
+    }
+
+    /**
+     * Returns the number of listeners of a channel.
+     * The weak listeners garbage collected are counted until they are purged by the next notification of the channel.
+     *
+     * @param channel The channel.
+     * @return The number of listeners of the channel.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the channel is null.
+     */
+    public int getListenerCount(Channel channel) {
+        if (channel == null) {
+            throw new NullPointerException("The channel cannot be null.");
+        }
+        return this.listenersOf(channel).length;
+    }
+
+    /**
+     * Returns the number of listeners of each operation of the Listenable object.
+     * This method is meant to diagnose the listeners that are never removed.
+     *
+     * @return The number of listeners indexed by the name of the operation.
+     */
+    public Map<String, Integer> getListenerCounts() {
+        Listener[][] table = this.listeners.get();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Channel channel : Channel.values()) {
+            if (channel.getId() < table.length && table[channel.getId()] != null) {
+                counts.put(channel.getName(), this.getListenerCount(channel));
+            }
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Removes the listeners registered with a weak reference that have been garbage collected.
+     */
+    void purgeStaleListeners() {
+        this.update(table -> {
+            Listener[][] updated = table.clone();
+            for (int id = 0; id < updated.length; id++) {
+                if (updated[id] != null) {
+                    updated[id] = withoutStale(updated[id]);
+                }
+            }
+            return updated;
+        });
+    }
 
     /**
      * Notifies the listeners of the Listenable object.
@@ -104,17 +356,485 @@ public abstract class ListenableObject implements Listenable{
      * @throws NullPointerException     If the operation is null.
      */
     protected void notifyListeners(String operation, Object... data) {
+        this.notifyListeners(this.resolve(operation), data);
+    }
+
+    /**
+     * Notifies the listeners of a channel of the Listenable object.
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the channel is null.
+     */
+    protected void notifyListeners(Channel channel, Object... data) {
+        Listener[] listeners = this.listenersOf(channel);
+        if (this.batchOwner.get() == Thread.currentThread()) {
+            this.defer(channel);
+            return;
+        }
+        if (monitor != null) {
+            this.notifyMonitored(channel, listeners, l -> l.notify(this, channel, data));
+            return;
+        }
+        for (Listener listener : listeners) {
+            listener.notify(this, channel, data);
+        }
+    }
+
+    /**
+     * Notifies the listeners of a channel of an event without data.
+     * @param channel The channel of the event.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the channel is null.
+     */
+    protected void notifyListeners(Channel channel) {
+        Listener[] listeners = this.listenersOf(channel);
+        if (this.batchOwner.get() == Thread.currentThread()) {
+            this.defer(channel);
+            return;
+        }
+        if (monitor != null) {
+            this.notifyMonitored(channel, listeners, l -> l.notify(this, channel));
+            return;
+        }
+        for (Listener listener : listeners) {
+            listener.notify(this, channel);
+        }
+    }
+
+    /**
+     * Notifies the listeners of a channel of an event with one object, without allocating an array.
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the channel is null.
+     */
+    protected void notifyListeners(Channel channel, Object data) {
+        Listener[] listeners = this.listenersOf(channel);
+        if (this.batchOwner.get() == Thread.currentThread()) {
+            this.defer(channel);
+            return;
+        }
+        if (monitor != null) {
+            this.notifyMonitored(channel, listeners, l -> l.notify(this, channel, data));
+            return;
+        }
+        for (Listener listener : listeners) {
+            listener.notify(this, channel, data);
+        }
+    }
+
+    /**
+     * Notifies the listeners of a channel of an event with one int, without boxing it.
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the channel is null.
+     */
+    protected void notifyListeners(Channel channel, int data) {
+        Listener[] listeners = this.listenersOf(channel);
+        if (this.batchOwner.get() == Thread.currentThread()) {
+            this.defer(channel);
+            return;
+        }
+        if (monitor != null) {
+            this.notifyMonitored(channel, listeners, l -> l.notify(this, channel, data));
+            return;
+        }
+        for (Listener listener : listeners) {
+            listener.notify(this, channel, data);
+        }
+    }
+
+    /**
+     * Notifies the listeners of a channel of an event with one double, without boxing it.
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the channel is null.
+     */
+    protected void notifyListeners(Channel channel, double data) {
+        Listener[] listeners = this.listenersOf(channel);
+        if (this.batchOwner.get() == Thread.currentThread()) {
+            this.defer(channel);
+            return;
+        }
+        if (monitor != null) {
+            this.notifyMonitored(channel, listeners, l -> l.notify(this, channel, data));
+            return;
+        }
+        for (Listener listener : listeners) {
+            listener.notify(this, channel, data);
+        }
+    }
+
+    /**
+     * Notifies the listeners of a channel of an event with one boolean, without boxing it.
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the channel is null.
+     */
+    protected void notifyListeners(Channel channel, boolean data) {
+        Listener[] listeners = this.listenersOf(channel);
+        if (this.batchOwner.get() == Thread.currentThread()) {
+            this.defer(channel);
+            return;
+        }
+        if (monitor != null) {
+            this.notifyMonitored(channel, listeners, l -> l.notify(this, channel, data));
+            return;
+        }
+        for (Listener listener : listeners) {
+            listener.notify(this, channel, data);
+        }
+    }
+
+    /**
+     * Installs the monitor of the notifications of all the Listenable objects.
+     *
+     * @param dispatchMonitor The monitor, or null to stop monitoring the notifications.
+     */
+    public static void setMonitor(DispatchMonitor dispatchMonitor) {
+        monitor = dispatchMonitor;
+    }
+
+    /**
+     * Returns the monitor of the notifications of all the Listenable objects.
+     *
+     * @return The monitor, or null if the notifications are not monitored.
+     */
+    public static DispatchMonitor getMonitor() {
+        return monitor;
+    }
+
+    /**
+     * Notifies the listeners of a channel and reports the notification to the monitor.
+     *
+     * @param channel   The channel of the event.
+     * @param listeners The listeners of the channel.
+     * @param delivery  The delivery of the event to a listener.
+     */
+    private void notifyMonitored(Channel channel, Listener[] listeners, Consumer<Listener> delivery) {
+        DispatchMonitor current = monitor;
+        if (current == null) {
+            for (Listener listener : listeners) {
+                delivery.accept(listener);
+            }
+            return;
+        }
+        current.eventNotified(this, channel, listeners.length);
+        for (Listener listener : listeners) {
+            long start = System.nanoTime();
+            delivery.accept(listener);
+            current.callbackCompleted(this, channel, decorated(listener), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Opens a batch of notifications.
+     *
+     * <p>
+     *     Until the batch is closed, the notifications raised by the current thread are deferred.
+     *     The batches can be nested, the deferred notifications are delivered when the outermost batch is closed,
+     *     in order: the listeners are notified once for each run of consecutive events of a channel,
+     *     with the number of events coalesced.
+     * </p>
+     *
+     * @return The batch to close, usually in a try-with-resources statement, which closes only this batch.
+     * @throws IllegalStateException If a batch is open in another thread.
+     */
+    public Batch beginBatch() {
+        this.openBatch();
+        return new Batch();
+    }
+
+    /**
+     * Runs an action in a batch of notifications.
+     *
+     * <p>
+     *     The notifications raised by the action are deferred as in a batch opened by {@link #beginBatch()},
+     *     the batch is closed when the action returns or throws.
+     * </p>
+     *
+     * @param action The action to run.
+     * @throws NullPointerException  If the action is null.
+     * @throws IllegalStateException If a batch is open in another thread.
+     */
+    public void batch(Runnable action) {
+        if (action == null) {
+            throw new NullPointerException("The action cannot be null.");
+        }
+        this.openBatch();
+        try {
+            action.run();
+        } finally {
+            this.endBatch();
+        }
+    }
+
+    /**
+     * Returns true if a batch of notifications is open, in any thread.
+     *
+     * @return True if a batch of notifications is open.
+     */
+    public boolean isBatching() {
+        return this.batchOwner.get() != null;
+    }
+
+    /**
+     * Opens a batch in the current thread, which becomes the owner of the batch if it is the outermost one.
+     *
+     * @throws IllegalStateException If a batch is open in another thread.
+     */
+    private void openBatch() {
+        Thread current = Thread.currentThread();
+        if (this.batchOwner.get() != current && !this.batchOwner.compareAndSet(null, current)) {
+            throw new IllegalStateException("A batch is already open in another thread.");
+        }
+        this.batchDepth++;
+    }
+
+    /**
+     * Checks that the current thread opened the current batch.
+     *
+     * @throws IllegalStateException If the batch was opened by another thread.
+     */
+    private void checkBatchOwner() {
+        if (this.batchOwner.get() != Thread.currentThread()) {
+            throw new IllegalStateException("The batch was opened by another thread.");
+        }
+    }
+
+    /**
+     * Closes a batch of the current thread, the deferred notifications are delivered if it is the outermost batch.
+     */
+    private void endBatch() {
+        if (--this.batchDepth == 0) {
+            this.flush();
+        }
+    }
+
+    /**
+     * Defers a notification until the end of the current batch.
+     * The notification extends the last run if it is on the same channel, otherwise it starts a new run,
+     * so the runs keep the order of the notifications.
+     *
+     * @param channel The channel of the notification.
+     */
+    private void defer(Channel channel) {
+        int last = this.pendingSize - 1;
+        if (last >= 0 && this.pendingChannels[last] == channel) {
+            this.pendingCounts[last]++;
+            return;
+        }
+        if (this.pendingSize == this.pendingChannels.length) {
+            int capacity = Math.max(4, this.pendingSize * 2);
+            this.pendingChannels = Arrays.copyOf(this.pendingChannels, capacity);
+            this.pendingCounts = Arrays.copyOf(this.pendingCounts, capacity);
+        }
+        this.pendingChannels[this.pendingSize] = channel;
+        this.pendingCounts[this.pendingSize++] = 1;
+    }
+
+    /**
+     * Delivers the notifications deferred by the batch that has just been closed, and releases the batch.
+     */
+    private void flush() {
+        // The pending notifications are taken before being delivered, so a listener can open a new batch.
+        Channel[] channels = Arrays.copyOf(this.pendingChannels, this.pendingSize);
+        int[] counts = Arrays.copyOf(this.pendingCounts, this.pendingSize);
+        Arrays.fill(this.pendingChannels, 0, this.pendingSize, null);
+        this.pendingSize = 0;
+        this.batchOwner.set(null);
+        for (int i = 0; i < channels.length; i++) {
+            Channel channel = channels[i];
+            int count = counts[i];
+            Listener[] listeners = this.listenersOf(channel);
+            if (monitor != null) {
+                this.notifyMonitored(channel, listeners, l -> l.notifyBatch(this, channel, count));
+            } else {
+                for (Listener listener : listeners) {
+                    listener.notifyBatch(this, channel, count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the current listeners of a channel.
+     *
+     * @param channel The channel.
+     * @return The listeners of the channel, this array must not be modified.
+     * @throws IllegalArgumentException If the channel is not supported.
+     * @throws NullPointerException     If the channel is null.
+     */
+    private Listener[] listenersOf(Channel channel) {
+        int id = channel.getId();
+        Listener[][] table = this.listeners.get();
+        if (id >= table.length || table[id] == null) {
+            throw new IllegalArgumentException("The operation " + channel + " is not supported by " + this.getClass().getSimpleName());
+        }
+        return table[id];
+    }
+
+    /**
+     * Replaces the listeners of the Listenable object, without locking.
+     * The update is retried if the listeners were replaced concurrently, so it must not have side effects.
+     *
+     * @param update The function computing the new listeners from the current ones.
+     */
+    private void update(UnaryOperator<Listener[][]> update) {
+        Listener[][] current;
+        Listener[][] updated;
+        do {
+            current = this.listeners.get();
+            updated = update.apply(current);
+        } while (current != updated && !this.listeners.compareAndSet(current, updated));
+    }
+
+    /**
+     * Returns a copy of the listeners with the given listener at the end.
+     *
+     * @param listeners The listeners.
+     * @param listener  The listener to add.
+     * @return The listeners with the given listener.
+     */
+    private static Listener[] with(Listener[] listeners, Listener listener) {
+        Listener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        return updated;
+    }
+
+    /**
+     * Resolves the channel of an operation.
+     *
+     * @param operation The operation.
+     * @return The channel of the operation.
+     * @throws IllegalArgumentException If the operation is not supported.
+     * @throws NullPointerException     If the operation is null.
+     */
+    private Channel resolve(String operation) {
         if (operation == null) {
             throw new NullPointerException("The operation cannot be null.");
         }
-        if (!this.listeners.containsKey(operation)) {
+        Channel channel = Channel.lookup(operation);
+        if (!this.supports(channel)) {
             throw new IllegalArgumentException("The operation " + operation + " is not supported by " + this.getClass().getSimpleName());
         }
-        for (Listener listener : this.listeners.get(operation)) {
-            listener.notify(this, operation, data);
+        return channel;
+    }
+
+    /**
+     * Returns a copy of the listeners without the first occurrence of the given listener,
+     * a listener registered with a dispatcher or a weak reference is removed with the listener it decorates.
+     *
+     * @param listeners The listeners.
+     * @param listener  The listener to remove.
+     * @return The listeners without the given listener.
+     */
+    private static Listener[] without(Listener[] listeners, Listener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listener.equals(listeners[i]) || listeners[i] instanceof ListenerDecorator
+                    && ((ListenerDecorator) listeners[i]).decorates(listener)) {
+                Listener[] updated = new Listener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, listeners.length - i - 1);
+                return updated;
+            }
         }
+        return listeners;
     }
 
+    /**
+     * Returns a copy of the listeners without the stale listeners.
+     *
+     * @param listeners The listeners.
+     * @return The listeners without the stale listeners, or the same array if no listener is stale.
+     */
+    private static Listener[] withoutStale(Listener[] listeners) {
+        int live = 0;
+        for (Listener listener : listeners) {
+            if (!isStale(listener)) {
+                live++;
+            }
+        }
+        if (live == listeners.length) {
+            return listeners;
+        }
+        Listener[] updated = new Listener[live];
+        int i = 0;
+        for (Listener listener : listeners) {
+            if (!isStale(listener)) {
+                updated[i++] = listener;
+            }
+        }
+        return updated;
+    }
 
+    /**
+     * Returns the listener decorated by a decorator, or the listener itself if it is not a decorator.
+     *
+     * @param listener The listener.
+     * @return The listener decorated.
+     */
+    private static Listener decorated(Listener listener) {
+        Listener decorated = listener;
+        while (decorated instanceof ListenerDecorator && ((ListenerDecorator) decorated).getListener() != null) {
+            decorated = ((ListenerDecorator) decorated).getListener();
+        }
+        return decorated;
+    }
+
+    /**
+     * Returns true if the listener decorates a listener that has been garbage collected.
+     *
+     * @param listener The listener.
+     * @return True if the listener is stale.
+     */
+    private static boolean isStale(Listener listener) {
+        return listener instanceof ListenerDecorator && ((ListenerDecorator) listener).isStale();
+    }
+
+    /**
+     * <b>
+     *     A batch of notifications.
+     * </b>
+     *
+     * <p>
+     *     A batch is opened by {@link ListenableObject#beginBatch()} and closed by {@link #close()}.
+     *     Each call to {@code beginBatch()} returns its own batch, which is closed only once:
+     *     closing it again does not close the enclosing batches.
+     * </p>
+     */
+    public final class Batch implements AutoCloseable {
+
+        /**
+         * True if the batch has been closed.
+         */
+        private boolean closed;
+
+        /**
+         * Private constructor, the batches are opened by {@link ListenableObject#beginBatch()}.
+         */
+        private Batch() {
+        }
+
+        /**
+         * Closes the batch, the deferred notifications are delivered if it is the outermost batch.
+         * Closing a batch already closed has no effect.
+         *
+         * @throws IllegalStateException If the batch was opened by another thread.
+         */
+        @Override
+        public void close() {
+            if (this.closed) {
+                return;
+            }
+            ListenableObject.this.checkBatchOwner();
+            this.closed = true;
+            ListenableObject.this.endBatch();
+        }
+    }
 
 }
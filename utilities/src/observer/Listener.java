@@ -14,6 +14,11 @@ package observer;
  */
 public interface Listener {
 
+    /**
+     * The data of an event without data.
+     */
+    Object[] NO_DATA = {};
+
     /**
      * Notifies the listener when the event occurs.
      *
@@ -25,4 +30,98 @@ public interface Listener {
      * @throws NullPointerException     If the operation is null.
      */
     void notify(Listenable source, String operation, Object... data);
+
+    /**
+     * Notifies the listener when an event occurs on a channel.
+     *
+     * <p>
+     *     By default, the event is forwarded to {@link #notify(Listenable, String, Object...)}
+     *     with the name of the channel.
+     * </p>
+     *
+     * @param source  The source of the event.
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     */
+    default void notify(Listenable source, Channel channel, Object... data) {
+        notify(source, channel.getName(), data);
+    }
+
+    /**
+     * Notifies the listener when an event without data occurs on a channel.
+     *
+     * <p>
+     *     The methods with a fixed number of arguments are called by the notifications that do not need
+     *     to allocate an array for their data. By default, they are forwarded to
+     *     {@link #notify(Listenable, Channel, Object...)}, a listener on the steady-state path overrides them
+     *     to receive the events without allocation.
+     * </p>
+     *
+     * @param source  The source of the event.
+     * @param channel The channel of the event.
+     */
+    default void notify(Listenable source, Channel channel) {
+        notify(source, channel, NO_DATA);
+    }
+
+    /**
+     * Notifies the listener when an event with one object occurs on a channel.
+     *
+     * @param source  The source of the event.
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     */
+    default void notify(Listenable source, Channel channel, Object data) {
+        notify(source, channel, new Object[]{data});
+    }
+
+    /**
+     * Notifies the listener when an event with one int occurs on a channel.
+     *
+     * @param source  The source of the event.
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     */
+    default void notify(Listenable source, Channel channel, int data) {
+        notify(source, channel, new Object[]{data});
+    }
+
+    /**
+     * Notifies the listener when an event with one double occurs on a channel.
+     *
+     * @param source  The source of the event.
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     */
+    default void notify(Listenable source, Channel channel, double data) {
+        notify(source, channel, new Object[]{data});
+    }
+
+    /**
+     * Notifies the listener when an event with one boolean occurs on a channel.
+     *
+     * @param source  The source of the event.
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     */
+    default void notify(Listenable source, Channel channel, boolean data) {
+        notify(source, channel, new Object[]{data});
+    }
+
+    /**
+     * Notifies the listener of the events coalesced by a batch of notifications on a channel.
+     *
+     * <p>
+     *     By default, the listener is notified once without data.
+     *     A listener that needs the data of each event overrides this method
+     *     to read the new state from the source.
+     * </p>
+     *
+     * @param source  The source of the events.
+     * @param channel The channel of the events.
+     * @param count   The number of events coalesced.
+     */
+    default void notifyBatch(Listenable source, Channel channel, int count) {
+        notify(source, channel);
+    }
 }
@@ -0,0 +1,47 @@
+package observer;
+
+/**
+ * <b>
+ *     A listener decorating another listener.
+ * </b>
+ *
+ * <p>
+ *     A Listenable object registers a decorator instead of the listener when the listener
+ *     is registered with a {@link Dispatcher} or with a weak reference.
+ *     The decorator can be removed from the Listenable object with the listener it decorates,
+ *     and it is stale when the listener it decorates has been garbage collected.
+ * </p>
+ *
+ * @version	1.0
+ */
+abstract class ListenerDecorator implements Listener {
+
+    /**
+     * Returns the listener decorated.
+     *
+     * @return The listener decorated, or null if it has been garbage collected.
+     */
+    abstract Listener getListener();
+
+    /**
+     * Returns true if the listener decorated, or one of the listeners it decorates, has been garbage collected.
+     *
+     * @return True if the decorator is stale.
+     */
+    boolean isStale() {
+        Listener listener = this.getListener();
+        return listener == null || listener instanceof ListenerDecorator && ((ListenerDecorator) listener).isStale();
+    }
+
+    /**
+     * Returns true if the decorator decorates the given listener, directly or through another decorator.
+     *
+     * @param listener The listener.
+     * @return True if the decorator decorates the given listener.
+     */
+    boolean decorates(Listener listener) {
+        Listener decorated = this.getListener();
+        return listener.equals(decorated)
+                || decorated instanceof ListenerDecorator && ((ListenerDecorator) decorated).decorates(listener);
+    }
+}
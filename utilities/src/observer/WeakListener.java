@@ -0,0 +1,133 @@
+package observer;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * <b>
+ *     A listener registered with a weak reference.
+ * </b>
+ *
+ * <p>
+ *     The weak listener does not keep the listener it decorates reachable.
+ *     Once the listener has been garbage collected, the next event received by the weak listener
+ *     purges the stale listeners of its source.
+ * </p>
+ *
+ * @version	1.0
+ */
+final class WeakListener extends ListenerDecorator {
+
+    /**
+     * The reference to the listener receiving the events.
+     */
+    private final WeakReference<Listener> reference;
+
+    /**
+     * Creates a weak listener.
+     *
+     * @param listener The listener receiving the events.
+     * @throws NullPointerException If the listener is null.
+     */
+    WeakListener(Listener listener) {
+        if (listener == null) {
+            throw new NullPointerException("The listener cannot be null.");
+        }
+        this.reference = new WeakReference<>(listener);
+    }
+
+    @Override
+    Listener getListener() {
+        return this.reference.get();
+    }
+
+    @Override
+    public void notify(Listenable source, String operation, Object... data) {
+        Listener listener = this.reference.get();
+        if (listener != null) {
+            listener.notify(source, operation, data);
+        } else {
+            purge(source);
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, Object... data) {
+        Listener listener = this.reference.get();
+        if (listener != null) {
+            listener.notify(source, channel, data);
+        } else {
+            purge(source);
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel) {
+        Listener listener = this.reference.get();
+        if (listener != null) {
+            listener.notify(source, channel);
+        } else {
+            purge(source);
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, Object data) {
+        Listener listener = this.reference.get();
+        if (listener != null) {
+            listener.notify(source, channel, data);
+        } else {
+            purge(source);
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, int data) {
+        Listener listener = this.reference.get();
+        if (listener != null) {
+            listener.notify(source, channel, data);
+        } else {
+            purge(source);
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, double data) {
+        Listener listener = this.reference.get();
+        if (listener != null) {
+            listener.notify(source, channel, data);
+        } else {
+            purge(source);
+        }
+    }
+
+    @Override
+    public void notify(Listenable source, Channel channel, boolean data) {
+        Listener listener = this.reference.get();
+        if (listener != null) {
+            listener.notify(source, channel, data);
+        } else {
+            purge(source);
+        }
+    }
+
+    @Override
+    public void notifyBatch(Listenable source, Channel channel, int count) {
+        Listener listener = this.reference.get();
+        if (listener != null) {
+            listener.notifyBatch(source, channel, count);
+        } else {
+            purge(source);
+        }
+    }
+
+    /**
+     * Purges the stale listeners of the source of an event.
+     *
+     * @param source The source of the event.
+     */
+    private static void purge(Listenable source) {
+        if (source instanceof ListenableObject) {
+            ((ListenableObject) source).purgeStaleListeners();
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package observer.monitoring;
+
+import observer.Channel;
+import observer.DispatchMonitor;
+import observer.Listenable;
+import observer.ListenableObject;
+import observer.Listener;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <b>
+ *     The statistics of the notifications of the Listenable objects.
+ * </b>
+ *
+ * <p>
+ *     Once installed, the statistics count the events of each operation, the time spent in the callbacks
+ *     of each listener with a latency histogram, and keep the last events in a ring buffer.
+ *     They are published as the MBean {@value #OBJECT_NAME} and, when the flight recorder is available,
+ *     as the flight recorder events {@code observer.Notification} and {@code observer.ListenerCallback}.
+ * </p>
+ * <pre>
+ *     DispatchStatistics statistics = DispatchStatistics.install();
+ *     ...
+ *     DispatchStatistics.uninstall();
+ * </pre>
+ *
+ * @version 1.0
+ */
+public final class DispatchStatistics implements DispatchMonitor, DispatchStatisticsMXBean {
+
+    /**
+     * The name of the MBean of the statistics.
+     */
+    public static final String OBJECT_NAME = "observer:type=DispatchStatistics";
+
+    /**
+     * The default number of events kept by the ring buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The number of events notified.
+     */
+    private final LongAdder events = new LongAdder();
+
+    /**
+     * The number of events notified, indexed by the name of the operation.
+     */
+    private final Map<String, LongAdder> eventCounts = new ConcurrentHashMap<>();
+
+    /**
+     * The statistics of the callbacks, indexed by the identity of the listener.
+     * The listeners are weakly referenced, their statistics are dropped once they are collected.
+     */
+    private final Map<Object, ListenerStatistics> listenerStatistics = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of the listeners collected, to drop their statistics.
+     */
+    private final ReferenceQueue<Listener> collectedListeners = new ReferenceQueue<>();
+
+    /**
+     * The last id given to the statistics of a listener.
+     */
+    private final AtomicLong lastListenerId = new AtomicLong();
+
+    /**
+     * The last events notified.
+     */
+    private final EventRingBuffer recentEvents;
+
+    /**
+     * True if the events are committed to the flight recorder.
+     */
+    private final boolean flightRecorder;
+
+    /**
+     * Creates the statistics, they are not installed.
+     *
+     * @param capacity The number of events kept by the ring buffer.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public DispatchStatistics(int capacity) {
+        this.recentEvents = new EventRingBuffer(capacity);
+        this.flightRecorder = FlightRecorderEvents.isAvailable();
+    }
+
+    /**
+     * Installs statistics keeping the last {@value #DEFAULT_CAPACITY} events.
+     *
+     * @return The statistics installed.
+     */
+    public static DispatchStatistics install() {
+        return install(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Installs statistics as the monitor of the Listenable objects and registers their MBean.
+     * The statistics previously installed are replaced.
+     *
+     * @param capacity The number of events kept by the ring buffer.
+     * @return The statistics installed.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     * @throws IllegalStateException    If the MBean cannot be registered.
+     */
+    public static synchronized DispatchStatistics install(int capacity) {
+        DispatchStatistics statistics = new DispatchStatistics(capacity);
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(statistics, name);
+        } catch (JMException e) {
+            throw new IllegalStateException("The MBean " + OBJECT_NAME + " cannot be registered.", e);
+        }
+        ListenableObject.setMonitor(statistics);
+        return statistics;
+    }
+
+    /**
+     * Uninstalls the statistics and unregisters their MBean, the notifications are no longer monitored.
+     *
+     * @throws IllegalStateException If the MBean cannot be unregistered.
+     */
+    public static synchronized void uninstall() {
+        if (ListenableObject.getMonitor() instanceof DispatchStatistics) {
+            ListenableObject.setMonitor(null);
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("The MBean " + OBJECT_NAME + " cannot be unregistered.", e);
+        }
+    }
+
+    @Override
+    public void eventNotified(Listenable source, Channel channel, int listeners) {
+        String sourceName = source.getClass().getName();
+        this.events.increment();
+        this.eventCounts.computeIfAbsent(channel.getName(), operation -> new LongAdder()).increment();
+        this.recentEvents.record(sourceName, channel.getName(), System.currentTimeMillis());
+        if (this.flightRecorder) {
+            FlightRecorderEvents.notification(sourceName, channel.getName(), listeners);
+        }
+    }
+
+    @Override
+    public void callbackCompleted(Listenable source, Channel channel, Listener listener, long duration) {
+        ListenerStatistics statistics = this.listenerStatistics.get(new ListenerLookup(listener));
+        if (statistics == null) {
+            expungeCollectedListeners();
+            statistics = this.listenerStatistics.computeIfAbsent(new ListenerKey(listener, this.collectedListeners),
+                    key -> new ListenerStatistics(listener.getClass().getName(), this.lastListenerId.incrementAndGet()));
+        }
+        statistics.record(duration);
+        if (this.flightRecorder) {
+            FlightRecorderEvents.callback(source.getClass().getName(), channel.getName(), statistics.getName(), duration);
+        }
+    }
+
+    /**
+     * Returns the statistics of the callbacks of a listener.
+     *
+     * @param listener The listener.
+     * @return The statistics of the callbacks, or null if the listener was not called.
+     */
+    public ListenerStatistics getListenerStatistics(Listener listener) {
+        return this.listenerStatistics.get(new ListenerLookup(listener));
+    }
+
+    /**
+     * Drops the statistics of the listeners collected.
+     */
+    private void expungeCollectedListeners() {
+        Reference<? extends Listener> key;
+        while ((key = this.collectedListeners.poll()) != null) {
+            this.listenerStatistics.remove(key);
+        }
+    }
+
+    /**
+     * Returns the ring buffer of the last events notified.
+     *
+     * @return The ring buffer of the last events notified.
+     */
+    public EventRingBuffer getRecentEventBuffer() {
+        return this.recentEvents;
+    }
+
+    @Override
+    public long getEventCount() {
+        return this.events.sum();
+    }
+
+    @Override
+    public Map<String, Long> getEventCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        this.eventCounts.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getCallbackCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        this.listenerStatistics.values().forEach(statistics -> counts.put(statistics.getLabel(), statistics.getCalls()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getCallbackTimes() {
+        Map<String, Long> times = new TreeMap<>();
+        this.listenerStatistics.values().forEach(statistics -> times.put(statistics.getLabel(), statistics.getTotalTime()));
+        return times;
+    }
+
+    @Override
+    public Map<String, Long> getCallbackP99Times() {
+        Map<String, Long> times = new TreeMap<>();
+        this.listenerStatistics.values().forEach(statistics -> times.put(statistics.getLabel(), statistics.getHistogram().getPercentile(99)));
+        return times;
+    }
+
+    @Override
+    public Map<String, long[]> getCallbackHistograms() {
+        Map<String, long[]> histograms = new TreeMap<>();
+        this.listenerStatistics.values().forEach(statistics -> histograms.put(statistics.getLabel(), statistics.getHistogram().getCounts()));
+        return histograms;
+    }
+
+    @Override
+    public List<String> getRecentEvents() {
+        List<String> dump = new ArrayList<>();
+        for (EventRingBuffer.Entry entry : this.recentEvents.snapshot()) {
+            dump.add(entry.toString());
+        }
+        return dump;
+    }
+
+    @Override
+    public void reset() {
+        this.events.reset();
+        this.eventCounts.clear();
+        this.listenerStatistics.clear();
+    }
+
+    /**
+     * The key of the statistics of a listener, weakly referencing the listener and compared by identity.
+     */
+    private static final class ListenerKey extends WeakReference<Listener> {
+
+        /**
+         * The identity hash code of the listener.
+         */
+        private final int hash;
+
+        /**
+         * Creates the key of a listener.
+         *
+         * @param listener The listener.
+         * @param queue    The queue notified when the listener is collected.
+         */
+        private ListenerKey(Listener listener, ReferenceQueue<Listener> queue) {
+            super(listener, queue);
+            this.hash = System.identityHashCode(listener);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            Listener listener = get();
+            return listener != null && o instanceof ListenerKey && ((ListenerKey) o).get() == listener;
+        }
+    }
+
+    /**
+     * The key used to look up the statistics of a listener, without creating a weak reference.
+     */
+    private static final class ListenerLookup {
+
+        /**
+         * The listener looked up.
+         */
+        private final Listener listener;
+
+        /**
+         * Creates the lookup of a listener.
+         *
+         * @param listener The listener.
+         */
+        private ListenerLookup(Listener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.listener);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ListenerKey && ((ListenerKey) o).get() == this.listener;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package observer.monitoring;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <b>
+ *     The management interface of the {@link DispatchStatistics}.
+ * </b>
+ *
+ * @version 1.0
+ */
+public interface DispatchStatisticsMXBean {
+
+    /**
+     * Returns the number of events notified.
+     *
+     * @return The number of events notified.
+     */
+    long getEventCount();
+
+    /**
+     * Returns the number of events notified for each operation.
+     *
+     * @return The number of events indexed by the name of the operation.
+     */
+    Map<String, Long> getEventCounts();
+
+    /**
+     * Returns the number of callbacks for each listener.
+     *
+     * @return The number of callbacks indexed by the label of the listener,
+     *         the name of its class followed by its id, see {@link ListenerStatistics#getLabel()}.
+     */
+    Map<String, Long> getCallbackCounts();
+
+    /**
+     * Returns the cumulative time spent in the callbacks for each listener.
+     *
+     * @return The time in nanoseconds indexed by the label of the listener,
+     *         the name of its class followed by its id, see {@link ListenerStatistics#getLabel()}.
+     */
+    Map<String, Long> getCallbackTimes();
+
+    /**
+     * Returns the approximate 99th percentile of the time spent in a callback for each listener.
+     *
+     * @return The time in nanoseconds indexed by the label of the listener,
+     *         the name of its class followed by its id, see {@link ListenerStatistics#getLabel()}.
+     */
+    Map<String, Long> getCallbackP99Times();
+
+    /**
+     * Returns the histogram of the time spent in the callbacks for each listener,
+     * see {@link LatencyHistogram} for the buckets.
+     *
+     * @return The histograms indexed by the label of the listener,
+     *         the name of its class followed by its id, see {@link ListenerStatistics#getLabel()}.
+     */
+    Map<String, long[]> getCallbackHistograms();
+
+    /**
+     * Returns the last events notified, from the oldest to the newest.
+     *
+     * @return The last events notified.
+     */
+    List<String> getRecentEvents();
+
+    /**
+     * Resets the counts and the statistics of the callbacks, the recent events are kept.
+     */
+    void reset();
+}
@@ -0,0 +1,189 @@
+package observer.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <b>
+ *     A lock-free ring buffer of the last events notified.
+ * </b>
+ *
+ * <p>
+ *     The ring buffer keeps the last events for post-mortem dumps. A new event overwrites the oldest one,
+ *     each writer claims its slot with an atomic increment, so the writers never wait.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class EventRingBuffer {
+
+    /**
+     * The events, indexed by their sequence number modulo the capacity.
+     */
+    private final AtomicReferenceArray<Entry> entries;
+
+    /**
+     * The mask giving the slot of a sequence number.
+     */
+    private final int mask;
+
+    /**
+     * The sequence number of the next event.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param capacity The number of events kept, rounded up to a power of two.
+     * @throws IllegalArgumentException If the capacity is not positive or greater than 2^30.
+     */
+    public EventRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^30.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Records an event.
+     *
+     * @param source    The class of the source of the event.
+     * @param operation The operation of the event.
+     * @param timestamp The time of the event, in milliseconds since the epoch.
+     */
+    public void record(String source, String operation, long timestamp) {
+        long number = this.sequence.getAndIncrement();
+        this.entries.set((int) (number & this.mask), new Entry(number, source, operation, timestamp));
+    }
+
+    /**
+     * Returns the number of events kept.
+     *
+     * @return The capacity of the ring buffer.
+     */
+    public int getCapacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Returns the number of events recorded since the creation of the ring buffer.
+     *
+     * @return The number of events recorded.
+     */
+    public long getRecorded() {
+        return this.sequence.get();
+    }
+
+    /**
+     * Returns the last events, from the oldest to the newest.
+     * The events recorded during the snapshot may be missing.
+     *
+     * @return The last events.
+     */
+    public List<Entry> snapshot() {
+        long last = this.sequence.get();
+        long first = Math.max(0, last - this.getCapacity());
+        List<Entry> events = new ArrayList<>((int) (last - first));
+        for (long number = first; number < last; number++) {
+            Entry entry = this.entries.get((int) (number & this.mask));
+            // The slot may not be written yet, or already overwritten by a newer event.
+            if (entry != null && entry.getSequence() == number) {
+                events.add(entry);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * <b>
+     *     An event kept by the ring buffer.
+     * </b>
+     */
+    public static final class Entry {
+
+        /**
+         * The sequence number of the event.
+         */
+        private final long sequence;
+
+        /**
+         * The class of the source of the event.
+         */
+        private final String source;
+
+        /**
+         * The operation of the event.
+         */
+        private final String operation;
+
+        /**
+         * The time of the event, in milliseconds since the epoch.
+         */
+        private final long timestamp;
+
+        /**
+         * Creates an event.
+         *
+         * @param sequence  The sequence number of the event.
+         * @param source    The class of the source of the event.
+         * @param operation The operation of the event.
+         * @param timestamp The time of the event, in milliseconds since the epoch.
+         */
+        private Entry(long sequence, String source, String operation, long timestamp) {
+            this.sequence = sequence;
+            this.source = source;
+            this.operation = operation;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * Returns the sequence number of the event.
+         *
+         * @return The sequence number of the event.
+         */
+        public long getSequence() {
+            return this.sequence;
+        }
+
+        /**
+         * Returns the class of the source of the event.
+         *
+         * @return The class of the source of the event.
+         */
+        public String getSource() {
+            return this.source;
+        }
+
+        /**
+         * Returns the operation of the event.
+         *
+         * @return The operation of the event.
+         */
+        public String getOperation() {
+            return this.operation;
+        }
+
+        /**
+         * Returns the time of the event, in milliseconds since the epoch.
+         *
+         * @return The time of the event.
+         */
+        public long getTimestamp() {
+            return this.timestamp;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + this.sequence + " " + java.time.Instant.ofEpochMilli(this.timestamp)
+                    + " " + this.source + " " + this.operation;
+        }
+    }
+}
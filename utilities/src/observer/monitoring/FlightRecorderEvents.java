@@ -0,0 +1,141 @@
+package observer.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * <b>
+ *     The flight recorder events of the notifications.
+ * </b>
+ *
+ * <p>
+ *     This class is only loaded when the flight recorder API is available.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class FlightRecorderEvents {
+
+    /**
+     * Private constructor, the class only contains static methods.
+     */
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Returns true if the flight recorder API is available.
+     *
+     * @return True if the flight recorder API is available.
+     */
+    static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Commits the event of a notification.
+     *
+     * @param source    The class of the source of the event.
+     * @param operation The operation of the event.
+     * @param listeners The number of listeners of the operation.
+     */
+    static void notification(String source, String operation, int listeners) {
+        NotificationEvent event = new NotificationEvent();
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.operation = operation;
+            event.listeners = listeners;
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits the event of a callback.
+     *
+     * @param source    The class of the source of the event.
+     * @param operation The operation of the event.
+     * @param listener  The class of the listener.
+     * @param duration  The time spent in the listener, in nanoseconds.
+     */
+    static void callback(String source, String operation, String listener, long duration) {
+        CallbackEvent event = new CallbackEvent();
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.operation = operation;
+            event.listener = listener;
+            event.callbackDuration = duration;
+            event.commit();
+        }
+    }
+
+    /**
+     * The event of a notification.
+     */
+    @Name("observer.Notification")
+    @Label("Notification")
+    @Category("Observer")
+    @Description("An event notified by a Listenable object")
+    static final class NotificationEvent extends Event {
+
+        /**
+         * The class of the source of the event.
+         */
+        @Label("Source")
+        String source;
+
+        /**
+         * The operation of the event.
+         */
+        @Label("Operation")
+        String operation;
+
+        /**
+         * The number of listeners of the operation.
+         */
+        @Label("Listeners")
+        int listeners;
+    }
+
+    /**
+     * The event of a callback.
+     */
+    @Name("observer.ListenerCallback")
+    @Label("Listener Callback")
+    @Category("Observer")
+    @Description("The time spent by a listener to handle an event")
+    static final class CallbackEvent extends Event {
+
+        /**
+         * The class of the source of the event.
+         */
+        @Label("Source")
+        String source;
+
+        /**
+         * The operation of the event.
+         */
+        @Label("Operation")
+        String operation;
+
+        /**
+         * The class of the listener.
+         */
+        @Label("Listener")
+        String listener;
+
+        /**
+         * The time spent in the listener.
+         */
+        @Label("Callback Duration")
+        @Timespan(Timespan.NANOSECONDS)
+        long callbackDuration;
+    }
+}
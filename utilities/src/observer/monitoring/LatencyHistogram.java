@@ -0,0 +1,100 @@
+package observer.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <b>
+ *     A lock-free histogram of latencies.
+ * </b>
+ *
+ * <p>
+ *     The latencies are counted in buckets of powers of two nanoseconds:
+ *     the bucket {@code i} counts the latencies in {@code [2^(i-1), 2^i)} nanoseconds, the bucket 0 counts the latencies of 0.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The number of buckets of the histogram.
+     */
+    public static final int BUCKETS = Long.SIZE + 1;
+
+    /**
+     * The number of latencies in each bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency, in nanoseconds.
+     */
+    public void record(long nanos) {
+        this.counts.incrementAndGet(bucket(nanos));
+    }
+
+    /**
+     * Returns the bucket of a latency.
+     *
+     * @param nanos The latency, in nanoseconds.
+     * @return The bucket of the latency.
+     */
+    public static int bucket(long nanos) {
+        return nanos <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * Returns the upper bound of a bucket.
+     *
+     * @param bucket The bucket.
+     * @return The smallest latency, in nanoseconds, that is above the bucket.
+     */
+    public static long upperBound(int bucket) {
+        return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    /**
+     * Returns the number of latencies in each bucket.
+     *
+     * @return The number of latencies in each bucket.
+     */
+    public long[] getCounts() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = this.counts.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns an approximation of a percentile of the latencies, the upper bound of its bucket.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The approximate percentile, in nanoseconds, or 0 if no latency was recorded.
+     * @throws IllegalArgumentException If the percentile is not between 0 and 100.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100.");
+        }
+        long[] snapshot = this.getCounts();
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank && snapshot[i] > 0) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+}
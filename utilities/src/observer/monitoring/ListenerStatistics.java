@@ -0,0 +1,139 @@
+package observer.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <b>
+ *     The statistics of the callbacks of a listener.
+ * </b>
+ *
+ * <p>
+ *     The statistics are kept for each listener, they only hold the name of its class so that the monitoring
+ *     does not keep the listeners reachable. They are labelled with this name and an id, unique in the
+ *     {@link DispatchStatistics}, that tells apart the listeners of the same class.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ListenerStatistics {
+
+    /**
+     * The name of the class of the listener.
+     */
+    private final String name;
+
+    /**
+     * The id of the listener in the statistics.
+     */
+    private final long id;
+
+    /**
+     * The number of callbacks.
+     */
+    private final LongAdder calls = new LongAdder();
+
+    /**
+     * The cumulative time spent in the callbacks, in nanoseconds.
+     */
+    private final LongAdder totalTime = new LongAdder();
+
+    /**
+     * The longest time spent in a callback, in nanoseconds.
+     */
+    private final AtomicLong maximumTime = new AtomicLong();
+
+    /**
+     * The histogram of the time spent in the callbacks.
+     */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Creates the statistics of a listener.
+     *
+     * @param name The name of the class of the listener.
+     * @param id   The id of the listener in the statistics.
+     */
+    ListenerStatistics(String name, long id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    /**
+     * Returns the name of the class of the listener.
+     *
+     * @return The name of the class of the listener.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the id of the listener in the statistics.
+     *
+     * @return The id of the listener.
+     */
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * Returns the label of the listener in the management interface, the name of its class followed by its id.
+     *
+     * @return The label of the listener.
+     */
+    public String getLabel() {
+        return this.name + '#' + this.id;
+    }
+
+    /**
+     * Records a callback.
+     *
+     * @param nanos The time spent in the callback, in nanoseconds.
+     */
+    void record(long nanos) {
+        this.calls.increment();
+        this.totalTime.add(nanos);
+        this.histogram.record(nanos);
+        long maximum = this.maximumTime.get();
+        while (nanos > maximum && !this.maximumTime.compareAndSet(maximum, nanos)) {
+            maximum = this.maximumTime.get();
+        }
+    }
+
+    /**
+     * Returns the number of callbacks.
+     *
+     * @return The number of callbacks.
+     */
+    public long getCalls() {
+        return this.calls.sum();
+    }
+
+    /**
+     * Returns the cumulative time spent in the callbacks.
+     *
+     * @return The cumulative time, in nanoseconds.
+     */
+    public long getTotalTime() {
+        return this.totalTime.sum();
+    }
+
+    /**
+     * Returns the longest time spent in a callback.
+     *
+     * @return The longest time, in nanoseconds.
+     */
+    public long getMaximumTime() {
+        return this.maximumTime.get();
+    }
+
+    /**
+     * Returns the histogram of the time spent in the callbacks.
+     *
+     * @return The histogram of the time spent in the callbacks.
+     */
+    public LatencyHistogram getHistogram() {
+        return this.histogram;
+    }
+}
@@ -0,0 +1,105 @@
+package observer;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ChannelTest extends TestCase {
+
+    /**
+     * Method under test: {@link Channel#of(String)}
+     * Normal case: A name is interned once, the same channel is returned for the same name.
+     */
+    public void testOf() {
+        Channel channel = Channel.of("channelTestOf");
+        assertSame(channel, Channel.of("channelTestOf"));
+        assertSame(channel, Channel.of(new String("channelTestOf")));
+        assertEquals("channelTestOf", channel.getName());
+        assertEquals("channelTestOf", channel.toString());
+        assertNotSame(channel, Channel.of("channelTestOther"));
+        assertTrue(channel.getId() != Channel.of("channelTestOther").getId());
+    }
+
+    /**
+     * Method under test: {@link Channel#of(String)}
+     * Normal case: The ids are dense, each channel is at the index of its id in the values.
+     */
+    public void testIdsAreDense() {
+        Channel.of("channelTestDense");
+        Channel[] values = Channel.values();
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i, values[i].getId());
+        }
+    }
+
+    /**
+     * Method under test: {@link Channel#of(String)}
+     * Normal case: The threads interning the same names concurrently receive the same channels.
+     */
+    public void testOfConcurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Channel[]>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    Channel[] channels = new Channel[100];
+                    for (int i = 0; i < channels.length; i++) {
+                        channels[i] = Channel.of("channelTestConcurrent" + i);
+                    }
+                    return channels;
+                });
+            }
+            List<Future<Channel[]>> results = executor.invokeAll(tasks);
+            Channel[] expected = results.get(0).get();
+            Set<Integer> ids = new HashSet<>();
+            for (Channel channel : expected) {
+                ids.add(channel.getId());
+            }
+            assertEquals(expected.length, ids.size());
+            for (Future<Channel[]> result : results) {
+                assertTrue(Arrays.equals(expected, result.get()));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Method under test: {@link Channel#lookup(String)}
+     * Normal case: A name which was never interned has no channel, and is not interned by the lookup.
+     */
+    public void testLookup() {
+        assertNull(Channel.lookup("channelTestNeverInterned"));
+        assertNull(Channel.lookup("channelTestNeverInterned"));
+        Channel channel = Channel.of("channelTestLookup");
+        assertSame(channel, Channel.lookup("channelTestLookup"));
+    }
+
+    /**
+     * Method under test: {@link Channel#of(String)} and {@link Channel#lookup(String)}
+     * Failure case: The name is null.
+     */
+    public void testNullName() {
+        try {
+            Channel.of(null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The operation cannot be null.", e.getMessage());
+        }
+        try {
+            Channel.lookup(null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The operation cannot be null.", e.getMessage());
+        }
+    }
+
+}
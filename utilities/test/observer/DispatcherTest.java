@@ -0,0 +1,225 @@
+package observer;
+
+import junit.framework.TestCase;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DispatcherTest extends TestCase {
+
+    /**
+     * Method under test: {@link Dispatcher#synchronous()}
+     * Normal case: The listener is not decorated and receives the events on the notifying thread.
+     */
+    public void testSynchronous() {
+        ListenableMock mock = new ListenableMock();
+        Listener listener = (source, operation, data) -> { };
+        assertSame(listener, Dispatcher.synchronous().decorate(listener));
+
+        List<Thread> threads = new ArrayList<>();
+        mock.addListener(ListenableMock.FIRST, (source, operation, data) -> threads.add(Thread.currentThread()),
+                Dispatcher.synchronous());
+        mock.fire(ListenableMock.FIRST);
+        assertEquals(1, threads.size());
+        assertSame(Thread.currentThread(), threads.get(0));
+    }
+
+    /**
+     * Method under test: {@link Dispatcher#eventDispatchThread()}
+     * Normal case: The events raised outside the event dispatch thread are delivered on it.
+     */
+    public void testEventDispatchThread() throws Exception {
+        ListenableMock mock = new ListenableMock();
+        AtomicInteger delivered = new AtomicInteger();
+        AtomicBoolean offThread = new AtomicBoolean();
+        mock.addListener(ListenableMock.FIRST, new Listener() {
+            @Override
+            public void notify(Listenable source, String operation, Object... data) {
+                offThread.compareAndSet(false, !SwingUtilities.isEventDispatchThread());
+                delivered.incrementAndGet();
+            }
+
+            @Override
+            public void notifyBatch(Listenable source, Channel channel, int count) {
+                offThread.compareAndSet(false, !SwingUtilities.isEventDispatchThread());
+                delivered.addAndGet(count);
+            }
+        }, Dispatcher.eventDispatchThread());
+
+        Thread model = new Thread(() -> {
+            for (int i = 0; i < 48; i++) {
+                mock.fire(ListenableMock.FIRST, i);
+            }
+        });
+        model.start();
+        model.join();
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertEquals(48, delivered.get());
+        assertFalse(offThread.get());
+    }
+
+    /**
+     * Method under test: {@link Dispatcher#eventDispatchThread()}
+     * Normal case: The consecutive events of a source and channel waiting for the event dispatch thread are coalesced.
+     */
+    public void testEventDispatchThreadCoalesces() throws Exception {
+        ListenableMock mock = new ListenableMock();
+        List<String> events = new CopyOnWriteArrayList<>();
+        mock.addListener(new ListenableObjectTest.RecordingListener(events), Dispatcher.eventDispatchThread());
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SwingUtilities.invokeLater(() -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        mock.fire(ListenableMock.FIRST);
+        mock.fire(ListenableMock.SECOND);
+        mock.fire(ListenableMock.FIRST);
+        mock.fire(ListenableMock.FIRST);
+        release.countDown();
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertEquals(3, events.size());
+        assertEquals("mockFirst", events.get(0));
+        assertEquals("mockSecond", events.get(1));
+        assertEquals("mockFirst x2", events.get(2));
+    }
+
+    /**
+     * Method under test: {@link Dispatcher#eventDispatchThread()}
+     * Normal case: The events raised by a worker thread are delivered in order with their data, an add,
+     * a clear and an add are not reordered, and the events named by their operation wait in the same queue.
+     */
+    public void testEventDispatchThreadOrder() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        Listener listener = Dispatcher.eventDispatchThread().decorate(new ChannelListener() {
+            @Override
+            public void notify(Listenable source, String operation, Object... data) {
+                events.add(operation + (data.length == 0 ? "" : " " + data[0]));
+            }
+
+            @Override
+            public void notify(Listenable source, Channel channel, Object... data) {
+                events.add(channel.getName() + (data.length == 0 ? "" : " " + data[0]));
+            }
+
+            @Override
+            public void notifyBatch(Listenable source, Channel channel, int count) {
+                events.add(channel.getName() + " x" + count);
+            }
+        });
+        ListenableMock mock = new ListenableMock();
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SwingUtilities.invokeLater(() -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        Thread worker = new Thread(() -> {
+            listener.notify(mock, ListenableMock.FIRST, (Object) "a");
+            listener.notify(mock, ListenableMock.SECOND);
+            listener.notify(mock, ListenableMock.FIRST, (Object) "b");
+            listener.notify(mock, "legacy", "c");
+            listener.notify(mock, ListenableMock.FIRST, (Object) "d");
+        });
+        worker.start();
+        worker.join();
+        release.countDown();
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertEquals(Arrays.asList("mockFirst a", "mockSecond", "mockFirst b", "legacy c", "mockFirst d"), events);
+    }
+
+    /**
+     * Method under test: {@link Dispatcher#eventDispatchThread()}
+     * Normal case: The events raised on the event dispatch thread are delivered at once when none is waiting.
+     */
+    public void testEventDispatchThreadDirect() throws Exception {
+        ListenableMock mock = new ListenableMock();
+        List<String> events = new ArrayList<>();
+        mock.addListener(new ListenableObjectTest.RecordingListener(events), Dispatcher.eventDispatchThread());
+        int[] seen = new int[1];
+        SwingUtilities.invokeAndWait(() -> {
+            mock.fire(ListenableMock.FIRST);
+            seen[0] = events.size();
+        });
+        assertEquals(1, seen[0]);
+    }
+
+    /**
+     * Method under test: {@link Dispatcher#executor(java.util.concurrent.Executor)}
+     * Normal case: The events are delivered in order by a single thread executor,
+     * and a listener registered with a dispatcher is removed with the listener itself.
+     */
+    public void testExecutor() throws InterruptedException {
+        ListenableMock mock = new ListenableMock();
+        List<String> operations = new CopyOnWriteArrayList<>();
+        Listener listener = (source, operation, data) -> operations.add(operation);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        mock.addListener(listener, Dispatcher.executor(executor));
+
+        mock.fire(ListenableMock.FIRST);
+        mock.fire(ListenableMock.SECOND, 2);
+        mock.fire(ListenableMock.FIRST, "data");
+        mock.removeListener(listener);
+        mock.fire(ListenableMock.FIRST);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(3, operations.size());
+        assertEquals("mockFirst", operations.get(0));
+        assertEquals("mockSecond", operations.get(1));
+        assertEquals("mockFirst", operations.get(2));
+        assertEquals(0, mock.getListenerCount(ListenableMock.FIRST));
+    }
+
+    /**
+     * Method under test: {@link Dispatcher#executor(java.util.concurrent.Executor)}
+     * Failure case: The executor is null.
+     */
+    public void testExecutorNull() {
+        try {
+            Dispatcher.executor(null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The executor cannot be null.", e.getMessage());
+        }
+    }
+
+    /**
+     * Method under test: {@link ListenableObject#addListener(Channel, Listener, Dispatcher)}
+     * Failure case: The dispatcher is null.
+     */
+    public void testAddListenerNullDispatcher() {
+        ListenableMock mock = new ListenableMock();
+        try {
+            mock.addListener(ListenableMock.FIRST, (source, operation, data) -> { }, null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The dispatcher cannot be null.", e.getMessage());
+        }
+    }
+
+}
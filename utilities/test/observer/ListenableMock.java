@@ -0,0 +1,60 @@
+package observer;
+
+/**
+ * <b>
+ *     Mock of the ListenableObject class.
+ * </b>
+ *
+ * <p>
+ *     The mock supports the channels {@link #FIRST} and {@link #SECOND} and notifies them on demand.
+ * </p>
+ */
+public class ListenableMock extends ListenableObject {
+
+    /**
+     * The first channel of the mock.
+     */
+    public static final Channel FIRST = Channel.of("mockFirst");
+
+    /**
+     * The second channel of the mock.
+     */
+    public static final Channel SECOND = Channel.of("mockSecond");
+
+    /**
+     * Creates a new mock supporting the channels {@link #FIRST} and {@link #SECOND}.
+     */
+    public ListenableMock() {
+        super(FIRST, SECOND);
+    }
+
+    /**
+     * Notifies the listeners of a channel of an event without data.
+     *
+     * @param channel The channel of the event.
+     */
+    public void fire(Channel channel) {
+        super.notifyListeners(channel);
+    }
+
+    /**
+     * Notifies the listeners of a channel of an event with one int.
+     *
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     */
+    public void fire(Channel channel, int data) {
+        super.notifyListeners(channel, data);
+    }
+
+    /**
+     * Notifies the listeners of a channel of an event with one object.
+     *
+     * @param channel The channel of the event.
+     * @param data    The data of the event.
+     */
+    public void fire(Channel channel, Object data) {
+        super.notifyListeners(channel, data);
+    }
+
+}
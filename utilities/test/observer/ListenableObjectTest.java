@@ -0,0 +1,386 @@
+package observer;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ListenableObjectTest extends TestCase {
+
+    /**
+     * Method under test: {@link ListenableObject#addListener(Channel, Listener)}
+     * Normal case: The listener only receives the events of its channel, in the order of registration.
+     */
+    public void testAddListenerChannel() {
+        ListenableMock mock = new ListenableMock();
+        List<String> events = new ArrayList<>();
+        mock.addListener(ListenableMock.FIRST, (source, operation, data) -> events.add("first " + operation));
+        mock.addListener(ListenableMock.FIRST, (source, operation, data) -> events.add("second " + operation));
+
+        mock.fire(ListenableMock.FIRST);
+        mock.fire(ListenableMock.SECOND);
+
+        assertEquals(2, events.size());
+        assertEquals("first mockFirst", events.get(0));
+        assertEquals("second mockFirst", events.get(1));
+        assertEquals(2, mock.getListenerCount(ListenableMock.FIRST));
+        assertEquals(0, mock.getListenerCount(ListenableMock.SECOND));
+    }
+
+    /**
+     * Method under test: {@link ListenableObject#addListener(String, Listener)}
+     * Normal case: The operation is resolved to its channel.
+     */
+    public void testAddListenerOperation() {
+        ListenableMock mock = new ListenableMock();
+        List<Object> data = new ArrayList<>();
+        mock.addListener("mockSecond", (source, operation, args) -> data.add(args[0]));
+
+        mock.fire(ListenableMock.SECOND, 7);
+        mock.fire(ListenableMock.SECOND, "text");
+
+        assertEquals(2, data.size());
+        assertEquals(7, data.get(0));
+        assertEquals("text", data.get(1));
+    }
+
+    /**
+     * Method under test: {@link ListenableObject#addListener(Channel, Listener)}
+     * Failure case: The channel is not supported, or the channel or the listener is null.
+     */
+    public void testAddListenerInvalid() {
+        ListenableMock mock = new ListenableMock();
+        Listener listener = (source, operation, data) -> { };
+        try {
+            mock.addListener(Channel.of("mockUnsupported"), listener);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The operation mockUnsupported is not supported by ListenableMock", e.getMessage());
+        }
+        try {
+            mock.addListener("mockUnknown", listener);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The operation mockUnknown is not supported by ListenableMock", e.getMessage());
+        }
+        try {
+            mock.addListener((Channel) null, listener);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The channel cannot be null.", e.getMessage());
+        }
+        try {
+            mock.addListener(ListenableMock.FIRST, null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The listener cannot be null.", e.getMessage());
+        }
+        assertFalse(mock.supports(Channel.of("mockUnsupported")));
+        assertTrue(mock.supports(ListenableMock.FIRST));
+    }
+
+    /**
+     * Method under test: {@link ListenableObject#removeListener(Channel, Listener)}
+     * Normal case: Only the first registration of the listener on the channel is removed.
+     */
+    public void testRemoveListener() {
+        ListenableMock mock = new ListenableMock();
+        AtomicInteger notified = new AtomicInteger();
+        Listener listener = (source, operation, data) -> notified.incrementAndGet();
+        mock.addListener(listener);
+        mock.addListener(ListenableMock.FIRST, listener);
+
+        mock.removeListener(ListenableMock.FIRST, listener);
+        mock.fire(ListenableMock.FIRST);
+        assertEquals(1, notified.get());
+
+        mock.removeListener(listener);
+        mock.fire(ListenableMock.FIRST);
+        mock.fire(ListenableMock.SECOND);
+        assertEquals(1, notified.get());
+        assertEquals(0, mock.getListenerCount(ListenableMock.FIRST));
+    }
+
+    /**
+     * Test a listener added during a notification only receives the next events,
+     * the notification iterates over the listeners registered when it started.
+     */
+    public void testAddListenerDuringNotification() {
+        ListenableMock mock = new ListenableMock();
+        AtomicInteger added = new AtomicInteger();
+        mock.addListener(ListenableMock.FIRST, (source, operation, data) ->
+                mock.addListener(ListenableMock.FIRST, (s, o, d) -> added.incrementAndGet()));
+
+        mock.fire(ListenableMock.FIRST);
+        assertEquals(0, added.get());
+        mock.fire(ListenableMock.FIRST);
+        assertEquals(1, added.get());
+    }
+
+    /**
+     * Test the listeners can be added and removed by several threads while the events are notified.
+     */
+    public void testConcurrentListeners() throws InterruptedException {
+        ListenableMock mock = new ListenableMock();
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        AtomicInteger notified = new AtomicInteger();
+        Thread notifier = new Thread(() -> {
+            try {
+                while (running.get()) {
+                    mock.fire(ListenableMock.FIRST);
+                    mock.fire(ListenableMock.SECOND);
+                }
+            } catch (Throwable e) {
+                errors.add(e);
+            }
+        });
+        notifier.start();
+        Thread[] registrars = new Thread[4];
+        CountDownLatch done = new CountDownLatch(registrars.length);
+        for (int i = 0; i < registrars.length; i++) {
+            registrars[i] = new Thread(() -> {
+                try {
+                    for (int j = 0; j < 1_000; j++) {
+                        Listener listener = (source, operation, data) -> notified.incrementAndGet();
+                        mock.addListener(ListenableMock.FIRST, listener);
+                        mock.addListener(listener);
+                        mock.removeListener(ListenableMock.FIRST, listener);
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+            registrars[i].start();
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        running.set(false);
+        notifier.join();
+
+        assertTrue(errors.isEmpty());
+        notified.set(0);
+        mock.fire(ListenableMock.FIRST);
+        // Each registrar left one listener on each channel per iteration.
+        assertEquals(registrars.length * 1_000, notified.get());
+        assertEquals(registrars.length * 1_000, mock.getListenerCount(ListenableMock.SECOND));
+    }
+
+    /**
+     * Test the consecutive notifications of a channel in a batch are coalesced.
+     */
+    public void testBatch() {
+        ListenableMock mock = new ListenableMock();
+        List<String> events = new ArrayList<>();
+        mock.addListener(new RecordingListener(events));
+
+        try (ListenableObject.Batch batch = mock.beginBatch()) {
+            mock.fire(ListenableMock.SECOND);
+            mock.fire(ListenableMock.SECOND, "data");
+            mock.fire(ListenableMock.FIRST, 1);
+            assertTrue(events.isEmpty());
+            assertTrue(mock.isBatching());
+        }
+
+        assertFalse(mock.isBatching());
+        assertEquals(2, events.size());
+        assertEquals("mockSecond x2", events.get(0));
+        assertEquals("mockFirst x1", events.get(1));
+    }
+
+    /**
+     * Test the notifications of a batch interleaving two channels are delivered in order,
+     * only the consecutive notifications of a channel being coalesced.
+     */
+    public void testBatchInterleaved() {
+        ListenableMock mock = new ListenableMock();
+        List<String> events = new ArrayList<>();
+        mock.addListener(new RecordingListener(events));
+
+        mock.batch(() -> {
+            mock.fire(ListenableMock.FIRST, "a");
+            mock.fire(ListenableMock.SECOND);
+            mock.fire(ListenableMock.FIRST, "b");
+            mock.fire(ListenableMock.FIRST, "c");
+            mock.fire(ListenableMock.SECOND);
+        });
+
+        assertEquals(Arrays.asList("mockFirst x1", "mockSecond x1", "mockFirst x2", "mockSecond x1"), events);
+    }
+
+    /**
+     * Test a batch only defers the notifications of the thread which opened it,
+     * and cannot be opened or closed by another thread while it is open.
+     */
+    public void testBatchConfinedToThread() throws InterruptedException {
+        ListenableMock mock = new ListenableMock();
+        List<String> events = new CopyOnWriteArrayList<>();
+        mock.addListener(new RecordingListener(events));
+        List<String> errors = new CopyOnWriteArrayList<>();
+
+        ListenableObject.Batch batch = mock.beginBatch();
+        mock.fire(ListenableMock.FIRST);
+        Thread other = new Thread(() -> {
+            mock.fire(ListenableMock.SECOND);
+            try {
+                mock.beginBatch();
+            } catch (IllegalStateException e) {
+                errors.add(e.getMessage());
+            }
+            try {
+                batch.close();
+            } catch (IllegalStateException e) {
+                errors.add(e.getMessage());
+            }
+        });
+        other.start();
+        other.join();
+
+        assertEquals(Arrays.asList("mockSecond"), events);
+        assertEquals(Arrays.asList("A batch is already open in another thread.",
+                "The batch was opened by another thread."), errors);
+        assertTrue(mock.isBatching());
+        batch.close();
+        assertFalse(mock.isBatching());
+        assertEquals(Arrays.asList("mockSecond", "mockFirst x1"), events);
+    }
+
+    /**
+     * Test closing a batch twice does not close the enclosing batch.
+     */
+    public void testCloseBatchTwice() {
+        ListenableMock mock = new ListenableMock();
+        List<String> events = new ArrayList<>();
+        mock.addListener(new RecordingListener(events));
+
+        ListenableObject.Batch outer = mock.beginBatch();
+        ListenableObject.Batch inner = mock.beginBatch();
+        mock.fire(ListenableMock.FIRST);
+        inner.close();
+        inner.close();
+        assertTrue(mock.isBatching());
+        assertTrue(events.isEmpty());
+
+        outer.close();
+        assertFalse(mock.isBatching());
+        assertEquals(1, events.size());
+        outer.close();
+        assertFalse(mock.isBatching());
+        assertEquals(1, events.size());
+    }
+
+    /**
+     * Test an explicit close inside a try-with-resources statement closes the batch only once.
+     */
+    public void testCloseBatchInTryWithResources() {
+        ListenableMock mock = new ListenableMock();
+        List<String> events = new ArrayList<>();
+        mock.addListener(new RecordingListener(events));
+
+        try (ListenableObject.Batch outer = mock.beginBatch()) {
+            try (ListenableObject.Batch inner = mock.beginBatch()) {
+                mock.fire(ListenableMock.FIRST);
+                inner.close();
+            }
+            assertTrue(events.isEmpty());
+            mock.fire(ListenableMock.FIRST);
+        }
+        assertEquals(1, events.size());
+        assertEquals("mockFirst x2", events.get(0));
+    }
+
+    /**
+     * Method under test: {@link ListenableObject#batch(Runnable)}
+     * Normal case: The notifications of the action are coalesced, and the batches can be nested.
+     */
+    public void testBatchAction() {
+        ListenableMock mock = new ListenableMock();
+        List<String> events = new ArrayList<>();
+        mock.addListener(new RecordingListener(events));
+
+        mock.batch(() -> {
+            mock.fire(ListenableMock.FIRST);
+            mock.batch(() -> mock.fire(ListenableMock.FIRST));
+            assertTrue(mock.isBatching());
+            assertTrue(events.isEmpty());
+        });
+
+        assertFalse(mock.isBatching());
+        assertEquals(1, events.size());
+        assertEquals("mockFirst x2", events.get(0));
+    }
+
+    /**
+     * Method under test: {@link ListenableObject#batch(Runnable)}
+     * Failure case: The action throws, the batch is closed and its notifications are delivered.
+     */
+    public void testBatchActionThrows() {
+        ListenableMock mock = new ListenableMock();
+        List<String> events = new ArrayList<>();
+        mock.addListener(new RecordingListener(events));
+        try {
+            mock.batch(() -> {
+                mock.fire(ListenableMock.FIRST);
+                throw new IllegalStateException("The action failed.");
+            });
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertEquals("The action failed.", e.getMessage());
+        }
+        assertFalse(mock.isBatching());
+        assertEquals(1, events.size());
+    }
+
+    /**
+     * Method under test: {@link ListenableObject#batch(Runnable)}
+     * Failure case: The action is null.
+     */
+    public void testBatchActionNull() {
+        ListenableMock mock = new ListenableMock();
+        try {
+            mock.batch(null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The action cannot be null.", e.getMessage());
+        }
+        assertFalse(mock.isBatching());
+    }
+
+    /**
+     * A listener recording the events it receives as text.
+     */
+    static final class RecordingListener implements ChannelListener {
+
+        /**
+         * The events received.
+         */
+        private final List<String> events;
+
+        /**
+         * Creates a new listener.
+         *
+         * @param events The list to record the events in.
+         */
+        RecordingListener(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void notify(Listenable source, Channel channel, Object... data) {
+            this.events.add(channel.getName());
+        }
+
+        @Override
+        public void notifyBatch(Listenable source, Channel channel, int count) {
+            this.events.add(channel.getName() + " x" + count);
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package observer;
+
+import junit.framework.TestCase;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class WeakListenerTest extends TestCase {
+
+    /**
+     * Method under test: {@link ListenableObject#addWeakListener(Listener)}
+     * Normal case: The listener is notified while it is reachable, and can be removed with the listener itself.
+     */
+    public void testWeakListener() {
+        ListenableMock mock = new ListenableMock();
+        List<String> operations = new ArrayList<>();
+        Listener listener = (source, operation, data) -> operations.add(operation);
+        mock.addWeakListener(listener);
+
+        mock.fire(ListenableMock.FIRST);
+        mock.fire(ListenableMock.SECOND, 2);
+        assertEquals(2, operations.size());
+        assertEquals(Integer.valueOf(1), mock.getListenerCounts().get("mockFirst"));
+
+        mock.removeListener(listener);
+        mock.fire(ListenableMock.FIRST);
+        assertEquals(2, operations.size());
+        assertEquals(0, mock.getListenerCount(ListenableMock.FIRST));
+        assertEquals(0, mock.getListenerCount(ListenableMock.SECOND));
+    }
+
+    /**
+     * Method under test: {@link ListenableObject#addWeakListener(Channel, Listener, Dispatcher)}
+     * Normal case: The listener is purged by the next notification once it has been garbage collected.
+     */
+    public void testWeakListenerPurged() throws InterruptedException {
+        ListenableMock mock = new ListenableMock();
+        int[] notifications = new int[1];
+        Listener listener = (source, operation, data) -> notifications[0]++;
+        mock.addWeakListener(ListenableMock.FIRST, listener, Dispatcher.synchronous());
+        mock.addListener(ListenableMock.FIRST, (source, operation, data) -> { });
+        assertEquals(2, mock.getListenerCount(ListenableMock.FIRST));
+
+        WeakReference<Listener> reference = new WeakReference<>(listener);
+        listener = null;
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull("The garbage collector did not collect the listener.", reference.get());
+
+        // The stale listener is counted until the next notification of its channel.
+        assertEquals(2, mock.getListenerCount(ListenableMock.FIRST));
+        mock.fire(ListenableMock.FIRST);
+        assertEquals(0, notifications[0]);
+        assertEquals(1, mock.getListenerCount(ListenableMock.FIRST));
+    }
+
+    /**
+     * Method under test: {@link ListenableObject#getListenerCounts()}
+     * Normal case: The counts are given for every supported operation, and cannot be modified.
+     */
+    public void testGetListenerCounts() {
+        ListenableMock mock = new ListenableMock();
+        Listener listener = (source, operation, data) -> { };
+        mock.addListener(listener);
+        mock.addWeakListener(ListenableMock.SECOND, (source, operation, data) -> { });
+
+        Map<String, Integer> counts = mock.getListenerCounts();
+        assertEquals(2, counts.size());
+        assertEquals(Integer.valueOf(1), counts.get("mockFirst"));
+        assertEquals(Integer.valueOf(2), counts.get("mockSecond"));
+        try {
+            counts.put("mockFirst", 0);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(Integer.valueOf(1), mock.getListenerCounts().get("mockFirst"));
+        }
+    }
+
+    /**
+     * Method under test: {@link ListenableObject#getListenerCount(Channel)}
+     * Failure case: The channel is null or not supported.
+     */
+    public void testGetListenerCountInvalid() {
+        ListenableMock mock = new ListenableMock();
+        try {
+            mock.getListenerCount(null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The channel cannot be null.", e.getMessage());
+        }
+        try {
+            mock.getListenerCount(Channel.of("mockUnsupported"));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The operation mockUnsupported is not supported by ListenableMock", e.getMessage());
+        }
+    }
+
+    /**
+     * Method under test: {@link ListenableObject#addWeakListener(Listener)}
+     * Failure case: The listener is null.
+     */
+    public void testWeakListenerNull() {
+        ListenableMock mock = new ListenableMock();
+        try {
+            mock.addWeakListener(null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The listener cannot be null.", e.getMessage());
+        }
+        try {
+            mock.addWeakListener(ListenableMock.FIRST, null, Dispatcher.synchronous());
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The listener cannot be null.", e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package observer.monitoring;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * <b>
+ *     Measures the memory allocated by the current thread.
+ * </b>
+ *
+ * <p>
+ *     The allocations are read from the {@link com.sun.management.ThreadMXBean} of the JVM,
+ *     which is meant to check that a path of the notifications does not allocate.
+ *     The meter is a helper of the tests, not a part of the library: the tests of the cards
+ *     and of the blackjack compile it from the tests of the utilities.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class AllocationMeter {
+
+    /**
+     * The number of times the measured action is run.
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * Private constructor, the meter only has static methods.
+     */
+    private AllocationMeter() {
+    }
+
+    /**
+     * Returns true if the JVM measures the memory allocated by a thread.
+     *
+     * @return True if the allocations can be measured.
+     */
+    public static boolean isSupported() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread to run the given action.
+     * The action is run several times and the smallest allocation is kept,
+     * so that the one-off allocations of the JVM (class loading, compilation) are ignored.
+     *
+     * @param action The action to run.
+     * @return The number of bytes allocated.
+     * @throws NullPointerException          If the action is null.
+     * @throws UnsupportedOperationException If the JVM cannot measure the allocations of a thread.
+     */
+    public static long allocatedBytes(Runnable action) {
+        if (action == null) {
+            throw new NullPointerException("The action cannot be null.");
+        }
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("The JVM cannot measure the memory allocated by a thread.");
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().getId();
+        // The cost of the measure itself is removed from the result.
+        long calibration = -bean.getThreadAllocatedBytes(id) + bean.getThreadAllocatedBytes(id);
+        long allocated = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long start = bean.getThreadAllocatedBytes(id);
+            action.run();
+            long end = bean.getThreadAllocatedBytes(id);
+            allocated = Math.min(allocated, end - start - calibration);
+        }
+        return allocated;
+    }
+}
@@ -0,0 +1,199 @@
+package observer.monitoring;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import junit.framework.TestCase;
+import observer.Listenable;
+import observer.ListenableMock;
+import observer.ListenableObject;
+import observer.Listener;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+public class DispatchStatisticsTest extends TestCase {
+
+    /**
+     * A listener doing nothing.
+     */
+    private static final class IdleListener implements Listener {
+
+        @Override
+        public void notify(Listenable source, String operation, Object... data) {
+        }
+    }
+
+    @Override
+    protected void tearDown() {
+        DispatchStatistics.uninstall();
+    }
+
+    /**
+     * Method under test: {@link DispatchStatistics#install(int)}
+     * Normal case: The statistics count the events, the callbacks of each listener and keep the last events.
+     */
+    public void testInstall() {
+        ListenableMock mock = new ListenableMock();
+        Listener listener = new IdleListener();
+        mock.addListener(ListenableMock.FIRST, listener);
+        mock.fire(ListenableMock.FIRST);
+
+        DispatchStatistics statistics = DispatchStatistics.install(4);
+        assertSame(statistics, ListenableObject.getMonitor());
+        for (int i = 0; i < 10; i++) {
+            mock.fire(ListenableMock.FIRST, i);
+        }
+        mock.fire(ListenableMock.SECOND);
+
+        assertEquals(11, statistics.getEventCount());
+        assertEquals(Long.valueOf(10), statistics.getEventCounts().get("mockFirst"));
+        assertEquals(Long.valueOf(1), statistics.getEventCounts().get("mockSecond"));
+        ListenerStatistics callbacks = statistics.getListenerStatistics(listener);
+        assertEquals(10, callbacks.getCalls());
+        assertTrue(callbacks.getTotalTime() >= callbacks.getMaximumTime());
+        assertEquals(IdleListener.class.getName(), callbacks.getName());
+        assertEquals(Long.valueOf(10), statistics.getCallbackCounts().get(callbacks.getLabel()));
+
+        List<String> recent = statistics.getRecentEvents();
+        assertEquals(4, recent.size());
+        assertTrue(recent.get(3).endsWith(ListenableMock.class.getName() + " mockSecond"));
+
+        statistics.reset();
+        assertEquals(0, statistics.getEventCount());
+        assertTrue(statistics.getEventCounts().isEmpty());
+        assertNull(statistics.getListenerStatistics(listener));
+    }
+
+    /**
+     * Method under test: {@link DispatchStatistics#callbackCompleted}
+     * Normal case: The listeners of the same class have their own statistics.
+     */
+    public void testListenersOfSameClass() {
+        ListenableMock mock = new ListenableMock();
+        Listener first = new IdleListener();
+        Listener second = new IdleListener();
+        mock.addListener(ListenableMock.FIRST, first);
+        mock.addListener(ListenableMock.FIRST, second);
+        mock.addListener(ListenableMock.SECOND, second);
+
+        DispatchStatistics statistics = DispatchStatistics.install(8);
+        mock.fire(ListenableMock.FIRST);
+        mock.fire(ListenableMock.SECOND);
+        mock.fire(ListenableMock.SECOND);
+
+        ListenerStatistics firstCallbacks = statistics.getListenerStatistics(first);
+        ListenerStatistics secondCallbacks = statistics.getListenerStatistics(second);
+        assertEquals(1, firstCallbacks.getCalls());
+        assertEquals(3, secondCallbacks.getCalls());
+        assertEquals(firstCallbacks.getName(), secondCallbacks.getName());
+        assertFalse(firstCallbacks.getLabel().equals(secondCallbacks.getLabel()));
+        Map<String, Long> counts = statistics.getCallbackCounts();
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(1), counts.get(firstCallbacks.getLabel()));
+        assertEquals(Long.valueOf(3), counts.get(secondCallbacks.getLabel()));
+        assertNull(statistics.getListenerStatistics(new IdleListener()));
+    }
+
+    /**
+     * Method under test: {@link DispatchStatistics#install(int)} and {@link DispatchStatistics#uninstall()}
+     * Normal case: The statistics are registered as a platform MXBean, and unregistered with the monitor.
+     */
+    public void testMXBean() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(DispatchStatistics.OBJECT_NAME);
+        ListenableMock mock = new ListenableMock();
+        mock.addListener(ListenableMock.FIRST, new IdleListener());
+
+        DispatchStatistics.install(8);
+        assertTrue(server.isRegistered(name));
+        mock.fire(ListenableMock.FIRST);
+        mock.fire(ListenableMock.FIRST);
+        assertEquals(2L, server.getAttribute(name, "EventCount"));
+        assertEquals(2, ((String[]) server.getAttribute(name, "RecentEvents")).length);
+        server.invoke(name, "reset", null, null);
+        assertEquals(0L, server.getAttribute(name, "EventCount"));
+
+        // A new installation replaces the previous one.
+        DispatchStatistics replacement = DispatchStatistics.install(8);
+        assertSame(replacement, ListenableObject.getMonitor());
+        assertTrue(server.isRegistered(name));
+
+        DispatchStatistics.uninstall();
+        assertNull(ListenableObject.getMonitor());
+        assertFalse(server.isRegistered(name));
+        mock.fire(ListenableMock.FIRST);
+        assertEquals(0, replacement.getEventCount());
+    }
+
+    /**
+     * Method under test: {@link DispatchStatistics#eventNotified} and {@link DispatchStatistics#callbackCompleted}
+     * Normal case: The notifications and the callbacks are committed to a flight recording.
+     */
+    public void testFlightRecorderEvents() throws Exception {
+        ListenableMock mock = new ListenableMock();
+        mock.addListener(ListenableMock.SECOND, new IdleListener());
+        Path file = Files.createTempFile("dispatch", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("observer.Notification");
+            recording.enable("observer.ListenerCallback").withThreshold(Duration.ZERO);
+            recording.start();
+            DispatchStatistics.install(8);
+            mock.fire(ListenableMock.SECOND);
+            mock.fire(ListenableMock.SECOND);
+            DispatchStatistics.uninstall();
+            recording.stop();
+            recording.dump(file);
+
+            int notifications = 0;
+            int callbacks = 0;
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().equals("observer.Notification")) {
+                    notifications++;
+                    assertEquals(ListenableMock.class.getName(), event.getString("source"));
+                    assertEquals("mockSecond", event.getString("operation"));
+                    assertEquals(1, event.getInt("listeners"));
+                } else if (event.getEventType().getName().equals("observer.ListenerCallback")) {
+                    callbacks++;
+                    assertEquals(IdleListener.class.getName(), event.getString("listener"));
+                }
+            }
+            assertEquals(2, notifications);
+            assertEquals(2, callbacks);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Method under test: {@link DispatchStatistics#getCallbackHistograms()}
+     * Normal case: Each callback is counted in the histogram of its listener.
+     */
+    public void testHistograms() {
+        ListenableMock mock = new ListenableMock();
+        Listener listener = new IdleListener();
+        mock.addListener(ListenableMock.FIRST, listener);
+        DispatchStatistics statistics = DispatchStatistics.install(8);
+        for (int i = 0; i < 100; i++) {
+            mock.fire(ListenableMock.FIRST);
+        }
+
+        String label = statistics.getListenerStatistics(listener).getLabel();
+        Map<String, long[]> histograms = statistics.getCallbackHistograms();
+        long[] counts = histograms.get(label);
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        assertEquals(100, total);
+        assertTrue(statistics.getCallbackP99Times().get(label) > 0);
+        assertTrue(statistics.getCallbackTimes().get(label) >= 0);
+    }
+
+}
@@ -0,0 +1,104 @@
+package observer.monitoring;
+
+import junit.framework.TestCase;
+
+import java.util.List;
+
+public class EventRingBufferTest extends TestCase {
+
+    /**
+     * Method under test: {@link EventRingBuffer#EventRingBuffer(int)}
+     * Normal case: The capacity is rounded up to a power of two.
+     */
+    public void testCapacity() {
+        assertEquals(1, new EventRingBuffer(1).getCapacity());
+        assertEquals(4, new EventRingBuffer(3).getCapacity());
+        assertEquals(4, new EventRingBuffer(4).getCapacity());
+        assertEquals(1024, new EventRingBuffer(1000).getCapacity());
+    }
+
+    /**
+     * Method under test: {@link EventRingBuffer#EventRingBuffer(int)}
+     * Failure case: The capacity is not positive or too large.
+     */
+    public void testCapacityInvalid() {
+        for (int capacity : new int[]{0, -1, (1 << 30) + 1}) {
+            try {
+                new EventRingBuffer(capacity);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                assertEquals("The capacity must be between 1 and 2^30.", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Method under test: {@link EventRingBuffer#snapshot()}
+     * Normal case: The events are given from the oldest to the newest before the buffer is full.
+     */
+    public void testSnapshotNotFull() {
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        assertTrue(buffer.snapshot().isEmpty());
+        buffer.record("Source", "first", 1);
+        buffer.record("Source", "second", 2);
+
+        List<EventRingBuffer.Entry> events = buffer.snapshot();
+        assertEquals(2, events.size());
+        assertEquals("first", events.get(0).getOperation());
+        assertEquals(0, events.get(0).getSequence());
+        assertEquals("second", events.get(1).getOperation());
+        assertEquals("Source", events.get(1).getSource());
+        assertEquals(2, events.get(1).getTimestamp());
+        assertEquals(2, buffer.getRecorded());
+    }
+
+    /**
+     * Method under test: {@link EventRingBuffer#snapshot()}
+     * Normal case: Once the buffer has wrapped around, only the last events are kept, in order.
+     */
+    public void testSnapshotWraparound() {
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        for (int i = 0; i < 10; i++) {
+            buffer.record("Source", "event" + i, i);
+        }
+
+        List<EventRingBuffer.Entry> events = buffer.snapshot();
+        assertEquals(4, events.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(6 + i, events.get(i).getSequence());
+            assertEquals("event" + (6 + i), events.get(i).getOperation());
+        }
+        assertEquals(10, buffer.getRecorded());
+        assertTrue(events.get(3).toString().startsWith("#9 "));
+        assertTrue(events.get(3).toString().endsWith(" Source event9"));
+    }
+
+    /**
+     * Method under test: {@link EventRingBuffer#record(String, String, long)}
+     * Normal case: The writers of several threads each claim their own slot.
+     */
+    public void testConcurrentRecord() throws InterruptedException {
+        EventRingBuffer buffer = new EventRingBuffer(1 << 16);
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            String source = "Writer" + t;
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    buffer.record(source, "event", i);
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        List<EventRingBuffer.Entry> events = buffer.snapshot();
+        assertEquals(40_000, buffer.getRecorded());
+        assertEquals(40_000, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i, events.get(i).getSequence());
+        }
+    }
+
+}
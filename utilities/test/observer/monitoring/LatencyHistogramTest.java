@@ -0,0 +1,96 @@
+package observer.monitoring;
+
+import junit.framework.TestCase;
+
+public class LatencyHistogramTest extends TestCase {
+
+    /**
+     * Method under test: {@link LatencyHistogram#bucket(long)}
+     * Normal case: The bucket i holds the latencies in [2^(i-1), 2^i), the bucket 0 the latencies of 0.
+     */
+    public void testBucket() {
+        assertEquals(0, LatencyHistogram.bucket(0));
+        assertEquals(0, LatencyHistogram.bucket(-5));
+        assertEquals(1, LatencyHistogram.bucket(1));
+        assertEquals(2, LatencyHistogram.bucket(2));
+        assertEquals(2, LatencyHistogram.bucket(3));
+        assertEquals(3, LatencyHistogram.bucket(4));
+        assertEquals(10, LatencyHistogram.bucket(1023));
+        assertEquals(11, LatencyHistogram.bucket(1024));
+        assertEquals(Long.SIZE - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+        for (int bucket = 1; bucket < Long.SIZE - 1; bucket++) {
+            assertEquals(bucket, LatencyHistogram.bucket(LatencyHistogram.upperBound(bucket) - 1));
+            assertEquals(bucket + 1, LatencyHistogram.bucket(LatencyHistogram.upperBound(bucket)));
+        }
+    }
+
+    /**
+     * Method under test: {@link LatencyHistogram#upperBound(int)}
+     * Normal case: The upper bound of the last buckets saturates.
+     */
+    public void testUpperBound() {
+        assertEquals(1, LatencyHistogram.upperBound(0));
+        assertEquals(1024, LatencyHistogram.upperBound(10));
+        assertEquals(1L << 62, LatencyHistogram.upperBound(62));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(Long.SIZE - 1));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(Long.SIZE));
+    }
+
+    /**
+     * Method under test: {@link LatencyHistogram#record(long)}
+     * Normal case: The latencies are counted in their buckets.
+     */
+    public void testRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(0);
+        histogram.record(5);
+        histogram.record(6);
+        histogram.record(1000);
+
+        long[] counts = histogram.getCounts();
+        assertEquals(LatencyHistogram.BUCKETS, counts.length);
+        assertEquals(1, counts[0]);
+        assertEquals(2, counts[3]);
+        assertEquals(1, counts[10]);
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        assertEquals(4, total);
+    }
+
+    /**
+     * Method under test: {@link LatencyHistogram#getPercentile(double)}
+     * Normal case: The percentile is the upper bound of the bucket holding its rank.
+     */
+    public void testPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(99));
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(1_000_000);
+
+        assertEquals(128, histogram.getPercentile(50));
+        assertEquals(128, histogram.getPercentile(99));
+        assertEquals(1 << 20, histogram.getPercentile(100));
+        assertEquals(128, histogram.getPercentile(0));
+    }
+
+    /**
+     * Method under test: {@link LatencyHistogram#getPercentile(double)}
+     * Failure case: The percentile is not between 0 and 100.
+     */
+    public void testPercentileInvalid() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (double percentile : new double[]{-1, 100.5}) {
+            try {
+                histogram.getPercentile(percentile);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                assertEquals("The percentile must be between 0 and 100.", e.getMessage());
+            }
+        }
+    }
+
+}